@@ -2,10 +2,16 @@
 
 import static io.quarkus.builder.Execution.log;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
@@ -25,16 +31,41 @@
  * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
  */
 public final class BuildContext {
+    // the hash of the bytecode of a build step implementation, null if the class file is not available
+    private static final ClassValue<String> IMPLEMENTATION_HASHES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            final String resource = type.getName().replace('.', '/') + ".class";
+            final ClassLoader classLoader = type.getClassLoader();
+            try (InputStream in = classLoader != null ? classLoader.getResourceAsStream(resource)
+                    : ClassLoader.getSystemResourceAsStream(resource)) {
+                if (in == null) {
+                    return null;
+                }
+                return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(in.readAllBytes()));
+            } catch (IOException e) {
+                log.debugf(e, "Unable to read the class file of %s", type);
+                return null;
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    };
+
     private final ClassLoader classLoader;
     private final StepInfo stepInfo;
     private final Execution execution;
     private final AtomicInteger dependencies;
+    private final long priority;
     private volatile boolean running;
+    // the items produced by a cacheable step, null if the step is not cached
+    private volatile List<BuildItem> produced;
 
-    BuildContext(ClassLoader classLoader, final StepInfo stepInfo, final Execution execution) {
+    BuildContext(ClassLoader classLoader, final StepInfo stepInfo, final Execution execution, final long priority) {
         this.classLoader = classLoader;
         this.stepInfo = stepInfo;
         this.execution = execution;
+        this.priority = priority;
         dependencies = new AtomicInteger(stepInfo.getDependencies());
     }
 
@@ -227,17 +258,80 @@ private void doProduce(ItemId id, BuildItem value) {
                 throw Messages.msg.cannotMulti(id);
             }
         }
+        final List<BuildItem> produced = this.produced;
+        if (produced != null) {
+            produced.add(value);
+        }
         execution.getMetrics().buildItemProduced(value);
     }
 
+    /**
+     * Execute the build step, or restore the items it produced from the cache if the step declares a cache key.
+     *
+     * @return {@code true} if the items were restored from the cache
+     */
+    private boolean executeOrRestore(BuildStep buildStep) {
+        final BuildStepCache cache = execution.getBuildStepCache();
+        final String key = cache != null ? cacheKey(buildStep) : null;
+        if (key == null) {
+            buildStep.execute(this);
+            return false;
+        }
+        final List<BuildItem> items = cache.get(buildStep.getId(), key, classLoader);
+        if (items != null) {
+            log.tracef("Restoring %d cached items of step \"%s\"", items.size(), buildStep);
+            for (BuildItem item : items) {
+                doProduce(new ItemId(item.getClass()), item);
+            }
+            return true;
+        }
+        final List<BuildItem> produced = Collections.synchronizedList(new ArrayList<>());
+        this.produced = produced;
+        try {
+            buildStep.execute(this);
+        } finally {
+            this.produced = null;
+        }
+        if (!execution.isErrorReported() && isCacheable(produced)) {
+            cache.put(buildStep.getId(), key, produced);
+        }
+        return false;
+    }
+
+    private String cacheKey(BuildStep buildStep) {
+        final String key = buildStep.getCacheKey(this);
+        if (key == null) {
+            return null;
+        }
+        // the items produced by a different implementation of the step must not be restored
+        final String implementationHash = IMPLEMENTATION_HASHES.get(buildStep.getImplementationClass());
+        return implementationHash != null ? key + ':' + implementationHash : null;
+    }
+
+    private boolean isCacheable(List<BuildItem> items) {
+        synchronized (items) {
+            for (BuildItem item : items) {
+                // items produced with a supertype cannot be restored
+                if (!(item instanceof Serializable) || !stepInfo.getProduces().contains(new ItemId(item.getClass()))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     void depFinished() {
         final int remaining = dependencies.decrementAndGet();
         log.tracef("Dependency of \"%2$s\" finished; %1$d remaining", remaining, stepInfo.getBuildStep());
         if (remaining == 0) {
-            execution.getExecutor().execute(this::run);
+            execution.scheduleStep(this);
         }
     }
 
+    long getPriority() {
+        return priority;
+    }
+
     void run() {
         final Execution execution = this.execution;
         final StepInfo stepInfo = this.stepInfo;
@@ -246,13 +340,14 @@ void run() {
         final LocalTime started = LocalTime.now();
         final Thread currentThread = Thread.currentThread();
         log.tracef("Starting step \"%s\"", buildStep);
+        boolean cached = false;
         try {
             if (!execution.isErrorReported()) {
                 running = true;
                 ClassLoader old = currentThread.getContextClassLoader();
                 try {
                     Thread.currentThread().setContextClassLoader(classLoader);
-                    buildStep.execute(this);
+                    cached = executeOrRestore(buildStep);
                 } catch (Throwable t) {
                     final List<Diagnostic> list = execution.getDiagnostics();
                     list.add(new Diagnostic(Diagnostic.Level.ERROR, t, null, "Build step %s threw an exception", buildStep));
@@ -264,7 +359,7 @@ void run() {
             }
         } finally {
             long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
-            execution.getMetrics().buildStepFinished(stepInfo, currentThread.getName(), started, duration);
+            execution.getMetrics().buildStepFinished(stepInfo, currentThread.getName(), started, duration, cached);
             log.tracef("Finished step \"%s\" in %s ms", buildStep, duration);
             execution.removeBuildContext(stepInfo, this);
         }
@@ -19,6 +19,9 @@ public final class BuildExecutionBuilder {
     private final String buildTargetName;
     private final Map<ItemId, BuildItem> initialSingle;
     private final Map<ItemId, ArrayList<BuildItem>> initialMulti;
+    private BuildStepCache buildStepCache;
+    private Map<String, Long> buildStepDurations = Collections.emptyMap();
+    private int parallelism = Integer.MAX_VALUE;
 
     BuildExecutionBuilder(final BuildChain buildChain, final String buildTargetName) {
         this.buildChain = buildChain;
@@ -68,6 +71,46 @@ public <T extends BuildItem> BuildExecutionBuilder produce(Class<T> type, T item
         return this;
     }
 
+    /**
+     * Set the cache used to restore the items produced by cacheable build steps instead of executing them.
+     *
+     * @param buildStepCache the cache (may be {@code null} to disable caching)
+     * @return this builder
+     * @see BuildStep#getCacheKey(BuildContext)
+     */
+    public BuildExecutionBuilder setBuildStepCache(BuildStepCache buildStepCache) {
+        this.buildStepCache = buildStepCache;
+        return this;
+    }
+
+    /**
+     * Set the estimated durations of the build steps, typically the durations measured by a previous build (see
+     * {@link BuildMetrics#readBuildStepDurations(java.nio.file.Path)}). The ready steps that are on the longest remaining
+     * path of the build are executed first. Steps without an estimate are considered to take one millisecond, so without
+     * any estimates the steps with the longest chain of dependents are executed first.
+     *
+     * @param buildStepDurations the durations in milliseconds, keyed by the build step identifier (must not be {@code null})
+     * @return this builder
+     */
+    public BuildExecutionBuilder setBuildStepDurations(Map<String, Long> buildStepDurations) {
+        Assert.checkNotNullParam("buildStepDurations", buildStepDurations);
+        this.buildStepDurations = buildStepDurations;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of build steps executed concurrently. Asynchronous tasks submitted by the build steps to
+     * {@link BuildContext#getExecutor()} are not limited. By default, the number of concurrent build steps is not limited.
+     *
+     * @param parallelism the maximum number of concurrent build steps (must be greater than zero)
+     * @return this builder
+     */
+    public BuildExecutionBuilder setParallelism(int parallelism) {
+        Assert.checkMinimumParameter("parallelism", 1, parallelism);
+        this.parallelism = parallelism;
+        return this;
+    }
+
     /**
      * Run the build. The chain may run in one or many threads.
      *
@@ -109,6 +152,18 @@ Map<ItemId, ArrayList<BuildItem>> getInitialMulti() {
         return initialMulti;
     }
 
+    Map<String, Long> getBuildStepDurations() {
+        return buildStepDurations;
+    }
+
+    int getParallelism() {
+        return parallelism;
+    }
+
+    BuildStepCache getBuildStepCache() {
+        return buildStepCache;
+    }
+
     BuildChain getChain() {
         return buildChain;
     }
@@ -1,9 +1,11 @@
 package io.quarkus.builder;
 
+import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -12,8 +14,11 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -53,8 +58,12 @@ public void buildFinished(long duration) {
     }
 
     public void buildStepFinished(StepInfo stepInfo, String thread, LocalTime started, long duration) {
+        buildStepFinished(stepInfo, thread, started, duration, false);
+    }
+
+    public void buildStepFinished(StepInfo stepInfo, String thread, LocalTime started, long duration, boolean cached) {
         records.put(stepInfo.getBuildStep().getId(),
-                new BuildStepRecord(idGenerator.incrementAndGet(), stepInfo, thread, started, duration));
+                new BuildStepRecord(idGenerator.incrementAndGet(), stepInfo, thread, started, duration, cached));
     }
 
     public void buildItemProduced(BuildItem buildItem) {
@@ -68,6 +77,124 @@ private Integer itemProduced(String key, Integer val) {
         return val + 1;
     }
 
+    /**
+     * @return the durations in milliseconds, keyed by the build step identifier
+     * @see BuildExecutionBuilder#setBuildStepDurations(Map)
+     */
+    public Map<String, Long> getBuildStepDurations() {
+        Map<String, Long> durations = new HashMap<>();
+        for (Entry<String, BuildStepRecord> e : records.entrySet()) {
+            durations.put(e.getKey(), e.getValue().duration);
+        }
+        return durations;
+    }
+
+    /**
+     * Write the durations of the build steps to a file that can be read by {@link #readBuildStepDurations(Path)}.
+     * <p>
+     * Unlike {@link #dumpTo(Path)}, this file is small enough to be written by every build.
+     *
+     * @param file the build step durations file
+     * @throws IOException if the file cannot be written
+     */
+    public void writeBuildStepDurations(Path file) throws IOException {
+        Properties properties = new Properties();
+        for (Entry<String, BuildStepRecord> e : records.entrySet()) {
+            properties.setProperty(e.getKey(), Long.toString(e.getValue().duration));
+        }
+        Files.createDirectories(file.getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            properties.store(writer, null);
+        }
+    }
+
+    /**
+     * Read the durations of the build steps from a file written by {@link #writeBuildStepDurations(Path)}.
+     *
+     * @param file the build step durations file
+     * @return the durations in milliseconds, keyed by the build step identifier, or an empty map if the file does not exist
+     * @throws IOException if the file cannot be read
+     * @see BuildExecutionBuilder#setBuildStepDurations(Map)
+     */
+    public static Map<String, Long> readBuildStepDurations(Path file) throws IOException {
+        if (Files.notExists(file)) {
+            return Map.of();
+        }
+        Properties properties = new Properties();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid build step durations file: " + file, e);
+        }
+        Map<String, Long> durations = new HashMap<>();
+        for (String stepId : properties.stringPropertyNames()) {
+            try {
+                durations.put(stepId, Long.parseLong(properties.getProperty(stepId)));
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid build step durations file: " + file, e);
+            }
+        }
+        return durations;
+    }
+
+    /**
+     * The critical path is the chain of dependent build steps with the longest total duration. The build cannot be faster
+     * than the critical path, no matter how many threads are available.
+     *
+     * @return the records on the critical path, in execution order
+     */
+    public List<BuildStepRecord> getCriticalPath() {
+        Map<String, Long> pathDurations = new HashMap<>();
+        BuildStepRecord next = null;
+        long nextDuration = -1;
+        for (BuildStepRecord rec : records.values()) {
+            long pathDuration = pathDuration(rec, pathDurations);
+            if (pathDuration > nextDuration) {
+                next = rec;
+                nextDuration = pathDuration;
+            }
+        }
+        List<BuildStepRecord> criticalPath = new ArrayList<>();
+        while (next != null) {
+            criticalPath.add(next);
+            BuildStepRecord current = next;
+            next = null;
+            nextDuration = -1;
+            for (StepInfo dependent : current.stepInfo.getDependents()) {
+                BuildStepRecord dependentRecord = records.get(dependent.getBuildStep().getId());
+                if (dependentRecord != null) {
+                    long pathDuration = pathDuration(dependentRecord, pathDurations);
+                    if (pathDuration > nextDuration) {
+                        next = dependentRecord;
+                        nextDuration = pathDuration;
+                    }
+                }
+            }
+        }
+        return criticalPath;
+    }
+
+    // the duration of the longest path from the beginning of the given step to the end of the build
+    private long pathDuration(BuildStepRecord rec, Map<String, Long> pathDurations) {
+        String stepId = rec.stepInfo.getBuildStep().getId();
+        Long existing = pathDurations.get(stepId);
+        if (existing != null) {
+            return existing;
+        }
+        long max = 0;
+        for (StepInfo dependent : rec.stepInfo.getDependents()) {
+            BuildStepRecord dependentRecord = records.get(dependent.getBuildStep().getId());
+            if (dependentRecord != null) {
+                max = Math.max(max, pathDuration(dependentRecord, pathDurations));
+            }
+        }
+        // like the scheduler, count at least one millisecond per step so that a step that took less than a millisecond
+        // still belongs to the critical path of its dependents
+        long pathDuration = Math.max(rec.duration, 1) + max;
+        pathDurations.put(stepId, pathDuration);
+        return pathDuration;
+    }
+
     public void dumpTo(Path file) throws IOException {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
 
@@ -84,8 +211,19 @@ public int compare(BuildStepRecord o1, BuildStepRecord o2) {
         json.put("started", started.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
         json.put("duration", duration);
 
+        List<BuildStepRecord> criticalPath = getCriticalPath();
+        JsonArrayBuilder criticalPathArray = Json.array();
+        long criticalPathDuration = 0;
+        for (BuildStepRecord rec : criticalPath) {
+            criticalPathArray.add(rec.stepInfo.getBuildStep().getId());
+            criticalPathDuration += rec.duration;
+        }
+        json.put("criticalPath", criticalPathArray);
+        json.put("criticalPathDuration", criticalPathDuration);
+
         JsonArrayBuilder steps = Json.array();
         json.put("records", steps);
+        int cacheHits = 0;
         for (BuildStepRecord rec : sortedSteps) {
             JsonObjectBuilder recObject = Json.object();
             recObject.put("id", rec.id);
@@ -93,6 +231,13 @@ public int compare(BuildStepRecord o1, BuildStepRecord o2) {
             recObject.put("thread", rec.thread);
             recObject.put("started", rec.started.format(formatter));
             recObject.put("duration", rec.duration);
+            if (criticalPath.contains(rec)) {
+                recObject.put("criticalPath", true);
+            }
+            if (rec.cached) {
+                recObject.put("cached", true);
+                cacheHits++;
+            }
             JsonArrayBuilder dependentsArray = Json.array();
             for (StepInfo dependent : rec.stepInfo.getDependents()) {
                 BuildStepRecord dependentRecord = records.get(dependent.getBuildStep().getId());
@@ -105,6 +250,7 @@ public int compare(BuildStepRecord o1, BuildStepRecord o2) {
             recObject.put("dependents", dependentsArray);
             steps.add(recObject);
         }
+        json.put("cacheHits", cacheHits);
 
         List<Entry<String, Integer>> sortedItems = new ArrayList<>(buildItems.size());
         buildItems.entrySet().forEach(sortedItems::add);
@@ -155,12 +301,18 @@ public static class BuildStepRecord {
          */
         public final long duration;
 
-        BuildStepRecord(int id, StepInfo stepInfo, String thread, LocalTime started, long duration) {
+        /**
+         * {@code true} if the produced items were restored from the build step cache instead of executing the step.
+         */
+        public final boolean cached;
+
+        BuildStepRecord(int id, StepInfo stepInfo, String thread, LocalTime started, long duration, boolean cached) {
             this.id = id;
             this.stepInfo = stepInfo;
             this.thread = thread;
             this.started = started;
             this.duration = duration;
+            this.cached = cached;
         }
 
     }
@@ -24,6 +24,33 @@ default String getId() {
         return toString();
     }
 
+    /**
+     * Get the key identifying the inputs of this build step. If a {@link BuildStepCache} is configured for the execution
+     * and it contains the items produced by a previous execution for the same key, these items are produced again and
+     * the step is not executed.
+     * <p>
+     * The key is computed once all the consumed items are available. It must change whenever an input that affects the
+     * produced items changes, e.g. the hash of an index, a configuration value or the version of a dependency. Only the
+     * steps that produce {@link java.io.Serializable} items can be cached.
+     *
+     * @param context the context of the build operation (not {@code null})
+     * @return the cache key, or {@code null} if the step must always be executed
+     */
+    default String getCacheKey(BuildContext context) {
+        return null;
+    }
+
+    /**
+     * Get the class that implements this build step. The cached items are only restored if the bytecode of this class is
+     * the same as when the items were stored, so that a changed implementation does not reuse stale results.
+     *
+     * @return the implementation class
+     * @see #getCacheKey(BuildContext)
+     */
+    default Class<?> getImplementationClass() {
+        return getClass();
+    }
+
     /**
      * The empty build step, which immediately succeeds.
      */
@@ -0,0 +1,34 @@
+package io.quarkus.builder;
+
+import java.util.List;
+
+import io.quarkus.builder.item.BuildItem;
+
+/**
+ * A store for the items produced by cacheable build steps, so that they can be restored by later builds instead of being
+ * recomputed.
+ *
+ * @see BuildStep#getCacheKey(BuildContext)
+ * @see BuildExecutionBuilder#setBuildStepCache(BuildStepCache)
+ */
+public interface BuildStepCache {
+
+    /**
+     * Get the items produced by the given step for the given key.
+     *
+     * @param stepId the build step identifier (not {@code null})
+     * @param key the cache key (not {@code null})
+     * @param classLoader the class loader used to load the build item classes (not {@code null})
+     * @return the produced items, or {@code null} if there is no entry for the given step and key
+     */
+    List<BuildItem> get(String stepId, String key, ClassLoader classLoader);
+
+    /**
+     * Store the items produced by the given step for the given key.
+     *
+     * @param stepId the build step identifier (not {@code null})
+     * @param key the cache key (not {@code null})
+     * @param items the produced items, all of them are {@link java.io.Serializable} (not {@code null})
+     */
+    void put(String stepId, String key, List<BuildItem> items);
+}
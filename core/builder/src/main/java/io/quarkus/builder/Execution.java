@@ -6,9 +6,13 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -39,6 +43,13 @@ final class Execution {
     private volatile boolean done;
 
     private final BuildMetrics metrics;
+    private final BuildStepCache buildStepCache;
+    // the remaining critical path duration of each step, used to pick the next ready step
+    private final Map<StepInfo, Long> priorities;
+    private final PriorityBlockingQueue<BuildContext> readySteps = new PriorityBlockingQueue<>(64,
+            Comparator.comparingLong(BuildContext::getPriority).reversed());
+    private final AtomicInteger runningSteps = new AtomicInteger();
+    private final int parallelism;
 
     static {
         try {
@@ -66,6 +77,35 @@ final class Execution {
             done = true;
 
         metrics = new BuildMetrics(buildTargetName);
+        buildStepCache = builder.getBuildStepCache();
+        parallelism = builder.getParallelism();
+        priorities = computePriorities(chain.getStartSteps(), builder.getBuildStepDurations());
+    }
+
+    /**
+     * The priority of a step is the estimated duration of the longest path from the beginning of the step to the end of
+     * the build, i.e. its own duration plus the priority of its most expensive dependent.
+     */
+    private static Map<StepInfo, Long> computePriorities(List<StepInfo> startSteps, Map<String, Long> durations) {
+        final Map<StepInfo, Long> priorities = new HashMap<>();
+        for (StepInfo startStep : startSteps) {
+            computePriority(startStep, durations, priorities);
+        }
+        return priorities;
+    }
+
+    private static long computePriority(StepInfo stepInfo, Map<String, Long> durations, Map<StepInfo, Long> priorities) {
+        final Long existing = priorities.get(stepInfo);
+        if (existing != null) {
+            return existing;
+        }
+        long max = 0;
+        for (StepInfo dependent : stepInfo.getDependents()) {
+            max = max(max, computePriority(dependent, durations, priorities));
+        }
+        final long priority = max + max(1, durations.getOrDefault(stepInfo.getBuildStep().getId(), 1L));
+        priorities.put(stepInfo, priority);
+        return priority;
     }
 
     List<Diagnostic> getDiagnostics() {
@@ -73,7 +113,8 @@ List<Diagnostic> getDiagnostics() {
     }
 
     BuildContext getBuildContext(StepInfo stepInfo) {
-        return contextCache.computeIfAbsent(stepInfo, si -> new BuildContext(chain.getClassLoader(), si, this));
+        return contextCache.computeIfAbsent(stepInfo,
+                si -> new BuildContext(chain.getClassLoader(), si, this, priorities.getOrDefault(si, 1L)));
     }
 
     void removeBuildContext(StepInfo stepInfo, BuildContext buildContext) {
@@ -87,9 +128,11 @@ BuildResult run() throws BuildException {
 
         // run the build
         final List<StepInfo> startSteps = chain.getStartSteps();
+        // queue all the start steps first so that the first ones to run are picked by priority
         for (StepInfo startStep : startSteps) {
-            executor.execute(getBuildContext(startStep)::run);
+            readySteps.add(getBuildContext(startStep));
         }
+        startSteps();
         // wait for the wrap-up
         boolean intr = false;
         try {
@@ -137,6 +180,40 @@ BuildResult run() throws BuildException {
                 duration, metrics);
     }
 
+    /**
+     * Schedule a step whose dependencies are all finished. The ready steps are executed in the order of their priority,
+     * with at most {@code parallelism} steps running at the same time.
+     */
+    void scheduleStep(BuildContext context) {
+        readySteps.add(context);
+        startSteps();
+    }
+
+    private void startSteps() {
+        for (;;) {
+            final int running = runningSteps.get();
+            if (running >= parallelism || readySteps.isEmpty()) {
+                return;
+            }
+            if (runningSteps.compareAndSet(running, running + 1)) {
+                executor.execute(this::runNextStep);
+            }
+        }
+    }
+
+    private void runNextStep() {
+        try {
+            // the highest priority step at the time the task is executed, not at the time it was submitted
+            final BuildContext context = readySteps.poll();
+            if (context != null) {
+                context.run();
+            }
+        } finally {
+            runningSteps.decrementAndGet();
+            startSteps();
+        }
+    }
+
     EnhancedQueueExecutor getExecutor() {
         return executor;
     }
@@ -169,6 +246,10 @@ BuildMetrics getMetrics() {
         return metrics;
     }
 
+    BuildStepCache getBuildStepCache() {
+        return buildStepCache;
+    }
+
     void depFinished() {
         final int count = lastStepCount.decrementAndGet();
         log.tracef("End step completed; %d remaining", count);
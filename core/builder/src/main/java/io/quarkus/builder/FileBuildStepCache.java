@@ -0,0 +1,213 @@
+package io.quarkus.builder;
+
+import static io.quarkus.builder.Execution.log;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+import io.quarkus.builder.item.BuildItem;
+import io.smallrye.common.constraint.Assert;
+
+/**
+ * A {@link BuildStepCache} that stores the produced items in a directory, using Java serialization.
+ * <p>
+ * Each entry is stored in a separate file named after the hash of the step identifier and the cache key. Entries are
+ * written to a temporary file first and then moved, so that concurrent builds sharing the directory never read a partially
+ * written entry. Any failure to read or write an entry is logged and treated as a cache miss.
+ * <p>
+ * Only build items and the types of their fields are deserialized, any other class found in an entry is rejected.
+ */
+public final class FileBuildStepCache implements BuildStepCache {
+
+    private final Path directory;
+
+    public FileBuildStepCache(Path directory) {
+        Assert.checkNotNullParam("directory", directory);
+        this.directory = directory;
+    }
+
+    @Override
+    public List<BuildItem> get(String stepId, String key, ClassLoader classLoader) {
+        Path file = directory.resolve(fileName(stepId, key));
+        try (ObjectInputStream in = new ClassLoaderObjectInputStream(new BufferedInputStream(Files.newInputStream(file)),
+                classLoader)) {
+            in.setObjectInputFilter(new BuildItemFilter());
+            // guard against hash collisions
+            if (!stepId.equals(in.readUTF()) || !key.equals(in.readUTF())) {
+                return null;
+            }
+            int size = in.readInt();
+            List<BuildItem> items = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                items.add((BuildItem) in.readObject());
+            }
+            return items;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            log.debugf(e, "Unable to read the cached items of build step %s from %s", stepId, file);
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String stepId, String key, List<BuildItem> items) {
+        Path file = directory.resolve(fileName(stepId, key));
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            tmp = Files.createTempFile(directory, "step", ".tmp");
+            try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeUTF(stepId);
+                out.writeUTF(key);
+                out.writeInt(items.size());
+                for (BuildItem item : items) {
+                    out.writeObject(item);
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            tmp = null;
+        } catch (IOException e) {
+            log.debugf(e, "Unable to store the items of build step %s in %s", stepId, file);
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private static String fileName(String stepId, String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(stepId.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest()) + ".bin";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Accepts the build item classes, their superclasses and the declared types of their fields, recursively.
+     */
+    static final class BuildItemFilter implements ObjectInputFilter {
+
+        // the serialization proxies of the JDK types that replace the actual instances in the stream
+        private static final Set<String> SERIALIZATION_PROXIES = Set.of("java.util.CollSer",
+                "java.util.EnumSet$SerializationProxy", "java.time.Ser");
+
+        private final Set<Class<?>> declaredTypes = new HashSet<>();
+
+        @Override
+        public Status checkInput(FilterInfo filterInfo) {
+            Class<?> clazz = filterInfo.serialClass();
+            if (clazz == null) {
+                return Status.UNDECIDED;
+            }
+            while (clazz.isArray()) {
+                clazz = clazz.getComponentType();
+            }
+            if (clazz.isPrimitive() || clazz == Object.class || clazz == String.class) {
+                return Status.ALLOWED;
+            }
+            if (!BuildItem.class.isAssignableFrom(clazz) && !isDeclared(clazz)
+                    && !SERIALIZATION_PROXIES.contains(clazz.getName())) {
+                return Status.REJECTED;
+            }
+            // the class is checked before its superclass is read
+            for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+                if (declaredTypes.add(c)) {
+                    for (Field field : c.getDeclaredFields()) {
+                        if (!Modifier.isStatic(field.getModifiers())) {
+                            addDeclaredType(field.getGenericType());
+                        }
+                    }
+                }
+            }
+            return Status.ALLOWED;
+        }
+
+        private boolean isDeclared(Class<?> clazz) {
+            for (Class<?> declaredType : declaredTypes) {
+                if (declaredType.isAssignableFrom(clazz)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void addDeclaredType(Type type) {
+            if (type instanceof Class<?> clazz) {
+                if (clazz.isArray()) {
+                    addDeclaredType(clazz.getComponentType());
+                } else if (!clazz.isPrimitive() && clazz != Object.class) {
+                    declaredTypes.add(clazz);
+                }
+            } else if (type instanceof ParameterizedType parameterizedType) {
+                addDeclaredType(parameterizedType.getRawType());
+                for (Type argument : parameterizedType.getActualTypeArguments()) {
+                    addDeclaredType(argument);
+                }
+            } else if (type instanceof GenericArrayType arrayType) {
+                addDeclaredType(arrayType.getGenericComponentType());
+            } else if (type instanceof WildcardType wildcardType) {
+                for (Type bound : wildcardType.getUpperBounds()) {
+                    addDeclaredType(bound);
+                }
+            } else if (type instanceof TypeVariable<?> typeVariable) {
+                // only the raw bounds, the bounds may refer to the variable itself
+                for (Type bound : typeVariable.getBounds()) {
+                    addDeclaredType(bound instanceof ParameterizedType p ? p.getRawType() : bound);
+                }
+            }
+        }
+    }
+
+    private static final class ClassLoaderObjectInputStream extends ObjectInputStream {
+
+        private final ClassLoader classLoader;
+
+        ClassLoaderObjectInputStream(InputStream in, ClassLoader classLoader) throws IOException {
+            super(in);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(desc.getName(), false, classLoader);
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package io.quarkus.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+public class BuildStepCacheTests {
+
+    public static final class InputItem extends SimpleBuildItem {
+
+        final String value;
+
+        public InputItem(String value) {
+            this.value = value;
+        }
+    }
+
+    public static final class OutputItem extends SimpleBuildItem implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        final String value;
+
+        public OutputItem(String value) {
+            this.value = value;
+        }
+    }
+
+    public static final class CollectionsItem extends SimpleBuildItem implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        final List<String> names;
+        final Map<String, List<Integer>> values;
+
+        public CollectionsItem(List<String> names, Map<String, List<Integer>> values) {
+            this.names = names;
+            this.values = values;
+        }
+    }
+
+    public static final class OpaqueItem extends SimpleBuildItem implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        final Object value;
+
+        public OpaqueItem(Object value) {
+            this.value = value;
+        }
+    }
+
+    public static final class Payload implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    @TempDir
+    Path cacheDir;
+
+    @Test
+    public void testRestoreFromCache() throws ChainBuildException, BuildException {
+        AtomicInteger executions = new AtomicInteger();
+        BuildChain chain = buildChain(executions);
+
+        BuildResult result = execute(chain, "foo");
+        assertEquals("FOO", result.consume(OutputItem.class).value);
+        assertEquals(1, executions.get());
+        assertFalse(isCached(result));
+
+        result = execute(chain, "foo");
+        assertEquals("FOO", result.consume(OutputItem.class).value);
+        assertEquals(1, executions.get());
+        assertTrue(isCached(result));
+
+        // a different input must not be served from the cache
+        result = execute(chain, "bar");
+        assertEquals("BAR", result.consume(OutputItem.class).value);
+        assertEquals(2, executions.get());
+        assertFalse(isCached(result));
+    }
+
+    @Test
+    public void testNoCache() throws ChainBuildException, BuildException {
+        AtomicInteger executions = new AtomicInteger();
+        BuildChain chain = buildChain(executions);
+        chain.createExecutionBuilder("my-app.jar").produce(new InputItem("foo")).execute();
+        chain.createExecutionBuilder("my-app.jar").produce(new InputItem("foo")).execute();
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    public void testImplementationChange() throws ChainBuildException, BuildException {
+        AtomicInteger executions = new AtomicInteger();
+        BuildChain chain = buildChain(executions, InputItem.class);
+        execute(chain, "foo");
+        execute(chain, "foo");
+        assertEquals(1, executions.get());
+
+        // the same step id and key but a different implementation
+        chain = buildChain(executions, OutputItem.class);
+        BuildResult result = execute(chain, "foo");
+        assertEquals(2, executions.get());
+        assertFalse(isCached(result));
+    }
+
+    @Test
+    public void testDeserializationFilter() {
+        FileBuildStepCache cache = new FileBuildStepCache(cacheDir);
+        ClassLoader classLoader = getClass().getClassLoader();
+        cache.put("step", "collections", List.of(new CollectionsItem(new ArrayList<>(List.of("foo")),
+                Map.of("bar", List.of(1, 2)))));
+        List<?> items = cache.get("step", "collections", classLoader);
+        assertNotNull(items);
+        CollectionsItem item = (CollectionsItem) items.get(0);
+        assertEquals(List.of("foo"), item.names);
+        assertEquals(Map.of("bar", List.of(1, 2)), item.values);
+
+        // the type of the value is not declared by the build item
+        cache.put("step", "opaque", List.of(new OpaqueItem(new Payload())));
+        assertNull(cache.get("step", "opaque", classLoader));
+    }
+
+    private BuildResult execute(BuildChain chain, String input) throws BuildException {
+        return chain.createExecutionBuilder("my-app.jar")
+                .setBuildStepCache(new FileBuildStepCache(cacheDir))
+                .produce(new InputItem(input))
+                .execute();
+    }
+
+    private boolean isCached(BuildResult result) {
+        return result.getMetrics().getRecords().stream()
+                .filter(r -> r.stepInfo.getBuildStep().getId().equals("upper-case"))
+                .findFirst().orElseThrow().cached;
+    }
+
+    private BuildChain buildChain(AtomicInteger executions) throws ChainBuildException {
+        return buildChain(executions, null);
+    }
+
+    private BuildChain buildChain(AtomicInteger executions, Class<?> implementationClass) throws ChainBuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        builder.addInitial(InputItem.class);
+        BuildStepBuilder stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(BuildContext context) {
+                executions.incrementAndGet();
+                context.produce(new OutputItem(context.consume(InputItem.class).value.toUpperCase()));
+            }
+
+            @Override
+            public String getCacheKey(BuildContext context) {
+                return context.consume(InputItem.class).value;
+            }
+
+            @Override
+            public Class<?> getImplementationClass() {
+                return implementationClass != null ? implementationClass : getClass();
+            }
+
+            @Override
+            public String getId() {
+                return "upper-case";
+            }
+        });
+        stepBuilder.consumes(InputItem.class);
+        stepBuilder.produces(OutputItem.class);
+        stepBuilder.build();
+        builder.addFinal(OutputItem.class);
+        return builder.build();
+    }
+}
@@ -0,0 +1,107 @@
+package io.quarkus.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+public class SchedulingTests {
+
+    public static final class ShortItem extends SimpleBuildItem {
+    }
+
+    public static final class LongItem extends SimpleBuildItem {
+    }
+
+    public static final class FinalItem extends SimpleBuildItem {
+    }
+
+    @Test
+    public void testLongestPathFirst() throws ChainBuildException, BuildException {
+        List<String> executed = new CopyOnWriteArrayList<>();
+        BuildChain chain = buildChain(executed);
+
+        // without estimates the step with the longest chain of dependents runs first
+        BuildResult result = chain.createExecutionBuilder("my-app.jar").setParallelism(1).execute();
+        assertEquals("long", executed.get(0));
+        assertEquals(3, executed.size());
+        assertEquals(List.of("long", "long-dependent"), criticalPath(result));
+
+        // the estimates make the single step longer than the chain
+        executed.clear();
+        chain.createExecutionBuilder("my-app.jar")
+                .setParallelism(1)
+                .setBuildStepDurations(Map.of("short", 100L, "long", 10L, "long-dependent", 10L))
+                .execute();
+        assertEquals(List.of("short", "long", "long-dependent"), executed);
+    }
+
+    @Test
+    public void testBuildStepDurations(@TempDir Path dir) throws ChainBuildException, BuildException, IOException {
+        Path file = dir.resolve("target").resolve("build-step-durations.properties");
+        // e.g. the first build
+        assertEquals(Map.of(), BuildMetrics.readBuildStepDurations(file));
+
+        BuildResult result = buildChain(new CopyOnWriteArrayList<>()).createExecutionBuilder("my-app.jar").execute();
+        result.getMetrics().writeBuildStepDurations(file);
+        Map<String, Long> durations = BuildMetrics.readBuildStepDurations(file);
+        assertEquals(Set.of("short", "long", "long-dependent"), durations.keySet());
+        assertTrue(durations.get("long-dependent") >= 20);
+    }
+
+    private List<String> criticalPath(BuildResult result) {
+        return result.getMetrics().getCriticalPath().stream().map(r -> r.stepInfo.getBuildStep().getId())
+                .collect(Collectors.toList());
+    }
+
+    private BuildChain buildChain(List<String> executed) throws ChainBuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        builder.addBuildStep(step("short", executed, context -> context.produce(new ShortItem())))
+                .produces(ShortItem.class)
+                .build();
+        builder.addBuildStep(step("long", executed, context -> context.produce(new LongItem())))
+                .produces(LongItem.class)
+                .build();
+        builder.addBuildStep(step("long-dependent", executed, context -> {
+            try {
+                // make sure this step is on the critical path
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            context.produce(new FinalItem());
+        }))
+                .consumes(LongItem.class)
+                .produces(FinalItem.class)
+                .build();
+        builder.addFinal(ShortItem.class);
+        builder.addFinal(FinalItem.class);
+        return builder.build();
+    }
+
+    private BuildStep step(String id, List<String> executed, BuildStep action) {
+        return new BuildStep() {
+            @Override
+            public void execute(BuildContext context) {
+                executed.add(id);
+                action.execute(context);
+            }
+
+            @Override
+            public String getId() {
+                return id;
+            }
+        };
+    }
+}
@@ -0,0 +1,166 @@
+package io.quarkus.deployment;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+
+import io.quarkus.bootstrap.model.ApplicationModel;
+import io.quarkus.maven.dependency.ResolvedDependency;
+import io.smallrye.config.ConfigValue;
+
+/**
+ * The components of the cache key of a cacheable build step, one per consumed input.
+ * <p>
+ * Every component is a hash that does not depend on the order in which the input was assembled: the items of a multi
+ * build item, the classes of an index, the dependencies of the application and the configuration properties are sorted
+ * before they are hashed. A {@code null} component means that the input cannot be hashed and the step must not be cached.
+ *
+ * @see io.quarkus.deployment.annotations.BuildStep#cacheable()
+ */
+final class BuildStepCacheKeys {
+
+    // the index is hashed once per build, whatever the number of cacheable steps consuming it
+    private static final Map<IndexView, String> INDEX_HASHES = new WeakHashMap<>();
+
+    private BuildStepCacheKeys() {
+    }
+
+    /**
+     * @return the hash of the serialized item, or {@code null} if the item cannot be serialized
+     */
+    static String item(Object item) {
+        final MessageDigest digest = newDigest();
+        try (ObjectOutputStream out = new ObjectOutputStream(new DigestOutputStream(OutputStream.nullOutputStream(), digest))) {
+            out.writeObject(item);
+        } catch (IOException e) {
+            return null;
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * @return the hash of the serialized items regardless of the order in which they were produced, or {@code null} if an
+     *         item cannot be serialized
+     */
+    static String items(Collection<?> items) {
+        final List<String> hashes = new ArrayList<>(items.size());
+        for (Object item : items) {
+            final String hash = item(item);
+            if (hash == null) {
+                return null;
+            }
+            hashes.add(hash);
+        }
+        hashes.sort(Comparator.naturalOrder());
+        return hash(hashes);
+    }
+
+    /**
+     * @return the hash of the classes of the index, including their members and annotations
+     */
+    static String index(IndexView index) {
+        synchronized (INDEX_HASHES) {
+            return INDEX_HASHES.computeIfAbsent(index, BuildStepCacheKeys::computeIndexHash);
+        }
+    }
+
+    /**
+     * @return the hash of the coordinates of the dependencies of the application, or {@code null} if a dependency is a
+     *         snapshot, as its content may change without its coordinates
+     */
+    static String dependencies(ApplicationModel applicationModel) {
+        final List<String> coords = new ArrayList<>();
+        for (ResolvedDependency dependency : applicationModel.getDependencies()) {
+            if (dependency.getVersion().endsWith("-SNAPSHOT")) {
+                return null;
+            }
+            coords.add(dependency.toCompactCoords());
+        }
+        coords.sort(Comparator.naturalOrder());
+        return hash(coords);
+    }
+
+    /**
+     * @param values the build time configuration values
+     * @param prefix the prefix of a configuration root
+     * @return the hash of the names and values of the properties of the configuration root
+     */
+    static String config(Map<String, ConfigValue> values, String prefix) {
+        final List<String> properties = new ArrayList<>();
+        for (Map.Entry<String, ConfigValue> entry : values.entrySet()) {
+            final String name = entry.getKey();
+            if (name.equals(prefix) || (name.startsWith(prefix) && name.charAt(prefix.length()) == '.')) {
+                properties.add(name + '=' + entry.getValue().getValue());
+            }
+        }
+        properties.sort(Comparator.naturalOrder());
+        return hash(properties);
+    }
+
+    private static String computeIndexHash(IndexView index) {
+        final List<ClassInfo> classes = new ArrayList<>(index.getKnownClasses());
+        classes.sort(Comparator.comparing(ClassInfo::name));
+        final MessageDigest digest = newDigest();
+        final List<String> members = new ArrayList<>();
+        for (ClassInfo clazz : classes) {
+            update(digest, clazz.name() + " " + clazz.flags() + " " + clazz.superName());
+            for (DotName interfaceName : clazz.interfaceNames()) {
+                update(digest, interfaceName.toString());
+            }
+            for (FieldInfo field : clazz.fields()) {
+                members.add(field.flags() + " " + field);
+            }
+            for (MethodInfo method : clazz.methods()) {
+                members.add(method.flags() + " " + method);
+            }
+            for (AnnotationInstance annotation : clazz.annotations()) {
+                members.add(annotation + " " + annotation.target());
+            }
+            members.sort(Comparator.naturalOrder());
+            for (String member : members) {
+                update(digest, member);
+            }
+            members.clear();
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String hash(List<String> values) {
+        final MessageDigest digest = newDigest();
+        for (String value : values) {
+            update(digest, value);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
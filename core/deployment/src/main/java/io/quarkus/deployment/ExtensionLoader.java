@@ -13,6 +13,7 @@
 import static java.util.Arrays.asList;
 
 import java.io.IOException;
+import java.io.Serializable;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.AnnotatedElement;
@@ -76,11 +77,13 @@
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.annotations.Weak;
 import io.quarkus.deployment.builditem.BytecodeRecorderObjectLoaderBuildItem;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.ConfigurationBuildItem;
 import io.quarkus.deployment.builditem.MainBytecodeRecorderBuildItem;
 import io.quarkus.deployment.builditem.RunTimeConfigurationProxyBuildItem;
 import io.quarkus.deployment.builditem.RuntimeConfigSetupCompleteBuildItem;
 import io.quarkus.deployment.builditem.StaticBytecodeRecorderBuildItem;
+import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.deployment.configuration.BuildTimeConfigurationReader;
 import io.quarkus.deployment.configuration.ConfigMappingUtils;
 import io.quarkus.deployment.configuration.definition.RootDefinition;
@@ -102,6 +105,7 @@
 import io.quarkus.runtime.configuration.QuarkusConfigFactory;
 import io.quarkus.runtime.util.HashUtil;
 import io.smallrye.config.ConfigMappings.ConfigClass;
+import io.smallrye.config.ConfigValue;
 import io.smallrye.config.SmallRyeConfig;
 
 /**
@@ -246,11 +250,11 @@ public String getId() {
      * Load all the build steps from the given class.
      *
      * @param clazz the class to load from (must not be {@code null})
-     * @param readResult the build time configuration read result (must not be {@code null})
+     * @param readResult the build time configuration read result (must not be {@code null} if the steps consume configuration)
      * @param runTimeProxies the map of run time proxy objects to populate for recorders (must not be {@code null})
      * @return a consumer which adds the steps to the given chain builder
      */
-    private static Consumer<BuildChainBuilder> loadStepsFromClass(Class<?> clazz,
+    static Consumer<BuildChainBuilder> loadStepsFromClass(Class<?> clazz,
             BuildTimeConfigurationReader.ReadResult readResult,
             Map<Class<?>, Object> runTimeProxies, BooleanSupplierFactoryBuildItem supplierFactory) {
         final Constructor<?>[] constructors = clazz.getDeclaredConstructors();
@@ -345,6 +349,7 @@ private static Consumer<BuildChainBuilder> loadStepsFromClass(Class<?> clazz,
 
         // index fields
         final Field[] fields = clazz.getDeclaredFields();
+        boolean fieldInjection = false;
         for (Field field : fields) {
             final int mods = field.getModifiers();
             if (Modifier.isStatic(mods)) {
@@ -355,6 +360,7 @@ private static Consumer<BuildChainBuilder> loadStepsFromClass(Class<?> clazz,
                 // ignore final fields
                 continue;
             }
+            fieldInjection = true;
             if (!Modifier.isPublic(mods) || !Modifier.isPublic(field.getDeclaringClass().getModifiers())) {
                 field.setAccessible(true);
             }
@@ -780,6 +786,9 @@ private static Consumer<BuildChainBuilder> loadStepsFromClass(Class<?> clazz,
                     .andThen(buildStepBuilder -> buildStepBuilder.buildIf(finalAddStep));
             final BiConsumer<BuildContext, Object> finalStepInstanceSetup = stepInstanceSetup;
             final String name = clazz.getName() + "#" + method.getName();
+            final List<Function<BuildContext, String>> cacheKeyFns = buildStep.cacheable()
+                    ? cacheKeyFunctions(method, ctorParameters.length > 0 || fieldInjection, readResult)
+                    : null;
             final String stepId;
             List<Method> methodsWithName = nameToMethods.get(method.getName());
             if (methodsWithName.size() > 1) {
@@ -878,6 +887,16 @@ public String getId() {
                                 return stepId;
                             }
 
+                            @Override
+                            public String getCacheKey(BuildContext bc) {
+                                return cacheKeyFns != null ? cacheKey(bc, stepId, cacheKeyFns) : null;
+                            }
+
+                            @Override
+                            public Class<?> getImplementationClass() {
+                                return clazz;
+                            }
+
                             public String toString() {
                                 return name;
                             }
@@ -888,6 +907,103 @@ public String toString() {
         return chainConfig;
     }
 
+    /**
+     * Get the functions that return the cache key components of the inputs of a cacheable build step, in the order of the
+     * parameters.
+     */
+    private static List<Function<BuildContext, String>> cacheKeyFunctions(Method method, boolean instanceInjection,
+            BuildTimeConfigurationReader.ReadResult readResult) {
+        if (instanceInjection) {
+            throw reportError(method, "A cacheable build step must not be declared on a class with injected fields or "
+                    + "constructor parameters");
+        }
+        if (method.isAnnotationPresent(Record.class)) {
+            throw reportError(method, "A cacheable build step must not record bytecode");
+        }
+        final List<Function<BuildContext, String>> fns = new ArrayList<>();
+        for (Parameter parameter : method.getParameters()) {
+            final Type parameterType = parameter.getParameterizedType();
+            final Class<?> parameterClass = parameter.getType();
+            if (isConsumerOf(parameterType, BuildItem.class) || isBuildProducerOf(parameterType, BuildItem.class)) {
+                continue;
+            } else if (rawTypeExtends(parameterType, SimpleBuildItem.class)) {
+                fns.add(simpleItemCacheKeyFunction(parameter, parameterClass.asSubclass(SimpleBuildItem.class)));
+            } else if (isOptionalOf(parameterType, SimpleBuildItem.class)) {
+                fns.add(simpleItemCacheKeyFunction(parameter,
+                        rawTypeOfParameter(parameterType, 0).asSubclass(SimpleBuildItem.class)));
+            } else if (isListOf(parameterType, MultiBuildItem.class)) {
+                final Class<? extends MultiBuildItem> multiClass = rawTypeOfParameter(parameterType, 0)
+                        .asSubclass(MultiBuildItem.class);
+                checkSerializable(parameter, multiClass);
+                // the items are produced in no particular order
+                fns.add(bc -> BuildStepCacheKeys.items(bc.consumeMulti(multiClass)));
+            } else if (parameterClass.isAnnotationPresent(ConfigRoot.class)
+                    && parameterClass.getAnnotation(ConfigRoot.class).phase().isAvailableAtBuild()) {
+                final String prefix = configPrefix(parameter, parameterClass, readResult);
+                final Map<String, ConfigValue> values = readResult.getAllBuildTimeValues();
+                fns.add(bc -> BuildStepCacheKeys.config(values, prefix));
+            } else {
+                throw reportError(parameter, "A cacheable build step may only consume build items and build time "
+                        + "configuration: " + parameterType);
+            }
+        }
+        return fns;
+    }
+
+    private static Function<BuildContext, String> simpleItemCacheKeyFunction(Parameter parameter,
+            Class<? extends SimpleBuildItem> buildItemClass) {
+        if (buildItemClass == CombinedIndexBuildItem.class) {
+            return bc -> {
+                final CombinedIndexBuildItem index = bc.consume(CombinedIndexBuildItem.class);
+                return index != null ? BuildStepCacheKeys.index(index.getIndex()) : "";
+            };
+        } else if (buildItemClass == CurateOutcomeBuildItem.class) {
+            return bc -> {
+                final CurateOutcomeBuildItem curateOutcome = bc.consume(CurateOutcomeBuildItem.class);
+                return curateOutcome != null ? BuildStepCacheKeys.dependencies(curateOutcome.getApplicationModel()) : "";
+            };
+        }
+        checkSerializable(parameter, buildItemClass);
+        return bc -> BuildStepCacheKeys.item(bc.consume(buildItemClass));
+    }
+
+    private static void checkSerializable(Parameter parameter, Class<? extends BuildItem> buildItemClass) {
+        if (!Serializable.class.isAssignableFrom(buildItemClass)) {
+            throw reportError(parameter,
+                    "A cacheable build step may only consume serializable build items, the combined index and the "
+                            + "curate outcome: " + buildItemClass.getName());
+        }
+    }
+
+    private static String configPrefix(Parameter parameter, Class<?> configClass,
+            BuildTimeConfigurationReader.ReadResult readResult) {
+        final ConfigClass mapping = readResult.getAllMappingsByClass().get(configClass);
+        if (mapping != null) {
+            return mapping.getPrefix();
+        }
+        final RootDefinition root = readResult.getAllRootsByClass().get(configClass);
+        if (root != null) {
+            return root.getName();
+        }
+        throw reportError(parameter, "Unknown configuration root " + configClass.getName());
+    }
+
+    /**
+     * The hash of the cache key components of the inputs, or {@code null} if an input cannot be hashed.
+     */
+    private static String cacheKey(BuildContext bc, String stepId, List<Function<BuildContext, String>> cacheKeyFns) {
+        final List<String> components = new ArrayList<>(cacheKeyFns.size());
+        for (Function<BuildContext, String> fn : cacheKeyFns) {
+            final String component = fn.apply(bc);
+            if (component == null) {
+                loadLog.debugf("Unable to compute the cache key of build step %s", stepId);
+                return null;
+            }
+            components.add(component);
+        }
+        return String.join(":", components);
+    }
+
     private static MethodHandle unreflect(Method method, MethodHandles.Lookup lookup) {
         try {
             return lookup.unreflect(method);
@@ -1,11 +1,13 @@
 package io.quarkus.deployment;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
@@ -21,7 +23,9 @@
 import io.quarkus.builder.BuildChain;
 import io.quarkus.builder.BuildChainBuilder;
 import io.quarkus.builder.BuildExecutionBuilder;
+import io.quarkus.builder.BuildMetrics;
 import io.quarkus.builder.BuildResult;
+import io.quarkus.builder.FileBuildStepCache;
 import io.quarkus.builder.item.BuildItem;
 import io.quarkus.deployment.builditem.AdditionalApplicationArchiveBuildItem;
 import io.quarkus.deployment.builditem.AppModelProviderBuildItem;
@@ -44,6 +48,9 @@ public class QuarkusAugmentor {
 
     private static final Logger log = Logger.getLogger(QuarkusAugmentor.class);
 
+    private static final String PARALLELISM = "quarkus.builder.parallelism";
+    private static final String BUILD_STEP_DURATIONS = "build-step-durations.properties";
+
     private final ClassLoader classLoader;
     private final ClassLoader deploymentClassLoader;
     private final PathCollection root;
@@ -158,7 +165,22 @@ public BuildResult run() throws Exception {
             for (PathCollection i : additionalApplicationArchives) {
                 execBuilder.produce(new AdditionalApplicationArchiveBuildItem(i));
             }
+            // prioritize the steps on the critical path using the durations measured by the previous build
+            Map<String, Long> buildStepDurations = previousBuildStepDurations();
+            if (buildStepDurations != null) {
+                execBuilder.setBuildStepDurations(buildStepDurations);
+            }
+            String parallelism = System.getProperty(PARALLELISM);
+            if (parallelism != null && !parallelism.isBlank()) {
+                execBuilder.setParallelism(parseParallelism(parallelism));
+            }
+            // opt-in cache of the items produced by cacheable build steps, shared across builds
+            String buildStepCacheDir = System.getProperty("quarkus.builder.step-cache-dir");
+            if (buildStepCacheDir != null && !buildStepCacheDir.isBlank() && launchMode == LaunchMode.NORMAL) {
+                execBuilder.setBuildStepCache(new FileBuildStepCache(Path.of(buildStepCacheDir)));
+            }
             BuildResult buildResult = execBuilder.execute();
+            writeBuildStepDurations(buildResult.getMetrics());
             String message = "Quarkus augmentation completed in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
                     + "ms";
             if (launchMode == LaunchMode.NORMAL) {
@@ -174,6 +196,11 @@ public BuildResult run() throws Exception {
                 if ((launchMode == LaunchMode.DEVELOPMENT) && !LaunchMode.isRemoteDev()) {
                     buildResult.getMetrics().dumpTo(targetDir.resolve("build-metrics.json"));
                 }
+                if (launchMode == LaunchMode.DEVELOPMENT) {
+                    // the next reload uses these durations instead of reading the durations file again
+                    liveReloadBuildItem.setContextObject(BuildStepDurations.class,
+                            new BuildStepDurations(buildResult.getMetrics().getBuildStepDurations()));
+                }
             }
             return buildResult;
         } finally {
@@ -188,10 +215,68 @@ public BuildResult run() throws Exception {
         }
     }
 
+    private Map<String, Long> previousBuildStepDurations() {
+        if (liveReloadBuildItem.isLiveReload()) {
+            BuildStepDurations durations = liveReloadBuildItem.getContextObject(BuildStepDurations.class);
+            if (durations != null) {
+                return durations.durations;
+            }
+        }
+        if (targetDir != null) {
+            Path file = targetDir.resolve(BUILD_STEP_DURATIONS);
+            try {
+                return BuildMetrics.readBuildStepDurations(file);
+            } catch (IOException e) {
+                log.debugf(e, "Unable to read the build step durations from %s", file);
+            }
+        }
+        return null;
+    }
+
+    private void writeBuildStepDurations(BuildMetrics metrics) {
+        // written by every build, unlike build-metrics.json, and not in remote-dev (as it could cause issues with container
+        // permissions)
+        if (targetDir != null && !LaunchMode.isRemoteDev()) {
+            Path file = targetDir.resolve(BUILD_STEP_DURATIONS);
+            try {
+                metrics.writeBuildStepDurations(file);
+            } catch (IOException e) {
+                log.debugf(e, "Unable to write the build step durations to %s", file);
+            }
+        }
+    }
+
+    private static int parseParallelism(String value) {
+        int parallelism;
+        try {
+            parallelism = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    "Invalid value for " + PARALLELISM + ": '" + value + "', a positive integer is expected", e);
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                    "Invalid value for " + PARALLELISM + ": '" + value + "', a positive integer is expected");
+        }
+        return parallelism;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
 
+    /**
+     * The build step durations measured by the last build in dev mode, kept in the live reload context.
+     */
+    private static final class BuildStepDurations {
+
+        final Map<String, Long> durations;
+
+        BuildStepDurations(Map<String, Long> durations) {
+            this.durations = durations;
+        }
+    }
+
     public static final class Builder {
 
         private static final String QUARKUS_APPLICATION = "quarkus-application";
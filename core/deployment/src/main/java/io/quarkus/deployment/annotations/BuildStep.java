@@ -76,4 +76,27 @@
      * @return the supplier class array
      */
     Class<? extends BooleanSupplier>[] onlyIfNot() default {};
+
+    /**
+     * If set to {@code true} then the items produced by this build step may be restored from the build step cache instead of
+     * executing the step again, if its inputs did not change.
+     * <p>
+     * The cache key is derived from the method parameters, which must be one of:
+     * <ul>
+     * <li>a {@link java.io.Serializable} build item, a list or an optional of them, hashed in their serialized form; the
+     * items of a list are hashed regardless of the order in which they were produced,</li>
+     * <li>the {@link io.quarkus.deployment.builditem.CombinedIndexBuildItem}, hashed from the classes of the index, their
+     * members and annotations,</li>
+     * <li>the {@link io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem}, hashed from the coordinates of the
+     * dependencies of the application; the step is not cached if a dependency is a snapshot,</li>
+     * <li>a build time configuration root, hashed from the values of its properties,</li>
+     * <li>a producer of build items.</li>
+     * </ul>
+     * The produced build items must be {@link java.io.Serializable}. The step must not record bytecode or use constructor or
+     * field injection. Moreover, the step must not have side effects other than producing build items.
+     *
+     * @return {@code true} if the produced items may be cached
+     * @see io.quarkus.builder.BuildStep#getCacheKey(io.quarkus.builder.BuildContext)
+     */
+    boolean cacheable() default false;
 }
@@ -1,12 +1,17 @@
 package io.quarkus.deployment.builditem;
 
+import java.io.Serializable;
+
 import io.quarkus.builder.item.MultiBuildItem;
 import io.smallrye.common.constraint.Assert;
 
 /**
  * Class to be preloaded in static initialization phase of Quarkus.
  */
-public final class PreloadClassBuildItem extends MultiBuildItem {
+public final class PreloadClassBuildItem extends MultiBuildItem implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
     private final String className;
 
     /**
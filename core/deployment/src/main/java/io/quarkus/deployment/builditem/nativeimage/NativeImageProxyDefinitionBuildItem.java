@@ -1,5 +1,6 @@
 package io.quarkus.deployment.builditem.nativeimage;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -11,7 +12,9 @@
  * that will be required in native mode. This definition takes the form of an ordered
  * list of interfaces that this proxy will implement.
  */
-public final class NativeImageProxyDefinitionBuildItem extends MultiBuildItem {
+public final class NativeImageProxyDefinitionBuildItem extends MultiBuildItem implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private final List<String> classes;
 
@@ -24,7 +24,7 @@ public void preInit(Optional<PreloadClassesEnabledBuildItem> preload, PreloadCla
         recorder.invokePreloadClasses(preload.get().doInitialize());
     }
 
-    @BuildStep
+    @BuildStep(cacheable = true)
     public GeneratedResourceBuildItem registerPreInitClasses(List<PreloadClassBuildItem> items) {
         if (items == null || items.isEmpty())
             return null;
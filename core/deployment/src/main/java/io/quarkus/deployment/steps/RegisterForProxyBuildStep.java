@@ -12,7 +12,7 @@
 
 public class RegisterForProxyBuildStep {
 
-    @BuildStep
+    @BuildStep(cacheable = true)
     public void build(CombinedIndexBuildItem combinedIndexBuildItem,
             BuildProducer<NativeImageProxyDefinitionBuildItem> proxy) {
         for (var annotationInstance : combinedIndexBuildItem.getIndex()
@@ -0,0 +1,128 @@
+package io.quarkus.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.builder.BuildChain;
+import io.quarkus.builder.BuildChainBuilder;
+import io.quarkus.builder.BuildException;
+import io.quarkus.builder.BuildResult;
+import io.quarkus.builder.ChainBuildException;
+import io.quarkus.builder.FileBuildStepCache;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.PreloadClassBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageProxyDefinitionBuildItem;
+import io.quarkus.deployment.steps.RegisterForProxyBuildStep;
+import io.quarkus.runtime.annotations.RegisterForProxy;
+import io.smallrye.config.ConfigValue;
+
+public class BuildStepCacheKeysTest {
+
+    @TempDir
+    Path cacheDir;
+
+    @Test
+    public void testIndexOrder() throws IOException {
+        assertEquals(BuildStepCacheKeys.index(Index.of(Alpha.class, Bravo.class)),
+                BuildStepCacheKeys.index(Index.of(Bravo.class, Alpha.class)));
+        assertNotEquals(BuildStepCacheKeys.index(Index.of(Alpha.class, Bravo.class)),
+                BuildStepCacheKeys.index(Index.of(Alpha.class, Charlie.class)));
+    }
+
+    @Test
+    public void testItemsOrder() {
+        PreloadClassBuildItem alpha = new PreloadClassBuildItem("alpha");
+        PreloadClassBuildItem bravo = new PreloadClassBuildItem("bravo");
+        assertEquals(BuildStepCacheKeys.items(List.of(alpha, bravo)), BuildStepCacheKeys.items(List.of(bravo, alpha)));
+        assertNotEquals(BuildStepCacheKeys.items(List.of(alpha)), BuildStepCacheKeys.items(List.of(alpha, bravo)));
+    }
+
+    @Test
+    public void testConfig() {
+        Map<String, ConfigValue> values = new HashMap<>();
+        values.put("quarkus.foo.enabled", ConfigValue.builder().withName("quarkus.foo.enabled").withValue("true").build());
+        values.put("quarkus.foobar.enabled",
+                ConfigValue.builder().withName("quarkus.foobar.enabled").withValue("true").build());
+        String key = BuildStepCacheKeys.config(values, "quarkus.foo");
+
+        // the properties of another root do not affect the key
+        values.put("quarkus.foobar.enabled",
+                ConfigValue.builder().withName("quarkus.foobar.enabled").withValue("false").build());
+        assertEquals(key, BuildStepCacheKeys.config(values, "quarkus.foo"));
+
+        values.put("quarkus.foo.enabled", ConfigValue.builder().withName("quarkus.foo.enabled").withValue("false").build());
+        assertNotEquals(key, BuildStepCacheKeys.config(values, "quarkus.foo"));
+    }
+
+    @Test
+    public void testRestoreFromCache() throws ChainBuildException, BuildException, IOException {
+        BuildChain chain = buildChain();
+
+        BuildResult result = execute(chain, Index.of(Alpha.class, Bravo.class));
+        assertFalse(isCached(result));
+        assertEquals(List.of(Alpha.class.getName(), Runnable.class.getName()), proxyClasses(result));
+
+        // the same classes indexed in a different order
+        result = execute(chain, Index.of(Bravo.class, Alpha.class));
+        assertTrue(isCached(result));
+        assertEquals(List.of(Alpha.class.getName(), Runnable.class.getName()), proxyClasses(result));
+
+        result = execute(chain, Index.of(Alpha.class, Charlie.class));
+        assertFalse(isCached(result));
+        assertEquals(2, result.consumeMulti(NativeImageProxyDefinitionBuildItem.class).size());
+    }
+
+    private BuildChain buildChain() throws ChainBuildException {
+        BuildChainBuilder builder = BuildChain.builder();
+        builder.addInitial(CombinedIndexBuildItem.class);
+        builder.addFinal(NativeImageProxyDefinitionBuildItem.class);
+        // the step consumes neither configuration nor conditions
+        ExtensionLoader.loadStepsFromClass(RegisterForProxyBuildStep.class, null, new HashMap<>(), null).accept(builder);
+        return builder.build();
+    }
+
+    private BuildResult execute(BuildChain chain, Index index) throws BuildException {
+        return chain.createExecutionBuilder("my-app.jar")
+                .setBuildStepCache(new FileBuildStepCache(cacheDir))
+                .produce(new CombinedIndexBuildItem(index, index))
+                .execute();
+    }
+
+    private static boolean isCached(BuildResult result) {
+        // the chain only contains the step of RegisterForProxyBuildStep
+        return result.getMetrics().getRecords().stream().anyMatch(r -> r.cached);
+    }
+
+    private static List<String> proxyClasses(BuildResult result) {
+        List<NativeImageProxyDefinitionBuildItem> items = result.consumeMulti(NativeImageProxyDefinitionBuildItem.class);
+        assertEquals(1, items.size());
+        return items.get(0).getClasses();
+    }
+
+    @RegisterForProxy
+    public static class Alpha implements Runnable {
+
+        @Override
+        public void run() {
+        }
+    }
+
+    public static class Bravo {
+    }
+
+    @RegisterForProxy(targets = Runnable.class)
+    public static class Charlie {
+    }
+}
@@ -76,4 +76,15 @@ public void testMetricsOfDs1() throws SQLException {
         Assertions.assertEquals(1L, maxUsed.getValue());
     }
 
+    @Test
+    public void testConnectionCacheMetrics() {
+        Counter hitCount = registry.getCounters()
+                .get(new MetricID("agroal.cache.hit.count", new Tag("datasource", "default")));
+        Counter missCount = registry.getCounters()
+                .get(new MetricID("agroal.cache.miss.count", new Tag("datasource", "default")));
+
+        Assertions.assertNotNull(hitCount, "Connection cache metrics should be registered eagerly");
+        Assertions.assertNotNull(missCount, "Connection cache metrics should be registered eagerly");
+    }
+
 }
@@ -0,0 +1,108 @@
+package io.quarkus.agroal.test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.runtime.QuarkusConnectionCache;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.common.vertx.VertxContext;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+
+@EnabledForJreRange(min = JRE.JAVA_21)
+public class VertxContextConnectionCacheTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest().withConfigurationResource("base.properties");
+
+    @Inject
+    AgroalDataSource defaultDS;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testReacquireInDuplicatedContext() throws Exception {
+        QuarkusConnectionCache cache = connectionCache();
+        Context context = VertxContext.getOrCreateDuplicatedContext(vertx);
+        long hits = cache.getHitCount();
+
+        runOnVirtualThread(context, () -> {
+            useConnection();
+            // released to the cache of the context, then reacquired from it
+            useConnection();
+            return null;
+        });
+
+        Assertions.assertEquals(hits + 1, cache.getHitCount());
+    }
+
+    @Test
+    public void testNoConnectionSharedAcrossContexts() throws Exception {
+        QuarkusConnectionCache cache = connectionCache();
+        Context first = VertxContext.getOrCreateDuplicatedContext(vertx);
+        Context second = VertxContext.getOrCreateDuplicatedContext(vertx);
+        Assertions.assertNotSame(first, second);
+        long hits = cache.getHitCount();
+        long misses = cache.getMissCount();
+
+        runOnVirtualThread(first, () -> {
+            useConnection();
+            return null;
+        });
+        // the connection cached in the first context must not be handed out in the second one
+        runOnVirtualThread(second, () -> {
+            useConnection();
+            return null;
+        });
+
+        Assertions.assertEquals(hits, cache.getHitCount());
+        Assertions.assertEquals(misses + 2, cache.getMissCount());
+    }
+
+    private QuarkusConnectionCache connectionCache() {
+        return (QuarkusConnectionCache) defaultDS.getConfiguration().connectionPoolConfiguration().connectionCache();
+    }
+
+    private void useConnection() throws SQLException {
+        try (Connection connection = defaultDS.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SELECT 1");
+            }
+        }
+    }
+
+    private static void runOnVirtualThread(Context context, Callable<Void> task) throws Exception {
+        // the tests are compiled for Java 17
+        ExecutorService executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+        try {
+            executor.submit(() -> {
+                ContextInternal contextInternal = (ContextInternal) context;
+                ContextInternal previous = contextInternal.beginDispatch();
+                try {
+                    return task.call();
+                } finally {
+                    contextInternal.endDispatch(previous);
+                }
+            }).get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -195,12 +195,23 @@ public AgroalDataSource createDataSource(String dataSourceName, boolean otelEnab
         //we use a custom cache for two reasons:
         //fast thread local cache should be faster
         //and it prevents a thread local leak
+        QuarkusConnectionCache connectionCache;
         try {
             Class.forName("io.netty.util.concurrent.FastThreadLocal", true, Thread.currentThread().getContextClassLoader());
-            dataSourceConfiguration.connectionPoolConfiguration().connectionCache(new QuarkusNettyConnectionCache());
+            connectionCache = new QuarkusNettyConnectionCache();
         } catch (ClassNotFoundException e) {
-            dataSourceConfiguration.connectionPoolConfiguration().connectionCache(new QuarkusSimpleConnectionCache());
+            connectionCache = new QuarkusSimpleConnectionCache();
         }
+        //when Vert.x is present, threads we do not control (e.g. virtual threads) cache the connection
+        //in the duplicated context of the request instead
+        try {
+            Class.forName("io.smallrye.common.vertx.VertxContext", true, Thread.currentThread().getContextClassLoader());
+            Class.forName("io.vertx.core.Vertx", true, Thread.currentThread().getContextClassLoader());
+            connectionCache = new QuarkusVertxContextConnectionCache(connectionCache);
+        } catch (ClassNotFoundException e) {
+            // ignore, Vert.x is not present
+        }
+        dataSourceConfiguration.connectionPoolConfiguration().connectionCache(connectionCache);
 
         agroalConnectionConfigurer.setExceptionSorter(resolvedDbKind, dataSourceConfiguration);
 
@@ -0,0 +1,52 @@
+package io.quarkus.agroal.runtime;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import io.agroal.api.cache.Acquirable;
+import io.agroal.api.cache.ConnectionCache;
+
+/**
+ * Base class of the connection caches installed by Quarkus.
+ * <p>
+ * It keeps track of the number of times a connection could be reacquired from the cache (hits) and the number of times the
+ * acquisition had to go to the shared pool (misses), so that the effectiveness of the cache can be exposed as metrics.
+ */
+public abstract class QuarkusConnectionCache implements ConnectionCache {
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * @return {@code true} if this cache can cache connections for the given thread
+     */
+    abstract boolean isCacheable(Thread thread);
+
+    /**
+     * Tries to acquire the cached connection and records the outcome.
+     *
+     * @param acquirable the cached connection, may be {@code null}
+     * @return the acquired connection or {@code null} if it must be acquired from the pool
+     */
+    Acquirable acquire(Acquirable acquirable) {
+        if (acquirable != null && acquirable.acquire()) {
+            hitCount.increment();
+            return acquirable;
+        }
+        missCount.increment();
+        return null;
+    }
+
+    /**
+     * @return the number of connections reacquired from this cache
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return the number of acquisitions on a cacheable thread that had to go to the shared pool
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+}
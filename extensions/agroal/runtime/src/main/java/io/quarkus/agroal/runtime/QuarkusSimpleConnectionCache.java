@@ -3,23 +3,27 @@
 import org.jboss.threads.JBossThread;
 
 import io.agroal.api.cache.Acquirable;
-import io.agroal.api.cache.ConnectionCache;
 
-class QuarkusSimpleConnectionCache implements ConnectionCache {
+class QuarkusSimpleConnectionCache extends QuarkusConnectionCache {
 
     volatile ThreadLocal<Acquirable> connectionCache = new ThreadLocal<>();
 
+    @Override
+    boolean isCacheable(Thread thread) {
+        return thread instanceof JBossThread;
+    }
+
     @Override
     public Acquirable get() {
         Thread thread = Thread.currentThread();
-        if (thread instanceof JBossThread) {
+        if (isCacheable(thread)) {
             //we only want to cache on threads that we control the lifecycle
             //which are the vert.x and potentially jboss threads
             //JBossThread still works with FastThreadLocal, it is just slower, and for most apps
             //this will not be used anyway, as we use VertThread pretty much everywhere if
             //Vert.x is present
             Acquirable acquirable = connectionCache.get();
-            return acquirable != null && acquirable.acquire() ? acquirable : null;
+            return acquire(acquirable);
         }
         return null;
     }
@@ -27,7 +31,7 @@ public Acquirable get() {
     @Override
     public void put(Acquirable acquirable) {
         Thread thread = Thread.currentThread();
-        if (thread instanceof JBossThread) {
+        if (isCacheable(thread)) {
             connectionCache.set(acquirable);
         }
     }
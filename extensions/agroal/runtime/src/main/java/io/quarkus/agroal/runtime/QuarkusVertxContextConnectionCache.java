@@ -0,0 +1,77 @@
+package io.quarkus.agroal.runtime;
+
+import io.agroal.api.cache.Acquirable;
+import io.smallrye.common.vertx.VertxContext;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * A connection cache that binds the connection to the current Vert.x duplicated context on threads that are not handled by
+ * the thread-based cache, typically virtual threads.
+ * <p>
+ * Virtual threads are created per task, so a thread local cache would never be hit. The duplicated context on the other
+ * hand lives as long as the request, so a connection released and acquired again while processing the same request is
+ * reacquired without going through the shared pool. The cached connection is dropped together with the context once the
+ * request is processed.
+ */
+class QuarkusVertxContextConnectionCache extends QuarkusConnectionCache {
+
+    private final QuarkusConnectionCache threadCache;
+
+    // Each datasource has its own cache so we use an instance key
+    private final Object key = new Object();
+
+    QuarkusVertxContextConnectionCache(QuarkusConnectionCache threadCache) {
+        this.threadCache = threadCache;
+    }
+
+    @Override
+    boolean isCacheable(Thread thread) {
+        return threadCache.isCacheable(thread) || duplicatedContext() != null;
+    }
+
+    @Override
+    public Acquirable get() {
+        if (threadCache.isCacheable(Thread.currentThread())) {
+            return threadCache.get();
+        }
+        Context context = duplicatedContext();
+        if (context != null) {
+            return acquire(context.getLocal(key));
+        }
+        return null;
+    }
+
+    @Override
+    public void put(Acquirable acquirable) {
+        if (threadCache.isCacheable(Thread.currentThread())) {
+            threadCache.put(acquirable);
+            return;
+        }
+        Context context = duplicatedContext();
+        if (context != null) {
+            context.putLocal(key, acquirable);
+        }
+    }
+
+    @Override
+    public void reset() {
+        threadCache.reset();
+        // The duplicated contexts are short-lived and the cached connections are released with them
+    }
+
+    @Override
+    public long getHitCount() {
+        return super.getHitCount() + threadCache.getHitCount();
+    }
+
+    @Override
+    public long getMissCount() {
+        return super.getMissCount() + threadCache.getMissCount();
+    }
+
+    private static Context duplicatedContext() {
+        Context context = Vertx.currentContext();
+        return context != null && VertxContext.isDuplicatedContext(context) ? context : null;
+    }
+}
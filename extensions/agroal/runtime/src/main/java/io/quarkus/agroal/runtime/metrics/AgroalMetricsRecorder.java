@@ -10,7 +10,9 @@
 
 import io.agroal.api.AgroalDataSource;
 import io.agroal.api.AgroalDataSourceMetrics;
+import io.agroal.api.cache.ConnectionCache;
 import io.quarkus.agroal.runtime.AgroalDataSourceUtil;
+import io.quarkus.agroal.runtime.QuarkusConnectionCache;
 import io.quarkus.datasource.common.runtime.DataSourceUtil;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.metrics.MetricsFactory;
@@ -121,6 +123,21 @@ public void accept(MetricsFactory metricsFactory) {
                         .tag("datasource", tagValue)
                         .unit("milliseconds")
                         .buildGauge(metrics::creationTimeTotal, convertToMillis);
+
+                ConnectionCache connectionCache = dataSource.get().getConfiguration().connectionPoolConfiguration()
+                        .connectionCache();
+                if (connectionCache instanceof QuarkusConnectionCache quarkusConnectionCache) {
+                    metricsFactory.builder("agroal.cache.hit.count")
+                            .description("Number of connections reacquired from the connection cache of the current thread"
+                                    + " or request, without going to the shared pool.")
+                            .tag("datasource", tagValue)
+                            .buildCounter(quarkusConnectionCache::getHitCount);
+                    metricsFactory.builder("agroal.cache.miss.count")
+                            .description("Number of connection acquisitions that could not be served by the connection cache"
+                                    + " and went to the shared pool.")
+                            .tag("datasource", tagValue)
+                            .buildCounter(quarkusConnectionCache::getMissCount);
+                }
             }
         };
     }
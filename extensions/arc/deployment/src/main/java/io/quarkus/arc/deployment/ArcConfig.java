@@ -236,6 +236,15 @@ public enum OptimizeContexts {
         AUTO
     }
 
+    /**
+     * If set to {@code true}, the instances of {@link jakarta.enterprise.context.RequestScoped} beans are stored in an array
+     * indexed by an ordinal assigned to each bean during build, instead of a concurrent map. Activating, using and
+     * terminating the request context then allocates no map nodes, which pays off when many request-scoped beans are used
+     * per request. Takes precedence over {@code quarkus.arc.optimize-contexts} for the request context.
+     */
+    @WithDefault("false")
+    boolean indexedRequestContext();
+
     default boolean isRemoveUnusedBeansFieldValid() {
         return ALLOWED_REMOVE_UNUSED_BEANS_VALUES.contains(removeUnusedBeans().toLowerCase());
     }
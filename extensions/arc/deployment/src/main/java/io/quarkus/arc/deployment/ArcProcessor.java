@@ -410,6 +410,7 @@ public boolean test(BeanDeployment deployment) {
                 }
             }
         });
+        builder.setIndexedRequestContext(arcConfig.indexedRequestContext());
 
         BeanProcessor beanProcessor = builder.build();
         ContextRegistrar.RegistrationContext context = beanProcessor.registerCustomContexts();
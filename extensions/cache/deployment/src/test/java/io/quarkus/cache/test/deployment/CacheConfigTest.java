@@ -50,6 +50,7 @@ void testConfig() {
         assertEquals(100L, cache.getCacheInfo().maximumSize);
         assertEquals(Duration.ofSeconds(30L), cache.getCacheInfo().expireAfterWrite);
         assertEquals(Duration.ofDays(2L), cache.getCacheInfo().expireAfterAccess);
+        assertEquals(Duration.ofSeconds(10L), cache.getCacheInfo().refreshAfterWrite);
         assertTrue(cache.getCacheInfo().metricsEnabled);
 
         long newMaxSize = 123L;
@@ -0,0 +1,79 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class GetAllTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withEmptyApplication();
+
+    @CacheName("get-all")
+    Cache cache;
+
+    @Test
+    public void testGetAll() {
+        assertEquals("cached", cache.get("k2", k -> "cached").await().indefinitely());
+
+        List<Set<String>> loads = new ArrayList<>();
+        Map<String, String> values = cache.<String, String> getAll(List.of("k1", "k2", "k3", "k4"), keys -> {
+            loads.add(Set.copyOf(keys));
+            Map<String, String> loaded = new HashMap<>();
+            for (String key : keys) {
+                // k4 is not returned by the loader and is cached as null
+                if (!key.equals("k4")) {
+                    loaded.put(key, "loaded-" + key);
+                }
+            }
+            return loaded;
+        }).await().indefinitely();
+
+        // a single load of the missing keys
+        assertEquals(List.of(Set.of("k1", "k3", "k4")), loads);
+        assertEquals(List.of("k1", "k2", "k3", "k4"), List.copyOf(values.keySet()));
+        assertEquals("loaded-k1", values.get("k1"));
+        assertEquals("cached", values.get("k2"));
+        assertEquals("loaded-k3", values.get("k3"));
+        assertNull(values.get("k4"));
+
+        // the loaded values are visible to get()
+        assertEquals("loaded-k1", cache.get("k1", k -> "unexpected").await().indefinitely());
+        assertNull(cache.get("k4", k -> "unexpected").await().indefinitely());
+
+        values = cache.<String, String> getAllAsync(List.of("k3", "k5"),
+                keys -> Uni.createFrom().item(Map.of("k5", "loaded-k5"))).await().indefinitely();
+        assertEquals(Map.of("k3", "loaded-k3", "k5", "loaded-k5"), values);
+    }
+
+    @Test
+    public void testGetAllFailure() {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> cache.<String, String> getAll(List.of("f1", "f2"), keys -> {
+                    throw new IllegalStateException("boom");
+                }).await().indefinitely());
+        assertEquals("boom", e.getMessage());
+
+        // nothing was cached
+        Map<String, String> values = cache.<String, String> getAll(List.of("f1", "f2"), keys -> {
+            assertTrue(keys.containsAll(List.of("f1", "f2")));
+            return Map.of("f1", "v1", "f2", "v2");
+        }).await().indefinitely();
+        assertEquals(Map.of("f1", "v1", "f2", "v2"), values);
+    }
+}
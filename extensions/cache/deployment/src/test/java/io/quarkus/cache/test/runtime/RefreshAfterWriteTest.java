@@ -0,0 +1,114 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class RefreshAfterWriteTest {
+
+    private static final String CACHE_NAME = "refresh-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClass(CachedService.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".refresh-after-write", "100ms");
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testStaleValueIsServedWhileRefreshing() throws InterruptedException {
+        assertEquals("foo-1", cachedService.load("foo"));
+        assertEquals("foo-1", cachedService.load("foo"));
+
+        Thread.sleep(150L);
+        // The stale value is returned and the refresh is triggered in the background
+        assertEquals("foo-1", cachedService.load("foo"));
+        awaitValue("foo-2", () -> cachedService.load("foo"));
+    }
+
+    @Test
+    public void testFailedRefreshKeepsStaleValue() throws InterruptedException {
+        assertEquals("v1", cache.get("bar", k -> "v1").await().indefinitely());
+
+        Thread.sleep(150L);
+        assertEquals("v1", cache.get("bar", k -> {
+            throw new IllegalStateException("refresh failure");
+        }).await().indefinitely());
+        Thread.sleep(50L);
+        // The failure is not propagated and the stale value is kept
+        assertEquals("v1", cache.get("bar", k -> "v2").await().indefinitely());
+        awaitValue("v2", () -> cache.get("bar", k -> "v3").await().indefinitely());
+    }
+
+    @Test
+    public void testAsyncRefresh() throws InterruptedException {
+        assertEquals("a1", cache.getAsync("baz", k -> Uni.createFrom().item("a1")).await().indefinitely());
+
+        Thread.sleep(150L);
+        assertEquals("a1", cache.getAsync("baz", k -> Uni.createFrom().item("a2")).await().indefinitely());
+        awaitValue("a2", () -> cache.getAsync("baz", k -> Uni.createFrom().item("a3")).await().indefinitely());
+    }
+
+    @Test
+    public void testBulkLoadedValuesAreRefreshed() throws InterruptedException {
+        Map<String, AtomicInteger> loads = new ConcurrentHashMap<>();
+        List<String> keys = List.of("k1", "k2");
+        Supplier<Map<String, String>> getAll = () -> cache.<String, String> getAll(keys, missingKeys -> {
+            Map<String, String> values = new HashMap<>();
+            for (String key : missingKeys) {
+                values.put(key, key + "-" + loads.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet());
+            }
+            return values;
+        }).await().indefinitely();
+        assertEquals(Map.of("k1", "k1-1", "k2", "k2-1"), getAll.get());
+
+        Thread.sleep(150L);
+        // The stale values are returned and every key is refreshed in the background
+        assertEquals(Map.of("k1", "k1-1", "k2", "k2-1"), getAll.get());
+        awaitValue("k1-2", () -> cache.get("k1", k -> "k1-0").await().indefinitely());
+        awaitValue("k2-2", () -> cache.get("k2", k -> "k2-0").await().indefinitely());
+    }
+
+    private static void awaitValue(String expected, Supplier<String> supplier) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (expected.equals(supplier.get())) {
+                return;
+            }
+            Thread.sleep(20L);
+        }
+        fail("The value was not refreshed to " + expected);
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String load(String key) {
+            return key + "-" + invocations.incrementAndGet();
+        }
+    }
+}
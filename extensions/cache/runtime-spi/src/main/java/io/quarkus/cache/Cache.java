@@ -1,5 +1,11 @@
 package io.quarkus.cache;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -55,6 +61,86 @@ public interface Cache {
      */
     <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader);
 
+    /**
+     * Returns a lazy asynchronous action that will emit the cache values identified by {@code keys}, obtaining the values of
+     * all the keys that are not already associated with a value from a single invocation of {@code bulkLoader}.
+     * <p>
+     * The bulk loader receives the set of missing keys and returns a map of these keys to their values. A missing key that is
+     * not present in the returned map is associated with {@code null}. The emitted map contains an entry for every key, in
+     * the iteration order of {@code keys}.
+     * <p>
+     * The default implementation loads every missing key separately, the built-in caches override it.
+     *
+     * @param <K> cache key type
+     * @param <V> cache value type
+     * @param keys cache keys
+     * @param bulkLoader function used to compute the cache values of the keys that are not already associated with a value
+     * @return a lazy asynchronous action that will emit the cache values
+     * @throws NullPointerException if a key is {@code null}
+     * @throws CacheException if an exception is thrown during the cache values computation
+     */
+    default <K, V> Uni<Map<K, V>> getAll(Collection<? extends K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        List<K> orderedKeys = new ArrayList<>(keys);
+        List<Uni<V>> values = new ArrayList<>(orderedKeys.size());
+        for (K key : orderedKeys) {
+            values.add(get(key, new Function<K, V>() {
+                @Override
+                public V apply(K k) {
+                    return bulkLoader.apply(Set.of(k)).get(k);
+                }
+            }));
+        }
+        return joinAll(orderedKeys, values);
+    }
+
+    /**
+     * Returns a lazy asynchronous action that will emit the cache values identified by {@code keys}, obtaining the values of
+     * all the keys that are not already associated with a value from a single invocation of {@code bulkLoader}.
+     * <p>
+     * See {@link #getAll(Collection, Function)} for the contract of the bulk loader.
+     *
+     * @param <K> cache key type
+     * @param <V> cache value type
+     * @param keys cache keys
+     * @param bulkLoader function used to compute the cache values of the keys that are not already associated with a value
+     * @return a lazy asynchronous action that will emit the cache values
+     * @throws NullPointerException if a key is {@code null}
+     */
+    default <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        List<K> orderedKeys = new ArrayList<>(keys);
+        List<Uni<V>> values = new ArrayList<>(orderedKeys.size());
+        for (K key : orderedKeys) {
+            values.add(getAsync(key, new Function<K, Uni<V>>() {
+                @Override
+                public Uni<V> apply(K k) {
+                    return bulkLoader.apply(Set.of(k)).map(new Function<Map<K, V>, V>() {
+                        @Override
+                        public V apply(Map<K, V> loaded) {
+                            return loaded.get(k);
+                        }
+                    });
+                }
+            }));
+        }
+        return joinAll(orderedKeys, values);
+    }
+
+    private static <K, V> Uni<Map<K, V>> joinAll(List<K> keys, List<Uni<V>> values) {
+        if (keys.isEmpty()) {
+            return Uni.createFrom().item(Map.of());
+        }
+        return Uni.join().all(values).andFailFast().map(new Function<List<V>, Map<K, V>>() {
+            @Override
+            public Map<K, V> apply(List<V> list) {
+                Map<K, V> result = new LinkedHashMap<>();
+                for (int i = 0; i < keys.size(); i++) {
+                    result.put(keys.get(i), list.get(i));
+                }
+                return result;
+            }
+        });
+    }
+
     /**
      * Removes the cache entry identified by {@code key} from the cache. If the key does not identify any cache entry, nothing
      * will happen.
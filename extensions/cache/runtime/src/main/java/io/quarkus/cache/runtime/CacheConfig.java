@@ -75,6 +75,17 @@ interface CaffeineCacheConfig {
              */
             Optional<Duration> expireAfterAccess();
 
+            /**
+             * Specifies that each entry should be reloaded in the background once a fixed duration has elapsed after the entry's
+             * creation, or the most recent replacement of its value. The stale value keeps being returned until the reloaded
+             * value replaces it, so that the callers don't wait for the computation of the value at every expiration.
+             * <p>
+             * The refresh is triggered by the first read of the entry after this duration and only applies to the values
+             * computed by the cache, e.g. by a method annotated with {@code @CacheResult}. It should be shorter than
+             * {@code expire-after-write}, otherwise the entry expires before being refreshed.
+             */
+            Optional<Duration> refreshAfterWrite();
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
@@ -0,0 +1,144 @@
+package io.quarkus.cache.runtime;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.virtual.threads.VirtualThreadsRecorder;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+
+/**
+ * Reloads the cache values that are older than the refresh-after-write duration of a cache in the background. The stale
+ * value keeps being served while it is reloaded, so that the callers don't wait for the computation of a new value when
+ * the entry would otherwise expire.
+ * <p>
+ * The caching providers decide when a value must be refreshed and how the reloaded value is stored. This class only runs the
+ * value loaders and records the refresh outcomes.
+ */
+public class CacheRefresher {
+
+    private static final Logger LOGGER = Logger.getLogger(CacheRefresher.class);
+
+    private static final MethodHandle IS_VIRTUAL = findIsVirtual();
+
+    private final String cacheName;
+    private final long refreshAfterWriteNanos;
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public CacheRefresher(String cacheName, Duration refreshAfterWrite) {
+        this.cacheName = cacheName;
+        this.refreshAfterWriteNanos = refreshAfterWrite.toNanos();
+    }
+
+    /**
+     * @param age the time elapsed since the value was written, in nanoseconds
+     * @return {@code true} if a value of the given age must be refreshed
+     */
+    public boolean isStale(long age) {
+        return age >= refreshAfterWriteNanos;
+    }
+
+    public long getRefreshAfterWriteNanos() {
+        return refreshAfterWriteNanos;
+    }
+
+    /**
+     * Returns a {@link Uni} running the given blocking value loader. If the calling thread is a virtual thread, the loader is
+     * run on a new virtual thread, otherwise it is run on the worker pool. The executor is selected when this method is
+     * called.
+     */
+    public <V> Uni<V> load(Supplier<V> valueLoader) {
+        Executor executor = isVirtualThread() ? VirtualThreadsRecorder.getCurrent() : Infrastructure.getDefaultWorkerPool();
+        return Uni.createFrom().item(valueLoader).runSubscriptionOn(executor);
+    }
+
+    /**
+     * Returns a {@link Uni} subscribing to the {@link Uni} returned by the given non-blocking value loader on a new duplicated
+     * context of the Vert.x context of the calling thread, if any. The request scoped data of the calling context is not
+     * shared with the refresh, which may outlive it.
+     */
+    public <V> Uni<V> loadAsync(Supplier<Uni<? extends V>> valueLoader) {
+        Uni<V> uni = Uni.createFrom().deferred(valueLoader);
+        Context context = Vertx.currentContext();
+        if (context == null) {
+            return uni;
+        }
+        return uni.runSubscriptionOn(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                ((ContextInternal) context).duplicate().runOnContext(new Handler<Void>() {
+                    @Override
+                    public void handle(Void ignored) {
+                        command.run();
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Subscribes to the given refresh and records its outcome. A failed refresh is logged and the stale value is kept.
+     *
+     * @param key the key of the refreshed value
+     * @param refresh the reload of the value, including its storage
+     * @param onTermination called after the refresh succeeded or failed
+     */
+    public void refresh(Object key, Uni<?> refresh, Runnable onTermination) {
+        LOGGER.tracef("Refreshing key [%s] in cache [%s]", key, cacheName);
+        refresh.subscribe().with(new Consumer<Object>() {
+            @Override
+            public void accept(Object ignored) {
+                successes.increment();
+                onTermination.run();
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable t) {
+                failures.increment();
+                LOGGER.debugf(t, "Unable to refresh key [%s] in cache [%s], the stale value is kept", key, cacheName);
+                onTermination.run();
+            }
+        });
+    }
+
+    public long getSuccessCount() {
+        return successes.sum();
+    }
+
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    private static boolean isVirtualThread() {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(Thread.currentThread());
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    private static MethodHandle findIsVirtual() {
+        try {
+            // Thread#isVirtual() is only available on Java 21+
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
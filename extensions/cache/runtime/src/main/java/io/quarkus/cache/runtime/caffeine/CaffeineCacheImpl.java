@@ -1,14 +1,23 @@
 package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -25,6 +34,7 @@
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CaffeineCache;
 import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CacheRefresher;
 import io.quarkus.cache.runtime.NullValueConverter;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Context;
@@ -42,6 +52,8 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
     private static final Logger LOGGER = Logger.getLogger(CaffeineCacheImpl.class);
 
     final AsyncCache<Object, Object> cache;
+    // null if the cache values are never refreshed
+    final CacheRefresher refresher;
 
     private final CaffeineCacheInfo cacheInfo;
     private final StatsCounter statsCounter;
@@ -77,6 +89,11 @@ public StatsCounter get() {
             statsCounter = StatsCounter.disabledStatsCounter();
         }
         cache = builder.buildAsync();
+        if (cacheInfo.refreshAfterWrite != null) {
+            refresher = new CacheRefresher(cacheInfo.name, cacheInfo.refreshAfterWrite);
+        } else {
+            refresher = null;
+        }
     }
 
     @Override
@@ -117,12 +134,30 @@ public CompletionStage<V> get() {
                                     @Override
                                     public CompletableFuture<Object> apply(Object key) {
                                         recorder.onValueAbsent();
-                                        return valueLoader.apply((K) key)
-                                                .map(TO_CACHE_VALUE)
-                                                .subscribeAsCompletionStage();
+                                        Uni<Object> cacheValue = valueLoader.apply((K) key).map(TO_CACHE_VALUE);
+                                        if (refresher == null) {
+                                            return cacheValue.subscribeAsCompletionStage();
+                                        }
+                                        CompletableFuture<Object> refreshableCacheValue = new RefreshableCacheValue();
+                                        cacheValue.subscribe().with(refreshableCacheValue::complete,
+                                                refreshableCacheValue::completeExceptionally);
+                                        return refreshableCacheValue;
                                     }
                                 });
                         recorder.doRecord(key);
+                        if (refresher != null) {
+                            refreshIfNeeded(key, (CompletableFuture<Object>) result, new Supplier<Uni<V>>() {
+                                @Override
+                                public Uni<V> get() {
+                                    return refresher.loadAsync(new Supplier<Uni<? extends V>>() {
+                                        @Override
+                                        public Uni<V> get() {
+                                            return valueLoader.apply(key);
+                                        }
+                                    });
+                                }
+                            });
+                        }
                         return result;
                     }
                 })
@@ -172,6 +207,164 @@ public void handle(Void ignored) {
                 });
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<? extends K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        for (K key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<Map<K, V>>>() {
+            @Override
+            public CompletionStage<Map<K, V>> get() {
+                // Caffeine inserts a pending future for each missing key before the loader is called, so that concurrent
+                // callers of get() or getAll() wait for the bulk load instead of loading the same keys again.
+                // Like in getFromCaffeine(), the values are computed synchronously on the calling thread.
+                return unwrapCacheValues(keys,
+                        cache.getAll(keys, new BiFunction<Set<?>, Executor, CompletableFuture<Map<Object, Object>>>() {
+                            @SuppressWarnings("unchecked")
+                            @Override
+                            public CompletableFuture<Map<Object, Object>> apply(Set<?> missingKeys, Executor executor) {
+                                try {
+                                    return CompletableFuture.completedFuture(
+                                            toCacheValues(missingKeys, bulkLoader.apply((Set<K>) missingKeys)));
+                                } catch (Throwable t) {
+                                    return CompletableFuture.failedFuture(new BulkComputationCancellation(t));
+                                }
+                            }
+                        }), new Function<K, Uni<V>>() {
+                            @Override
+                            public Uni<V> apply(K key) {
+                                return refresher.load(new Supplier<V>() {
+                                    @Override
+                                    public V get() {
+                                        return bulkLoader.apply(Collections.singleton(key)).get(key);
+                                    }
+                                });
+                            }
+                        });
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        for (K key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<Map<K, V>>>() {
+            @Override
+            public CompletionStage<Map<K, V>> get() {
+                return unwrapCacheValues(keys,
+                        cache.getAll(keys, new BiFunction<Set<?>, Executor, CompletableFuture<Map<Object, Object>>>() {
+                            @SuppressWarnings("unchecked")
+                            @Override
+                            public CompletableFuture<Map<Object, Object>> apply(Set<?> missingKeys, Executor executor) {
+                                return bulkLoader.apply((Set<K>) missingKeys)
+                                        .map(new Function<Map<K, V>, Map<Object, Object>>() {
+                                            @Override
+                                            public Map<Object, Object> apply(Map<K, V> loaded) {
+                                                return toCacheValues(missingKeys, loaded);
+                                            }
+                                        })
+                                        .onFailure().transform(new Function<Throwable, Throwable>() {
+                                            @Override
+                                            public Throwable apply(Throwable t) {
+                                                return new BulkComputationCancellation(t);
+                                            }
+                                        })
+                                        .subscribeAsCompletionStage();
+                            }
+                        }), new Function<K, Uni<V>>() {
+                            @Override
+                            public Uni<V> apply(K key) {
+                                return refresher.loadAsync(new Supplier<Uni<? extends V>>() {
+                                    @Override
+                                    public Uni<V> get() {
+                                        return bulkLoader.apply(Collections.singleton(key))
+                                                .map(new Function<Map<K, V>, V>() {
+                                                    @Override
+                                                    public V apply(Map<K, V> loaded) {
+                                                        return loaded.get(key);
+                                                    }
+                                                });
+                                    }
+                                });
+                            }
+                        });
+            }
+        });
+    }
+
+    private static <K, V> Map<Object, Object> toCacheValues(Set<?> missingKeys, Map<K, V> loaded) {
+        // a missing key that was not loaded is associated with null, like with get()
+        Map<Object, Object> values = new HashMap<>();
+        for (Object key : missingKeys) {
+            values.put(key, NullValueConverter.toCacheValue(loaded.get(key)));
+        }
+        return values;
+    }
+
+    private <K, V> CompletableFuture<Map<K, V>> unwrapCacheValues(Collection<? extends K> keys,
+            CompletableFuture<Map<Object, Object>> cacheValues, Function<K, Uni<V>> reload) {
+        return cacheValues.handle(new BiFunction<Map<Object, Object>, Throwable, Map<K, V>>() {
+            @Override
+            public Map<K, V> apply(Map<Object, Object> values, Throwable failure) {
+                if (failure != null) {
+                    if (failure instanceof CompletionException && failure.getCause() != null) {
+                        failure = failure.getCause();
+                    }
+                    throw rethrow(failure instanceof BulkComputationCancellation ? failure.getCause() : failure);
+                }
+                Map<K, V> result = new LinkedHashMap<>();
+                for (K key : keys) {
+                    Object value = values.get(key);
+                    // a value computed concurrently by get() may have failed
+                    if (value instanceof CaffeineComputationThrowable) {
+                        throw rethrow(((CaffeineComputationThrowable) value).getCause());
+                    }
+                    result.put(key, cast(NullValueConverter.fromCacheValue(value)));
+                }
+                if (refresher != null) {
+                    refreshAllIfNeeded(keys, reload);
+                }
+                return result;
+            }
+        });
+    }
+
+    /**
+     * Makes the values stored by a bulk load refreshable and reloads the stale values read by a bulk load in the background,
+     * key by key, like {@link #getFromCaffeine(Object, Function)} does for a single key.
+     */
+    private <K, V> void refreshAllIfNeeded(Collection<? extends K> keys, Function<K, Uni<V>> reload) {
+        for (K key : keys) {
+            CompletableFuture<Object> cacheValue = cache.asMap().get(key);
+            if (cacheValue == null || !cacheValue.isDone() || cacheValue.isCompletedExceptionally()) {
+                continue;
+            }
+            if (cacheValue instanceof RefreshableCacheValue) {
+                refreshIfNeeded(key, cacheValue, new Supplier<Uni<V>>() {
+                    @Override
+                    public Uni<V> get() {
+                        return reload.apply(key);
+                    }
+                });
+            } else {
+                // Caffeine stores the values of a bulk load in its own futures
+                RefreshableCacheValue refreshableCacheValue = new RefreshableCacheValue();
+                refreshableCacheValue.complete(cacheValue.getNow(null));
+                cache.asMap().replace(key, cacheValue, refreshableCacheValue);
+            }
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        } else {
+            return new CacheException(cause);
+        }
+    }
+
     @Override
     public <V> CompletableFuture<V> getIfPresent(Object key) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
@@ -210,7 +403,7 @@ public V apply(Object value) {
      * @throws CacheException if an exception is thrown during the cache value computation
      */
     private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> valueLoader) {
-        CompletableFuture<Object> newCacheValue = new CompletableFuture<>();
+        CompletableFuture<Object> newCacheValue = refresher == null ? new CompletableFuture<>() : new RefreshableCacheValue();
         CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
         if (existingCacheValue == null) {
             statsCounter.recordMisses(1);
@@ -225,10 +418,45 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         } else {
             LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
             statsCounter.recordHits(1);
+            if (refresher != null) {
+                refreshIfNeeded(key, existingCacheValue, new Supplier<Uni<V>>() {
+                    @Override
+                    public Uni<V> get() {
+                        return refresher.load(new Supplier<V>() {
+                            @Override
+                            public V get() {
+                                return valueLoader.apply(key);
+                            }
+                        });
+                    }
+                });
+            }
             return unwrapCacheValueOrThrowable(existingCacheValue);
         }
     }
 
+    /**
+     * Reloads the given cache value in the background if it is older than the refresh-after-write duration. The reloaded value
+     * only replaces the given one if the entry was neither invalidated nor replaced in the meantime.
+     */
+    private <V> void refreshIfNeeded(Object key, CompletableFuture<Object> cacheValue, Supplier<Uni<V>> reload) {
+        if (cacheValue instanceof RefreshableCacheValue) {
+            RefreshableCacheValue staleCacheValue = (RefreshableCacheValue) cacheValue;
+            if (staleCacheValue.startRefreshIfStale(refresher)) {
+                Uni<V> refresh = reload.get().invoke(new Consumer<V>() {
+                    @Override
+                    public void accept(V value) {
+                        RefreshableCacheValue newCacheValue = new RefreshableCacheValue();
+                        newCacheValue.complete(NullValueConverter.toCacheValue(value));
+                        cache.asMap().replace(key, staleCacheValue, newCacheValue);
+                    }
+                });
+                // If the refresh failed, the next read of the stale value triggers a new refresh
+                refresher.refresh(key, refresh, staleCacheValue::endRefresh);
+            }
+        }
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
@@ -398,6 +626,45 @@ public <K> void doRecord(K key) {
 
     }
 
+    /**
+     * A cache value that records its creation time, so that it can be refreshed once it is older than the refresh-after-write
+     * duration. At most one refresh of a given value runs at a time.
+     */
+    private static class RefreshableCacheValue extends CompletableFuture<Object> {
+
+        private final long creationTime = System.nanoTime();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        boolean startRefreshIfStale(CacheRefresher refresher) {
+            // A value that is still being computed or whose computation failed is not refreshed
+            return isDone() && !isCompletedExceptionally() && !(getNow(null) instanceof CaffeineComputationThrowable)
+                    && refresher.isStale(System.nanoTime() - creationTime)
+                    && refreshing.compareAndSet(false, true);
+        }
+
+        void endRefresh() {
+            refreshing.set(false);
+        }
+    }
+
+    /**
+     * Caffeine logs a warning when a bulk load fails, except if the failure is a cancellation.
+     * This exception is used to prevent Caffeine from logging unwanted warnings, like {@link CaffeineComputationThrowable}.
+     */
+    private static class BulkComputationCancellation extends CancellationException {
+
+        private static final long serialVersionUID = 1L;
+
+        BulkComputationCancellation(Throwable cause) {
+            initCause(cause);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
     private static final Function<Object, Object> FROM_CACHE_VALUE = new Function<Object, Object>() {
 
         @Override
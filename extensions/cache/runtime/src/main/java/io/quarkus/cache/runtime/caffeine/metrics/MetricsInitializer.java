@@ -1,10 +1,24 @@
 package io.quarkus.cache.runtime.caffeine.metrics;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+
+import io.quarkus.cache.runtime.CacheRefresher;
 
 public interface MetricsInitializer {
 
     boolean metricsEnabled();
 
     void recordMetrics(AsyncCache<Object, Object> cache, String cacheName);
+
+    /**
+     * Records the metrics of a two-tier cache: a local Caffeine cache in front of a remote cache whose hits and misses are
+     * recorded by {@code remoteStats}. The meters of both tiers are distinguished by the {@code tier} tag.
+     */
+    void recordMetrics(AsyncCache<Object, Object> localCache, StatsCounter remoteStats, String cacheName);
+
+    /**
+     * Records the successful and failed background refreshes of a cache configured with a refresh-after-write duration.
+     */
+    void recordRefreshMetrics(CacheRefresher refresher, String cacheName);
 }
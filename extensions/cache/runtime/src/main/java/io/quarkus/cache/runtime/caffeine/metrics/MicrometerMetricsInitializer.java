@@ -3,9 +3,13 @@
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.quarkus.cache.runtime.CacheRefresher;
 
 /**
  * An instance of this class is created during the instantiation of the Caffeine caches when the application depends on a
@@ -15,6 +19,12 @@ public class MicrometerMetricsInitializer implements MetricsInitializer {
 
     private static final Logger LOGGER = Logger.getLogger(MicrometerMetricsInitializer.class);
 
+    private static final String CACHE = "cache";
+    private static final String RESULT = "result";
+    private static final String TIER = "tier";
+    private static final String LOCAL_TIER = "local";
+    private static final String REMOTE_TIER = "remote";
+
     @Override
     public boolean metricsEnabled() {
         return true;
@@ -26,4 +36,33 @@ public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
         // The 'tags' vararg is purposely empty here. Tags should be configured using MeterFilter.
         CaffeineCacheMetrics.monitor(Metrics.globalRegistry, cache, cacheName);
     }
+
+    @Override
+    public void recordMetrics(AsyncCache<Object, Object> localCache, StatsCounter remoteStats, String cacheName) {
+        LOGGER.tracef("Initializing Micrometer metrics for two-tier cache [%s]", cacheName);
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, localCache, cacheName, TIER, LOCAL_TIER);
+        // Use the meter names of CaffeineCacheMetrics so that the hit ratio of both tiers can be computed the same way
+        Tags remoteTags = Tags.of(CACHE, cacheName, TIER, REMOTE_TIER);
+        FunctionCounter.builder("cache.gets", remoteStats, stats -> stats.snapshot().hitCount())
+                .tags(remoteTags).tag(RESULT, "hit")
+                .description("The number of times cache lookup methods have returned a cached value.")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("cache.gets", remoteStats, stats -> stats.snapshot().missCount())
+                .tags(remoteTags).tag(RESULT, "miss")
+                .description("The number of times cache lookup methods have returned an uncached (newly loaded) value.")
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public void recordRefreshMetrics(CacheRefresher refresher, String cacheName) {
+        LOGGER.tracef("Initializing Micrometer refresh metrics for cache [%s]", cacheName);
+        FunctionCounter.builder("cache.refreshes", refresher, CacheRefresher::getSuccessCount)
+                .tags(CACHE, cacheName, RESULT, "success")
+                .description("The number of times a cached value has been reloaded in the background.")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("cache.refreshes", refresher, CacheRefresher::getFailureCount)
+                .tags(CACHE, cacheName, RESULT, "failure")
+                .description("The number of times the background reload of a cached value has failed.")
+                .register(Metrics.globalRegistry);
+    }
 }
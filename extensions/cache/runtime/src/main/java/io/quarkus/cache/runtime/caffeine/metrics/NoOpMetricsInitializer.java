@@ -3,6 +3,9 @@
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+
+import io.quarkus.cache.runtime.CacheRefresher;
 
 /**
  * An instance of this class is created during the instantiation of the Caffeine caches when the application does not depend on
@@ -22,4 +25,16 @@ public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
         LOGGER.tracef("Initializing no-op metrics for cache [%s]", cacheName);
         // Do nothing more.
     }
+
+    @Override
+    public void recordMetrics(AsyncCache<Object, Object> localCache, StatsCounter remoteStats, String cacheName) {
+        LOGGER.tracef("Initializing no-op metrics for two-tier cache [%s]", cacheName);
+        // Do nothing more.
+    }
+
+    @Override
+    public void recordRefreshMetrics(CacheRefresher refresher, String cacheName) {
+        LOGGER.tracef("Initializing no-op refresh metrics for cache [%s]", cacheName);
+        // Do nothing more.
+    }
 }
@@ -1,5 +1,10 @@
 package io.quarkus.cache.runtime.noop;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -35,6 +40,36 @@ public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
         return valueLoader.apply(key);
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<? extends K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        return Uni.createFrom().item(new Supplier<Map<K, V>>() {
+            @Override
+            public Map<K, V> get() {
+                Set<K> uniqueKeys = new LinkedHashSet<>(keys);
+                return orderValues(uniqueKeys, bulkLoader.apply(uniqueKeys));
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        Set<K> uniqueKeys = new LinkedHashSet<>(keys);
+        return bulkLoader.apply(uniqueKeys).map(new Function<Map<K, V>, Map<K, V>>() {
+            @Override
+            public Map<K, V> apply(Map<K, V> loaded) {
+                return orderValues(uniqueKeys, loaded);
+            }
+        });
+    }
+
+    private static <K, V> Map<K, V> orderValues(Set<K> keys, Map<K, V> loaded) {
+        Map<K, V> result = new LinkedHashMap<>();
+        for (K key : keys) {
+            result.put(key, loaded.get(key));
+        }
+        return result;
+    }
+
     @Override
     public Uni<Void> invalidate(Object key) {
         return Uni.createFrom().voidItem();
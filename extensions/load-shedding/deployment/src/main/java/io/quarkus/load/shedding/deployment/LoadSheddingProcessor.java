@@ -9,7 +9,7 @@
 import io.quarkus.load.shedding.runtime.HttpLoadShedding;
 import io.quarkus.load.shedding.runtime.HttpRequestClassifier;
 import io.quarkus.load.shedding.runtime.ManagementRequestPrioritizer;
-import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.quarkus.load.shedding.runtime.OverloadDetectorProducer;
 import io.quarkus.load.shedding.runtime.PriorityLoadShedding;
 
 public class LoadSheddingProcessor {
@@ -23,7 +23,7 @@ FeatureBuildItem feature() {
     @BuildStep
     AdditionalBeanBuildItem beans() {
         List<String> beans = new ArrayList<>();
-        beans.add(OverloadDetector.class.getName());
+        beans.add(OverloadDetectorProducer.class.getName());
         beans.add(HttpLoadShedding.class.getName());
         beans.add(PriorityLoadShedding.class.getName());
         beans.add(ManagementRequestPrioritizer.class.getName());
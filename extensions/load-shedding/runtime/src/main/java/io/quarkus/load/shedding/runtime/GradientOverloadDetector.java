@@ -0,0 +1,108 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free overload detector based on the gradient of request durations, as implemented
+ * by the {@code Gradient2Limit} of <a href="https://github.com/Netflix/concurrency-limits/">Netflix
+ * Concurrency Limits</a>.
+ * <p>
+ * Request durations are sampled in fixed-duration windows into striped counters, so that finishing
+ * requests never contend on a monitor. When a window closes, exactly one thread compares the average
+ * request duration of the window with a long-term average and adjusts the limit.
+ */
+public class GradientOverloadDetector implements OverloadDetector {
+    private final int maxLimit;
+    private final long windowNanos;
+    private final int minWindowSamples;
+    private final double tolerance;
+    private final double smoothing;
+    private final double longWindowFactor;
+
+    private final LongAdder currentRequests = new LongAdder();
+    private final LongAdder windowRequestTime = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final LongAccumulator windowMaxRequests = new LongAccumulator(Math::max, 0);
+    private final AtomicLong windowStart;
+
+    private volatile long currentLimit;
+
+    // only updated by the thread that closed the window
+    private volatile double estimatedLimit;
+    private volatile double longRequestTime;
+
+    public GradientOverloadDetector(LoadSheddingRuntimeConfig config) {
+        maxLimit = config.maxLimit();
+        windowNanos = config.gradient().window().toNanos();
+        minWindowSamples = config.gradient().minWindowSamples();
+        tolerance = config.gradient().tolerance();
+        smoothing = config.gradient().smoothing();
+        longWindowFactor = 2.0 / (config.gradient().longWindow() + 1);
+        currentLimit = config.initialLimit();
+        estimatedLimit = config.initialLimit();
+        windowStart = new AtomicLong(System.nanoTime());
+    }
+
+    @Override
+    public boolean isOverloaded() {
+        return currentRequests.sum() >= currentLimit;
+    }
+
+    @Override
+    public void requestBegin() {
+        currentRequests.increment();
+    }
+
+    @Override
+    public void requestEnd(long timeInMicros) {
+        windowMaxRequests.accumulate(currentRequests.sum());
+        currentRequests.decrement();
+        windowRequestTime.add(timeInMicros);
+        windowSamples.increment();
+
+        long start = windowStart.get();
+        if (System.nanoTime() - start >= windowNanos
+                && windowSamples.sum() >= minWindowSamples
+                && windowStart.compareAndSet(start, System.nanoTime())) {
+            update();
+        }
+    }
+
+    private void update() {
+        long samples = windowSamples.sumThenReset();
+        long requestTime = windowRequestTime.sumThenReset();
+        long maxRequests = windowMaxRequests.getThenReset();
+        if (samples == 0) {
+            return;
+        }
+
+        double shortRequestTime = Math.max(1.0, (double) requestTime / samples);
+        double longRequestTime = this.longRequestTime;
+        if (longRequestTime == 0.0) {
+            longRequestTime = shortRequestTime;
+        } else {
+            longRequestTime += (shortRequestTime - longRequestTime) * longWindowFactor;
+            // the load went down substantially, let the long-term average catch up faster
+            if (longRequestTime / shortRequestTime > 2.0) {
+                longRequestTime *= 0.95;
+            }
+        }
+        this.longRequestTime = longRequestTime;
+
+        double estimatedLimit = this.estimatedLimit;
+        // the service was not really loaded in this window, so request durations tell nothing about the limit
+        if (2.0 * maxRequests < estimatedLimit) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRequestTime / shortRequestTime));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1.0 - smoothing) + newLimit * smoothing;
+        newLimit = Math.max(1.0, Math.min(maxLimit, newLimit));
+
+        this.estimatedLimit = newLimit;
+        this.currentLimit = (long) newLimit;
+    }
+}
@@ -10,9 +10,14 @@
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
 
 @Singleton
 public class HttpLoadShedding {
+    private OverloadDetector detector;
+
+    private HttpWaitQueue queue;
+
     public void init(@Observes @Priority(-1_000_000_000) Router router, OverloadDetector detector,
             PriorityLoadShedding priority, LoadSheddingRuntimeConfig config) {
 
@@ -20,30 +25,56 @@ public void init(@Observes @Priority(-1_000_000_000) Router router, OverloadDete
             return;
         }
 
+        this.detector = detector;
+        if (config.queue().enabled()) {
+            this.queue = new HttpWaitQueue(detector, config.queue(), this::proceed, HttpLoadShedding::reject);
+        }
+
         router.route().order(-1_000_000_000).handler(ctx -> {
-            if (detector.isOverloaded() && priority.shedLoad(ctx.request())) {
-                HttpServerResponse response = ctx.response();
-                response.setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code());
-                response.headers().add(HttpHeaderNames.CONNECTION, "close");
-                response.endHandler(new Handler<Void>() {
-                    @Override
-                    public void handle(Void ignored) {
-                        ctx.request().connection().close();
-                    }
-                });
-                response.end();
-            } else {
+            if (!detector.isOverloaded()) {
                 detector.requestBegin();
-                long start = System.nanoTime();
-                ctx.addEndHandler(new Handler<AsyncResult<Void>>() {
-                    @Override
-                    public void handle(AsyncResult<Void> ignored) {
-                        long end = System.nanoTime();
-                        detector.requestEnd((end - start) / 1_000);
-                    }
-                });
-                ctx.next();
+                proceed(ctx);
+                return;
+            }
+
+            int group = priority.requestGroup(ctx.request());
+            if (!priority.shedLoad(group)) {
+                detector.requestBegin();
+                proceed(ctx);
+            } else if (queue != null) {
+                queue.enqueue(ctx, group);
+            } else {
+                reject(ctx);
+            }
+        });
+    }
+
+    // the request must have already been signalled to the detector
+    private void proceed(RoutingContext ctx) {
+        long start = System.nanoTime();
+        ctx.addEndHandler(new Handler<AsyncResult<Void>>() {
+            @Override
+            public void handle(AsyncResult<Void> ignored) {
+                long end = System.nanoTime();
+                detector.requestEnd((end - start) / 1_000);
+                if (queue != null) {
+                    queue.requestEnded();
+                }
+            }
+        });
+        ctx.next();
+    }
+
+    private static void reject(RoutingContext ctx) {
+        HttpServerResponse response = ctx.response();
+        response.setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code());
+        response.headers().add(HttpHeaderNames.CONNECTION, "close");
+        response.endHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void ignored) {
+                ctx.request().connection().close();
             }
         });
+        response.end();
     }
 }
@@ -0,0 +1,188 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * A bounded queue of HTTP requests that wait for a free slot in an overload situation.
+ * Requests are ordered by their {@linkplain PriorityLoadShedding#requestGroup(Object) group},
+ * so that more important requests are allowed first. When the queue is full, a new request
+ * either replaces the least important waiting request, or is rejected if it is not more important.
+ * A request that waits longer than the configured maximum is rejected.
+ */
+class HttpWaitQueue {
+    private final OverloadDetector detector;
+    private final int maxSize;
+    private final long maxWaitMillis;
+    private final Consumer<RoutingContext> allow;
+    private final Consumer<RoutingContext> reject;
+
+    // guarded by itself
+    private final TreeSet<Waiter> waiters = new TreeSet<>();
+    private long sequence;
+
+    // allows skipping the lock when no request is waiting, which is the common case
+    private volatile int size;
+
+    HttpWaitQueue(OverloadDetector detector, LoadSheddingRuntimeConfig.WaitQueue config,
+            Consumer<RoutingContext> allow, Consumer<RoutingContext> reject) {
+        this.detector = detector;
+        this.maxSize = config.maxSize();
+        this.maxWaitMillis = Math.max(1, config.maxWait().toMillis());
+        this.allow = allow;
+        this.reject = reject;
+    }
+
+    /**
+     * Enqueues the request, which is rejected immediately if the queue is full
+     * and all waiting requests are at least as important.
+     */
+    void enqueue(RoutingContext ctx, int group) {
+        Waiter waiter = new Waiter(ctx, group);
+        // the request is paused and the timer armed before the waiter is visible to other threads,
+        // so that a concurrent eviction or dispatch always finds them set up
+        ctx.request().pause();
+        waiter.timerId = ctx.vertx().setTimer(maxWaitMillis, new Handler<Long>() {
+            @Override
+            public void handle(Long ignored) {
+                if (waiter.done.compareAndSet(false, true)) {
+                    remove(waiter);
+                    waiter.run(reject);
+                }
+            }
+        });
+        // a client that disconnects while waiting must not hold a slot
+        ctx.addEndHandler(new Handler<AsyncResult<Void>>() {
+            @Override
+            public void handle(AsyncResult<Void> ignored) {
+                if (waiter.done.compareAndSet(false, true)) {
+                    ctx.vertx().cancelTimer(waiter.timerId);
+                    remove(waiter);
+                }
+            }
+        });
+
+        boolean admitted;
+        Waiter evicted = null;
+        synchronized (waiters) {
+            if (waiter.done.get()) {
+                // timed out or closed already
+                return;
+            }
+            if (waiters.size() >= maxSize) {
+                Waiter last = waiters.isEmpty() ? null : waiters.last();
+                if (last == null || last.group <= group) {
+                    admitted = false;
+                } else {
+                    evicted = waiters.pollLast();
+                    admitted = true;
+                }
+            } else {
+                admitted = true;
+            }
+            if (admitted) {
+                waiter.sequence = sequence++;
+                waiters.add(waiter);
+            }
+            size = waiters.size();
+        }
+
+        if (evicted != null && evicted.done.compareAndSet(false, true)) {
+            evicted.ctx.vertx().cancelTimer(evicted.timerId);
+            evicted.run(reject);
+        }
+        if (!admitted) {
+            if (waiter.done.compareAndSet(false, true)) {
+                ctx.vertx().cancelTimer(waiter.timerId);
+                reject.accept(ctx);
+            }
+            return;
+        }
+
+        // a slot may have been freed in the meantime
+        requestEnded();
+    }
+
+    private void remove(Waiter waiter) {
+        synchronized (waiters) {
+            // a waiter that was never added must not remove another waiter that compares equal
+            if (waiter.sequence >= 0) {
+                waiters.remove(waiter);
+                size = waiters.size();
+            }
+        }
+    }
+
+    /**
+     * Allows the most important waiting request if the service is no longer overloaded.
+     * Called whenever an allowed request finishes.
+     */
+    void requestEnded() {
+        while (size > 0 && !detector.isOverloaded()) {
+            Waiter waiter;
+            synchronized (waiters) {
+                waiter = waiters.pollFirst();
+                size = waiters.size();
+            }
+            if (waiter == null) {
+                return;
+            }
+            // the waiter may have timed out concurrently
+            if (waiter.done.compareAndSet(false, true)) {
+                waiter.ctx.vertx().cancelTimer(waiter.timerId);
+                // the detector must see the request before the next iteration
+                detector.requestBegin();
+                waiter.run(new Consumer<RoutingContext>() {
+                    @Override
+                    public void accept(RoutingContext ctx) {
+                        ctx.request().resume();
+                        allow.accept(ctx);
+                    }
+                });
+                return;
+            }
+        }
+    }
+
+    private static final class Waiter implements Comparable<Waiter> {
+        final RoutingContext ctx;
+        final int group;
+        final Context context;
+        final AtomicBoolean done = new AtomicBoolean();
+        // assigned under the lock of the queue, before the waiter is added
+        long sequence = -1;
+        volatile long timerId;
+
+        Waiter(RoutingContext ctx, int group) {
+            this.ctx = ctx;
+            this.group = group;
+            this.context = Vertx.currentContext();
+        }
+
+        void run(Consumer<RoutingContext> action) {
+            if (context == null || context == Vertx.currentContext()) {
+                action.accept(ctx);
+            } else {
+                context.runOnContext(new Handler<Void>() {
+                    @Override
+                    public void handle(Void ignored) {
+                        action.accept(ctx);
+                    }
+                });
+            }
+        }
+
+        @Override
+        public int compareTo(Waiter other) {
+            int result = Integer.compare(group, other.group);
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.time.Duration;
+
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -16,6 +18,12 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("true")
     boolean enabled();
 
+    /**
+     * The algorithm used to detect an overload situation.
+     */
+    @WithDefault("vegas")
+    Algorithm algorithm();
+
     /**
      * The maximum number of concurrent requests allowed.
      */
@@ -46,11 +54,66 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("100")
     int initialLimit();
 
+    /**
+     * Configuration of the gradient overload detection algorithm.
+     */
+    GradientOverloadDetection gradient();
+
     /**
      * Configuration of priority load shedding.
      */
     PriorityLoadShedding priority();
 
+    /**
+     * Configuration of the wait queue for requests that would otherwise be rejected.
+     */
+    WaitQueue queue();
+
+    enum Algorithm {
+        /**
+         * An adaptation of TCP Vegas. The limit is updated under a lock after each request.
+         */
+        VEGAS,
+        /**
+         * A lock-free algorithm that compares the average request duration of each sampling window
+         * with a long-term average.
+         */
+        GRADIENT,
+    }
+
+    @ConfigGroup
+    interface GradientOverloadDetection {
+        /**
+         * The duration of the window in which request durations are sampled before the limit is updated.
+         */
+        @WithDefault("100ms")
+        Duration window();
+
+        /**
+         * The minimum number of request durations sampled in a window before the limit is updated.
+         */
+        @WithDefault("10")
+        int minWindowSamples();
+
+        /**
+         * The number of windows over which the long-term average request duration is computed.
+         */
+        @WithDefault("60")
+        int longWindow();
+
+        /**
+         * How much longer than the long-term average the request durations may get before the limit is decreased.
+         */
+        @WithDefault("1.5")
+        double tolerance();
+
+        /**
+         * The weight of a new limit estimate, between 0 and 1. Lower values make the limit change more slowly.
+         */
+        @WithDefault("0.2")
+        double smoothing();
+    }
+
     @ConfigGroup
     interface PriorityLoadShedding {
         /**
@@ -59,4 +122,26 @@ interface PriorityLoadShedding {
         @WithDefault("true")
         boolean enabled();
     }
+
+    @ConfigGroup
+    interface WaitQueue {
+        /**
+         * Whether requests should wait for a free slot in a priority queue instead of being rejected immediately
+         * in an overload situation. Requests with a lower priority are rejected first when the queue is full.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The maximum number of waiting requests.
+         */
+        @WithDefault("100")
+        int maxSize();
+
+        /**
+         * The maximum time a request may wait before it is rejected.
+         */
+        @WithDefault("100ms")
+        Duration maxWait();
+    }
 }
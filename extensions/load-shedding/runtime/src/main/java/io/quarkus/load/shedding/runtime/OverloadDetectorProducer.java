@@ -0,0 +1,16 @@
+package io.quarkus.load.shedding.runtime;
+
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+@Singleton
+public class OverloadDetectorProducer {
+    @Produces
+    @Singleton
+    public OverloadDetector overloadDetector(LoadSheddingRuntimeConfig config) {
+        return switch (config.algorithm()) {
+            case VEGAS -> new VegasOverloadDetector(config);
+            case GRADIENT -> new GradientOverloadDetector(config);
+        };
+    }
+}
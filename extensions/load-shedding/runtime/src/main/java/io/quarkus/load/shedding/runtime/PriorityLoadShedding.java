@@ -2,6 +2,7 @@
 
 import java.lang.management.ManagementFactory;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -29,9 +30,10 @@ public class PriorityLoadShedding {
 
     private final OperatingSystemMXBean os;
 
-    private double lastThreshold;
+    // negative when the CPU load is not known (yet), in which case all requests are rejected
+    private volatile double lastThreshold = -1;
 
-    private long lastThresholdTime;
+    private final AtomicLong lastThresholdTime = new AtomicLong();
 
     @Inject
     PriorityLoadShedding(LoadSheddingRuntimeConfig config) {
@@ -46,23 +48,59 @@ public boolean shedLoad(Object request) {
             return true;
         }
 
-        long now = System.currentTimeMillis();
-        synchronized (this) {
-            if (now - lastThresholdTime > 1_000) {
-                double load = os.getCpuLoad();
-                if (load < 0) {
-                    lastThreshold = -1;
-                } else {
-                    lastThreshold = max * (1.0 - load * load * load);
-                }
-                lastThresholdTime = now;
-            }
+        return shedLoad(requestGroup(request));
+    }
+
+    /**
+     * Returns whether a request from given {@linkplain #requestGroup(Object) group} should be rejected
+     * in an overload situation.
+     *
+     * @param group the request group
+     * @return whether the request should be rejected
+     */
+    public boolean shedLoad(int group) {
+        if (!enabled) {
+            return true;
         }
-        double threshold = lastThreshold;
+
+        double threshold = threshold();
         if (threshold < 0) {
             return true;
         }
 
+        return group > threshold;
+    }
+
+    private double threshold() {
+        long now = System.currentTimeMillis();
+        long lastTime = lastThresholdTime.get();
+        // only one thread recomputes the threshold, others use the previous value
+        if (now - lastTime > 1_000 && lastThresholdTime.compareAndSet(lastTime, now)) {
+            double load = os.getCpuLoad();
+            if (load < 0) {
+                lastThreshold = -1;
+            } else {
+                lastThreshold = max * (1.0 - load * load * load);
+            }
+        }
+        return lastThreshold;
+    }
+
+    /**
+     * Returns the group of given {@code request}, computed from its priority and cohort
+     * as {@code priority * num_cohorts + cohort}. Lower numbers denote more important requests.
+     * If priority load shedding is disabled, or if the CPU load is not known and hence all requests
+     * are rejected, all requests belong to the same group.
+     *
+     * @param request the request, never {@code null}
+     * @return the group of given {@code request}
+     */
+    public int requestGroup(Object request) {
+        if (!enabled || threshold() < 0) {
+            // no need to classify the request
+            return RequestPriority.NORMAL.cohortBaseline() + 64;
+        }
+
         RequestPriority priority = RequestPriority.NORMAL;
         for (RequestPrioritizer requestPrioritizer : requestPrioritizers) {
             if (requestPrioritizer.appliesTo(request)) {
@@ -88,6 +126,6 @@ public boolean shedLoad(Object request) {
             cohort = cohort % RequestClassifier.MAX_COHORT + 1;
         }
 
-        return priority.cohortBaseline() + cohort > threshold;
+        return priority.cohortBaseline() + cohort;
     }
 }
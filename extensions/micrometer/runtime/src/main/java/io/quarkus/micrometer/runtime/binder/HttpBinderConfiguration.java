@@ -41,6 +41,8 @@ public class HttpBinderConfiguration {
     boolean serverSuppress4xxErrors = false;
     boolean clientSuppress4xxErrors = false;
 
+    boolean serverApplyPatternsToTemplates = false;
+
     private HttpBinderConfiguration() {
     }
 
@@ -52,6 +54,7 @@ public HttpBinderConfiguration(boolean httpServerMetrics, boolean httpClientMetr
         clientEnabled = httpClientMetrics;
         serverSuppress4xxErrors = serverConfig.suppress4xxErrors();
         clientSuppress4xxErrors = clientConfig.suppress4xxErrors();
+        serverApplyPatternsToTemplates = serverConfig.applyPatternsToTemplates();
 
         if (serverEnabled) {
             Pattern defaultIgnore = null;
@@ -117,6 +120,10 @@ public boolean isClientSuppress4xxErrors() {
         return clientSuppress4xxErrors;
     }
 
+    public boolean isServerApplyPatternsToTemplates() {
+        return serverApplyPatternsToTemplates;
+    }
+
     List<Pattern> getIgnorePatterns(Optional<List<String>> configInput, Pattern defaultIgnore) {
         if (configInput.isPresent()) {
             List<String> input = configInput.get();
@@ -199,6 +206,7 @@ public HttpBinderConfiguration unwrap() {
         // not dev-mode changeable
         result.clientEnabled = this.clientEnabled;
         result.serverEnabled = this.serverEnabled;
+        result.serverApplyPatternsToTemplates = this.serverApplyPatternsToTemplates;
         result.serverSuppress4xxErrors = this.serverSuppress4xxErrors;
         result.clientSuppress4xxErrors = this.clientSuppress4xxErrors;
         return result.update(this);
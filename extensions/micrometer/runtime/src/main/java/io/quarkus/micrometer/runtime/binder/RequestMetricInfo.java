@@ -56,7 +56,7 @@ protected String applyTemplateMatching(String path) {
         return path;
     }
 
-    static String applyMatchPatterns(String path, Map<Pattern, String> matchPatterns) {
+    protected static String applyMatchPatterns(String path, Map<Pattern, String> matchPatterns) {
         if (!matchPatterns.isEmpty()) {
             for (Map.Entry<Pattern, String> mp : matchPatterns.entrySet()) {
                 if (mp.getKey().matcher(path).matches()) {
@@ -52,6 +52,26 @@ public String applyTemplateMatching(String path) {
         }
 
         // vertx-web or reactive route: is it templated?
+        String vertxRouteTemplate = getVertxRouteTemplate();
+        if (vertxRouteTemplate != null) {
+            return vertxRouteTemplate;
+        }
+
+        return path;
+    }
+
+    /**
+     * Unlike {@link #applyTemplateMatching(String)}, the template is not normalized.
+     *
+     * @return the route template matched by the request, e.g. {@code /item/{id}}, or {@code null}
+     * @see RouteTemplateCache
+     */
+    String getRouteTemplate() {
+        String urlTemplatePath = getUrlTemplatePath();
+        return urlTemplatePath != null ? urlTemplatePath : getVertxRouteTemplate();
+    }
+
+    private String getVertxRouteTemplate() {
         if (currentRoutePath != null && currentRoutePath.contains(":")) {
             // Convert /item/:id to /item/{id} and save it for next time
             return vertxWebToUriTemplate.computeIfAbsent(currentRoutePath, k -> {
@@ -62,8 +82,22 @@ public String applyTemplateMatching(String path) {
                 return normalizePath(String.join("/", segments));
             });
         }
+        return null;
+    }
 
-        return path;
+    /**
+     * Normalize and filter a route template the same way a request path is normalized and filtered.
+     *
+     * @return the value of the uri tag, or {@code null} to skip measurement
+     * @see #getRouteTemplate()
+     */
+    static String getNormalizedTemplatePath(String routeTemplate, Map<Pattern, String> matchPatterns,
+            List<Pattern> ignorePatterns) {
+        String path = normalizePath(routeTemplate);
+        if (path.length() > 1) {
+            path = applyMatchPatterns(path, matchPatterns);
+        }
+        return filterIgnored(path, ignorePatterns);
     }
 
     public HttpServerRequestInternal request() {
@@ -116,7 +150,7 @@ public String toString() {
                 + ", templatePath=" + templatePath + ", request=" + request + "]";
     }
 
-    private boolean isCORSPreflightRequest() {
+    boolean isCORSPreflightRequest() {
         return request.method() == HttpMethod.OPTIONS
                 && request.getHeader("Origin") != null
                 && request.getHeader("Access-Control-Request-Method") != null
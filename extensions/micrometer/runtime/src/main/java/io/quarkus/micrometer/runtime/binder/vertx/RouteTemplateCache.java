@@ -0,0 +1,131 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import io.micrometer.core.instrument.Tags;
+import io.quarkus.micrometer.runtime.binder.HttpBinderConfiguration;
+import io.quarkus.micrometer.runtime.binder.HttpCommonTags;
+import io.vertx.core.http.HttpMethod;
+
+/**
+ * Caches the route templates matched by the HTTP server requests, if
+ * {@code quarkus.micrometer.binder.http-server.apply-patterns-to-templates} is enabled.
+ * <p>
+ * The match and ignore patterns are applied once per template, and the tags of the requests are cached per template,
+ * method and status, so that a request matched by a route template is recorded without evaluating a regular expression
+ * and without allocating a {@link Tags} instance.
+ */
+final class RouteTemplateCache {
+
+    // The max number of tags cached per template, i.e. the distinct combinations of a method and a status
+    static final int MAX_TAGS = 32;
+
+    private volatile Templates templates;
+
+    RouteTemplateCache(HttpBinderConfiguration config) {
+        this.templates = new Templates(config);
+    }
+
+    /**
+     *
+     * @param routeTemplate the template returned by {@link HttpRequestMetric#getRouteTemplate()}
+     * @param config
+     * @return the cached template
+     */
+    RouteTemplate get(String routeTemplate, HttpBinderConfiguration config) {
+        Templates current = templates;
+        if (!current.isCurrent(config)) {
+            // The configuration was updated in dev mode
+            current = new Templates(config);
+            templates = current;
+        }
+        RouteTemplate template = current.templates.get(routeTemplate);
+        return template != null ? template : current.templates.computeIfAbsent(routeTemplate, current::newTemplate);
+    }
+
+    private static final class Templates {
+
+        final Map<Pattern, String> matchPatterns;
+        final List<Pattern> ignorePatterns;
+        final boolean suppress4xxErrors;
+        final ConcurrentHashMap<String, RouteTemplate> templates;
+
+        Templates(HttpBinderConfiguration config) {
+            this.matchPatterns = config.getServerMatchPatterns();
+            this.ignorePatterns = config.getServerIgnorePatterns();
+            this.suppress4xxErrors = config.isServerSuppress4xxErrors();
+            this.templates = new ConcurrentHashMap<>();
+        }
+
+        RouteTemplate newTemplate(String routeTemplate) {
+            return new RouteTemplate(HttpRequestMetric.getNormalizedTemplatePath(routeTemplate, matchPatterns, ignorePatterns),
+                    suppress4xxErrors);
+        }
+
+        boolean isCurrent(HttpBinderConfiguration config) {
+            return matchPatterns == config.getServerMatchPatterns()
+                    && ignorePatterns == config.getServerIgnorePatterns()
+                    && suppress4xxErrors == config.isServerSuppress4xxErrors();
+        }
+
+    }
+
+    static final class RouteTemplate {
+
+        /**
+         * The value of the uri tag, or {@code null} if the requests matched by this template are ignored.
+         */
+        final String path;
+
+        private final boolean suppress4xxErrors;
+
+        // Copy-on-write, the list of tags is short and rarely updated
+        private volatile CachedTags[] tags;
+
+        RouteTemplate(String path, boolean suppress4xxErrors) {
+            this.path = path;
+            this.suppress4xxErrors = suppress4xxErrors;
+            this.tags = new CachedTags[0];
+        }
+
+        /**
+         *
+         * @param method
+         * @param statusCode
+         * @param initialPath the path of the request
+         * @return the method, uri, outcome and status tags
+         */
+        Tags tags(HttpMethod method, int statusCode, String initialPath) {
+            // The uri tag of a 3xx/4xx response depends on whether the path differs from the template
+            boolean templated = initialPath != null && !initialPath.equals(path);
+            CachedTags[] current = tags;
+            for (CachedTags cached : current) {
+                if (cached.statusCode == statusCode && cached.templated == templated && cached.method.equals(method)) {
+                    return cached.tags;
+                }
+            }
+            Tags result = Tags.of(
+                    VertxMetricsTags.method(method),
+                    HttpCommonTags.uri(path, initialPath, statusCode, suppress4xxErrors),
+                    HttpCommonTags.outcome(statusCode),
+                    HttpCommonTags.status(statusCode));
+            if (method != null && current.length < MAX_TAGS) {
+                synchronized (this) {
+                    CachedTags[] updated = new CachedTags[tags.length + 1];
+                    System.arraycopy(tags, 0, updated, 0, tags.length);
+                    updated[updated.length - 1] = new CachedTags(method, statusCode, templated, result);
+                    tags = updated;
+                }
+            }
+            return result;
+        }
+
+    }
+
+    private record CachedTags(HttpMethod method, int statusCode, boolean templated, Tags tags) {
+    }
+
+}
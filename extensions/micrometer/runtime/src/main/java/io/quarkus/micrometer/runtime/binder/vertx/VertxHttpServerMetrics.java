@@ -52,6 +52,9 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
 
     private final List<HttpServerMetricsTagsContributor> httpServerMetricsTagsContributors;
 
+    // The cache of route templates, or null if the patterns are applied to the request paths
+    private final RouteTemplateCache routeTemplates;
+
     VertxHttpServerMetrics(MeterRegistry registry,
             HttpBinderConfiguration config,
             OpenTelemetryContextUnwrapper openTelemetryContextUnwrapper, HttpServerOptions httpServerOptions) {
@@ -85,6 +88,8 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
         pushCounter = Counter.builder(config.getHttpServerPushName())
                 .description("HTTP server response push counter")
                 .withRegistry(registry);
+
+        routeTemplates = config.isServerApplyPatternsToTemplates() ? new RouteTemplateCache(config) : null;
         // not dev-mode changeable -----ˆ
     }
 
@@ -173,9 +178,11 @@ public HttpRequestMetric requestBegin(LongTaskTimer.Sample sample, HttpRequest r
     public void requestReset(HttpRequestMetric requestMetric) {
         log.debugf("requestReset %s", requestMetric);
 
-        String path = requestMetric.getNormalizedUriPath(
-                config.getServerMatchPatterns(),
-                config.getServerIgnorePatterns());
+        RouteTemplateCache.RouteTemplate template = getRouteTemplate(requestMetric);
+        String path = template != null ? template.path
+                : requestMetric.getNormalizedUriPath(
+                        config.getServerMatchPatterns(),
+                        config.getServerIgnorePatterns());
         if (path != null) {
             Timer.Sample sample = requestMetric.getSample();
 
@@ -202,17 +209,24 @@ public void requestReset(HttpRequestMetric requestMetric) {
     public void responseEnd(HttpRequestMetric requestMetric, HttpResponse response, long bytesWritten) {
         log.debugf("responseEnd %s, %s", response, requestMetric);
 
-        String path = requestMetric.getNormalizedUriPath(
-                config.getServerMatchPatterns(),
-                config.getServerIgnorePatterns());
+        RouteTemplateCache.RouteTemplate template = getRouteTemplate(requestMetric);
+        String path = template != null ? template.path
+                : requestMetric.getNormalizedUriPath(
+                        config.getServerMatchPatterns(),
+                        config.getServerIgnorePatterns());
         if (path != null) {
             Timer.Sample sample = requestMetric.getSample();
-            Tags allTags = Tags.of(
-                    VertxMetricsTags.method(requestMetric.request().method()),
-                    HttpCommonTags.uri(path, requestMetric.initialPath, response.statusCode(),
-                            config.isServerSuppress4xxErrors()),
-                    VertxMetricsTags.outcome(response),
-                    HttpCommonTags.status(response.statusCode()));
+            Tags allTags;
+            if (template != null) {
+                allTags = template.tags(requestMetric.request().method(), response.statusCode(), requestMetric.initialPath);
+            } else {
+                allTags = Tags.of(
+                        VertxMetricsTags.method(requestMetric.request().method()),
+                        HttpCommonTags.uri(path, requestMetric.initialPath, response.statusCode(),
+                                config.isServerSuppress4xxErrors()),
+                        VertxMetricsTags.outcome(response),
+                        HttpCommonTags.status(response.statusCode()));
+            }
             if (!httpServerMetricsTagsContributors.isEmpty()) {
                 HttpServerMetricsTagsContributor.Context context = new DefaultContext(requestMetric.request(), response);
                 for (int i = 0; i < httpServerMetricsTagsContributors.size(); i++) {
@@ -243,9 +257,11 @@ public void responseEnd(HttpRequestMetric requestMetric, HttpResponse response,
     @Override
     public LongTaskTimer.Sample connected(LongTaskTimer.Sample sample, HttpRequestMetric requestMetric,
             ServerWebSocket serverWebSocket) {
-        String path = requestMetric.getNormalizedUriPath(
-                config.getServerMatchPatterns(),
-                config.getServerIgnorePatterns());
+        RouteTemplateCache.RouteTemplate template = getRouteTemplate(requestMetric);
+        String path = template != null ? template.path
+                : requestMetric.getNormalizedUriPath(
+                        config.getServerMatchPatterns(),
+                        config.getServerIgnorePatterns());
         if (path != null) {
             return websocketConnectionTimer
                     .withTags(Tags.of(HttpCommonTags.uri(path, requestMetric.initialPath, 0, false)))
@@ -267,6 +283,19 @@ public void disconnected(LongTaskTimer.Sample websocketMetric) {
         }
     }
 
+    /**
+     * @param requestMetric
+     * @return the cached route template matched by the request, or {@code null} if the patterns should be applied to the
+     *         request path
+     */
+    private RouteTemplateCache.RouteTemplate getRouteTemplate(HttpRequestMetric requestMetric) {
+        if (routeTemplates == null || requestMetric.isCORSPreflightRequest()) {
+            return null;
+        }
+        String routeTemplate = requestMetric.getRouteTemplate();
+        return routeTemplate != null ? routeTemplates.get(routeTemplate, config) : null;
+    }
+
     private record DefaultContext(HttpServerRequest request,
             HttpResponse response) implements HttpServerMetricsTagsContributor.Context {
     }
@@ -38,6 +38,24 @@ public interface HttpServerConfig {
      */
     Optional<List<String>> ignorePatterns();
 
+    /**
+     * Apply the match and ignore patterns to the route templates rather than to the request paths.
+     *
+     * By default, the patterns are evaluated against the path of every request.
+     * If enabled, a request matched by a route template, i.e. a REST resource method
+     * or a Vert.x/Reactive Route with path parameters, is tagged with the template, e.g.
+     * `/item/{id}`, and the patterns are only evaluated once per template.
+     * The tags of such requests are cached as well.
+     * Requests that are not matched by a route template are processed as usual.
+     *
+     * Note that the patterns must match the template, e.g. `/item/\\{id}.*`,
+     * rather than the request path, e.g. `/item/123`.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean applyPatternsToTemplates();
+
     /**
      * Suppress non-application uris from metrics collection.
      * This will suppress all metrics for non-application endpoints using
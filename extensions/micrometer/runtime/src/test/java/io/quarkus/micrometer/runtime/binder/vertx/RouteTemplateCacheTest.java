@@ -0,0 +1,77 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.quarkus.micrometer.runtime.binder.HttpBinderConfiguration;
+import io.quarkus.micrometer.runtime.config.runtime.HttpClientConfig;
+import io.quarkus.micrometer.runtime.config.runtime.HttpServerConfig;
+import io.quarkus.micrometer.runtime.config.runtime.VertxConfig;
+import io.vertx.core.http.HttpMethod;
+
+public class RouteTemplateCacheTest {
+
+    @Test
+    public void testPatternsAppliedToTemplates() {
+        HttpBinderConfiguration config = config(List.of("/item/\\{id}/.*=/item/{id}/any"), List.of("/secret/.*"));
+        RouteTemplateCache cache = new RouteTemplateCache(config);
+
+        Assertions.assertEquals("/item/{id}", cache.get("/item/{id}", config).path);
+        Assertions.assertEquals("/item/{id}", cache.get("/item/{id}/", config).path);
+        Assertions.assertEquals("/item/{id}/any", cache.get("/item/{id}/{name}", config).path);
+        Assertions.assertNull(cache.get("/secret/{id}", config).path);
+        // The decision is made once per template
+        Assertions.assertSame(cache.get("/item/{id}", config), cache.get("/item/{id}", config));
+
+        // Dev mode update
+        HttpBinderConfiguration updated = config.update(config(List.of(), List.of("/item/.*")));
+        Assertions.assertNull(cache.get("/item/{id}", updated).path);
+    }
+
+    @Test
+    public void testTagsCached() {
+        HttpBinderConfiguration config = config(List.of(), List.of());
+        RouteTemplateCache.RouteTemplate template = new RouteTemplateCache(config).get("/item/{id}", config);
+
+        Tags tags = template.tags(HttpMethod.GET, 200, "/item/1");
+        Assertions.assertEquals(Tags.of(Tag.of("method", "GET"), Tag.of("uri", "/item/{id}"), Tag.of("outcome", "SUCCESS"),
+                Tag.of("status", "200")), tags);
+        Assertions.assertSame(tags, template.tags(HttpMethod.GET, 200, "/item/2"));
+        Assertions.assertNotSame(tags, template.tags(HttpMethod.POST, 200, "/item/2"));
+
+        Tags notFound = template.tags(HttpMethod.GET, 404, "/item/1");
+        Assertions.assertEquals(Tags.of(Tag.of("method", "GET"), Tag.of("uri", "/item/{id}"),
+                Tag.of("outcome", "CLIENT_ERROR"), Tag.of("status", "404")), notFound);
+        Assertions.assertNotSame(tags, notFound);
+    }
+
+    @Test
+    public void testTagsOfTemplateWithoutParams() {
+        HttpBinderConfiguration config = config(List.of(), List.of());
+        RouteTemplateCache.RouteTemplate template = new RouteTemplateCache(config).get("/hello", config);
+
+        // The path does not differ from the template
+        Assertions.assertTrue(template.tags(HttpMethod.GET, 404, "/hello").stream()
+                .anyMatch(t -> t.getKey().equals("uri") && t.getValue().equals("NOT_FOUND")));
+        Assertions.assertTrue(template.tags(HttpMethod.GET, 404, "/hello/").stream()
+                .anyMatch(t -> t.getKey().equals("uri") && t.getValue().equals("/hello")));
+        Assertions.assertTrue(template.tags(HttpMethod.GET, 200, "/hello").stream()
+                .anyMatch(t -> t.getKey().equals("uri") && t.getValue().equals("/hello")));
+    }
+
+    private static HttpBinderConfiguration config(List<String> matchPatterns, List<String> ignorePatterns) {
+        HttpServerConfig httpServerConfig = Mockito.mock(HttpServerConfig.class);
+        Mockito.doReturn(Optional.of(matchPatterns)).when(httpServerConfig).matchPatterns();
+        Mockito.doReturn(Optional.of(ignorePatterns)).when(httpServerConfig).ignorePatterns();
+        Mockito.doReturn(true).when(httpServerConfig).applyPatternsToTemplates();
+        return new HttpBinderConfiguration(true, false, httpServerConfig, Mockito.mock(HttpClientConfig.class),
+                Mockito.mock(VertxConfig.class));
+    }
+
+}
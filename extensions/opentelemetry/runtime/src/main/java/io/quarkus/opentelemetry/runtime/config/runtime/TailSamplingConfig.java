@@ -0,0 +1,72 @@
+package io.quarkus.opentelemetry.runtime.config.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
+
+@ConfigGroup
+public interface TailSamplingConfig {
+
+    /**
+     * If true, the sampled spans are buffered per trace and the trace is only exported if it matches one of the
+     * tail sampling rules when its local root span ends.
+     * <p>
+     * This is a Quarkus specific property. Tail sampling is disabled by default and it is only applied to the spans exported
+     * by the default OTLP exporter.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Keep the traces with a local root span that took at least this long.
+     */
+    @WithName("latency-threshold")
+    Optional<Duration> latencyThreshold();
+
+    /**
+     * Keep the traces that contain a span with the `ERROR` status.
+     * <p>
+     * Defaults to `true`.
+     */
+    @WithName("keep-errors")
+    @WithDefault("true")
+    boolean keepErrors();
+
+    /**
+     * Keep the traces that contain a span with one of the given attributes, in the following format:
+     * <code>key1=val1,key2=val2</code>.
+     */
+    @WithName("attributes")
+    Optional<List<String>> attributes();
+
+    /**
+     * The ratio of the traces that do not match any rule and are kept anyway, between `0.0d` and `1.0d`.
+     * <p>
+     * Defaults to `0.0d`.
+     */
+    @WithName("ratio")
+    @WithDefault("0.0d")
+    double ratio();
+
+    /**
+     * The maximum number of traces tracked at the same time. The oldest traces are dropped first.
+     * <p>
+     * Default is `2048`.
+     */
+    @WithName("max.traces")
+    @WithDefault("2048")
+    int maxTraces();
+
+    /**
+     * The maximum number of spans buffered while waiting for the sampling decision. The oldest traces are dropped first.
+     * <p>
+     * Default is `16384`.
+     */
+    @WithName("max.spans")
+    @WithDefault("16384")
+    int maxSpans();
+}
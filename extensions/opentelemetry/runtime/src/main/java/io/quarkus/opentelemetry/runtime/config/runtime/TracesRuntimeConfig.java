@@ -63,4 +63,12 @@ public interface TracesRuntimeConfig {
     @WithName("sampler.arg")
     @WithDefault("1.0d")
     Optional<String> samplerArg();
+
+    /**
+     * Tail sampling configuration.
+     * <p>
+     * This is a Quarkus specific property.
+     */
+    @WithName("tail-sampling")
+    TailSamplingConfig tailSampling();
 }
@@ -89,8 +89,21 @@ public void send(Marshaler request, Consumer onSuccess, Consumer onError) {
         }
 
         final String marshalerType = request.getClass().getSimpleName();
+        // Serialize the request once, before a connection is obtained, i.e. on the exporting thread and not on the event loop
+        final Buffer payload = Buffer.buffer(request.getBinarySerializedSize());
+        try {
+            request.writeBinaryTo(new BufferOutputStream(payload));
+        } catch (IOException e) {
+            final String message = "Failed to export "
+                    + marshalerType
+                    + "s. Unable to serialize payload. Full error message: "
+                    + (e.getMessage() == null ? e.getClass().getName() : e.getMessage());
+            logger.log(Level.WARNING, message);
+            onError.accept(e);
+            return;
+        }
         var onSuccessHandler = new ClientRequestOnSuccessHandler(client, server, headers, compressionEnabled,
-                request,
+                payload,
                 loggedUnimplemented, logger, marshalerType, onSuccess, onError, 1, grpcEndpointPath,
                 isShutdown::get);
 
@@ -179,7 +192,7 @@ private static final class ClientRequestOnSuccessHandler implements Handler<Grpc
         private final Map<String, String> headers;
         private final boolean compressionEnabled;
 
-        private final Marshaler marshaler;
+        private final Buffer payload;
         private final AtomicBoolean loggedUnimplemented;
         private final ThrottlingLogger logger;
         private final String type;
@@ -194,7 +207,7 @@ public ClientRequestOnSuccessHandler(GrpcClient client,
                 SocketAddress server,
                 Map<String, String> headers,
                 boolean compressionEnabled,
-                Marshaler marshaler,
+                Buffer payload,
                 AtomicBoolean loggedUnimplemented,
                 ThrottlingLogger logger,
                 String type,
@@ -208,7 +221,7 @@ public ClientRequestOnSuccessHandler(GrpcClient client,
             this.grpcEndpointPath = grpcEndpointPath;
             this.headers = headers;
             this.compressionEnabled = compressionEnabled;
-            this.marshaler = marshaler;
+            this.payload = payload;
             this.loggedUnimplemented = loggedUnimplemented;
             this.logger = logger;
             this.type = type;
@@ -235,185 +248,172 @@ public void handle(GrpcClientRequest<Buffer, Buffer> request) {
                 }
             }
 
-            try {
-                int messageSize = marshaler.getBinarySerializedSize();
-                Buffer buffer = Buffer.buffer(messageSize);
-                var os = new BufferOutputStream(buffer);
-                marshaler.writeBinaryTo(os);
-                request.send(buffer).onSuccess(new Handler<>() {
-                    @Override
-                    public void handle(GrpcClientResponse<Buffer, Buffer> response) {
-                        response.exceptionHandler(new Handler<>() {
-                            @Override
-                            public void handle(Throwable t) {
-                                if (attemptNumber <= MAX_ATTEMPTS && !isShutdown.get()) {
-                                    // retry
-                                    initiateSend(client, server,
-                                            MAX_ATTEMPTS - attemptNumber,
-                                            newAttempt(),
-                                            new Consumer<>() {
-                                                @Override
-                                                public void accept(Throwable throwable) {
-                                                    failOnClientRequest(throwable, onError, attemptNumber);
-                                                }
-                                            });
-
-                                } else {
-                                    failOnClientRequest(t, onError, attemptNumber);
-                                }
-                            }
-                        }).errorHandler(new Handler<>() {
-                            @Override
-                            public void handle(GrpcError error) {
-                                handleError(error.status, response);
+            request.send(payload).onSuccess(new Handler<>() {
+                @Override
+                public void handle(GrpcClientResponse<Buffer, Buffer> response) {
+                    response.exceptionHandler(new Handler<>() {
+                        @Override
+                        public void handle(Throwable t) {
+                            if (attemptNumber <= MAX_ATTEMPTS && !isShutdown.get()) {
+                                // retry
+                                initiateSend(client, server,
+                                        MAX_ATTEMPTS - attemptNumber,
+                                        newAttempt(),
+                                        new Consumer<>() {
+                                            @Override
+                                            public void accept(Throwable throwable) {
+                                                failOnClientRequest(throwable, onError, attemptNumber);
+                                            }
+                                        });
+
+                            } else {
+                                failOnClientRequest(t, onError, attemptNumber);
                             }
-                        }).endHandler(new Handler<>() {
-                            @Override
-                            public void handle(Void ignored) {
-                                GrpcStatus status = getStatus(response);
-                                if (status == GrpcStatus.OK) {
-                                    onSuccess.accept(GrpcResponse.create(status.code, status.toString()));
-                                } else {
-                                    handleError(status, response);
-                                }
+                        }
+                    }).errorHandler(new Handler<>() {
+                        @Override
+                        public void handle(GrpcError error) {
+                            handleError(error.status, response);
+                        }
+                    }).endHandler(new Handler<>() {
+                        @Override
+                        public void handle(Void ignored) {
+                            GrpcStatus status = getStatus(response);
+                            if (status == GrpcStatus.OK) {
+                                onSuccess.accept(GrpcResponse.create(status.code, status.toString()));
+                            } else {
+                                handleError(status, response);
                             }
-                        });
-                    }
+                        }
+                    });
+                }
 
-                    private void handleError(GrpcStatus status, GrpcClientResponse<Buffer, Buffer> response) {
-                        String statusMessage = getStatusMessage(response);
-                        logAppropriateWarning(status, statusMessage);
-                        onError.accept(new IllegalStateException(statusMessage));
-                    }
+                private void handleError(GrpcStatus status, GrpcClientResponse<Buffer, Buffer> response) {
+                    String statusMessage = getStatusMessage(response);
+                    logAppropriateWarning(status, statusMessage);
+                    onError.accept(new IllegalStateException(statusMessage));
+                }
 
-                    private void logAppropriateWarning(GrpcStatus status,
-                            String statusMessage) {
-                        if (status == GrpcStatus.UNIMPLEMENTED) {
-                            if (loggedUnimplemented.compareAndSet(false, true)) {
-                                logUnimplemented(internalLogger, type, statusMessage);
-                            }
-                        } else if (status == GrpcStatus.UNAVAILABLE) {
-                            logger.log(
-                                    Level.WARNING,
-                                    "Failed to export "
-                                            + type
-                                            + "s. Server is UNAVAILABLE. "
-                                            + "Make sure your collector is running and reachable from this network. "
-                                            + "Full error message:"
-                                            + statusMessage);
-                        } else {
-                            if (status == null) {
-                                if (statusMessage == null) {
-                                    logger.log(
-                                            Level.WARNING,
-                                            "Failed to export "
-                                                    + type
-                                                    + "s. Perhaps the collector does not support collecting traces using grpc? Try configuring 'quarkus.otel.exporter.otlp.traces.protocol=http/protobuf'");
-                                } else {
-                                    logger.log(
-                                            Level.WARNING,
-                                            "Failed to export "
-                                                    + type
-                                                    + "s. Server responded with error message: "
-                                                    + statusMessage);
-                                }
+                private void logAppropriateWarning(GrpcStatus status,
+                        String statusMessage) {
+                    if (status == GrpcStatus.UNIMPLEMENTED) {
+                        if (loggedUnimplemented.compareAndSet(false, true)) {
+                            logUnimplemented(internalLogger, type, statusMessage);
+                        }
+                    } else if (status == GrpcStatus.UNAVAILABLE) {
+                        logger.log(
+                                Level.WARNING,
+                                "Failed to export "
+                                        + type
+                                        + "s. Server is UNAVAILABLE. "
+                                        + "Make sure your collector is running and reachable from this network. "
+                                        + "Full error message:"
+                                        + statusMessage);
+                    } else {
+                        if (status == null) {
+                            if (statusMessage == null) {
+                                logger.log(
+                                        Level.WARNING,
+                                        "Failed to export "
+                                                + type
+                                                + "s. Perhaps the collector does not support collecting traces using grpc? Try configuring 'quarkus.otel.exporter.otlp.traces.protocol=http/protobuf'");
                             } else {
                                 logger.log(
                                         Level.WARNING,
                                         "Failed to export "
                                                 + type
-                                                + "s. Server responded with "
-                                                + status.code
-                                                + ". Error message: "
+                                                + "s. Server responded with error message: "
                                                 + statusMessage);
                             }
+                        } else {
+                            logger.log(
+                                    Level.WARNING,
+                                    "Failed to export "
+                                            + type
+                                            + "s. Server responded with "
+                                            + status.code
+                                            + ". Error message: "
+                                            + statusMessage);
                         }
                     }
+                }
 
-                    private void logUnimplemented(Logger logger, String type, String fullErrorMessage) {
-                        String envVar;
-                        switch (type) {
-                            case "span":
-                                envVar = "OTEL_TRACES_EXPORTER";
-                                break;
-                            case "metric":
-                                envVar = "OTEL_METRICS_EXPORTER";
-                                break;
-                            case "log":
-                                envVar = "OTEL_LOGS_EXPORTER";
-                                break;
-                            default:
-                                throw new IllegalStateException(
-                                        "Unrecognized type, this is a programming bug in the OpenTelemetry SDK");
-                        }
-
-                        logger.log(
-                                Level.WARNING,
-                                "Failed to export "
-                                        + type
-                                        + "s. Server responded with UNIMPLEMENTED. "
-                                        + "This usually means that your collector is not configured with an otlp "
-                                        + "receiver in the \"pipelines\" section of the configuration. "
-                                        + "If export is not desired and you are using OpenTelemetry autoconfiguration or the javaagent, "
-                                        + "disable export by setting "
-                                        + envVar
-                                        + "=none. "
-                                        + "Full error message: "
-                                        + fullErrorMessage);
+                private void logUnimplemented(Logger logger, String type, String fullErrorMessage) {
+                    String envVar;
+                    switch (type) {
+                        case "span":
+                            envVar = "OTEL_TRACES_EXPORTER";
+                            break;
+                        case "metric":
+                            envVar = "OTEL_METRICS_EXPORTER";
+                            break;
+                        case "log":
+                            envVar = "OTEL_LOGS_EXPORTER";
+                            break;
+                        default:
+                            throw new IllegalStateException(
+                                    "Unrecognized type, this is a programming bug in the OpenTelemetry SDK");
                     }
 
-                    private GrpcStatus getStatus(GrpcClientResponse<?, ?> response) {
-                        // Status can either be in the headers or trailers depending on error
-                        GrpcStatus result = response.status();
-                        if (result == null) {
-                            String statusFromTrailer = response.trailers().get(GRPC_STATUS);
-                            if (statusFromTrailer != null) {
-                                result = GrpcStatus.valueOf(Integer.parseInt(statusFromTrailer));
-                            }
+                    logger.log(
+                            Level.WARNING,
+                            "Failed to export "
+                                    + type
+                                    + "s. Server responded with UNIMPLEMENTED. "
+                                    + "This usually means that your collector is not configured with an otlp "
+                                    + "receiver in the \"pipelines\" section of the configuration. "
+                                    + "If export is not desired and you are using OpenTelemetry autoconfiguration or the javaagent, "
+                                    + "disable export by setting "
+                                    + envVar
+                                    + "=none. "
+                                    + "Full error message: "
+                                    + fullErrorMessage);
+                }
+
+                private GrpcStatus getStatus(GrpcClientResponse<?, ?> response) {
+                    // Status can either be in the headers or trailers depending on error
+                    GrpcStatus result = response.status();
+                    if (result == null) {
+                        String statusFromTrailer = response.trailers().get(GRPC_STATUS);
+                        if (statusFromTrailer != null) {
+                            result = GrpcStatus.valueOf(Integer.parseInt(statusFromTrailer));
                         }
-                        return result;
                     }
+                    return result;
+                }
 
-                    private String getStatusMessage(GrpcClientResponse<Buffer, Buffer> response) {
-                        // Status message can either be in the headers or trailers depending on error
-                        String result = response.statusMessage();
-                        if (result == null) {
-                            result = response.trailers().get(GRPC_MESSAGE);
-                            if (result != null) {
-                                result = QueryStringDecoder.decodeComponent(result, StandardCharsets.UTF_8);
-                            }
-
+                private String getStatusMessage(GrpcClientResponse<Buffer, Buffer> response) {
+                    // Status message can either be in the headers or trailers depending on error
+                    String result = response.statusMessage();
+                    if (result == null) {
+                        result = response.trailers().get(GRPC_MESSAGE);
+                        if (result != null) {
+                            result = QueryStringDecoder.decodeComponent(result, StandardCharsets.UTF_8);
                         }
-                        return result;
+
                     }
+                    return result;
+                }
 
-                }).onFailure(new Handler<>() {
-                    @Override
-                    public void handle(Throwable t) {
-                        if (attemptNumber <= MAX_ATTEMPTS && !isShutdown.get()) {
-                            // retry
-                            initiateSend(client, server,
-                                    MAX_ATTEMPTS - attemptNumber,
-                                    newAttempt(),
-                                    new Consumer<>() {
-                                        @Override
-                                        public void accept(Throwable throwable) {
-                                            failOnClientRequest(throwable, onError, attemptNumber);
-                                        }
-                                    });
-                        } else {
-                            failOnClientRequest(t, onError, attemptNumber);
-                        }
+            }).onFailure(new Handler<>() {
+                @Override
+                public void handle(Throwable t) {
+                    if (attemptNumber <= MAX_ATTEMPTS && !isShutdown.get()) {
+                        // retry
+                        initiateSend(client, server,
+                                MAX_ATTEMPTS - attemptNumber,
+                                newAttempt(),
+                                new Consumer<>() {
+                                    @Override
+                                    public void accept(Throwable throwable) {
+                                        failOnClientRequest(throwable, onError, attemptNumber);
+                                    }
+                                });
+                    } else {
+                        failOnClientRequest(t, onError, attemptNumber);
                     }
-                });
-            } catch (IOException e) {
-                final String message = "Failed to export "
-                        + type
-                        + "s. Unable to serialize payload. Full error message: "
-                        + (e.getMessage() == null ? e.getClass().getName() : e.getMessage());
-                logger.log(Level.WARNING, message);
-                onError.accept(e);
-            }
+                }
+            });
         }
 
         private void failOnClientRequest(Throwable t, Consumer<Throwable> onError, int attemptNumber) {
@@ -427,7 +427,7 @@ private void failOnClientRequest(Throwable t, Consumer<Throwable> onError, int a
         }
 
         public ClientRequestOnSuccessHandler newAttempt() {
-            return new ClientRequestOnSuccessHandler(client, server, headers, compressionEnabled, marshaler,
+            return new ClientRequestOnSuccessHandler(client, server, headers, compressionEnabled, payload,
                     loggedUnimplemented, logger, type, onSuccess, onError, attemptNumber + 1,
                     grpcEndpointPath, isShutdown);
         }
@@ -101,11 +101,27 @@ public void send(Marshaler marshaler,
             return;
         }
 
+        // Serialize the request once, before a connection is obtained, i.e. on the exporting thread and not on the event loop
+        final Buffer payload = Buffer.buffer(contentLength);
+        try {
+            OutputStream os = new BufferOutputStream(payload);
+            if (compressionEnabled) {
+                try (var gzos = new GZIPOutputStream(os)) {
+                    marshaler.writeBinaryTo(gzos);
+                }
+            } else {
+                marshaler.writeBinaryTo(os);
+            }
+        } catch (IOException e) {
+            onError.accept(e);
+            return;
+        }
+
         String requestURI = basePath + signalPath;
         var clientRequestSuccessHandler = new ClientRequestSuccessHandler(client, requestURI, headers, compressionEnabled,
                 contentType,
-                contentLength, onHttpResponseRead,
-                onError, marshaler, 1, isShutdown::get);
+                onHttpResponseRead,
+                onError, payload, 1, isShutdown::get);
         initiateSend(client, requestURI, MAX_ATTEMPTS, clientRequestSuccessHandler, onError, isShutdown::get);
     }
 
@@ -177,10 +193,9 @@ private static class ClientRequestSuccessHandler implements Handler<HttpClientRe
         private final Map<String, String> headers;
         private final boolean compressionEnabled;
         private final String contentType;
-        private final int contentLength;
         private final Consumer<Response> onHttpResponseRead;
         private final Consumer<Throwable> onError;
-        private final Marshaler marshaler;
+        private final Buffer payload;
 
         private final int attemptNumber;
         private final Supplier<Boolean> isShutdown;
@@ -189,10 +204,9 @@ public ClientRequestSuccessHandler(HttpClient client,
                 String requestURI, Map<String, String> headers,
                 boolean compressionEnabled,
                 String contentType,
-                int contentLength,
                 Consumer<Response> onHttpResponseRead,
                 Consumer<Throwable> onError,
-                Marshaler marshaler,
+                Buffer payload,
                 int attemptNumber,
                 Supplier<Boolean> isShutdown) {
             this.client = client;
@@ -200,10 +214,9 @@ public ClientRequestSuccessHandler(HttpClient client,
             this.headers = headers;
             this.compressionEnabled = compressionEnabled;
             this.contentType = contentType;
-            this.contentLength = contentLength;
             this.onHttpResponseRead = onHttpResponseRead;
             this.onError = onError;
-            this.marshaler = marshaler;
+            this.payload = payload;
             this.attemptNumber = attemptNumber;
             this.isShutdown = isShutdown;
         }
@@ -278,21 +291,8 @@ public byte[] responseBody() {
             })
                     .putHeader("Content-Type", contentType);
 
-            Buffer buffer = Buffer.buffer(contentLength);
-            OutputStream os = new BufferOutputStream(buffer);
             if (compressionEnabled) {
                 clientRequest.putHeader("Content-Encoding", "gzip");
-                try (var gzos = new GZIPOutputStream(os)) {
-                    marshaler.writeBinaryTo(gzos);
-                } catch (IOException e) {
-                    throw new IllegalStateException(e);
-                }
-            } else {
-                try {
-                    marshaler.writeBinaryTo(os);
-                } catch (IOException e) {
-                    throw new IllegalStateException(e);
-                }
             }
 
             if (!headers.isEmpty()) {
@@ -301,13 +301,13 @@ public byte[] responseBody() {
                 }
             }
 
-            clientRequest.send(buffer);
+            clientRequest.send(payload);
         }
 
         public ClientRequestSuccessHandler newAttempt() {
             return new ClientRequestSuccessHandler(client, requestURI, headers, compressionEnabled,
-                    contentType, contentLength, onHttpResponseRead,
-                    onError, marshaler, attemptNumber + 1, isShutdown);
+                    contentType, onHttpResponseRead,
+                    onError, payload, attemptNumber + 1, isShutdown);
         }
     }
 }
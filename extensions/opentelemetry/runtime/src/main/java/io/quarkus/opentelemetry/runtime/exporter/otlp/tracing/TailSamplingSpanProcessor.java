@@ -0,0 +1,351 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.tracing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+/**
+ * A {@link SpanProcessor} that makes the sampling decision once the local root span of a trace ends, i.e. when the
+ * latency and the outcome of the trace are known.
+ * <p>
+ * The ended spans are buffered per trace until the decision is made. A trace is kept if its local root span took at least
+ * the latency threshold, if one of its spans has the {@link StatusCode#ERROR} status or one of the given attributes, or
+ * randomly with the given ratio. The spans of a kept trace are passed to the delegate, e.g. a
+ * {@link io.opentelemetry.sdk.trace.export.BatchSpanProcessor}; the spans of a dropped trace are discarded. A trace that
+ * matches a rule before its local root span ends is kept immediately, so that its spans are not buffered.
+ * <p>
+ * A trace is no longer tracked once the decision is made. The decisions of the most recent traces are remembered, so that
+ * the spans that end after the local root span follow the decision of their trace. The number of undecided traces and the
+ * number of buffered spans are bounded. If a limit is exceeded then the oldest undecided traces are dropped.
+ */
+public class TailSamplingSpanProcessor implements SpanProcessor {
+
+    private static final Logger log = Logger.getLogger(TailSamplingSpanProcessor.class);
+
+    private final SpanProcessor delegate;
+    private final long latencyThresholdNanos;
+    private final boolean keepErrors;
+    private final List<ExpectedAttribute> attributes;
+    private final double ratio;
+    private final int maxTraces;
+    private final int maxSpans;
+
+    // The undecided traces
+    private final ConcurrentHashMap<String, Trace> pending;
+    // The ids of the undecided traces, the oldest first; the ids of the traces decided in the meantime are removed lazily
+    private final ConcurrentLinkedQueue<String> pendingIds;
+    private final AtomicInteger pendingIdsSize;
+    private final AtomicBoolean compacting;
+    // The decisions of the most recent traces, true if kept
+    private final Map<String, Boolean> decided;
+    private final AtomicInteger bufferedSpans;
+    private final LongAdder droppedSpans;
+
+    /**
+     *
+     * @param delegate the processor the spans of the kept traces are passed to
+     * @param latencyThreshold the min latency of the local root span of a kept trace, or {@code null}
+     * @param keepErrors whether the traces with an error are kept
+     * @param attributes the attributes of the spans of the kept traces
+     * @param ratio the ratio of the other traces that are kept
+     * @param maxTraces the max number of undecided traces, and of remembered decisions
+     * @param maxSpans the max number of buffered spans
+     */
+    public TailSamplingSpanProcessor(SpanProcessor delegate, Duration latencyThreshold, boolean keepErrors,
+            Map<String, String> attributes, double ratio, int maxTraces, int maxSpans) {
+        if (ratio < 0.0d || ratio > 1.0d) {
+            throw new IllegalArgumentException("The ratio must be between 0.0 and 1.0: " + ratio);
+        }
+        this.delegate = delegate;
+        this.latencyThresholdNanos = latencyThreshold != null ? latencyThreshold.toNanos() : -1;
+        this.keepErrors = keepErrors;
+        this.attributes = ExpectedAttribute.of(attributes);
+        this.ratio = ratio;
+        this.maxTraces = maxTraces;
+        this.maxSpans = maxSpans;
+        this.pending = new ConcurrentHashMap<>();
+        this.pendingIds = new ConcurrentLinkedQueue<>();
+        this.pendingIdsSize = new AtomicInteger();
+        this.compacting = new AtomicBoolean();
+        this.decided = Collections.synchronizedMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > maxTraces;
+            }
+        });
+        this.bufferedSpans = new AtomicInteger();
+        this.droppedSpans = new LongAdder();
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        delegate.onStart(parentContext, span);
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return delegate.isStartRequired();
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (!span.getSpanContext().isSampled()) {
+            delegate.onEnd(span);
+            return;
+        }
+        String traceId = span.getSpanContext().getTraceId();
+        Boolean keep = decided.get(traceId);
+        if (keep != null) {
+            // The span ended after the decision was made
+            if (keep) {
+                delegate.onEnd(span);
+            } else {
+                droppedSpans.increment();
+            }
+            return;
+        }
+        boolean created = false;
+        Trace trace = pending.get(traceId);
+        if (trace == null) {
+            Trace newTrace = new Trace();
+            trace = pending.putIfAbsent(traceId, newTrace);
+            if (trace == null) {
+                trace = newTrace;
+                created = true;
+                pendingIds.add(traceId);
+                pendingIdsSize.incrementAndGet();
+            }
+        }
+        boolean localRoot = isLocalRoot(span);
+        synchronized (trace) {
+            if (created && trace.state == State.PENDING) {
+                // The trace may have been decided and removed concurrently, before this trace was created
+                keep = decided.get(traceId);
+                if (keep != null) {
+                    if (keep) {
+                        keep(traceId, trace);
+                    } else {
+                        drop(traceId, trace);
+                    }
+                }
+            }
+            switch (trace.state) {
+                case KEEP:
+                    delegate.onEnd(span);
+                    break;
+                case DROP:
+                    droppedSpans.increment();
+                    break;
+                default:
+                    if (matches(span, localRoot) || (localRoot && ratio > 0.0d
+                            && ThreadLocalRandom.current().nextDouble() < ratio)) {
+                        keep(traceId, trace);
+                        delegate.onEnd(span);
+                    } else if (localRoot) {
+                        drop(traceId, trace);
+                        droppedSpans.increment();
+                    } else {
+                        trace.spans.add(span);
+                        bufferedSpans.incrementAndGet();
+                    }
+                    break;
+            }
+        }
+        evictIfNeeded();
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        for (Map.Entry<String, Trace> e : pending.entrySet()) {
+            Trace trace = e.getValue();
+            synchronized (trace) {
+                if (trace.state == State.PENDING) {
+                    drop(e.getKey(), trace);
+                }
+            }
+        }
+        pending.clear();
+        pendingIds.clear();
+        pendingIdsSize.set(0);
+        decided.clear();
+        return delegate.shutdown();
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        // The undecided traces are not flushed
+        return delegate.forceFlush();
+    }
+
+    /**
+     *
+     * @return the number of spans that were dropped, either because the trace was not kept or because a limit was
+     *         exceeded
+     */
+    public long getDroppedSpans() {
+        return droppedSpans.sum();
+    }
+
+    /**
+     *
+     * @return the number of spans waiting for the sampling decision
+     */
+    public int getBufferedSpans() {
+        return bufferedSpans.get();
+    }
+
+    /**
+     *
+     * @return the number of traces waiting for the sampling decision
+     */
+    public int getPendingTraces() {
+        return pending.size();
+    }
+
+    private boolean matches(ReadableSpan span, boolean localRoot) {
+        if (localRoot && latencyThresholdNanos >= 0 && span.getLatencyNanos() >= latencyThresholdNanos) {
+            return true;
+        }
+        for (ExpectedAttribute attribute : attributes) {
+            if (attribute.matches(span)) {
+                return true;
+            }
+        }
+        // ReadableSpan has no accessor for the status, a snapshot is only taken if the errors are kept
+        return keepErrors && span.toSpanData().getStatus().getStatusCode() == StatusCode.ERROR;
+    }
+
+    // Must be called while holding the lock of the trace
+    private void keep(String traceId, Trace trace) {
+        trace.state = State.KEEP;
+        decided.put(traceId, Boolean.TRUE);
+        pending.remove(traceId, trace);
+        List<ReadableSpan> spans = trace.spans;
+        trace.spans = null;
+        bufferedSpans.addAndGet(-spans.size());
+        for (ReadableSpan buffered : spans) {
+            delegate.onEnd(buffered);
+        }
+    }
+
+    // Must be called while holding the lock of the trace
+    private void drop(String traceId, Trace trace) {
+        decided.put(traceId, Boolean.FALSE);
+        pending.remove(traceId, trace);
+        discard(trace);
+    }
+
+    // Must be called while holding the lock of the trace
+    private void discard(Trace trace) {
+        trace.state = State.DROP;
+        List<ReadableSpan> spans = trace.spans;
+        trace.spans = null;
+        bufferedSpans.addAndGet(-spans.size());
+        droppedSpans.add(spans.size());
+    }
+
+    private void evictIfNeeded() {
+        while (pending.size() > maxTraces || bufferedSpans.get() > maxSpans) {
+            String traceId = pendingIds.poll();
+            if (traceId == null) {
+                return;
+            }
+            pendingIdsSize.decrementAndGet();
+            // The id of a decided trace is not in the map anymore and is simply skipped
+            Trace trace = pending.remove(traceId);
+            if (trace != null) {
+                synchronized (trace) {
+                    if (trace.state == State.PENDING) {
+                        // The decision is not remembered, the remaining spans are sampled on their own
+                        log.debugf("Trace %s dropped before its local root span ended", traceId);
+                        discard(trace);
+                    }
+                }
+            }
+        }
+        if (pendingIdsSize.get() > 2 * maxTraces && compacting.compareAndSet(false, true)) {
+            // Most of the queued ids belong to decided traces
+            try {
+                int removed = 0;
+                for (Iterator<String> it = pendingIds.iterator(); it.hasNext();) {
+                    if (!pending.containsKey(it.next())) {
+                        it.remove();
+                        removed++;
+                    }
+                }
+                pendingIdsSize.addAndGet(-removed);
+            } finally {
+                compacting.set(false);
+            }
+        }
+    }
+
+    private static boolean isLocalRoot(ReadableSpan span) {
+        SpanContext parent = span.getParentSpanContext();
+        return !parent.isValid() || parent.isRemote();
+    }
+
+    private enum State {
+        PENDING,
+        KEEP,
+        DROP
+    }
+
+    private record ExpectedAttribute(List<AttributeKey<?>> keys, String value) {
+
+        static List<ExpectedAttribute> of(Map<String, String> attributes) {
+            List<ExpectedAttribute> ret = new ArrayList<>(attributes.size());
+            for (Map.Entry<String, String> e : attributes.entrySet()) {
+                String name = e.getKey();
+                // The attribute lookup is typed, the configured value is compared with the value of any type
+                ret.add(new ExpectedAttribute(List.of(AttributeKey.stringKey(name), AttributeKey.longKey(name),
+                        AttributeKey.booleanKey(name), AttributeKey.doubleKey(name)), e.getValue()));
+            }
+            return List.copyOf(ret);
+        }
+
+        boolean matches(ReadableSpan span) {
+            for (AttributeKey<?> key : keys) {
+                Object actual = span.getAttribute(key);
+                if (actual != null && value.equals(String.valueOf(actual))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Trace {
+
+        State state = State.PENDING;
+        List<ReadableSpan> spans = new ArrayList<>();
+
+    }
+
+}
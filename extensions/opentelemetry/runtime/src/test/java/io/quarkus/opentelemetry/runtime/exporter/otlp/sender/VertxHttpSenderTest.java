@@ -0,0 +1,106 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.sender;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.exporter.internal.http.HttpSender;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+
+class VertxHttpSenderTest {
+
+    private static final byte[] PAYLOAD = "spans".repeat(1000).getBytes(StandardCharsets.UTF_8);
+
+    private Vertx vertx;
+    private HttpServer server;
+    private List<byte[]> received;
+    private AtomicInteger requests;
+
+    @BeforeEach
+    void start() {
+        vertx = Vertx.vertx();
+        received = new CopyOnWriteArrayList<>();
+        requests = new AtomicInteger();
+    }
+
+    @AfterEach
+    void stop() {
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    @Test
+    void testRetryResendsSamePayload() throws Exception {
+        VertxHttpSender sender = sender(request -> request.body().onSuccess(body -> {
+            received.add(body.getBytes());
+            // the first attempt fails with a recoverable error
+            request.response().setStatusCode(requests.incrementAndGet() == 1 ? 503 : 200).end();
+        }));
+
+        assertEquals(200, send(sender).get(10, TimeUnit.SECONDS).statusCode());
+        assertEquals(2, received.size());
+        assertArrayEquals(PAYLOAD, received.get(0));
+        assertArrayEquals(PAYLOAD, received.get(1));
+    }
+
+    @Test
+    void testEarlyErrorResponse() throws Exception {
+        VertxHttpSender sender = sender(request -> {
+            if (requests.incrementAndGet() == 1) {
+                // respond before the payload is read
+                request.response().setStatusCode(400).end();
+            } else {
+                request.body().onSuccess(body -> {
+                    received.add(body.getBytes());
+                    request.response().setStatusCode(200).end();
+                });
+            }
+        });
+
+        assertEquals(400, send(sender).get(10, TimeUnit.SECONDS).statusCode());
+        assertEquals(200, send(sender).get(10, TimeUnit.SECONDS).statusCode());
+        assertEquals(1, received.size());
+        assertArrayEquals(PAYLOAD, received.get(0));
+    }
+
+    private VertxHttpSender sender(Handler<HttpServerRequest> handler) {
+        server = vertx.createHttpServer().requestHandler(handler);
+        server.listen(0).toCompletionStage().toCompletableFuture().join();
+        return new VertxHttpSender(URI.create("http://localhost:" + server.actualPort()), VertxHttpSender.TRACES_PATH,
+                false, Duration.ofSeconds(10), Map.of(), "application/x-protobuf", options -> {
+                }, vertx);
+    }
+
+    private static CompletableFuture<HttpSender.Response> send(VertxHttpSender sender) throws IOException {
+        Marshaler marshaler = mock(Marshaler.class);
+        doAnswer(invocation -> {
+            invocation.getArgument(0, OutputStream.class).write(PAYLOAD);
+            return null;
+        }).when(marshaler).writeBinaryTo(any());
+        CompletableFuture<HttpSender.Response> result = new CompletableFuture<>();
+        sender.send(marshaler, PAYLOAD.length, result::complete, result::completeExceptionally);
+        return result;
+    }
+
+}
@@ -0,0 +1,173 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+public class TailSamplingSpanProcessorTest {
+
+    @Test
+    public void testKeepErrorsAndAttributes() {
+        CollectingSpanProcessor collector = new CollectingSpanProcessor();
+        TailSamplingSpanProcessor processor = new TailSamplingSpanProcessor(collector, null, true,
+                Map.of("http.route", "/orders"), 0.0d, 16, 16);
+        Tracer tracer = SdkTracerProvider.builder().addSpanProcessor(processor).build().get("test");
+
+        // Dropped, no rule matches
+        trace(tracer, child -> {
+        });
+        assertEquals(0, collector.ended.size());
+        assertEquals(2, processor.getDroppedSpans());
+
+        // Kept, the child span has the error status
+        trace(tracer, child -> child.setStatus(StatusCode.ERROR));
+        assertEquals(2, collector.ended.size());
+
+        // Kept, the child span has a matching attribute
+        trace(tracer, child -> child.setAttribute("http.route", "/orders"));
+        assertEquals(4, collector.ended.size());
+        assertEquals(0, processor.getBufferedSpans());
+    }
+
+    @Test
+    public void testLatencyThreshold() throws InterruptedException {
+        CollectingSpanProcessor collector = new CollectingSpanProcessor();
+        TailSamplingSpanProcessor processor = new TailSamplingSpanProcessor(collector, Duration.ofMillis(20), false,
+                Map.of(), 0.0d, 16, 16);
+        Tracer tracer = SdkTracerProvider.builder().addSpanProcessor(processor).build().get("test");
+
+        trace(tracer, child -> {
+        });
+        assertEquals(0, collector.ended.size());
+
+        Span root = tracer.spanBuilder("root").startSpan();
+        tracer.spanBuilder("child").setParent(Context.root().with(root)).startSpan().end();
+        assertEquals(1, processor.getBufferedSpans());
+        Thread.sleep(30);
+        root.end();
+        assertEquals(2, collector.ended.size());
+        assertEquals(0, processor.getBufferedSpans());
+    }
+
+    @Test
+    public void testMaxSpans() {
+        CollectingSpanProcessor collector = new CollectingSpanProcessor();
+        TailSamplingSpanProcessor processor = new TailSamplingSpanProcessor(collector, null, true, Map.of(), 0.0d, 16,
+                2);
+        Tracer tracer = SdkTracerProvider.builder().addSpanProcessor(processor).build().get("test");
+
+        Span root = tracer.spanBuilder("root").startSpan();
+        for (int i = 0; i < 3; i++) {
+            tracer.spanBuilder("child").setParent(Context.root().with(root)).startSpan().end();
+        }
+        // The trace exceeded the limit and was dropped before its local root span ended
+        assertEquals(0, processor.getBufferedSpans());
+        assertEquals(3, processor.getDroppedSpans());
+        // The trace is no longer tracked, the local root span is sampled on its own
+        root.setStatus(StatusCode.ERROR);
+        root.end();
+        assertEquals(1, collector.ended.size());
+    }
+
+    @Test
+    public void testDecidedTracesDoNotEvictPendingTraces() {
+        CollectingSpanProcessor collector = new CollectingSpanProcessor();
+        TailSamplingSpanProcessor processor = new TailSamplingSpanProcessor(collector, null, true, Map.of(), 0.0d, 2,
+                16);
+        Tracer tracer = SdkTracerProvider.builder().addSpanProcessor(processor).build().get("test");
+
+        Span slow = tracer.spanBuilder("root").startSpan();
+        tracer.spanBuilder("child").setParent(Context.root().with(slow)).startSpan().end();
+        // The decided traces are not tracked anymore and must not evict the pending one
+        for (int i = 0; i < 10; i++) {
+            trace(tracer, child -> {
+            });
+        }
+        assertEquals(1, processor.getPendingTraces());
+        assertEquals(1, processor.getBufferedSpans());
+        assertEquals(20, processor.getDroppedSpans());
+
+        slow.setStatus(StatusCode.ERROR);
+        slow.end();
+        assertEquals(2, collector.ended.size());
+        assertEquals(0, processor.getPendingTraces());
+        assertEquals(0, processor.getBufferedSpans());
+    }
+
+    @Test
+    public void testLateSpansFollowDecision() {
+        CollectingSpanProcessor collector = new CollectingSpanProcessor();
+        TailSamplingSpanProcessor processor = new TailSamplingSpanProcessor(collector, null, true, Map.of(), 0.0d, 16,
+                16);
+        Tracer tracer = SdkTracerProvider.builder().addSpanProcessor(processor).build().get("test");
+
+        Span kept = tracer.spanBuilder("root").startSpan();
+        Span keptChild = tracer.spanBuilder("child").setParent(Context.root().with(kept)).startSpan();
+        kept.setStatus(StatusCode.ERROR);
+        kept.end();
+        keptChild.end();
+        assertEquals(2, collector.ended.size());
+
+        Span dropped = tracer.spanBuilder("root").startSpan();
+        Span droppedChild = tracer.spanBuilder("child").setParent(Context.root().with(dropped)).startSpan();
+        dropped.end();
+        droppedChild.end();
+        assertEquals(2, collector.ended.size());
+        assertEquals(2, processor.getDroppedSpans());
+        assertEquals(0, processor.getPendingTraces());
+    }
+
+    private static void trace(Tracer tracer, Consumer<Span> childCustomizer) {
+        Span root = tracer.spanBuilder("root").startSpan();
+        Span child = tracer.spanBuilder("child").setParent(Context.root().with(root)).startSpan();
+        childCustomizer.accept(child);
+        child.end();
+        root.end();
+    }
+
+    static class CollectingSpanProcessor implements SpanProcessor {
+
+        final List<ReadableSpan> ended = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onStart(Context parentContext, ReadWriteSpan span) {
+        }
+
+        @Override
+        public boolean isStartRequired() {
+            return false;
+        }
+
+        @Override
+        public void onEnd(ReadableSpan span) {
+            ended.add(span);
+        }
+
+        @Override
+        public boolean isEndRequired() {
+            return true;
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+
+}
@@ -1,6 +1,8 @@
 package io.quarkus.panache.hibernate.common.runtime;
 
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import io.quarkus.panache.common.Sort;
@@ -29,6 +31,19 @@ public class PanacheJpaUtil {
     static final Pattern WITH_PATTERN = Pattern.compile("^\\s*WITH\\s+.*",
             Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
 
+    // the max number of expanded queries kept in the cache
+    static final int QUERY_CACHE_SIZE = 2048;
+
+    // (kind, entity class name, shorthand query, single param) -> expanded query
+    // The class name is used so that the cache does not retain the application class loader in dev mode
+    // Access ordered, so that the least recently used query is evicted; guarded by itself
+    private static final Map<QueryKey, String> QUERY_CACHE = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<QueryKey, String> eldest) {
+            return size() > QUERY_CACHE_SIZE;
+        }
+    };
+
     public static String getEntityName(Class<?> entityClass) {
         // FIXME: not true?
         // Escape the entity name just in case some keywords are used
@@ -58,7 +73,10 @@ public static String createFindQuery(Class<?> entityClass, String query, int par
         if (query == null) {
             return "FROM " + getEntityName(entityClass);
         }
+        return cachedQuery(QueryKind.FIND, entityClass, query, paramCount);
+    }
 
+    private static String expandFindQuery(Class<?> entityClass, String query, int paramCount) {
         String trimmedForAnalysis = trimForAnalysis(query);
         if (trimmedForAnalysis.isEmpty()) {
             return "FROM " + getEntityName(entityClass);
@@ -87,9 +105,13 @@ public static boolean isNamedQuery(String query) {
     }
 
     public static String createQueryForCount(Class<?> entityClass, String query, int paramCount) {
-        if (query == null || query.isEmpty())
+        if (query == null || query.isEmpty()) {
             return "FROM " + getEntityName(entityClass);
+        }
+        return cachedQuery(QueryKind.COUNT, entityClass, query, paramCount);
+    }
 
+    private static String expandQueryForCount(Class<?> entityClass, String query, int paramCount) {
         String trimmedForAnalysis = trimForAnalysis(query);
         if (trimmedForAnalysis.isEmpty())
             return "FROM " + getEntityName(entityClass);
@@ -117,7 +139,10 @@ public static String createUpdateQuery(Class<?> entityClass, String query, int p
         if (query == null) {
             throw new PanacheQueryException("Query string cannot be null");
         }
+        return cachedQuery(QueryKind.UPDATE, entityClass, query, paramCount);
+    }
 
+    private static String expandUpdateQuery(Class<?> entityClass, String query, int paramCount) {
         String trimmedForAnalysis = trimForAnalysis(query);
         if (trimmedForAnalysis.isEmpty()) {
             throw new PanacheQueryException("Query string cannot be empty");
@@ -147,9 +172,13 @@ public static String createUpdateQuery(Class<?> entityClass, String query, int p
     }
 
     public static String createDeleteQuery(Class<?> entityClass, String query, int paramCount) {
-        if (query == null)
+        if (query == null) {
             return "DELETE FROM " + getEntityName(entityClass);
+        }
+        return cachedQuery(QueryKind.DELETE, entityClass, query, paramCount);
+    }
 
+    private static String expandDeleteQuery(Class<?> entityClass, String query, int paramCount) {
         String trimmedForAnalysis = trimForAnalysis(query);
         if (trimmedForAnalysis.isEmpty())
             return "DELETE FROM " + getEntityName(entityClass);
@@ -170,6 +199,48 @@ public static String createDeleteQuery(Class<?> entityClass, String query, int p
         return "DELETE FROM " + getEntityName(entityClass) + " WHERE " + query;
     }
 
+    /**
+     * The expansion of a shorthand query only depends on the entity class, the query string and whether there is exactly one
+     * parameter. Most applications use a limited set of constant query strings, so the expanded queries are cached. The cache
+     * holds at most {@link #QUERY_CACHE_SIZE} entries and evicts the least recently used one, so that the queries an
+     * application builds dynamically do not keep its recurring queries out of the cache.
+     */
+    private static String cachedQuery(QueryKind kind, Class<?> entityClass, String query, int paramCount) {
+        QueryKey key = new QueryKey(kind, entityClass.getName(), query, paramCount == 1);
+        String expanded;
+        synchronized (QUERY_CACHE) {
+            expanded = QUERY_CACHE.get(key);
+        }
+        if (expanded == null) {
+            expanded = switch (kind) {
+                case FIND -> expandFindQuery(entityClass, query, paramCount);
+                case COUNT -> expandQueryForCount(entityClass, query, paramCount);
+                case UPDATE -> expandUpdateQuery(entityClass, query, paramCount);
+                case DELETE -> expandDeleteQuery(entityClass, query, paramCount);
+            };
+            synchronized (QUERY_CACHE) {
+                QUERY_CACHE.put(key, expanded);
+            }
+        }
+        return expanded;
+    }
+
+    static int queryCacheSize() {
+        synchronized (QUERY_CACHE) {
+            return QUERY_CACHE.size();
+        }
+    }
+
+    private enum QueryKind {
+        FIND,
+        COUNT,
+        UPDATE,
+        DELETE
+    }
+
+    private record QueryKey(QueryKind kind, String entityName, String query, boolean singleParam) {
+    }
+
     public static String toOrderBy(Sort sort) {
         if (sort == null) {
             return null;
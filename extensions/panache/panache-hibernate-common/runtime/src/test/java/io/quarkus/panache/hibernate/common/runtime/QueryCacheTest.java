@@ -0,0 +1,43 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+public class QueryCacheTest {
+
+    @Test
+    public void testExpandedQueries() {
+        String entity = PanacheJpaUtil.getEntityName(QueryCacheTest.class);
+        assertEquals("FROM " + entity + " WHERE name = ?1", PanacheJpaUtil.createFindQuery(QueryCacheTest.class, "name", 1));
+        // The single parameter shorthand depends on the number of parameters
+        assertEquals("FROM " + entity + " WHERE name", PanacheJpaUtil.createFindQuery(QueryCacheTest.class, "name", 2));
+        assertEquals("FROM " + entity + " WHERE name = ?1",
+                PanacheJpaUtil.createQueryForCount(QueryCacheTest.class, "name", 1));
+        assertEquals("UPDATE " + entity + " SET name = ?1", PanacheJpaUtil.createUpdateQuery(QueryCacheTest.class, "name", 1));
+        assertEquals("DELETE FROM " + entity + " WHERE name = ?1",
+                PanacheJpaUtil.createDeleteQuery(QueryCacheTest.class, "name", 1));
+        assertEquals("FROM " + PanacheJpaUtil.getEntityName(String.class) + " WHERE name = ?1",
+                PanacheJpaUtil.createFindQuery(String.class, "name", 1));
+    }
+
+    @Test
+    public void testCache() {
+        String query = PanacheJpaUtil.createFindQuery(QueryCacheTest.class, "order by name", 0);
+        assertSame(query, PanacheJpaUtil.createFindQuery(QueryCacheTest.class, "order by name", 0));
+
+        for (int i = 0; i < PanacheJpaUtil.QUERY_CACHE_SIZE * 2; i++) {
+            PanacheJpaUtil.createFindQuery(QueryCacheTest.class, "name" + i + " = ?1", 1);
+        }
+        assertEquals(PanacheJpaUtil.QUERY_CACHE_SIZE, PanacheJpaUtil.queryCacheSize());
+        // The least recently used queries were evicted, a recurring query is cached again
+        String recurring = PanacheJpaUtil.createFindQuery(QueryCacheTest.class, "order by name", 0);
+        assertEquals(query, recurring);
+        assertNotSame(query, recurring);
+        assertSame(recurring, PanacheJpaUtil.createFindQuery(QueryCacheTest.class, "order by name", 0));
+        assertEquals(PanacheJpaUtil.QUERY_CACHE_SIZE, PanacheJpaUtil.queryCacheSize());
+    }
+
+}
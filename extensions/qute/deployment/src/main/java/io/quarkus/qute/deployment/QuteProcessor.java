@@ -138,6 +138,7 @@
 import io.quarkus.qute.deployment.TypeInfos.Info;
 import io.quarkus.qute.deployment.TypeInfos.TypeInfo;
 import io.quarkus.qute.deployment.Types.AssignabilityCheck;
+import io.quarkus.qute.generator.CompiledTemplateGenerator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.NamespaceResolverCreator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.NamespaceResolverCreator.ResolveCreator;
@@ -2618,16 +2619,87 @@ void initialize(BuildProducer<SyntheticBeanBuildItem> syntheticBeans, QuteRecord
                 .done());
     }
 
+    @BuildStep
+    void generateCompiledTemplates(QuteConfig config, BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BeanArchiveIndexBuildItem beanArchiveIndex,
+            TemplatesAnalysisBuildItem templatesAnalysis,
+            List<CheckedTemplateBuildItem> checkedTemplates,
+            List<TemplateExtensionMethodBuildItem> templateExtensionMethods,
+            List<IncorrectExpressionBuildItem> incorrectExpressions,
+            BuildProducer<CompiledTemplateBuildItem> compiledTemplates,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        if (!config.compileCheckedTemplates() || !incorrectExpressions.isEmpty()) {
+            return;
+        }
+        if (!LoopSectionHelper.Factory.ITERATION_METADATA_PREFIX_ALIAS_UNDERSCORE.equals(config.iterationMetadataPrefix())) {
+            // The generated classes only recognize the default iteration metadata prefix
+            LOGGER.debugf("Checked templates not compiled - custom iteration metadata prefix used: %s",
+                    config.iterationMetadataPrefix());
+            return;
+        }
+
+        // A user value resolver may take precedence over the members of any class
+        for (ClassInfo valueResolver : beanArchiveIndex.getIndex().getAllKnownImplementors(Names.VALUE_RESOLVER)) {
+            if (!valueResolver.name().toString().startsWith("io.quarkus.qute.")) {
+                LOGGER.debugf("Checked templates not compiled - value resolver found: %s", valueResolver.name());
+                return;
+            }
+        }
+
+        // A template extension method that matches a property takes precedence over the class member
+        List<TemplateExtensionMethodBuildItem> matchingExtensionMethods = templateExtensionMethods.stream()
+                .filter(m -> !m.hasNamespace()).collect(Collectors.toList());
+        Set<DotName> extendedTypes = matchingExtensionMethods.stream().map(m -> m.getMatchType().name())
+                .collect(Collectors.toSet());
+        Predicate<String> excludedProperties = new Predicate<String>() {
+            @Override
+            public boolean test(String name) {
+                for (TemplateExtensionMethodBuildItem extensionMethod : matchingExtensionMethods) {
+                    if (extensionMethod.matchesName(name)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        };
+        CompiledTemplateGenerator generator = new CompiledTemplateGenerator(
+                new GeneratedClassGizmoAdaptor(generatedClasses, true), beanArchiveIndex.getIndex(), excludedProperties,
+                extendedTypes::contains);
+
+        for (CheckedTemplateBuildItem checkedTemplate : checkedTemplates) {
+            if (checkedTemplate.isFragment() || checkedTemplate.recordClass != null) {
+                continue;
+            }
+            for (TemplateAnalysis analysis : templatesAnalysis.getAnalysis()) {
+                // Compile all variants of the template, e.g. items.html and items.txt
+                if (analysis.id != null
+                        || !checkedTemplate.templateId.equals(templatePathWithoutSuffix(analysis.path, config))) {
+                    continue;
+                }
+                String generatedClass = generator.generate(checkedTemplate.method, analysis.getTemplate());
+                if (generatedClass != null) {
+                    compiledTemplates.produce(new CompiledTemplateBuildItem(generatedClass));
+                    reflectiveClass.produce(ReflectiveClassBuildItem.builder(generatedClass).build());
+                }
+            }
+        }
+        LOGGER.debugf("Compiled %s checked templates: %s", generator.getGeneratedTypes().size(),
+                generator.getGeneratedTypes());
+    }
+
     @BuildStep
     @Record(value = STATIC_INIT)
     void initializeGeneratedClasses(BeanContainerBuildItem beanContainer, QuteRecorder recorder,
             List<GeneratedValueResolverBuildItem> generatedValueResolvers,
-            List<TemplateGlobalProviderBuildItem> templateInitializers) {
+            List<TemplateGlobalProviderBuildItem> templateInitializers,
+            List<CompiledTemplateBuildItem> compiledTemplates) {
         // The generated classes must be initialized after the template expressions are validated in order to break the cycle in the build chain
         recorder.initializeGeneratedClasses(generatedValueResolvers.stream()
                 .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()),
                 templateInitializers.stream()
-                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()));
+                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()),
+                compiledTemplates.stream()
+                        .map(CompiledTemplateBuildItem::getClassName).collect(Collectors.toList()));
     }
 
     @BuildStep
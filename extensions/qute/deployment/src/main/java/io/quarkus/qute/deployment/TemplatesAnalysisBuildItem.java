@@ -62,6 +62,15 @@ public static final class TemplateAnalysis {
             this.template = template;
         }
 
+        /**
+         *
+         * @return the parsed template
+         * @see io.quarkus.qute.generator.CompiledTemplateGenerator
+         */
+        Template getTemplate() {
+            return template;
+        }
+
         /**
          *
          * @return the child nodes of the root node
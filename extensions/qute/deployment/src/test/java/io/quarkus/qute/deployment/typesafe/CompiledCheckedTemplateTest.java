@@ -0,0 +1,52 @@
+package io.quarkus.qute.deployment.typesafe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.CheckedTemplate;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CompiledCheckedTemplateTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Templates.class, Item.class, OtherItem.class)
+                    .addAsResource(new StringAsset(
+                            "{#for item in items}{item.name}:{item.primitiveId}{#if item.otherItems}!{/if};{#else}none{/for}"),
+                            "templates/CompiledCheckedTemplateTest/items.txt")
+                    .addAsResource(new StringAsset("{name.substring(1)}"),
+                            "templates/CompiledCheckedTemplateTest/substring.txt"))
+            .overrideConfigKey("quarkus.qute.compile-checked-templates", "true");
+
+    @Test
+    public void testCompiledTemplate() throws ClassNotFoundException {
+        assertEquals("foo:9!;bar:9;",
+                Templates.items(List.of(new Item("foo", new OtherItem()), new Item("bar"))).render());
+        assertEquals("none", Templates.items(List.of()).render());
+        assertEquals("oo", Templates.substring("foo").render());
+
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        cl.loadClass(CompiledCheckedTemplateTest.class.getName() + "$_Templates_items_txt_CompiledTemplate");
+        // Virtual methods are not supported
+        assertThrows(ClassNotFoundException.class, () -> cl
+                .loadClass(CompiledCheckedTemplateTest.class.getName() + "$_Templates_substring_txt_CompiledTemplate"));
+    }
+
+    @CheckedTemplate
+    static class Templates {
+
+        static native TemplateInstance items(List<Item> items);
+
+        static native TemplateInstance substring(String name);
+
+    }
+
+}
@@ -89,6 +89,18 @@ public interface QuteConfig {
     @WithDefault("UTF-8")
     Charset defaultCharset();
 
+    /**
+     * If set to {@code true} then the type-safe templates, i.e. the templates declared by {@code @CheckedTemplate} methods,
+     * are compiled into Java classes during the build if possible. A compiled template writes the output directly and falls
+     * back to the regular rendering if a value is asynchronous, e.g. a {@code Uni}, or cannot be resolved.
+     * <p>
+     * A template can be compiled if it only contains text, output expressions that consist of parameters and
+     * properties/getters (no virtual methods and namespaces), {@code #if} sections with a single operand and {@code #for}
+     * sections that iterate over a {@code java.lang.Iterable}, e.g. a {@code java.util.List}.
+     */
+    @WithDefault("false")
+    boolean compileCheckedTemplates();
+
     /**
      * Development mode configuration.
      */
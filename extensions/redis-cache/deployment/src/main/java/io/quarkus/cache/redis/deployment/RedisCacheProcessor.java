@@ -2,6 +2,7 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
+import static io.quarkus.runtime.metrics.MetricsFactory.MICROMETER;
 import static org.jboss.jandex.AnnotationTarget.Kind.METHOD;
 
 import java.util.Collections;
@@ -35,6 +36,7 @@
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.deployment.types.TypeParser;
 import io.quarkus.redis.deployment.client.RequestedRedisClientBuildItem;
 import io.quarkus.redis.runtime.client.config.RedisConfig;
@@ -48,8 +50,13 @@ public class RedisCacheProcessor {
 
     @BuildStep
     @Record(RUNTIME_INIT)
-    CacheManagerInfoBuildItem cacheManagerInfo(RedisCacheBuildRecorder recorder) {
-        return new CacheManagerInfoBuildItem(recorder.getCacheManagerSupplier());
+    void cacheManagerInfos(BuildProducer<CacheManagerInfoBuildItem> producer,
+            Optional<MetricsCapabilityBuildItem> metricsCapability, RedisCacheBuildRecorder recorder) {
+        producer.produce(new CacheManagerInfoBuildItem(recorder.getCacheManagerSupplier()));
+        if (metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MICROMETER)) {
+            // if we include this unconditionally the native image building will fail when Micrometer is not around
+            producer.produce(new CacheManagerInfoBuildItem(recorder.getCacheManagerSupplierWithMicrometerMetrics()));
+        }
     }
 
     @BuildStep
@@ -7,14 +7,17 @@
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
 
+import jakarta.enterprise.util.TypeLiteral;
 import jakarta.inject.Inject;
 
 import org.eclipse.microprofile.config.ConfigProvider;
@@ -105,6 +108,69 @@ public void testPutInTheCache() {
         assertThat(r).isNotNull();
     }
 
+    @Test
+    public void testGetAll() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        assertThat(cache.get("k2", s -> "cached").await().indefinitely()).isEqualTo("cached");
+
+        List<Set<String>> loads = new ArrayList<>();
+        Map<String, String> values = cache.<String, String> getAll(List.of("k1", "k2", "k3"), keys -> {
+            loads.add(keys);
+            Map<String, String> loaded = new HashMap<>();
+            for (String key : keys) {
+                loaded.put(key, "loaded-" + key);
+            }
+            return loaded;
+        }).await().indefinitely();
+
+        assertThat(values).containsExactly(Map.entry("k1", "loaded-k1"), Map.entry("k2", "cached"),
+                Map.entry("k3", "loaded-k3"));
+        assertThat(loads).containsExactly(Set.of("k1", "k3"));
+        assertThatTheKeyDoesExist("cache:foo:k1");
+        assertThatTheKeyDoesExist("cache:foo:k3");
+
+        // everything is cached now
+        values = cache.<String, String> getAllAsync(List.of("k1", "k2", "k3"), keys -> {
+            throw new AssertionError("Unexpected load of " + keys);
+        }).await().indefinitely();
+        assertThat(values).containsExactly(Map.entry("k1", "loaded-k1"), Map.entry("k2", "cached"),
+                Map.entry("k3", "loaded-k3"));
+    }
+
+    @Test
+    public void testGetAllWithoutDefaultType() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        assertThatThrownBy(() -> cache.<String, String> getAll(List.of("k1"), keys -> Map.of()))
+                .isInstanceOf(UnsupportedOperationException.class);
+
+        Map<String, Person> persons = cache.getAll(List.of("p1", "p2"), Person.class, keys -> {
+            Map<String, Person> loaded = new HashMap<>();
+            for (String key : keys) {
+                loaded.put(key, new Person(key, key.toUpperCase()));
+            }
+            return loaded;
+        }).await().indefinitely();
+        assertThat(persons).containsExactly(Map.entry("p1", new Person("p1", "P1")), Map.entry("p2", new Person("p2", "P2")));
+
+        // the values are read back with the type given by the caller
+        Map<String, List<Person>> lists = cache.getAllAsync(List.of("l1"), new TypeLiteral<List<Person>>() {
+        }, keys -> Uni.createFrom().item(Map.of("l1", List.of(new Person("a", "b"))))).await().indefinitely();
+        assertThat(lists).containsExactly(Map.entry("l1", List.of(new Person("a", "b"))));
+        lists = cache.getAllAsync(List.of("l1"), new TypeLiteral<List<Person>>() {
+        }, keys -> {
+            throw new AssertionError("Unexpected load of " + keys);
+        }).await().indefinitely();
+        assertThat(lists.get("l1")).containsExactly(new Person("a", "b"));
+    }
+
     @Test
     public void testExhaustConnectionPool() {
         String redisUrl = ConfigProvider.getConfig().getValue("quarkus.redis.hosts", String.class);
@@ -202,6 +268,26 @@ public void testExpireAfterReadAndWrite() throws InterruptedException {
         await().until(() -> cache.getOrNull(k, String.class).await().indefinitely() == null);
     }
 
+    @Test
+    public void testRefreshAfterWrite() throws InterruptedException {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.refreshAfterWrite = Optional.of(Duration.ofSeconds(1));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        assertThat(cache.get(k, String::toUpperCase).await().indefinitely()).isEqualTo("hello");
+
+        Thread.sleep(1500);
+        // The stale value is returned and reloaded in the background
+        assertThat(cache.get(k, String::toUpperCase).await().indefinitely()).isEqualTo("hello");
+        await().until(() -> cache.getOrNull(k, String.class).await().indefinitely().equals(k.toUpperCase()));
+        var ttl = redis.send(Request.cmd(Command.TTL).arg("cache:foo:" + k)).await().indefinitely();
+        assertThat(ttl.toLong()).isGreaterThan(8);
+    }
+
     @Test
     public void testManualInvalidation() {
         RedisCacheInfo info = new RedisCacheInfo();
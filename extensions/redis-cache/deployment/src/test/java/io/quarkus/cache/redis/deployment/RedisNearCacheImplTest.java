@@ -0,0 +1,120 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.redis.runtime.RedisCacheInfo;
+import io.quarkus.cache.redis.runtime.RedisNearCacheImpl;
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.Request;
+
+class RedisNearCacheImplTest {
+
+    private static final Supplier<Boolean> BLOCKING_ALLOWED = () -> false;
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest();
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    Redis redis;
+
+    @AfterEach
+    void clear() {
+        try {
+            redis.send(Request.cmd(Command.FLUSHALL).arg("SYNC")).await()
+                    .atMost(Duration.ofSeconds(10));
+        } catch (Exception ignored) {
+            // ignored.
+        }
+    }
+
+    @Test
+    public void testLocalHit() {
+        String k = UUID.randomUUID().toString();
+        RedisNearCacheImpl cache = newNearCache("near-local-hit");
+
+        assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        // Remove the entry from Redis behind the back of the near cache - the local value must still be served
+        redis.send(Request.cmd(Command.DEL).arg("cache:near-local-hit:" + k)).await().indefinitely();
+        AtomicInteger loads = new AtomicInteger();
+        assertThat(cache.get(k, s -> "loaded-" + loads.incrementAndGet()).await().indefinitely()).isEqualTo("hello");
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    public void testInvalidationIsPropagated() {
+        String k = UUID.randomUUID().toString();
+        RedisNearCacheImpl node1 = newNearCache("near-invalidation");
+        RedisNearCacheImpl node2 = newNearCache("near-invalidation");
+
+        assertThat(node1.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        assertThat(node2.get(k, s -> "ignored").await().indefinitely()).isEqualTo("hello");
+
+        node1.invalidate(k).await().indefinitely();
+        await().untilAsserted(
+                () -> assertThat(node2.<String, String> getOrNull(k, String.class).await().indefinitely()).isNull());
+        assertThat(node2.get(k, s -> "world").await().indefinitely()).isEqualTo("world");
+        await().untilAsserted(
+                () -> assertThat(node1.get(k, s -> "ignored").await().indefinitely()).isEqualTo("world"));
+    }
+
+    @Test
+    public void testPutIsPropagated() {
+        String k = UUID.randomUUID().toString();
+        RedisNearCacheImpl node1 = newNearCache("near-put");
+        RedisNearCacheImpl node2 = newNearCache("near-put");
+
+        assertThat(node1.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        assertThat(node2.get(k, s -> "ignored").await().indefinitely()).isEqualTo("hello");
+
+        node2.put(k, "world").await().indefinitely();
+        await().untilAsserted(
+                () -> assertThat(node1.get(k, s -> "ignored").await().indefinitely()).isEqualTo("world"));
+    }
+
+    @Test
+    public void testInvalidateAllIsPropagated() {
+        String k1 = UUID.randomUUID().toString();
+        String k2 = UUID.randomUUID().toString();
+        RedisNearCacheImpl node1 = newNearCache("near-invalidate-all");
+        RedisNearCacheImpl node2 = newNearCache("near-invalidate-all");
+
+        node2.get(k1, s -> "one").await().indefinitely();
+        node2.get(k2, s -> "two").await().indefinitely();
+
+        node1.invalidateAll().await().indefinitely();
+        await().untilAsserted(() -> {
+            assertThat(node2.<String, String> getOrNull(k1, String.class).await().indefinitely()).isNull();
+            assertThat(node2.<String, String> getOrNull(k2, String.class).await().indefinitely()).isNull();
+        });
+    }
+
+    private RedisNearCacheImpl newNearCache(String name) {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = name;
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.nearCacheEnabled = true;
+        RedisNearCacheImpl cache = new RedisNearCacheImpl(info, vertx, redis, BLOCKING_ALLOWED, false);
+        await().until(cache::isSubscribed);
+        return cache;
+    }
+}
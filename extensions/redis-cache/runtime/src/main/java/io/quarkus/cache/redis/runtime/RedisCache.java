@@ -1,5 +1,8 @@
 package io.quarkus.cache.redis.runtime;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -13,7 +16,8 @@ public interface RedisCache extends Cache {
     /**
      * When configured, gets the default type of the value stored in the cache.
      * The configured type is used in methods {@link #get(Object, Function)},
-     * {@link #getAsync(Object, Function)}, {@link #getOrDefault(Object, Object)}
+     * {@link #getAsync(Object, Function)}, {@link #getAll(Collection, Function)},
+     * {@link #getAllAsync(Collection, Function)}, {@link #getOrDefault(Object, Object)}
      * and {@link #getOrNull(Object)}.
      *
      * @deprecated should have never been exposed publicly
@@ -76,6 +80,57 @@ public interface RedisCache extends Cache {
      */
     <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> valueLoader);
 
+    /**
+     * Allows retrieving the values of several keys from the Redis cache.
+     *
+     * @param keys the keys
+     * @param clazz the class of the values
+     * @param bulkLoader the loader called once with the keys that have no value stored in the cache
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the cached values, in the iteration order of {@code keys}.
+     */
+    <K, V> Uni<Map<K, V>> getAll(Collection<? extends K> keys, Class<V> clazz, Function<Set<K>, Map<K, V>> bulkLoader);
+
+    /**
+     * Allows retrieving the values of several keys from the Redis cache.
+     *
+     * @param keys the keys
+     * @param type the type of the values
+     * @param bulkLoader the loader called once with the keys that have no value stored in the cache
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the cached values, in the iteration order of {@code keys}.
+     */
+    <K, V> Uni<Map<K, V>> getAll(Collection<? extends K> keys, TypeLiteral<V> type,
+            Function<Set<K>, Map<K, V>> bulkLoader);
+
+    /**
+     * Allows retrieving the values of several keys from the Redis cache.
+     *
+     * @param keys the keys
+     * @param clazz the class of the values
+     * @param bulkLoader the loader called once with the keys that have no value stored in the cache
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the cached values, in the iteration order of {@code keys}.
+     */
+    <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, Class<V> clazz,
+            Function<Set<K>, Uni<Map<K, V>>> bulkLoader);
+
+    /**
+     * Allows retrieving the values of several keys from the Redis cache.
+     *
+     * @param keys the keys
+     * @param type the type of the values
+     * @param bulkLoader the loader called once with the keys that have no value stored in the cache
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the cached values, in the iteration order of {@code keys}.
+     */
+    <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, TypeLiteral<V> type,
+            Function<Set<K>, Uni<Map<K, V>>> bulkLoader);
+
     /**
      * Put a value in the cache.
      *
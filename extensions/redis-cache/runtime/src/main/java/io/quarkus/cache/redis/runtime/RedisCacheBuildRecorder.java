@@ -9,7 +9,12 @@
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.CacheManagerInfo;
+import io.quarkus.cache.CacheManagerInfo.Context;
 import io.quarkus.cache.runtime.CacheManagerImpl;
+import io.quarkus.cache.runtime.CacheRefresher;
+import io.quarkus.cache.runtime.caffeine.metrics.MetricsInitializer;
+import io.quarkus.cache.runtime.caffeine.metrics.MicrometerMetricsInitializer;
+import io.quarkus.cache.runtime.caffeine.metrics.NoOpMetricsInitializer;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 
@@ -31,10 +36,19 @@ public RedisCacheBuildRecorder(RedisCachesBuildTimeConfig buildConfig,
     }
 
     public CacheManagerInfo getCacheManagerSupplier() {
+        return getCacheManagerSupplier(Context.Metrics.NONE, new NoOpMetricsInitializer());
+    }
+
+    public CacheManagerInfo getCacheManagerSupplierWithMicrometerMetrics() {
+        return getCacheManagerSupplier(Context.Metrics.MICROMETER, new MicrometerMetricsInitializer());
+    }
+
+    private CacheManagerInfo getCacheManagerSupplier(Context.Metrics metrics, MetricsInitializer metricsInitializer) {
         return new CacheManagerInfo() {
             @Override
             public boolean supports(Context context) {
-                return context.cacheEnabled() && "redis".equals(context.cacheType()); // TODO: fix constant
+                return context.cacheEnabled() && "redis".equals(context.cacheType()) // TODO: fix constant
+                        && context.metrics() == metrics;
             }
 
             @Override
@@ -57,8 +71,13 @@ public CacheManager get() {
                                             cacheInfo.valueType);
                                 }
 
-                                RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName());
-                                caches.put(cacheInfo.name, cache);
+                                if (cacheInfo.nearCacheEnabled) {
+                                    caches.put(cacheInfo.name, buildNearCache(cacheInfo, metricsInitializer));
+                                } else {
+                                    RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName());
+                                    recordRefreshMetrics(cacheInfo, cache.getRefresher(), metricsInitializer);
+                                    caches.put(cacheInfo.name, cache);
+                                }
                             }
                             return new CacheManagerImpl(caches);
                         }
@@ -68,6 +87,44 @@ public CacheManager get() {
         };
     }
 
+    private RedisNearCacheImpl buildNearCache(RedisCacheInfo cacheInfo, MetricsInitializer metricsInitializer) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debugf("Building near cache [%s] with [maximumSize=%s], [expireAfterWrite=%s] and [metricsEnabled=%s]",
+                    cacheInfo.name, cacheInfo.nearCacheMaximumSize, cacheInfo.nearCacheExpireAfterWrite,
+                    cacheInfo.nearCacheMetricsEnabled);
+        }
+        /*
+         * Metrics will be recorded for the near cache if:
+         * - the application depends on a quarkus-micrometer-registry-* extension
+         * - the metrics are enabled for this near cache from the Quarkus configuration
+         */
+        boolean recordMetrics = metricsInitializer.metricsEnabled() && cacheInfo.nearCacheMetricsEnabled;
+        RedisNearCacheImpl cache = new RedisNearCacheImpl(cacheInfo, buildConfig.clientName(), recordMetrics);
+        if (recordMetrics) {
+            metricsInitializer.recordMetrics(cache.local, cache.remoteStats, cacheInfo.name);
+        } else if (cacheInfo.nearCacheMetricsEnabled) {
+            LOGGER.warnf(
+                    "Metrics won't be recorded for near cache '%s' because the application does not depend on a Micrometer extension.",
+                    cacheInfo.name);
+        }
+        recordRefreshMetrics(cacheInfo, cache.getRefresher(), metricsInitializer);
+        return cache;
+    }
+
+    private void recordRefreshMetrics(RedisCacheInfo cacheInfo, CacheRefresher refresher,
+            MetricsInitializer metricsInitializer) {
+        if (!cacheInfo.metricsEnabled || refresher == null) {
+            return;
+        }
+        if (metricsInitializer.metricsEnabled()) {
+            metricsInitializer.recordRefreshMetrics(refresher, cacheInfo.name);
+        } else {
+            LOGGER.warnf(
+                    "Metrics won't be recorded for cache '%s' because the application does not depend on a Micrometer extension.",
+                    cacheInfo.name);
+        }
+    }
+
     public void setCacheKeyTypes(Map<String, Type> keyTypes) {
         RedisCacheBuildRecorder.keyTypes = keyTypes;
     }
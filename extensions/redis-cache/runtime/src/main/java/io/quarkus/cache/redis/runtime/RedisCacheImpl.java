@@ -4,10 +4,18 @@
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -22,6 +30,7 @@
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CompositeCacheKey;
 import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CacheRefresher;
 import io.quarkus.redis.client.RedisClientName;
 import io.quarkus.redis.runtime.datasource.Marshaller;
 import io.quarkus.runtime.BlockingOperationControl;
@@ -57,13 +66,19 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private final Supplier<Boolean> blockingAllowedSupplier;
 
+    // null if the cache values are never refreshed
+    private final CacheRefresher refresher;
+    // the Redis keys being refreshed by this instance
+    private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
+    private volatile Function<String, Uni<Void>> refreshListener;
+
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName) {
 
         this(cacheInfo, Arc.container().select(Vertx.class).get(), determineRedisClient(redisClientName),
                 BlockingOperationControl::isBlockingAllowed);
     }
 
-    private static Redis determineRedisClient(Optional<String> redisClientName) {
+    static Redis determineRedisClient(Optional<String> redisClientName) {
         ArcContainer container = Arc.container();
         if (redisClientName.isPresent()) {
             return container.select(Redis.class, RedisClientName.Literal.of(redisClientName.get())).get();
@@ -88,6 +103,16 @@ public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Suppli
         }
         this.marshaller.add(CompositeCacheKey.class);
         this.redis = redis;
+
+        if (cacheInfo.refreshAfterWrite.isEmpty()) {
+            this.refresher = null;
+        } else if (cacheInfo.expireAfterWrite.isEmpty() || cacheInfo.expireAfterAccess.isPresent()) {
+            log.warnf("The refresh-after-write configuration of the Redis cache [%s] is ignored because it requires "
+                    + "expire-after-write and cannot be combined with expire-after-access", getName());
+            this.refresher = null;
+        } else {
+            this.refresher = new CacheRefresher(getName(), cacheInfo.refreshAfterWrite.get());
+        }
     }
 
     private static boolean isRecomputableError(Throwable error) {
@@ -110,7 +135,22 @@ public Class<?> getDefaultValueType() {
         return classOfValue instanceof Class<?> ? (Class<?>) classOfValue : null;
     }
 
-    private <K> String encodeKey(K key) {
+    Type getValueType() {
+        return classOfValue;
+    }
+
+    CacheRefresher getRefresher() {
+        return refresher;
+    }
+
+    /**
+     * @param listener called with the Redis key of each value that was refreshed in the background
+     */
+    void setRefreshListener(Function<String, Uni<Void>> listener) {
+        this.refreshListener = listener;
+    }
+
+    <K> String encodeKey(K key) {
         return new String(marshaller.encode(key), StandardCharsets.UTF_8);
     }
 
@@ -143,7 +183,7 @@ public <K, V> Uni<V> get(K key, TypeLiteral<V> type, Function<K, V> valueLoader)
         return get(key, type.getType(), valueLoader);
     }
 
-    private <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
+    <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
         // With optimistic locking:
         // WATCH K
         // val = deserialize(GET K)
@@ -158,17 +198,31 @@ private <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
         // val = deserialize(GET K)
         // if (val == null) => SET K computation.apply(K)
         // else => return val
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        // With refresh-after-write, the remaining TTL of K is read along with val (PTTL K) and val is reloaded in the
+        // background if it is stale
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
         boolean isWorkerThread = blockingAllowedSupplier.get();
+        Supplier<Uni<V>> reload = refresher == null ? null : new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return refresher.load(new Supplier<V>() {
+                    @Override
+                    public V get() {
+                        return valueLoader.apply(key);
+                    }
+                });
+            }
+        };
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
                 Uni<V> startingPoint;
                 if (cacheInfo.useOptimisticLocking) {
                     startingPoint = watch(connection, encodedKey)
-                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey, marshaller));
+                            .chain(new GetFromConnectionSupplier<>(connection, type, actualKey, encodedKey, reload));
                 } else {
-                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey, marshaller).get();
+                    startingPoint = new GetFromConnectionSupplier<>(connection, type, actualKey, encodedKey, reload).get();
                 }
 
                 return startingPoint
@@ -237,17 +291,29 @@ public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> va
         return getAsync(key, type.getType(), valueLoader);
     }
 
-    private <K, V> Uni<V> getAsync(K key, Type type, Function<K, Uni<V>> valueLoader) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+    <K, V> Uni<V> getAsync(K key, Type type, Function<K, Uni<V>> valueLoader) {
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
+        Supplier<Uni<V>> reload = refresher == null ? null : new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return refresher.loadAsync(new Supplier<Uni<? extends V>>() {
+                    @Override
+                    public Uni<V> get() {
+                        return valueLoader.apply(key);
+                    }
+                });
+            }
+        };
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
                 Uni<V> startingPoint;
                 if (cacheInfo.useOptimisticLocking) {
                     startingPoint = watch(connection, encodedKey)
-                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey, marshaller));
+                            .chain(new GetFromConnectionSupplier<>(connection, type, actualKey, encodedKey, reload));
                 } else {
-                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey, marshaller).get();
+                    startingPoint = new GetFromConnectionSupplier<>(connection, type, actualKey, encodedKey, reload).get();
                 }
 
                 return startingPoint
@@ -282,6 +348,167 @@ public Uni<V> apply(RedisConnection connection) {
                 });
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<? extends K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        enforceDefaultType("getAll");
+        return getAll(keys, classOfValue, bulkLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<? extends K> keys, Class<V> clazz,
+            Function<Set<K>, Map<K, V>> bulkLoader) {
+        return getAll(keys, (Type) clazz, bulkLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<? extends K> keys, TypeLiteral<V> type,
+            Function<Set<K>, Map<K, V>> bulkLoader) {
+        return getAll(keys, type.getType(), bulkLoader);
+    }
+
+    <K, V> Uni<Map<K, V>> getAll(Collection<? extends K> keys, Type type, Function<Set<K>, Map<K, V>> bulkLoader) {
+        boolean isWorkerThread = blockingAllowedSupplier.get();
+        return getAllAsync(keys, type, new Function<Set<K>, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(Set<K> missingKeys) {
+                return computeValue(missingKeys, bulkLoader, isWorkerThread);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        enforceDefaultType("getAllAsync");
+        return getAllAsync(keys, classOfValue, bulkLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, Class<V> clazz,
+            Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        return getAllAsync(keys, (Type) clazz, bulkLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, TypeLiteral<V> type,
+            Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        return getAllAsync(keys, type.getType(), bulkLoader);
+    }
+
+    <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, Type type,
+            Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        // All the values are read with a single MGET, the missing values are computed by a single invocation of the bulk
+        // loader and stored with pipelined SET commands in a transaction:
+        // [WATCH K1 K2 K3]
+        // vals = deserialize(MGET K1 K2 K3)
+        // if some vals are null
+        //   MULTI
+        //      SET K1 ...
+        //      SET K3 ...
+        //   EXEC
+        // else
+        //   [UNWATCH]
+        Set<K> uniqueKeys = new LinkedHashSet<>(keys);
+        if (uniqueKeys.isEmpty()) {
+            return Uni.createFrom().item(Map.of());
+        }
+        Map<K, byte[]> encodedKeys = new LinkedHashMap<>();
+        for (K key : uniqueKeys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+            encodedKeys.put(key, marshaller.encode(computeActualKey(encodeKey(key))));
+        }
+        return withConnection(new Function<RedisConnection, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(RedisConnection connection) {
+                Uni<Void> startingPoint;
+                if (cacheInfo.useOptimisticLocking) {
+                    Request watch = Request.cmd(Command.WATCH);
+                    for (byte[] encodedKey : encodedKeys.values()) {
+                        watch.arg(encodedKey);
+                    }
+                    startingPoint = connection.send(watch).replaceWithVoid();
+                } else {
+                    startingPoint = Uni.createFrom().voidItem();
+                }
+                return startingPoint
+                        .chain(new Supplier<Uni<? extends List<V>>>() {
+                            @Override
+                            public Uni<List<V>> get() {
+                                return doGetAll(connection, encodedKeys.values(), type);
+                            }
+                        })
+                        .chain(new Function<List<V>, Uni<? extends Map<K, V>>>() {
+                            @Override
+                            public Uni<Map<K, V>> apply(List<V> cached) {
+                                Map<K, V> result = new LinkedHashMap<>();
+                                Set<K> missingKeys = new LinkedHashSet<>();
+                                int i = 0;
+                                for (K key : uniqueKeys) {
+                                    V value = cached.get(i++);
+                                    if (value == null) {
+                                        missingKeys.add(key);
+                                    }
+                                    result.put(key, value);
+                                }
+                                if (missingKeys.isEmpty()) {
+                                    return unwatch(connection).replaceWith(result);
+                                }
+                                return bulkLoader.apply(missingKeys).chain(new Function<Map<K, V>, Uni<? extends Map<K, V>>>() {
+                                    @Override
+                                    public Uni<Map<K, V>> apply(Map<K, V> loaded) {
+                                        List<Request> requests = new ArrayList<>(missingKeys.size() + 2);
+                                        requests.add(Request.cmd(Command.MULTI));
+                                        for (K key : missingKeys) {
+                                            V value = loaded.get(key);
+                                            result.put(key, value);
+                                            // null values cannot be stored in Redis
+                                            if (value != null) {
+                                                requests.add(setRequest(encodedKeys.get(key), marshaller.encode(value)));
+                                            }
+                                        }
+                                        if (requests.size() == 1) {
+                                            return unwatch(connection).replaceWith(result);
+                                        }
+                                        requests.add(Request.cmd(Command.EXEC));
+                                        return connection.batch(requests).replaceWith(result);
+                                    }
+                                });
+                            }
+                        });
+            }
+        })
+                .onFailure(RedisCacheImpl::isRecomputableError)
+                .recoverWithUni(new Function<Throwable, Uni<? extends Map<K, V>>>() {
+                    @Override
+                    public Uni<Map<K, V>> apply(Throwable e) {
+                        log.warn("Unable to connect to Redis, recomputing cached values", e);
+                        return bulkLoader.apply(uniqueKeys).map(new Function<Map<K, V>, Map<K, V>>() {
+                            @Override
+                            public Map<K, V> apply(Map<K, V> loaded) {
+                                Map<K, V> result = new LinkedHashMap<>();
+                                for (K key : uniqueKeys) {
+                                    result.put(key, loaded.get(key));
+                                }
+                                return result;
+                            }
+                        });
+                    }
+                });
+    }
+
+    private <K, V> Uni<Map<K, V>> computeValue(Set<K> keys, Function<Set<K>, Map<K, V>> bulkLoader,
+            boolean isWorkerThread) {
+        if (isWorkerThread) {
+            return Uni.createFrom().item(new Supplier<Map<K, V>>() {
+                @Override
+                public Map<K, V> get() {
+                    return bulkLoader.apply(keys);
+                }
+            }).runSubscriptionOn(MutinyHelper.blockingExecutor(vertx.getDelegate(), false));
+        } else {
+            return Uni.createFrom().item(bulkLoader.apply(keys));
+        }
+    }
+
     @Override
     public <K, V> Uni<Void> put(K key, V value) {
         return put(key, new StaticSupplier<>(value));
@@ -299,7 +526,7 @@ public Uni<Void> apply(RedisConnection connection) {
         });
     }
 
-    private void enforceDefaultType(String methodName) {
+    void enforceDefaultType(String methodName) {
         if (classOfValue == null) {
             throw new UnsupportedOperationException("Cannot use `" + methodName + "` method without a default type configured. "
                     + "Consider using the `" + methodName
@@ -324,7 +551,7 @@ public <K, V> Uni<V> getOrDefault(K key, TypeLiteral<V> type, V defaultValue) {
         return getOrDefault(key, type.getType(), defaultValue);
     }
 
-    private <K, V> Uni<V> getOrDefault(K key, Type type, V defaultValue) {
+    <K, V> Uni<V> getOrDefault(K key, Type type, V defaultValue) {
         byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
@@ -350,7 +577,7 @@ public <K, V> Uni<V> getOrNull(K key, TypeLiteral<V> type) {
         return getOrNull(key, type.getType());
     }
 
-    private <K, V> Uni<V> getOrNull(K key, Type type) {
+    <K, V> Uni<V> getOrNull(K key, Type type) {
         byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
@@ -449,7 +676,7 @@ private String getKeyPattern() {
         return getKeyPrefix() + ":*";
     }
 
-    private String getKeyPrefix() {
+    String getKeyPrefix() {
         if (cacheInfo.prefix != null) {
             return cacheInfo.prefix.replace("{cache-name}", getName());
         } else {
@@ -501,12 +728,113 @@ public X apply(Response r) {
         }
     }
 
+    private <X> Uni<X> doGetAndRefresh(RedisConnection connection, String actualKey, byte[] encoded, Type clazz,
+            Supplier<Uni<X>> reload) {
+        // refresh-after-write is only enabled with expire-after-write and without expire-after-access, so that the age of
+        // the value can be derived from its remaining TTL
+        return connection.batch(List.of(Request.cmd(Command.GET).arg(encoded), Request.cmd(Command.PTTL).arg(encoded)))
+                .map(new Function<List<Response>, X>() {
+                    @Override
+                    public X apply(List<Response> responses) {
+                        X value = marshaller.decode(clazz, responses.get(0));
+                        if (value != null) {
+                            refreshIfNeeded(actualKey, encoded, responses.get(1).toLong(), reload);
+                        }
+                        return value;
+                    }
+                });
+    }
+
+    /**
+     * Reloads the value of the given key in the background if it is older than the refresh-after-write duration. The reloaded
+     * value is only stored if the key still exists, so that an invalidation is not overwritten.
+     */
+    private <X> void refreshIfNeeded(String actualKey, byte[] encodedKey, long ttlMillis, Supplier<Uni<X>> reload) {
+        if (ttlMillis < 0) {
+            // the key has no TTL (e.g. stored by another application) or it does not exist anymore
+            return;
+        }
+        long age = cacheInfo.expireAfterWrite.get().toNanos() - TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        if (!refresher.isStale(age) || !refreshingKeys.add(actualKey)) {
+            return;
+        }
+        Uni<Void> refresh = reload.get()
+                .chain(new Function<X, Uni<? extends Void>>() {
+                    @Override
+                    public Uni<Void> apply(X value) {
+                        if (value == null) {
+                            throw new IllegalArgumentException("Cannot cache `null` value");
+                        }
+                        byte[] encodedValue = marshaller.encode(value);
+                        return redis.send(setRequest(encodedKey, encodedValue).arg("XX")).replaceWithVoid();
+                    }
+                })
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        Function<String, Uni<Void>> listener = refreshListener;
+                        return listener != null ? listener.apply(actualKey) : Uni.createFrom().voidItem();
+                    }
+                });
+        refresher.refresh(actualKey, refresh, new Runnable() {
+            @Override
+            public void run() {
+                refreshingKeys.remove(actualKey);
+            }
+        });
+    }
+
+    private <X> Uni<List<X>> doGetAll(RedisConnection connection, Collection<byte[]> encodedKeys, Type clazz) {
+        if (cacheInfo.expireAfterAccess.isPresent()) {
+            // MGET does not reset the expiration, the GETEX commands are pipelined instead
+            Duration duration = cacheInfo.expireAfterAccess.get();
+            List<Request> requests = new ArrayList<>(encodedKeys.size());
+            for (byte[] encodedKey : encodedKeys) {
+                requests.add(Request.cmd(Command.GETEX).arg(encodedKey).arg("EX").arg(duration.toSeconds()));
+            }
+            return connection.batch(requests)
+                    .map(new Function<List<Response>, List<X>>() {
+                        @Override
+                        public List<X> apply(List<Response> responses) {
+                            List<X> values = new ArrayList<>(responses.size());
+                            for (Response response : responses) {
+                                values.add(marshaller.decode(clazz, response));
+                            }
+                            return values;
+                        }
+                    });
+        } else {
+            Request request = Request.cmd(Command.MGET);
+            for (byte[] encodedKey : encodedKeys) {
+                request.arg(encodedKey);
+            }
+            return connection.send(request)
+                    .map(new Function<Response, List<X>>() {
+                        @Override
+                        public List<X> apply(Response r) {
+                            return marshaller.decodeAsList(r, clazz);
+                        }
+                    });
+        }
+    }
+
     private Uni<Void> set(RedisConnection connection, byte[] key, byte[] value) {
+        return connection.send(setRequest(key, value)).replaceWithVoid();
+    }
+
+    private Request setRequest(byte[] key, byte[] value) {
         Request request = Request.cmd(Command.SET).arg(key).arg(value);
         if (cacheInfo.expireAfterWrite.isPresent()) {
             request = request.arg("EX").arg(cacheInfo.expireAfterWrite.get().toSeconds());
         }
-        return connection.send(request).replaceWithVoid();
+        return request;
+    }
+
+    private Uni<Void> unwatch(RedisConnection connection) {
+        if (cacheInfo.useOptimisticLocking) {
+            return connection.send(Request.cmd(Command.UNWATCH)).replaceWithVoid();
+        }
+        return Uni.createFrom().voidItem();
     }
 
     private Uni<Void> multi(RedisConnection connection, Uni<Void> operation) {
@@ -542,18 +870,27 @@ public V get() {
     private class GetFromConnectionSupplier<V> implements Supplier<Uni<? extends V>> {
         private final RedisConnection connection;
         private final Type clazz;
+        private final String actualKey;
         private final byte[] encodedKey;
-        private final Marshaller marshaller;
+        private final Supplier<Uni<V>> reload;
 
-        public GetFromConnectionSupplier(RedisConnection connection, Type clazz, byte[] encodedKey, Marshaller marshaller) {
+        /**
+         * @param reload reloads the value in the background if it is stale, {@code null} if refresh-after-write is disabled
+         */
+        public GetFromConnectionSupplier(RedisConnection connection, Type clazz, String actualKey, byte[] encodedKey,
+                Supplier<Uni<V>> reload) {
             this.connection = connection;
             this.clazz = clazz;
+            this.actualKey = actualKey;
             this.encodedKey = encodedKey;
-            this.marshaller = marshaller;
+            this.reload = reload;
         }
 
         @Override
         public Uni<V> get() {
+            if (reload != null) {
+                return doGetAndRefresh(connection, actualKey, encodedKey, clazz, reload);
+            }
             return doGet(connection, encodedKey, clazz, marshaller);
         }
     }
@@ -22,6 +22,11 @@ public class RedisCacheInfo {
      */
     public Optional<Duration> expireAfterWrite = Optional.empty();
 
+    /**
+     * The duration after which an entry is reloaded in the background
+     */
+    public Optional<Duration> refreshAfterWrite = Optional.empty();
+
     /**
      * the key prefix allowing to identify the keys belonging to the cache.
      * If not set, use "cache:$cache-name"
@@ -51,4 +56,29 @@ public class RedisCacheInfo {
      * no {@code COUNT} argument is present.
      */
     public OptionalInt invalidationScanSize = OptionalInt.empty();
+
+    /**
+     * Whether the background refreshes should be recorded.
+     */
+    public boolean metricsEnabled = false;
+
+    /**
+     * Whether a local near cache is kept in front of Redis.
+     */
+    public boolean nearCacheEnabled = false;
+
+    /**
+     * The maximum number of entries of the local near cache.
+     */
+    public long nearCacheMaximumSize = RedisCacheRuntimeConfig.NearCache.DEFAULT_MAXIMUM_SIZE;
+
+    /**
+     * The time to live of the entries of the local near cache.
+     */
+    public Optional<Duration> nearCacheExpireAfterWrite = Optional.empty();
+
+    /**
+     * Whether the local and remote hits and misses of the near cache should be recorded.
+     */
+    public boolean nearCacheMetricsEnabled = false;
 }
@@ -43,6 +43,12 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesRunti
                     cacheInfo.expireAfterWrite = defaultRuntimeConfig.ttl();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = namedRuntimeConfig.refreshAfterWrite();
+                } else if (defaultRuntimeConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = defaultRuntimeConfig.refreshAfterWrite();
+                }
+
                 if (namedRuntimeConfig != null && namedRuntimeConfig.prefix().isPresent()) {
                     cacheInfo.prefix = namedRuntimeConfig.prefix().get();
                 } else if (defaultRuntimeConfig.prefix().isPresent()) {
@@ -67,6 +73,40 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesRunti
                     cacheInfo.invalidationScanSize = defaultRuntimeConfig.invalidationScanSize();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.metricsEnabled().isPresent()) {
+                    cacheInfo.metricsEnabled = namedRuntimeConfig.metricsEnabled().get();
+                } else if (defaultRuntimeConfig.metricsEnabled().isPresent()) {
+                    cacheInfo.metricsEnabled = defaultRuntimeConfig.metricsEnabled().get();
+                }
+
+                RedisCacheRuntimeConfig.NearCache defaultNearCache = defaultRuntimeConfig.nearCache();
+                RedisCacheRuntimeConfig.NearCache namedNearCache = namedRuntimeConfig != null ? namedRuntimeConfig.nearCache()
+                        : null;
+
+                if (namedNearCache != null && namedNearCache.enabled().isPresent()) {
+                    cacheInfo.nearCacheEnabled = namedNearCache.enabled().get();
+                } else if (defaultNearCache.enabled().isPresent()) {
+                    cacheInfo.nearCacheEnabled = defaultNearCache.enabled().get();
+                }
+
+                if (namedNearCache != null && namedNearCache.maximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = namedNearCache.maximumSize().getAsLong();
+                } else if (defaultNearCache.maximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = defaultNearCache.maximumSize().getAsLong();
+                }
+
+                if (namedNearCache != null && namedNearCache.expireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = namedNearCache.expireAfterWrite();
+                } else if (defaultNearCache.expireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = defaultNearCache.expireAfterWrite();
+                }
+
+                if (namedNearCache != null && namedNearCache.metricsEnabled().isPresent()) {
+                    cacheInfo.nearCacheMetricsEnabled = namedNearCache.metricsEnabled().get();
+                } else if (defaultNearCache.metricsEnabled().isPresent()) {
+                    cacheInfo.nearCacheMetricsEnabled = defaultNearCache.metricsEnabled().get();
+                }
+
                 result.add(cacheInfo);
             }
             return result;
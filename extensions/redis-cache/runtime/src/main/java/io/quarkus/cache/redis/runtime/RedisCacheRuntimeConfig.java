@@ -3,6 +3,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 
@@ -28,6 +29,16 @@ public interface RedisCacheRuntimeConfig {
      */
     Optional<Duration> expireAfterAccess();
 
+    /**
+     * Specifies that each entry should be reloaded in the background once a fixed duration has elapsed after the entry's
+     * creation, or the most recent replacement of its value. The stale value keeps being returned until the reloaded value
+     * replaces it, so that the callers don't wait for the computation of the value at every expiration.
+     * <p>
+     * The age of an entry is derived from its remaining time to live, so this setting requires {@code expire-after-write}
+     * and is ignored if {@code expire-after-access} is set. It should be shorter than {@code expire-after-write}.
+     */
+    Optional<Duration> refreshAfterWrite();
+
     /**
      * The key prefix allowing to identify the keys belonging to the cache.
      * If not set, the value "{@code cache:{cache-name}}" will be used. The variable
@@ -49,4 +60,54 @@ public interface RedisCacheRuntimeConfig {
      * no {@code COUNT} argument is present.
      */
     OptionalInt invalidationScanSize();
+
+    /**
+     * Whether the background refreshes should be recorded if the application depends on a Micrometer extension. See
+     * {@code refresh-after-write}.
+     * Default is {@code false}.
+     */
+    Optional<Boolean> metricsEnabled();
+
+    /**
+     * The local near cache kept in front of Redis.
+     */
+    NearCache nearCache();
+
+    @ConfigGroup
+    interface NearCache {
+
+        long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+        /**
+         * Whether a bounded local cache is kept in front of Redis. Cache hits are then served from the heap of the
+         * application.
+         * <p>
+         * The local entries are kept coherent across the application instances with Redis Pub/Sub: the instance that
+         * modifies or invalidates an entry publishes the key and the other instances remove the corresponding local entry.
+         * The local cache is bypassed while the instance is not subscribed to the invalidation channel.
+         * Default is {@code false}.
+         */
+        Optional<Boolean> enabled();
+
+        /**
+         * The maximum number of entries of the local cache.
+         * Default is {@value #DEFAULT_MAXIMUM_SIZE}.
+         */
+        OptionalLong maximumSize();
+
+        /**
+         * Specifies that each local entry should be removed once a fixed duration has elapsed after its creation. This
+         * bounds the staleness of a local entry if an invalidation message is lost.
+         * If not set, the {@code refresh-after-write} value of the Redis cache is used, or else its {@code expire-after-write}
+         * value.
+         */
+        Optional<Duration> expireAfterWrite();
+
+        /**
+         * Whether the local and remote hits and misses should be recorded. The metrics are only recorded if the
+         * application depends on a Micrometer extension.
+         * Default is {@code false}.
+         */
+        Optional<Boolean> metricsEnabled();
+    }
 }
@@ -0,0 +1,599 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.util.TypeLiteral;
+
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CacheRefresher;
+import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands;
+import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+import io.quarkus.runtime.BlockingOperationControl;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisAPI;
+import io.vertx.mutiny.redis.client.Request;
+
+/**
+ * This class is an internal Quarkus cache implementation that keeps a bounded local Caffeine cache in front of a
+ * {@link RedisCacheImpl}. Do not use it explicitly from your Quarkus application.
+ * <p>
+ * The local entries are kept coherent across the application instances with Redis Pub/Sub: every instance that modifies
+ * or invalidates an entry publishes the Redis key on the invalidation channel of the cache and all the other instances
+ * remove the corresponding local entry. The local cache is bypassed if the instance is not subscribed to the channel.
+ */
+public class RedisNearCacheImpl extends AbstractCache implements RedisCache {
+
+    private static final Logger log = Logger.getLogger(RedisNearCacheImpl.class);
+
+    static final String INVALIDATE_ALL = "*";
+    static final char SEPARATOR = '|';
+
+    private final RedisCacheImpl remote;
+    private final Redis redis;
+    private final ReactivePubSubCommands<String> pubSub;
+    private final String channel;
+    private final String instanceId;
+
+    // The local entries are keyed by the Redis keys and store the values wrapped with NullValueConverter
+    final AsyncCache<Object, Object> local;
+    final StatsCounter remoteStats;
+
+    // Incremented whenever a local entry may have become stale; a value loaded from Redis is only stored locally if no
+    // invalidation happened during the load
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicBoolean subscribing = new AtomicBoolean();
+    private volatile boolean subscribed;
+
+    public RedisNearCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName, boolean recordStats) {
+        this(cacheInfo, Arc.container().select(Vertx.class).get(), RedisCacheImpl.determineRedisClient(redisClientName),
+                BlockingOperationControl::isBlockingAllowed, recordStats);
+    }
+
+    public RedisNearCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Supplier<Boolean> blockingAllowedSupplier,
+            boolean recordStats) {
+        this.remote = new RedisCacheImpl(cacheInfo, vertx, redis, blockingAllowedSupplier);
+        this.redis = redis;
+        this.pubSub = new ReactiveRedisDataSourceImpl(vertx, redis, RedisAPI.api(redis)).pubsub(String.class);
+        this.channel = remote.getKeyPrefix() + ":invalidations";
+        this.instanceId = UUID.randomUUID().toString();
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(cacheInfo.nearCacheMaximumSize);
+        if (cacheInfo.nearCacheExpireAfterWrite.isPresent()) {
+            builder.expireAfterWrite(cacheInfo.nearCacheExpireAfterWrite.get());
+        } else if (remote.getRefresher() != null) {
+            // The local hits don't read Redis, a local entry must expire for the Redis entry to be refreshed
+            builder.expireAfterWrite(cacheInfo.refreshAfterWrite.get());
+        } else if (cacheInfo.expireAfterWrite.isPresent()) {
+            // A local entry must never outlive the Redis entry
+            builder.expireAfterWrite(cacheInfo.expireAfterWrite.get());
+        }
+        if (cacheInfo.expireAfterAccess.isPresent()) {
+            builder.expireAfterAccess(cacheInfo.expireAfterAccess.get());
+        }
+        if (recordStats) {
+            StatsCounter localStats = new ConcurrentStatsCounter();
+            builder.recordStats(new Supplier<StatsCounter>() {
+                @Override
+                public StatsCounter get() {
+                    return localStats;
+                }
+            });
+            this.remoteStats = new ConcurrentStatsCounter();
+        } else {
+            this.remoteStats = StatsCounter.disabledStatsCounter();
+        }
+        this.local = builder.buildAsync();
+        remote.setRefreshListener(new Function<String, Uni<Void>>() {
+            @Override
+            public Uni<Void> apply(String redisKey) {
+                // A value was refreshed in Redis - the local entries of all the instances are stale
+                invalidateLocal(redisKey);
+                return publish(redisKey);
+            }
+        });
+        subscribe();
+    }
+
+    @Override
+    public String getName() {
+        return remote.getName();
+    }
+
+    @Override
+    public Object getDefaultKey() {
+        return remote.getDefaultKey();
+    }
+
+    @Override
+    public Class<?> getDefaultValueType() {
+        return remote.getDefaultValueType();
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        remote.enforceDefaultType("get");
+        return get(key, remote.getValueType(), valueLoader);
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Class<V> clazz, Function<K, V> valueLoader) {
+        return get(key, (Type) clazz, valueLoader);
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, TypeLiteral<V> type, Function<K, V> valueLoader) {
+        return get(key, type.getType(), valueLoader);
+    }
+
+    private <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        String redisKey = redisKey(key);
+        Uni<V> cached = getLocal(redisKey);
+        if (cached != null) {
+            return cached;
+        }
+        long invalidationsBefore = invalidations.get();
+        LoadTracker tracker = new LoadTracker();
+        return remote.get(key, type, new Function<K, V>() {
+            @Override
+            public V apply(K k) {
+                tracker.loaded = true;
+                return valueLoader.apply(k);
+            }
+        }).onItem().call(new Function<V, Uni<?>>() {
+            @Override
+            public Uni<?> apply(V value) {
+                return afterRemoteGet(redisKey, value, tracker.loaded, invalidationsBefore);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
+        remote.enforceDefaultType("getAsync");
+        return getAsync(key, remote.getValueType(), valueLoader);
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, Class<V> clazz, Function<K, Uni<V>> valueLoader) {
+        return getAsync(key, (Type) clazz, valueLoader);
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> valueLoader) {
+        return getAsync(key, type.getType(), valueLoader);
+    }
+
+    private <K, V> Uni<V> getAsync(K key, Type type, Function<K, Uni<V>> valueLoader) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        String redisKey = redisKey(key);
+        Uni<V> cached = getLocal(redisKey);
+        if (cached != null) {
+            return cached;
+        }
+        long invalidationsBefore = invalidations.get();
+        LoadTracker tracker = new LoadTracker();
+        return remote.getAsync(key, type, new Function<K, Uni<V>>() {
+            @Override
+            public Uni<V> apply(K k) {
+                tracker.loaded = true;
+                return valueLoader.apply(k);
+            }
+        }).onItem().call(new Function<V, Uni<?>>() {
+            @Override
+            public Uni<?> apply(V value) {
+                return afterRemoteGet(redisKey, value, tracker.loaded, invalidationsBefore);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<? extends K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        remote.enforceDefaultType("getAll");
+        return getAll(keys, remote.getValueType(), bulkLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<? extends K> keys, Class<V> clazz,
+            Function<Set<K>, Map<K, V>> bulkLoader) {
+        return getAll(keys, (Type) clazz, bulkLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<? extends K> keys, TypeLiteral<V> type,
+            Function<Set<K>, Map<K, V>> bulkLoader) {
+        return getAll(keys, type.getType(), bulkLoader);
+    }
+
+    private <K, V> Uni<Map<K, V>> getAll(Collection<? extends K> keys, Type type,
+            Function<Set<K>, Map<K, V>> bulkLoader) {
+        Set<K> loadedKeys = ConcurrentHashMap.newKeySet();
+        return getAll(keys, new Function<Set<K>, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(Set<K> missingKeys) {
+                return remote.getAll(missingKeys, type, new Function<Set<K>, Map<K, V>>() {
+                    @Override
+                    public Map<K, V> apply(Set<K> ks) {
+                        loadedKeys.addAll(ks);
+                        return bulkLoader.apply(ks);
+                    }
+                });
+            }
+        }, loadedKeys);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        remote.enforceDefaultType("getAllAsync");
+        return getAllAsync(keys, remote.getValueType(), bulkLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, Class<V> clazz,
+            Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        return getAllAsync(keys, (Type) clazz, bulkLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, TypeLiteral<V> type,
+            Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        return getAllAsync(keys, type.getType(), bulkLoader);
+    }
+
+    private <K, V> Uni<Map<K, V>> getAllAsync(Collection<? extends K> keys, Type type,
+            Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        Set<K> loadedKeys = ConcurrentHashMap.newKeySet();
+        return getAll(keys, new Function<Set<K>, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(Set<K> missingKeys) {
+                return remote.getAllAsync(missingKeys, type, new Function<Set<K>, Uni<Map<K, V>>>() {
+                    @Override
+                    public Uni<Map<K, V>> apply(Set<K> ks) {
+                        loadedKeys.addAll(ks);
+                        return bulkLoader.apply(ks);
+                    }
+                });
+            }
+        }, loadedKeys);
+    }
+
+    /**
+     * @param remoteGetAll obtains the values of the keys that are not present in the local cache from Redis
+     * @param loadedKeys the keys whose values were computed by the bulk loader, filled by {@code remoteGetAll}
+     */
+    @SuppressWarnings("unchecked")
+    private <K, V> Uni<Map<K, V>> getAll(Collection<? extends K> keys, Function<Set<K>, Uni<Map<K, V>>> remoteGetAll,
+            Set<K> loadedKeys) {
+        Map<K, V> result = new LinkedHashMap<>();
+        Map<K, String> missingKeys = new LinkedHashMap<>();
+        for (K key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+            String redisKey = redisKey(key);
+            Object cached = getLocalCacheValue(redisKey);
+            if (cached != null) {
+                result.put(key, (V) NullValueConverter.fromCacheValue(cached));
+            } else {
+                result.put(key, null);
+                missingKeys.put(key, redisKey);
+            }
+        }
+        if (missingKeys.isEmpty()) {
+            return Uni.createFrom().item(result);
+        }
+        long invalidationsBefore = invalidations.get();
+        return remoteGetAll.apply(new LinkedHashSet<>(missingKeys.keySet()))
+                .chain(new Function<Map<K, V>, Uni<? extends Map<K, V>>>() {
+                    @Override
+                    public Uni<Map<K, V>> apply(Map<K, V> remoteValues) {
+                        List<String> loadedRedisKeys = new ArrayList<>();
+                        for (Map.Entry<K, String> e : missingKeys.entrySet()) {
+                            V value = remoteValues.get(e.getKey());
+                            result.put(e.getKey(), value);
+                            boolean loaded = loadedKeys.contains(e.getKey());
+                            if (loaded) {
+                                remoteStats.recordMisses(1);
+                                loadedRedisKeys.add(e.getValue());
+                            } else {
+                                remoteStats.recordHits(1);
+                            }
+                            if (subscribed && invalidations.get() == invalidationsBefore) {
+                                local.synchronous().put(e.getValue(), NullValueConverter.toCacheValue(value));
+                            }
+                        }
+                        return publish(loadedRedisKeys).replaceWith(result);
+                    }
+                });
+    }
+
+    @Override
+    public <K, V> Uni<Void> put(K key, V value) {
+        return put(key, new Supplier<V>() {
+            @Override
+            public V get() {
+                return value;
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
+        String redisKey = redisKey(key);
+        return remote.put(key, supplier)
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        invalidateLocal(redisKey);
+                        return publish(redisKey);
+                    }
+                });
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, V defaultValue) {
+        remote.enforceDefaultType("getOrDefault");
+        return getOrDefault(key, remote.getValueType(), defaultValue);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, Class<V> clazz, V defaultValue) {
+        return getOrDefault(key, (Type) clazz, defaultValue);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, TypeLiteral<V> type, V defaultValue) {
+        return getOrDefault(key, type.getType(), defaultValue);
+    }
+
+    private <K, V> Uni<V> getOrDefault(K key, Type type, V defaultValue) {
+        Uni<V> cached = getLocal(redisKey(key));
+        if (cached != null) {
+            return cached;
+        }
+        return remote.getOrDefault(key, type, defaultValue);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key) {
+        remote.enforceDefaultType("getOrNull");
+        return getOrNull(key, remote.getValueType());
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key, Class<V> clazz) {
+        return getOrNull(key, (Type) clazz);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key, TypeLiteral<V> type) {
+        return getOrNull(key, type.getType());
+    }
+
+    private <K, V> Uni<V> getOrNull(K key, Type type) {
+        Uni<V> cached = getLocal(redisKey(key));
+        if (cached != null) {
+            return cached;
+        }
+        return remote.getOrNull(key, type);
+    }
+
+    @Override
+    public Uni<Void> invalidate(Object key) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        String redisKey = redisKey(key);
+        return remote.invalidate(key)
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        invalidateLocal(redisKey);
+                        return publish(redisKey);
+                    }
+                });
+    }
+
+    @Override
+    public Uni<Void> invalidateAll() {
+        return remote.invalidateAll()
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        invalidateAllLocal();
+                        return publish(INVALIDATE_ALL);
+                    }
+                });
+    }
+
+    @Override
+    public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+        // The predicate cannot be evaluated by the other instances so they drop all their local entries
+        return remote.invalidateIf(predicate)
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        invalidateAllLocal();
+                        return publish(INVALIDATE_ALL);
+                    }
+                });
+    }
+
+    /**
+     * @return {@code true} if this instance receives the invalidation messages, the local cache is bypassed otherwise
+     */
+    public boolean isSubscribed() {
+        return subscribed;
+    }
+
+    CacheRefresher getRefresher() {
+        return remote.getRefresher();
+    }
+
+    private String redisKey(Object key) {
+        return remote.computeActualKey(remote.encodeKey(key));
+    }
+
+    /**
+     * @return the {@link Uni} emitting the local value or {@code null} if the key is not present in the local cache
+     */
+    @SuppressWarnings("unchecked")
+    private <V> Uni<V> getLocal(String redisKey) {
+        Object value = getLocalCacheValue(redisKey);
+        if (value == null) {
+            return null;
+        }
+        return Uni.createFrom().item((V) NullValueConverter.fromCacheValue(value));
+    }
+
+    /**
+     * @return the local value wrapped with {@link NullValueConverter} or {@code null} if the key is not present in the local
+     *         cache
+     */
+    private Object getLocalCacheValue(String redisKey) {
+        if (!subscribed) {
+            // The local entries cannot be trusted without invalidation messages
+            subscribe();
+            return null;
+        }
+        return local.synchronous().getIfPresent(redisKey);
+    }
+
+    private <V> Uni<?> afterRemoteGet(String redisKey, V value, boolean loaded, long invalidationsBefore) {
+        if (loaded) {
+            remoteStats.recordMisses(1);
+        } else {
+            remoteStats.recordHits(1);
+        }
+        if (subscribed && invalidations.get() == invalidationsBefore) {
+            local.synchronous().put(redisKey, NullValueConverter.toCacheValue(value));
+        }
+        if (loaded) {
+            // A new value was stored in Redis - the other instances must drop their local entries
+            return publish(redisKey);
+        }
+        return Uni.createFrom().voidItem();
+    }
+
+    private void invalidateLocal(String redisKey) {
+        invalidations.incrementAndGet();
+        local.synchronous().invalidate(redisKey);
+    }
+
+    private void invalidateAllLocal() {
+        invalidations.incrementAndGet();
+        local.synchronous().invalidateAll();
+    }
+
+    private Uni<Void> publish(String redisKey) {
+        return redis.send(Request.cmd(Command.PUBLISH).arg(channel).arg(instanceId + SEPARATOR + redisKey))
+                .replaceWithVoid()
+                .onFailure().recoverWithItem(new Function<Throwable, Void>() {
+                    @Override
+                    public Void apply(Throwable t) {
+                        // The other instances keep their local entries until they expire
+                        log.warnf(t, "Unable to publish the invalidation of the near cache [%s]", getName());
+                        return null;
+                    }
+                });
+    }
+
+    private Uni<Void> publish(List<String> redisKeys) {
+        if (redisKeys.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        if (redisKeys.size() == 1) {
+            return publish(redisKeys.get(0));
+        }
+        List<Request> requests = new ArrayList<>(redisKeys.size());
+        for (String redisKey : redisKeys) {
+            requests.add(Request.cmd(Command.PUBLISH).arg(channel).arg(instanceId + SEPARATOR + redisKey));
+        }
+        return redis.batch(requests)
+                .replaceWithVoid()
+                .onFailure().recoverWithItem(new Function<Throwable, Void>() {
+                    @Override
+                    public Void apply(Throwable t) {
+                        log.warnf(t, "Unable to publish the invalidation of the near cache [%s]", getName());
+                        return null;
+                    }
+                });
+    }
+
+    private void onMessage(String message) {
+        int idx = message.indexOf(SEPARATOR);
+        if (idx < 0) {
+            log.debugf("Ignoring malformed invalidation message of the near cache [%s]: %s", getName(), message);
+            return;
+        }
+        if (idx == instanceId.length() && message.startsWith(instanceId)) {
+            // Published by this instance
+            return;
+        }
+        String redisKey = message.substring(idx + 1);
+        if (INVALIDATE_ALL.equals(redisKey)) {
+            invalidateAllLocal();
+        } else {
+            invalidateLocal(redisKey);
+        }
+    }
+
+    private void onSubscriptionEnd() {
+        subscribed = false;
+        // Invalidation messages may have been lost in the meantime
+        invalidateAllLocal();
+    }
+
+    private void subscribe() {
+        if (!subscribing.compareAndSet(false, true)) {
+            return;
+        }
+        pubSub.subscribe(channel, this::onMessage, this::onSubscriptionEnd, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable t) {
+                log.debugf(t, "Invalidation channel of the near cache [%s] failed", getName());
+                onSubscriptionEnd();
+            }
+        }).subscribe().with(s -> {
+            log.debugf("Subscribed to the invalidation channel of the near cache [%s]", getName());
+            // Drop the entries that might have been stored before the subscription
+            invalidateAllLocal();
+            subscribed = true;
+            subscribing.set(false);
+        }, t -> {
+            log.warnf(t, "Unable to subscribe to the invalidation channel of the near cache [%s], the local cache is bypassed",
+                    getName());
+            subscribing.set(false);
+        });
+    }
+
+    private static class LoadTracker {
+
+        volatile boolean loaded;
+
+    }
+}
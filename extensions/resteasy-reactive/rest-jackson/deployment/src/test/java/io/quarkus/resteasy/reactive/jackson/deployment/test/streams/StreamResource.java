@@ -1,11 +1,13 @@
 package io.quarkus.resteasy.reactive.jackson.deployment.test.streams;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow;
 
 import jakarta.ws.rs.GET;
@@ -125,6 +127,45 @@ public Multi<Message> multiJsonMultiDocs() {
                 .header("foo", "bar").encodeAsJsonArray(false).build();
     }
 
+    @Path("json/multi-buffered")
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public Multi<Message> multiJsonBuffered() {
+        // a small buffer so that the response is written in several chunks
+        return RestMulti.fromMultiData(Multi.createFrom().range(0, 1000).map(i -> new Message("msg" + i)))
+                .header("foo", "bar").withBufferSize(256).build();
+    }
+
+    @Path("json/multi-docs-buffered")
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public Multi<Message> multiJsonMultiDocsBuffered() {
+        return RestMulti.fromMultiData(Multi.createFrom().items(new Message("hello"), new Message("stef")))
+                .encodeAsJsonArray(false).withBufferSize(8192).build();
+    }
+
+    private static volatile CompletableFuture<Void> release;
+
+    @Path("json/multi-docs-buffered-max-delay")
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public Multi<Message> multiJsonMultiDocsBufferedMaxDelay() {
+        CompletableFuture<Void> release = new CompletableFuture<>();
+        StreamResource.release = release;
+        // the second item is only produced once the client received the first one
+        return RestMulti.fromMultiData(Multi.createBy().concatenating().streams(
+                Multi.createFrom().item(new Message("hello")),
+                Uni.createFrom().completionStage(release).onItem().transform(ignored -> new Message("stef")).toMulti()))
+                .encodeAsJsonArray(false).withBufferSize(8192).withMaxBufferDelay(Duration.ofMillis(50)).build();
+    }
+
+    @Path("json/release")
+    @GET
+    public String release() {
+        release.complete(null);
+        return "released";
+    }
+
     @Path("json/multi-docs-huge-demand")
     @GET
     @Produces(MediaType.APPLICATION_JSON)
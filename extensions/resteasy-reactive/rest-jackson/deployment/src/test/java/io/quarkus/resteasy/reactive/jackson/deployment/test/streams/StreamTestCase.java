@@ -9,13 +9,20 @@
 import static org.hamcrest.Matchers.is;
 
 import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
@@ -132,6 +139,44 @@ public void testJsonMultiMultiDoc() {
                 .header(HttpHeaders.CONTENT_TYPE, containsString(RestMediaType.APPLICATION_JSON));
     }
 
+    @Test
+    public void testJsonMultiBuffered() {
+        String expected = IntStream.range(0, 1000).mapToObj(i -> "{\"name\":\"msg" + i + "\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+        when().get(uri.toString() + "streams/json/multi-buffered")
+                .then().statusCode(HttpStatus.SC_OK)
+                .body(is(expected))
+                .header(HttpHeaders.CONTENT_TYPE, containsString(RestMediaType.APPLICATION_JSON))
+                .header("foo", equalTo("bar"));
+    }
+
+    @Test
+    public void testJsonMultiMultiDocBuffered() {
+        when().get(uri.toString() + "streams/json/multi-docs-buffered")
+                .then().statusCode(HttpStatus.SC_OK)
+                // @formatter:off
+                .body(is("{\"name\":\"hello\"}\n"
+                            + "{\"name\":\"stef\"}\n"))
+                // @formatter:on
+                .header(HttpHeaders.CONTENT_TYPE, containsString(RestMediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    public void testJsonMultiMultiDocBufferedMaxDelay() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(uri.toString() + "streams/json/multi-docs-buffered-max-delay"))
+                .build();
+        // the buffer is far from full, the first item is only written because of the max delay
+        HttpResponse<Stream<String>> response = HttpClient.newHttpClient()
+                .sendAsync(request, HttpResponse.BodyHandlers.ofLines())
+                .get(10, TimeUnit.SECONDS);
+        Iterator<String> lines = response.body().iterator();
+        assertThat(lines.next()).isEqualTo("{\"name\":\"hello\"}");
+
+        when().get(uri.toString() + "streams/json/release").then().statusCode(HttpStatus.SC_OK);
+        assertThat(lines.next()).isEqualTo("{\"name\":\"stef\"}");
+        assertThat(lines.hasNext()).isFalse();
+    }
+
     @Test
     public void testJsonMultiMultiDocHigherDemand() {
         when().get(uri.toString() + "streams/json/multi-docs-huge-demand")
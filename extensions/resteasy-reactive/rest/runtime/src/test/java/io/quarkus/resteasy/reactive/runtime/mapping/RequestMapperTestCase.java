@@ -34,10 +34,120 @@ public void testPathMapper() {
 
     }
 
+    @Test
+    public void testLiteralPriority() {
+        RequestMapper<String> mapper = mapper("/items/{id}", "/items/new", "/items/{id}/tags", "/items/new/{tag}",
+                "/{type}/new");
+
+        Assertions.assertEquals("/items/new", mapper.map("/items/new").value);
+        Assertions.assertEquals("/items/new", mapper.map("/items/new/").value);
+        RequestMapper.RequestMatch<String> result = mapper.map("/items/old");
+        Assertions.assertEquals("/items/{id}", result.value);
+        Assertions.assertEquals("old", result.pathParamValues[0]);
+        result = mapper.map("/items/new/tags");
+        Assertions.assertEquals("/items/new/{tag}", result.value);
+        Assertions.assertEquals("tags", result.pathParamValues[0]);
+        result = mapper.map("/items/old/tags");
+        Assertions.assertEquals("/items/{id}/tags", result.value);
+        Assertions.assertEquals("old", result.pathParamValues[0]);
+        result = mapper.map("/orders/new");
+        Assertions.assertEquals("/{type}/new", result.value);
+        Assertions.assertEquals("orders", result.pathParamValues[0]);
+        Assertions.assertNull(mapper.map("/items/old/other"));
+    }
+
+    @Test
+    public void testCustomRegex() {
+        RequestMapper<String> mapper = mapper("/items/{id: \\d+}", "/items/{name: [a-zA-Z]+}.{ext}",
+                "/files/{path: .+}", "/users/{first}-{last}");
+
+        RequestMapper.RequestMatch<String> result = mapper.map("/items/42");
+        Assertions.assertEquals("/items/{id: \\d+}", result.value);
+        Assertions.assertEquals("42", result.pathParamValues[0]);
+        result = mapper.map("/items/42/");
+        Assertions.assertEquals("/items/{id: \\d+}", result.value);
+        Assertions.assertEquals("42", result.pathParamValues[0]);
+        result = mapper.map("/items/report.tar.gz");
+        Assertions.assertEquals("/items/{name: [a-zA-Z]+}.{ext}", result.value);
+        Assertions.assertEquals("report", result.pathParamValues[0]);
+        Assertions.assertEquals("tar.gz", result.pathParamValues[1]);
+        Assertions.assertNull(mapper.map("/items/4a"));
+        Assertions.assertNull(mapper.map("/items/42/tags"));
+        result = mapper.map("/files/docs/readme.txt");
+        Assertions.assertEquals("/files/{path: .+}", result.value);
+        Assertions.assertEquals("docs/readme.txt", result.pathParamValues[0]);
+        result = mapper.map("/users/jean-luc-picard");
+        Assertions.assertEquals("/users/{first}-{last}", result.value);
+        Assertions.assertEquals("jean", result.pathParamValues[0]);
+        Assertions.assertEquals("luc-picard", result.pathParamValues[1]);
+    }
+
+    @Test
+    public void testPrefixTemplates() {
+        RequestMapper<String> mapper = prefixMapper("/sub/{id: [a-z]+}", "/page{number: \\d+}", "/{name}");
+
+        RequestMapper.RequestMatch<String> result = mapper.map("/sub/abc/locator");
+        Assertions.assertEquals("/sub/{id: [a-z]+}", result.value);
+        Assertions.assertEquals("abc", result.pathParamValues[0]);
+        Assertions.assertEquals("/locator", result.remaining);
+        result = mapper.map("/page2/locator");
+        Assertions.assertEquals("/page{number: \\d+}", result.value);
+        Assertions.assertEquals("2", result.pathParamValues[0]);
+        Assertions.assertEquals("/locator", result.remaining);
+        // the regex must match at the position of the parameter, not later in the path
+        result = mapper.map("/page/42");
+        Assertions.assertEquals("/{name}", result.value);
+        Assertions.assertEquals("page", result.pathParamValues[0]);
+        Assertions.assertEquals("/42", result.remaining);
+    }
+
+    @Test
+    public void testParamsOfUnmatchedTemplate() {
+        RequestMapper<String> mapper = mapper("/a/{p1}/{p2}/ending", "/a/{p1}/other");
+
+        // the first template captures both parameters before failing on its last literal
+        RequestMapper.RequestMatch<String> result = mapper.map("/a/1/other");
+        Assertions.assertEquals("/a/{p1}/other", result.value);
+        Assertions.assertEquals("1", result.pathParamValues[0]);
+        Assertions.assertNull(result.pathParamValues[1]);
+    }
+
+    @Test
+    public void testManyTemplatesPerStem() {
+        RequestMapper<String> mapper = mapper("/shop/{id}", "/shop/{id}/items", "/shop/{id}/items/{item: \\d+}",
+                "/shop/{id}/items/{name}", "/shop/{id}/new", "/shop/{id}/orders/{order}");
+
+        Assertions.assertEquals("/shop/{id}/new", mapper.map("/shop/7/new").value);
+        RequestMapper.RequestMatch<String> result = mapper.map("/shop/7");
+        Assertions.assertEquals("/shop/{id}", result.value);
+        Assertions.assertEquals("7", result.pathParamValues[0]);
+        Assertions.assertEquals("/shop/{id}/items", mapper.map("/shop/7/items/").value);
+        result = mapper.map("/shop/7/items/42");
+        Assertions.assertEquals("/shop/{id}/items/{item: \\d+}", result.value);
+        Assertions.assertEquals("7", result.pathParamValues[0]);
+        Assertions.assertEquals("42", result.pathParamValues[1]);
+        result = mapper.map("/shop/7/items/bag");
+        Assertions.assertEquals("/shop/{id}/items/{name}", result.value);
+        Assertions.assertEquals("bag", result.pathParamValues[1]);
+        result = mapper.map("/shop/new/orders/3");
+        Assertions.assertEquals("/shop/{id}/orders/{order}", result.value);
+        Assertions.assertEquals("new", result.pathParamValues[0]);
+        Assertions.assertEquals("3", result.pathParamValues[1]);
+        Assertions.assertNull(mapper.map("/shop/7/other"));
+    }
+
     RequestMapper<String> mapper(String... vals) {
+        return mapper(false, vals);
+    }
+
+    RequestMapper<String> prefixMapper(String... vals) {
+        return mapper(true, vals);
+    }
+
+    private RequestMapper<String> mapper(boolean prefix, String... vals) {
         ArrayList<RequestMapper.RequestPath<String>> list = new ArrayList<>();
         for (String i : vals) {
-            list.add(new RequestMapper.RequestPath<>(false, new URITemplate(i, false), i));
+            list.add(new RequestMapper.RequestPath<>(prefix, new URITemplate(i, prefix), i));
         }
         return new RequestMapper<>(list);
     }
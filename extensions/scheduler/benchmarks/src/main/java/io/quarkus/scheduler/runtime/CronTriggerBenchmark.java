@@ -0,0 +1,79 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cronutils.model.CronType;
+
+import io.quarkus.scheduler.common.runtime.CronParser;
+import io.quarkus.scheduler.runtime.SimpleScheduler.CronTrigger;
+import io.quarkus.scheduler.runtime.SimpleScheduler.ScheduledTask;
+
+/**
+ * Measures the cost of one periodic trigger check for cron jobs, i.e. the evaluation of every cron trigger.
+ * <p>
+ * Every benchmark invocation advances a simulated clock by one second. With the {@code minutely} schedule, each job fires
+ * once a minute and the jobs are spread over the seconds of a minute, so that roughly 1/60 of the jobs are due in each
+ * check. With the {@code daily} schedule, the jobs only fire once every 86400 checks.
+ * <p>
+ * This benchmark is meant to be run with the GC profiler, e.g. {@code java -jar target/benchmark.jar CronTriggerBenchmark
+ * -prof gc}; the allocation rate per operation of the {@code daily} schedule only accounts for the simulated clock.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class CronTriggerBenchmark {
+
+    @Param({ "5000" })
+    public int jobs;
+
+    @Param({ "minutely", "daily" })
+    public String schedule;
+
+    private List<ScheduledTask> tasks;
+    private ZonedDateTime now;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        CronParser parser = new CronParser(CronType.QUARTZ);
+        ZonedDateTime base = ZonedDateTime.now().truncatedTo(ChronoUnit.DAYS).plusHours(1);
+        tasks = new ArrayList<>(jobs);
+        for (int i = 0; i < jobs; i++) {
+            String id = "job" + i;
+            String cron = schedule.equals("daily") ? "0 0 0 * * ?" : (i % 60) + " * * * * ?";
+            tasks.add(new ScheduledTask(
+                    new CronTrigger(id, base, parser.parse(cron), Duration.ofSeconds(1), null, id),
+                    TriggerCheckBenchmark.NOOP_INVOKER, true));
+        }
+        now = base;
+    }
+
+    @Benchmark
+    public void check() {
+        now = now.plusSeconds(1);
+        for (ScheduledTask task : tasks) {
+            task.execute(now, null);
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.scheduler.common.runtime.ScheduledInvoker;
+import io.quarkus.scheduler.runtime.SimpleScheduler.IntervalTrigger;
+import io.quarkus.scheduler.runtime.SimpleScheduler.ScheduledTask;
+import io.quarkus.scheduler.runtime.SimpleScheduler.TriggerQueue;
+
+/**
+ * Compares the cost of one second of trigger checks for the periodic scan and for the priority queue engine.
+ * <p>
+ * Every benchmark invocation advances a simulated clock by one second. All jobs use a one minute interval and the first
+ * executions are spread evenly so that roughly 1/60 of the jobs are due in each check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class TriggerCheckBenchmark {
+
+    static final long INTERVAL = TimeUnit.MINUTES.toMillis(1);
+
+    static final ScheduledInvoker NOOP_INVOKER = execution -> CompletableFuture.completedStage(null);
+
+    @Param({ "10000", "100000" })
+    public int jobs;
+
+    private List<ScheduledTask> scanTasks;
+    private TriggerQueue triggerQueue;
+    private ZonedDateTime now;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        ZonedDateTime base = ZonedDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        scanTasks = new ArrayList<>(jobs);
+        ConcurrentMap<String, ScheduledTask> queueTasks = new ConcurrentHashMap<>();
+        triggerQueue = new TriggerQueue(null, queueTasks, () -> true, null);
+        for (int i = 0; i < jobs; i++) {
+            String id = "job" + i;
+            ZonedDateTime start = base.plus(random.nextInt((int) INTERVAL), ChronoUnit.MILLIS);
+            scanTasks.add(new ScheduledTask(
+                    new IntervalTrigger(id, start, INTERVAL, Duration.ofSeconds(1), id, ChronoUnit.SECONDS),
+                    NOOP_INVOKER, true));
+            ScheduledTask queueTask = new ScheduledTask(
+                    new IntervalTrigger(id, start, INTERVAL, Duration.ofSeconds(1), id, ChronoUnit.MILLIS),
+                    NOOP_INVOKER, true);
+            queueTasks.put(id, queueTask);
+            triggerQueue.add(queueTask);
+        }
+        now = base;
+    }
+
+    @Benchmark
+    public void scan() {
+        now = now.plusSeconds(1);
+        for (ScheduledTask task : scanTasks) {
+            task.execute(now, null);
+        }
+    }
+
+    @Benchmark
+    public int priorityQueue() {
+        now = now.plusSeconds(1);
+        triggerQueue.check(now);
+        return triggerQueue.size();
+    }
+
+}
@@ -3,6 +3,7 @@
 import java.time.Duration;
 import java.util.OptionalLong;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
 
 import jakarta.enterprise.inject.Instance;
 
@@ -41,6 +42,20 @@ protected ScheduledInvoker initInvoker(ScheduledInvoker invoker, Events events,
             ConcurrentExecution concurrentExecution, Scheduled.SkipPredicate skipPredicate, JobInstrumenter instrumenter,
             Vertx vertx, boolean skipOffloadingInvoker,
             OptionalLong delay, ScheduledExecutorService blockingExecutor) {
+        return initInvoker(invoker, events, concurrentExecution, skipPredicate, instrumenter, vertx, skipOffloadingInvoker,
+                delay, blockingExecutor, null);
+    }
+
+    /**
+     *
+     * @param offloadingInvoker the function used to wrap the invoker in an offloading invoker; if {@code null} then the
+     *        {@link OffloadingInvoker} is used
+     */
+    protected ScheduledInvoker initInvoker(ScheduledInvoker invoker, Events events,
+            ConcurrentExecution concurrentExecution, Scheduled.SkipPredicate skipPredicate, JobInstrumenter instrumenter,
+            Vertx vertx, boolean skipOffloadingInvoker,
+            OptionalLong delay, ScheduledExecutorService blockingExecutor,
+            Function<ScheduledInvoker, ScheduledInvoker> offloadingInvoker) {
         invoker = new StatusEmitterInvoker(invoker, events.successExecution, events.failedExecution);
         if (concurrentExecution == ConcurrentExecution.SKIP) {
             invoker = new SkipConcurrentExecutionInvoker(invoker, events.skippedExecution);
@@ -52,7 +67,7 @@ protected ScheduledInvoker initInvoker(ScheduledInvoker invoker, Events events,
             invoker = new InstrumentedInvoker(invoker, instrumenter);
         }
         if (!skipOffloadingInvoker) {
-            invoker = new OffloadingInvoker(invoker, vertx);
+            invoker = offloadingInvoker != null ? offloadingInvoker.apply(invoker) : new OffloadingInvoker(invoker, vertx);
         }
         if (delay.isPresent()) {
             invoker = new DelayedExecutionInvoker(invoker, delay.getAsLong(), blockingExecutor, events.delayedExecution);
@@ -0,0 +1,249 @@
+package io.quarkus.scheduler.common.runtime;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.enterprise.event.Event;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.SkippedExecution;
+import io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle;
+import io.quarkus.virtual.threads.VirtualThreadsRecorder;
+import io.smallrye.common.vertx.VertxContext;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+
+/**
+ * Offloads the execution of the scheduled task according to the configured {@link ExecutionStrategy} and limits the number
+ * of concurrent executions.
+ * <p>
+ * If the max concurrency is reached then the execution is queued until a running execution completes. If the queue is full
+ * then the execution is skipped and a {@link SkippedExecution} event is fired.
+ *
+ * @see OffloadingInvoker
+ */
+public class BoundedOffloadingInvoker extends DelegateInvoker {
+
+    private static final Logger LOG = Logger.getLogger(BoundedOffloadingInvoker.class);
+
+    private final Vertx vertx;
+    private final ExecutionStrategy strategy;
+    // only used for ExecutionStrategy.BOUNDED_POOL
+    private final WorkerExecutor workerExecutor;
+    private final int maxConcurrency;
+    private final int queueSize;
+    private final Event<SkippedExecution> event;
+
+    private final ConcurrentLinkedQueue<PendingExecution> queue;
+    private final AtomicInteger queued;
+    private final AtomicInteger running;
+    private final LongAdder rejected;
+
+    public BoundedOffloadingInvoker(ScheduledInvoker delegate, Vertx vertx, ExecutionStrategy strategy, String name,
+            int maxConcurrency, int queueSize, Event<SkippedExecution> event) {
+        super(delegate);
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The max concurrency must be greater than zero: " + maxConcurrency);
+        }
+        if (queueSize < 0) {
+            throw new IllegalArgumentException("The queue size must not be negative: " + queueSize);
+        }
+        this.vertx = vertx;
+        this.strategy = strategy;
+        this.workerExecutor = strategy == ExecutionStrategy.BOUNDED_POOL
+                ? vertx.createSharedWorkerExecutor("quarkus-scheduler-" + name, maxConcurrency)
+                : null;
+        this.maxConcurrency = maxConcurrency;
+        this.queueSize = queueSize;
+        this.event = event;
+        this.queue = new ConcurrentLinkedQueue<>();
+        this.queued = new AtomicInteger();
+        this.running = new AtomicInteger();
+        this.rejected = new LongAdder();
+    }
+
+    @Override
+    public CompletionStage<Void> invoke(ScheduledExecution execution) throws Exception {
+        CompletableFuture<Void> ret = new CompletableFuture<>();
+        if (tryAcquire()) {
+            dispatch(execution, ret);
+            return ret;
+        }
+        if (queued.incrementAndGet() > queueSize) {
+            queued.decrementAndGet();
+            rejected.increment();
+            LOG.debugf("Skipped scheduled invoker execution - queue is full: %s", delegate.getClass().getName());
+            SkippedExecution payload = new SkippedExecution(execution,
+                    "The max concurrency of the scheduled job was reached and the queue of pending executions is full");
+            try {
+                event.fire(payload);
+                event.fireAsync(payload);
+            } catch (Exception e) {
+                LOG.errorf("Error while firing SkippedExecution event", e);
+            }
+            return CompletableFuture.completedStage(null);
+        }
+        queue.add(new PendingExecution(execution, ret));
+        // A running execution may have completed in the meantime
+        drain();
+        return ret;
+    }
+
+    /**
+     *
+     * @return the number of executions waiting for a running execution to complete
+     */
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    /**
+     *
+     * @return the number of running executions
+     */
+    public int getActiveExecutions() {
+        return running.get();
+    }
+
+    /**
+     *
+     * @return the number of executions skipped because the queue was full
+     */
+    public long getRejectedExecutions() {
+        return rejected.sum();
+    }
+
+    public void close() {
+        if (workerExecutor != null) {
+            workerExecutor.close();
+        }
+    }
+
+    private boolean tryAcquire() {
+        for (;;) {
+            int current = running.get();
+            if (current >= maxConcurrency) {
+                return false;
+            }
+            if (running.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void release() {
+        running.decrementAndGet();
+        drain();
+    }
+
+    private void drain() {
+        while (!queue.isEmpty() && tryAcquire()) {
+            PendingExecution pending = queue.poll();
+            if (pending == null) {
+                // Another thread dispatched the pending execution
+                running.decrementAndGet();
+            } else {
+                queued.decrementAndGet();
+                dispatch(pending.execution, pending.ret);
+            }
+        }
+    }
+
+    private void dispatch(ScheduledExecution execution, CompletableFuture<Void> ret) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        done.whenComplete((r, t) -> {
+            release();
+            if (t != null) {
+                ret.completeExceptionally(t);
+            } else {
+                ret.complete(null);
+            }
+        });
+        Context context = VertxContext.getOrCreateDuplicatedContext(vertx);
+        VertxContextSafetyToggle.setContextSafe(context, true);
+        switch (strategy) {
+            case VIRTUAL_THREAD:
+                runOnVirtualThread(context, execution, done);
+                break;
+            case BOUNDED_POOL:
+                context.runOnContext(new Handler<Void>() {
+                    @Override
+                    public void handle(Void event) {
+                        workerExecutor.executeBlocking(new Callable<Void>() {
+                            @Override
+                            public Void call() {
+                                invokeComplete(done, execution);
+                                return null;
+                            }
+                        }, false);
+                    }
+                });
+                break;
+            case EVENT_LOOP:
+                runOnContext(context, execution, done);
+                break;
+            default:
+                if (delegate.isBlocking()) {
+                    if (delegate.isRunningOnVirtualThread()) {
+                        runOnVirtualThread(context, execution, done);
+                    } else {
+                        context.executeBlocking(new Callable<Void>() {
+                            @Override
+                            public Void call() {
+                                invokeComplete(done, execution);
+                                return null;
+                            }
+                        }, false);
+                    }
+                } else {
+                    runOnContext(context, execution, done);
+                }
+                break;
+        }
+    }
+
+    private void runOnVirtualThread(Context context, ScheduledExecution execution, CompletableFuture<Void> done) {
+        // Switch to the safe context first so that the context is captured and attached to the virtual thread
+        context.runOnContext(new Handler<Void>() {
+            @Override
+            public void handle(Void event) {
+                VirtualThreadsRecorder.getCurrent().execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        invokeComplete(done, execution);
+                    }
+                });
+            }
+        });
+    }
+
+    private void runOnContext(Context context, ScheduledExecution execution, CompletableFuture<Void> done) {
+        context.runOnContext(new Handler<Void>() {
+            @Override
+            public void handle(Void event) {
+                invokeComplete(done, execution);
+            }
+        });
+    }
+
+    private static final class PendingExecution {
+
+        final ScheduledExecution execution;
+        final CompletableFuture<Void> ret;
+
+        PendingExecution(ScheduledExecution execution, CompletableFuture<Void> ret) {
+            this.execution = execution;
+            this.ret = ret;
+        }
+
+    }
+
+}
@@ -0,0 +1,31 @@
+package io.quarkus.scheduler.common.runtime;
+
+/**
+ * Defines where the executions of a scheduled job run.
+ *
+ * @see BoundedOffloadingInvoker
+ */
+public enum ExecutionStrategy {
+
+    /**
+     * Blocking jobs run on a worker thread, or on a virtual thread if annotated with
+     * {@link io.smallrye.common.annotation.RunOnVirtualThread}. Non-blocking jobs run on the event loop.
+     */
+    DEFAULT,
+
+    /**
+     * The executions run on virtual threads, regardless of the signature of the job.
+     */
+    VIRTUAL_THREAD,
+
+    /**
+     * The executions run on a dedicated worker pool; the pool size is the max concurrency of the job.
+     */
+    BOUNDED_POOL,
+
+    /**
+     * The executions run on the event loop. The job must not block.
+     */
+    EVENT_LOOP;
+
+}
@@ -0,0 +1,87 @@
+package io.quarkus.scheduler.common.runtime;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.enterprise.event.Event;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.SkippedExecution;
+import io.quarkus.scheduler.spi.ExecutionLeaseStore;
+
+/**
+ * An invoker wrapper that only executes the job if this node acquired the lease for the scheduled fire time.
+ *
+ * @see ExecutionLeaseStore
+ */
+public final class LeaseInvoker extends DelegateInvoker {
+
+    private static final Logger LOG = Logger.getLogger(LeaseInvoker.class);
+
+    private final ExecutionLeaseStore store;
+    private final String node;
+    private final Duration leaseDuration;
+    // milliseconds; 0 if the scheduled fire time is used as is
+    private final long slot;
+    private final Event<SkippedExecution> event;
+
+    /**
+     *
+     * @param slot if greater than zero then the scheduled fire time is rounded down to a multiple of this value; this is
+     *        needed for interval triggers as the fire times of different nodes are not aligned
+     */
+    public LeaseInvoker(ScheduledInvoker delegate, ExecutionLeaseStore store, String node, Duration leaseDuration, long slot,
+            Event<SkippedExecution> event) {
+        super(delegate);
+        this.store = store;
+        this.node = node;
+        this.leaseDuration = leaseDuration;
+        this.slot = slot;
+        this.event = event;
+    }
+
+    @Override
+    public CompletionStage<Void> invoke(ScheduledExecution execution) throws Exception {
+        String identity = execution.getTrigger().getId();
+        Instant fireTime = execution.getScheduledFireTime();
+        if (slot > 0) {
+            long millis = fireTime.toEpochMilli();
+            fireTime = Instant.ofEpochMilli(millis - Math.floorMod(millis, slot));
+        }
+        CompletionStage<Boolean> acquired;
+        try {
+            acquired = store.tryAcquire(identity, fireTime, node, leaseDuration);
+        } catch (Throwable t) {
+            acquired = CompletableFuture.failedStage(t);
+        }
+        Instant leaseTime = fireTime;
+        return acquired.handle((r, t) -> {
+            if (t != null) {
+                LOG.errorf(t, "Unable to acquire the lease for %s at %s - execution skipped", identity, leaseTime);
+                skip(execution, "The lease for the scheduled fire time could not be acquired: " + t.getMessage());
+                return false;
+            }
+            if (!Boolean.TRUE.equals(r)) {
+                LOG.debugf("Lease for %s at %s acquired by another node - execution skipped", identity, leaseTime);
+                skip(execution, "The lease for the scheduled fire time was acquired by another node");
+                return false;
+            }
+            return true;
+        }).thenCompose(r -> r ? invokeDelegate(execution) : CompletableFuture.completedStage(null));
+    }
+
+    private void skip(ScheduledExecution execution, String detail) {
+        SkippedExecution payload = new SkippedExecution(execution, detail);
+        try {
+            event.fire(payload);
+            event.fireAsync(payload);
+        } catch (Exception e) {
+            LOG.errorf("Error while firing SkippedExecution event", e);
+        }
+    }
+
+}
@@ -0,0 +1,183 @@
+package io.quarkus.scheduler.common.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.annotation.Annotation;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.NotificationOptions;
+import jakarta.enterprise.util.TypeLiteral;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.SkippedExecution;
+import io.quarkus.scheduler.Trigger;
+import io.quarkus.scheduler.spi.ExecutionLeaseStore;
+
+public class LeaseInvokerTest {
+
+    @Test
+    public void testIntervalSlot() throws Exception {
+        InMemoryStore store = new InMemoryStore();
+        AtomicInteger executions = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+        LeaseInvoker node1 = invoker(store, "node1", 1000, executions, skipped);
+        LeaseInvoker node2 = invoker(store, "node2", 1000, executions, skipped);
+
+        // The nodes started at different times, their fire times are not aligned but fall into the same slot
+        node1.invoke(execution(10_200)).toCompletableFuture().join();
+        node2.invoke(execution(10_700)).toCompletableFuture().join();
+        assertEquals(1, executions.get());
+        assertEquals(1, skipped.get());
+        // The next slot
+        node2.invoke(execution(11_100)).toCompletableFuture().join();
+        node1.invoke(execution(11_900)).toCompletableFuture().join();
+        assertEquals(2, executions.get());
+        assertEquals(2, skipped.get());
+        // The fire times are rounded down to a multiple of the interval
+        assertEquals(List.of(10_000L, 10_000L, 11_000L, 11_000L), store.fireTimes);
+    }
+
+    @Test
+    public void testExactFireTime() throws Exception {
+        InMemoryStore store = new InMemoryStore();
+        AtomicInteger executions = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+        LeaseInvoker node1 = invoker(store, "node1", 0, executions, skipped);
+        LeaseInvoker node2 = invoker(store, "node2", 0, executions, skipped);
+
+        node1.invoke(execution(10_200)).toCompletableFuture().join();
+        node2.invoke(execution(10_200)).toCompletableFuture().join();
+        assertEquals(1, executions.get());
+        // A different fire time is a different execution
+        node2.invoke(execution(10_700)).toCompletableFuture().join();
+        assertEquals(2, executions.get());
+        assertEquals(1, skipped.get());
+        assertEquals(List.of(10_200L, 10_200L, 10_700L), store.fireTimes);
+    }
+
+    @Test
+    public void testStoreFailure() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+        LeaseInvoker invoker = invoker((identity, fireTime, node, leaseDuration) -> {
+            throw new IllegalStateException("Store not available");
+        }, "node1", 0, executions, skipped);
+        invoker.invoke(execution(10_200)).toCompletableFuture().join();
+        assertEquals(0, executions.get());
+        assertEquals(1, skipped.get());
+    }
+
+    private static LeaseInvoker invoker(ExecutionLeaseStore store, String node, long slot, AtomicInteger executions,
+            AtomicInteger skipped) {
+        return new LeaseInvoker(execution -> {
+            executions.incrementAndGet();
+            return CompletableFuture.completedStage(null);
+        }, store, node, Duration.ofMinutes(1), slot, new CountingEvent(skipped));
+    }
+
+    private static ScheduledExecution execution(long scheduledFireTime) {
+        Instant time = Instant.ofEpochMilli(scheduledFireTime);
+        Trigger trigger = new Trigger() {
+
+            @Override
+            public String getId() {
+                return "job";
+            }
+
+            @Override
+            public Instant getNextFireTime() {
+                return null;
+            }
+
+            @Override
+            public Instant getPreviousFireTime() {
+                return time;
+            }
+
+            @Override
+            public boolean isOverdue() {
+                return false;
+            }
+        };
+        return new ScheduledExecution() {
+
+            @Override
+            public Trigger getTrigger() {
+                return trigger;
+            }
+
+            @Override
+            public Instant getFireTime() {
+                return time;
+            }
+
+            @Override
+            public Instant getScheduledFireTime() {
+                return time;
+            }
+        };
+    }
+
+    static class InMemoryStore implements ExecutionLeaseStore {
+
+        final List<Long> fireTimes = new CopyOnWriteArrayList<>();
+        private final ConcurrentHashMap<String, String> leases = new ConcurrentHashMap<>();
+
+        @Override
+        public CompletionStage<Boolean> tryAcquire(String identity, Instant fireTime, String node, Duration leaseDuration) {
+            fireTimes.add(fireTime.toEpochMilli());
+            return CompletableFuture.completedStage(leases.putIfAbsent(identity + ":" + fireTime.toEpochMilli(), node) == null);
+        }
+
+    }
+
+    static class CountingEvent implements Event<SkippedExecution> {
+
+        private final AtomicInteger count;
+
+        CountingEvent(AtomicInteger count) {
+            this.count = count;
+        }
+
+        @Override
+        public void fire(SkippedExecution event) {
+            count.incrementAndGet();
+        }
+
+        @Override
+        public <U extends SkippedExecution> CompletionStage<U> fireAsync(U event) {
+            return CompletableFuture.completedStage(event);
+        }
+
+        @Override
+        public <U extends SkippedExecution> CompletionStage<U> fireAsync(U event, NotificationOptions options) {
+            return CompletableFuture.completedStage(event);
+        }
+
+        @Override
+        public Event<SkippedExecution> select(Annotation... qualifiers) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <U extends SkippedExecution> Event<U> select(Class<U> subtype, Annotation... qualifiers) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <U extends SkippedExecution> Event<U> select(TypeLiteral<U> subtype, Annotation... qualifiers) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+}
@@ -69,6 +69,7 @@
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.gizmo.CatchBlockCreator;
 import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.ClassOutput;
@@ -77,6 +78,7 @@
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.gizmo.TryBlock;
+import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.scheduler.Scheduled;
@@ -89,7 +91,11 @@
 import io.quarkus.scheduler.runtime.Constituent;
 import io.quarkus.scheduler.runtime.SchedulerConfig;
 import io.quarkus.scheduler.runtime.SchedulerRecorder;
+import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig;
 import io.quarkus.scheduler.runtime.SimpleScheduler;
+import io.quarkus.scheduler.runtime.lease.JdbcExecutionLeaseStore;
+import io.quarkus.scheduler.runtime.lease.RedisExecutionLeaseStore;
+import io.quarkus.scheduler.spi.ExecutionLeaseStore;
 import io.smallrye.common.annotation.Identifier;
 
 public class SchedulerProcessor {
@@ -159,6 +165,49 @@ void beans(DiscoveredImplementationsBuildItem discoveredImplementations,
         }
     }
 
+    @BuildStep
+    void leaseStore(SchedulerConfig config, Capabilities capabilities,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        switch (config.leaseStore()) {
+            case JDBC:
+                if (capabilities.isMissing(Capability.AGROAL)) {
+                    throw new ConfigurationException(
+                            "The JDBC lease store requires the Agroal extension: quarkus.scheduler.cluster.lease-store=jdbc");
+                }
+                additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(JdbcExecutionLeaseStore.class));
+                break;
+            case REDIS:
+                if (capabilities.isMissing(Capability.REDIS_CLIENT)) {
+                    throw new ConfigurationException("The Redis lease store requires the Redis client extension: "
+                            + "quarkus.scheduler.cluster.lease-store=redis");
+                }
+                additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(RedisExecutionLeaseStore.class));
+                break;
+            default:
+                break;
+        }
+    }
+
+    @BuildStep
+    void validateLeaseStore(SchedulerConfig config, ValidationPhaseBuildItem validationPhase,
+            BuildProducer<ValidationErrorBuildItem> validationErrors) {
+        if (config.leaseStore() == SchedulerConfig.LeaseStore.NONE) {
+            return;
+        }
+        DotName builtInStore = config.leaseStore() == SchedulerConfig.LeaseStore.JDBC
+                ? DotName.createSimple(JdbcExecutionLeaseStore.class)
+                : DotName.createSimple(RedisExecutionLeaseStore.class);
+        List<BeanInfo> customStores = validationPhase.getContext().beans().withBeanType(ExecutionLeaseStore.class)
+                .filter(b -> !b.getBeanClass().equals(builtInStore)).collect();
+        if (!customStores.isEmpty()) {
+            // The lookup would be ambiguous and the executions would not be coordinated
+            validationErrors.produce(new ValidationErrorBuildItem(new IllegalStateException(
+                    "A custom ExecutionLeaseStore bean cannot be used together with the built-in lease store selected by "
+                            + "quarkus.scheduler.cluster.lease-store=" + config.leaseStore().name().toLowerCase()
+                            + "; remove the config property or the custom beans: " + customStores)));
+        }
+    }
+
     @BuildStep
     AutoAddScopeBuildItem autoAddScope() {
         // We add @Singleton to any bean class that has no scope annotation and declares at least one non-static method annotated with @Scheduled
@@ -436,6 +485,18 @@ public void metrics(SchedulerConfig config,
         }
     }
 
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    public void executionMetrics(SchedulerConfig config, SchedulerRuntimeConfig runtimeConfig,
+            Optional<MetricsCapabilityBuildItem> metricsCapability, SchedulerRecorder recorder,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metricsFactoryConsumer) {
+        if (config.metricsEnabled() && metricsCapability.isPresent()) {
+            // Queue depth and active executions of the jobs with a configured execution strategy or concurrency limit
+            metricsFactoryConsumer.produce(
+                    new MetricsFactoryConsumerBuildItem(recorder.registerExecutionMetrics(runtimeConfig)));
+        }
+    }
+
     private String generateInvoker(ScheduledBusinessMethodItem scheduledMethod, ClassOutput classOutput) {
 
         BeanInfo bean = scheduledMethod.getBean();
@@ -0,0 +1,68 @@
+package io.quarkus.scheduler.test.executionstrategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.event.Observes;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.SkippedExecution;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class BoundedPoolExecutionStrategyTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class))
+            .overrideConfigKey("quarkus.scheduler.trigger-engine", "priority-queue")
+            .overrideConfigKey("quarkus.scheduler.job.bounded.execution-strategy", "bounded-pool")
+            .overrideConfigKey("quarkus.scheduler.job.bounded.max-concurrency", "2")
+            .overrideConfigKey("quarkus.scheduler.job.bounded.queue-size", "1");
+
+    @Test
+    public void testExecution() throws InterruptedException {
+        // 2 executions are running, 1 is queued and the others are skipped
+        assertTrue(Jobs.SKIPPED_LATCH.await(5, TimeUnit.SECONDS));
+        assertEquals(2, Jobs.RUNNING.get());
+        Jobs.BLOCKING_LATCH.countDown();
+        assertTrue(Jobs.EXECUTED_LATCH.await(5, TimeUnit.SECONDS));
+        for (String threadName : Jobs.THREAD_NAMES) {
+            assertTrue(threadName.startsWith("quarkus-scheduler-bounded"), threadName);
+        }
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch BLOCKING_LATCH = new CountDownLatch(1);
+        static final CountDownLatch SKIPPED_LATCH = new CountDownLatch(1);
+        static final CountDownLatch EXECUTED_LATCH = new CountDownLatch(3);
+        static final AtomicInteger RUNNING = new AtomicInteger();
+        static final List<String> THREAD_NAMES = new CopyOnWriteArrayList<>();
+
+        @Scheduled(identity = "bounded", every = "0.1s")
+        void bounded() throws InterruptedException {
+            RUNNING.incrementAndGet();
+            THREAD_NAMES.add(Thread.currentThread().getName());
+            try {
+                BLOCKING_LATCH.await(10, TimeUnit.SECONDS);
+            } finally {
+                RUNNING.decrementAndGet();
+                EXECUTED_LATCH.countDown();
+            }
+        }
+
+        void onSkip(@Observes SkippedExecution event) {
+            SKIPPED_LATCH.countDown();
+        }
+    }
+}
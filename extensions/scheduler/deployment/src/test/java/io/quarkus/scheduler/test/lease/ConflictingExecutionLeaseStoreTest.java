@@ -0,0 +1,44 @@
+package io.quarkus.scheduler.test.lease;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.enterprise.inject.spi.DeploymentException;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.spi.ExecutionLeaseStore;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ConflictingExecutionLeaseStoreTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setExpectedException(DeploymentException.class)
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(AlwaysAcquireStore.class))
+            .overrideConfigKey("quarkus.scheduler.cluster.lease-store", "jdbc")
+            .overrideConfigKey("quarkus.datasource.db-kind", "h2");
+
+    @Test
+    public void test() {
+        fail("Should not reach here since a custom lease store cannot be used together with the built-in one");
+    }
+
+    @Singleton
+    static class AlwaysAcquireStore implements ExecutionLeaseStore {
+
+        @Override
+        public CompletionStage<Boolean> tryAcquire(String identity, Instant fireTime, String node, Duration leaseDuration) {
+            return CompletableFuture.completedStage(true);
+        }
+
+    }
+
+}
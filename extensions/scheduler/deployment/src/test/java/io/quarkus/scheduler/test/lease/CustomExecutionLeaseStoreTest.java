@@ -0,0 +1,134 @@
+package io.quarkus.scheduler.test.lease;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.scheduler.SkippedExecution;
+import io.quarkus.scheduler.spi.ExecutionLeaseStore;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CustomExecutionLeaseStoreTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class, InMemoryLeaseStore.class, LeaseInvokers.class))
+            .overrideConfigKey("quarkus.scheduler.cluster.node-name", "node1");
+
+    @Inject
+    Scheduler scheduler;
+
+    @Inject
+    InMemoryLeaseStore store;
+
+    @Test
+    public void testExecution() throws InterruptedException {
+        assertTrue(Jobs.SKIPPED_LATCH.await(5, TimeUnit.SECONDS));
+        assertTrue(Jobs.EXECUTED_LATCH.await(5, TimeUnit.SECONDS));
+        scheduler.pause("leased");
+
+        // The fire time of an interval job is rounded down to a multiple of the interval
+        for (Long fireTime : InMemoryLeaseStore.REQUESTED) {
+            assertEquals(0, fireTime % 1000, "Not rounded: " + fireTime);
+        }
+        // The job is executed once for each acquired lease and never for a lease acquired by another node
+        Set<Long> executed = Set.copyOf(Jobs.EXECUTED);
+        assertEquals(Jobs.EXECUTED.size(), executed.size(), "Executed more than once: " + Jobs.EXECUTED);
+        assertTrue(InMemoryLeaseStore.ACQUIRED.containsAll(executed), InMemoryLeaseStore.ACQUIRED + " vs " + executed);
+        for (Long skipped : Jobs.SKIPPED) {
+            assertFalse(executed.contains(skipped), "Skipped and executed: " + skipped);
+        }
+    }
+
+    @Test
+    public void testSharedStore() throws Exception {
+        // Two nodes share the store and their fire times are not aligned
+        LeaseInvokers invokers = new LeaseInvokers(store, 1000);
+        invokers.fire("node1", 10_200);
+        invokers.fire("node2", 10_700);
+        assertEquals(1, invokers.executions());
+        assertEquals(1, invokers.skipped());
+        invokers.fire("node2", 11_100);
+        invokers.fire("node1", 11_900);
+        assertEquals(2, invokers.executions());
+        assertEquals(2, invokers.skipped());
+    }
+
+    @Singleton
+    static class InMemoryLeaseStore implements ExecutionLeaseStore {
+
+        static final List<Long> REQUESTED = new CopyOnWriteArrayList<>();
+        static final Set<Long> ACQUIRED = ConcurrentHashMap.newKeySet();
+
+        private final Set<String> leases = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        @Override
+        public CompletionStage<Boolean> tryAcquire(String identity, Instant fireTime, String node, Duration leaseDuration) {
+            String key = identity + ":" + fireTime.toEpochMilli();
+            if (identity.equals("leased")) {
+                assertEquals("node1", node);
+                REQUESTED.add(fireTime.toEpochMilli());
+                if (attempts.incrementAndGet() % 2 == 0) {
+                    // Simulate a lease acquired by another node
+                    leases.add(key);
+                }
+            }
+            boolean acquired = leases.add(key);
+            if (acquired && identity.equals("leased")) {
+                ACQUIRED.add(fireTime.toEpochMilli());
+            }
+            return CompletableFuture.completedStage(acquired);
+        }
+
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch SKIPPED_LATCH = new CountDownLatch(1);
+        static final CountDownLatch EXECUTED_LATCH = new CountDownLatch(2);
+        static final List<Long> EXECUTED = new CopyOnWriteArrayList<>();
+        static final List<Long> SKIPPED = new CopyOnWriteArrayList<>();
+
+        @Scheduled(identity = "leased", every = "1s")
+        void leased(ScheduledExecution execution) {
+            EXECUTED.add(slot(execution));
+            EXECUTED_LATCH.countDown();
+        }
+
+        void onSkip(@Observes SkippedExecution event) {
+            if (event.triggerId.equals("leased")) {
+                SKIPPED.add(slot(event.getExecution()));
+                SKIPPED_LATCH.countDown();
+            }
+        }
+
+        static long slot(ScheduledExecution execution) {
+            long millis = execution.getScheduledFireTime().toEpochMilli();
+            return millis - Math.floorMod(millis, 1000);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.quarkus.scheduler.test.lease;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.runtime.lease.JdbcExecutionLeaseStore;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class JdbcExecutionLeaseStoreTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class, LeaseInvokers.class))
+            .overrideConfigKey("quarkus.scheduler.cluster.lease-store", "jdbc")
+            .overrideConfigKey("quarkus.datasource.db-kind", "h2")
+            .overrideConfigKey("quarkus.datasource.jdbc.url",
+                    "jdbc:h2:mem:leases;DB_CLOSE_DELAY=-1;INIT=CREATE TABLE IF NOT EXISTS QUARKUS_SCHEDULER_LEASES "
+                            + "(JOB_ID VARCHAR(255) NOT NULL, FIRE_TIME BIGINT NOT NULL, NODE_NAME VARCHAR(255), "
+                            + "EXPIRES_AT BIGINT NOT NULL, PRIMARY KEY (JOB_ID, FIRE_TIME))");
+
+    @Inject
+    JdbcExecutionLeaseStore store;
+
+    @Test
+    public void testTryAcquire() throws Exception {
+        Instant fireTime = Instant.ofEpochSecond(1000);
+        Duration leaseDuration = Duration.ofMinutes(1);
+        assertTrue(acquire("foo", fireTime, "node1", leaseDuration));
+        // Duplicate key - the lease was acquired by another node
+        assertFalse(acquire("foo", fireTime, "node2", leaseDuration));
+        assertFalse(acquire("foo", fireTime, "node1", leaseDuration));
+        // Different fire time or identity
+        assertTrue(acquire("foo", fireTime.plusSeconds(1), "node2", leaseDuration));
+        assertTrue(acquire("bar", fireTime, "node2", leaseDuration));
+    }
+
+    @Test
+    public void testScheduledJob() throws InterruptedException {
+        // A single node acquires every lease
+        assertTrue(Jobs.LATCH.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testSharedStore() throws Exception {
+        LeaseInvokers invokers = new LeaseInvokers(store, 1000);
+        // Both nodes fire within the same interval slot
+        invokers.fire("node1", 10_200);
+        invokers.fire("node2", 10_700);
+        assertEquals(1, invokers.executions());
+        invokers.fire("node2", 11_100);
+        invokers.fire("node1", 11_900);
+        assertEquals(2, invokers.executions());
+        assertEquals(2, invokers.skipped());
+    }
+
+    private boolean acquire(String identity, Instant fireTime, String node, Duration leaseDuration) throws Exception {
+        return store.tryAcquire(identity, fireTime, node, leaseDuration).toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(2);
+
+        @Scheduled(identity = "jdbc-leased", every = "1s")
+        void leased() {
+            LATCH.countDown();
+        }
+
+    }
+
+}
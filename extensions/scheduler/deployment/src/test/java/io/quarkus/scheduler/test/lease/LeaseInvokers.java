@@ -0,0 +1,109 @@
+package io.quarkus.scheduler.test.lease;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.SkippedExecution;
+import io.quarkus.scheduler.Trigger;
+import io.quarkus.scheduler.common.runtime.LeaseInvoker;
+import io.quarkus.scheduler.spi.ExecutionLeaseStore;
+
+/**
+ * Simulates the nodes of a cluster that share a lease store; each node fires the same interval job.
+ */
+class LeaseInvokers {
+
+    private final ExecutionLeaseStore store;
+    private final long slot;
+    private final String identity;
+    private final AtomicInteger executions = new AtomicInteger();
+    private final Event<SkippedExecution> event;
+
+    LeaseInvokers(ExecutionLeaseStore store, long slot) {
+        this.store = store;
+        this.slot = slot;
+        // Every test uses its own job
+        this.identity = "shared-" + System.nanoTime();
+        // The skipped executions are fired as CDI events and counted by SkippedExecutions
+        this.event = Arc.container().beanManager().getEvent().select(SkippedExecution.class);
+    }
+
+    void fire(String node, long scheduledFireTime) throws Exception {
+        LeaseInvoker invoker = new LeaseInvoker(execution -> {
+            executions.incrementAndGet();
+            return CompletableFuture.completedStage(null);
+        }, store, node, Duration.ofMinutes(1), slot, event);
+        invoker.invoke(new Execution(identity, Instant.ofEpochMilli(scheduledFireTime))).toCompletableFuture().get(5,
+                TimeUnit.SECONDS);
+    }
+
+    int executions() {
+        return executions.get();
+    }
+
+    int skipped() {
+        AtomicInteger skipped = SkippedExecutions.SKIPPED.get(identity);
+        return skipped == null ? 0 : skipped.get();
+    }
+
+    @Singleton
+    static class SkippedExecutions {
+
+        // job identity -> number of skipped executions
+        static final Map<String, AtomicInteger> SKIPPED = new ConcurrentHashMap<>();
+
+        void onSkip(@Observes SkippedExecution event) {
+            SKIPPED.computeIfAbsent(event.triggerId, k -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
+    private record Execution(String identity, Instant scheduledFireTime) implements ScheduledExecution, Trigger {
+
+        @Override
+        public Trigger getTrigger() {
+            return this;
+        }
+
+        @Override
+        public Instant getFireTime() {
+            return scheduledFireTime;
+        }
+
+        @Override
+        public Instant getScheduledFireTime() {
+            return scheduledFireTime;
+        }
+
+        @Override
+        public String getId() {
+            return identity;
+        }
+
+        @Override
+        public Instant getNextFireTime() {
+            return null;
+        }
+
+        @Override
+        public Instant getPreviousFireTime() {
+            return scheduledFireTime;
+        }
+
+        @Override
+        public boolean isOverdue() {
+            return false;
+        }
+    }
+
+}
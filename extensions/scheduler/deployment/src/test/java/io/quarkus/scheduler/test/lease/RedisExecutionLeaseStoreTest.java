@@ -0,0 +1,67 @@
+package io.quarkus.scheduler.test.lease;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.runtime.lease.RedisExecutionLeaseStore;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RedisExecutionLeaseStoreTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(LeaseInvokers.class))
+            .overrideConfigKey("quarkus.scheduler.cluster.lease-store", "redis");
+
+    @Inject
+    RedisExecutionLeaseStore store;
+
+    @Test
+    public void testTryAcquire() throws Exception {
+        Instant fireTime = Instant.now();
+        Duration leaseDuration = Duration.ofMinutes(1);
+        assertTrue(acquire("foo", fireTime, "node1", leaseDuration));
+        // The key exists - the lease was acquired by another node
+        assertFalse(acquire("foo", fireTime, "node2", leaseDuration));
+        // Different fire time or identity
+        assertTrue(acquire("foo", fireTime.plusSeconds(1), "node2", leaseDuration));
+        assertTrue(acquire("bar", fireTime, "node2", leaseDuration));
+    }
+
+    @Test
+    public void testLeaseExpires() throws Exception {
+        Instant fireTime = Instant.now();
+        Duration leaseDuration = Duration.ofMillis(200);
+        assertTrue(acquire("expiring", fireTime, "node1", leaseDuration));
+        assertFalse(acquire("expiring", fireTime, "node2", leaseDuration));
+        // Redis removes the key once the lease expired
+        await().atMost(Duration.ofSeconds(5)).until(() -> acquire("expiring", fireTime, "node2", leaseDuration));
+    }
+
+    @Test
+    public void testSharedStore() throws Exception {
+        LeaseInvokers invokers = new LeaseInvokers(store, 1000);
+        long base = Instant.now().toEpochMilli() / 1000 * 1000;
+        invokers.fire("node1", base + 200);
+        invokers.fire("node2", base + 700);
+        assertEquals(1, invokers.executions());
+        assertEquals(1, invokers.skipped());
+    }
+
+    private boolean acquire(String identity, Instant fireTime, String node, Duration leaseDuration) throws Exception {
+        return store.tryAcquire(identity, fireTime, node, leaseDuration).toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+
+}
@@ -0,0 +1,87 @@
+package io.quarkus.scheduler.test.priorityqueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PriorityQueueTriggerEngineTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class))
+            .overrideConfigKey("quarkus.scheduler.trigger-engine", "priority-queue");
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testSubSecondInterval() throws InterruptedException {
+        // The periodic check would only fire the job once a second
+        assertTrue(Jobs.EVERY_LATCH.await(3, TimeUnit.SECONDS));
+        assertTrue(Jobs.CRON_LATCH.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testProgrammaticJobs() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(5);
+        AtomicInteger counter = new AtomicInteger();
+        AtomicInteger running = new AtomicInteger();
+        assertNotNull(scheduler.newJob("fast")
+                .setInterval("200ms")
+                .setTask(ex -> {
+                    running.incrementAndGet();
+                    try {
+                        counter.incrementAndGet();
+                        latch.countDown();
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                })
+                .schedule());
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+
+        assertNotNull(scheduler.unscheduleJob("fast"));
+        // An execution triggered before the job was unscheduled may still be running or about to start
+        TimeUnit.MILLISECONDS.sleep(200);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (running.get() > 0 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertEquals(0, running.get());
+        int executions = counter.get();
+        TimeUnit.MILLISECONDS.sleep(500);
+        assertEquals(executions, counter.get());
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch EVERY_LATCH = new CountDownLatch(10);
+        static final CountDownLatch CRON_LATCH = new CountDownLatch(2);
+
+        @Scheduled(every = "0.1s")
+        void everyHundredMillis() {
+            EVERY_LATCH.countDown();
+        }
+
+        @Scheduled(cron = "0/1 * * * * ?")
+        void everySecond() {
+            CRON_LATCH.countDown();
+        }
+
+    }
+
+}
@@ -47,4 +47,33 @@ public interface SchedulerConfig {
     @WithDefault("false")
     boolean useCompositeScheduler();
 
+    /**
+     * The store used by the Simple scheduler to coordinate the executions of the scheduled jobs across the nodes of a
+     * cluster. If set then a job is executed only by the node that acquired the lease for the scheduled fire time.
+     * <p>
+     * A custom {@link io.quarkus.scheduler.spi.ExecutionLeaseStore} bean can be used instead of the built-in stores.
+     */
+    @WithName("cluster.lease-store")
+    @WithDefault("none")
+    LeaseStore leaseStore();
+
+    enum LeaseStore {
+
+        /**
+         * The executions are not coordinated, unless a custom {@link io.quarkus.scheduler.spi.ExecutionLeaseStore} bean is
+         * provided.
+         */
+        NONE,
+
+        /**
+         * The leases are stored in a database table. Requires the Agroal extension.
+         */
+        JDBC,
+
+        /**
+         * The leases are stored as Redis keys with an expiration. Requires the Redis client extension.
+         */
+        REDIS;
+    }
+
 }
@@ -2,16 +2,28 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map.Entry;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import jakarta.enterprise.inject.Any;
+
 import com.cronutils.model.CronType;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.scheduler.common.runtime.BoundedOffloadingInvoker;
+import io.quarkus.scheduler.common.runtime.ExecutionStrategy;
 import io.quarkus.scheduler.common.runtime.ImmutableScheduledMethod;
 import io.quarkus.scheduler.common.runtime.MutableScheduledMethod;
 import io.quarkus.scheduler.common.runtime.ScheduledMethod;
 import io.quarkus.scheduler.common.runtime.SchedulerContext;
+import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.JobExecutionConfig;
 
 @Recorder
 public class SchedulerRecorder {
@@ -69,6 +81,50 @@ public String autoImplementation() {
         };
     }
 
+    public Consumer<MetricsFactory> registerExecutionMetrics(SchedulerRuntimeConfig runtimeConfig) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                for (Entry<String, JobExecutionConfig> e : runtimeConfig.jobs().entrySet()) {
+                    if (e.getValue().executionStrategy() == ExecutionStrategy.DEFAULT
+                            && e.getValue().maxConcurrency().isEmpty()) {
+                        continue;
+                    }
+                    String identity = e.getKey();
+                    metricsFactory.builder("scheduled.executions.queued")
+                            .description("Number of executions waiting for a running execution of the job to complete.")
+                            .tag("job", identity)
+                            .buildGauge(executionMetric(identity, BoundedOffloadingInvoker::getQueueDepth));
+                    metricsFactory.builder("scheduled.executions.active")
+                            .description("Number of running executions of the job.")
+                            .tag("job", identity)
+                            .buildGauge(executionMetric(identity, BoundedOffloadingInvoker::getActiveExecutions));
+                    metricsFactory.builder("scheduled.executions.rejected")
+                            .description("Number of executions of the job skipped because the queue was full.")
+                            .tag("job", identity)
+                            .buildCounter(executionMetric(identity, BoundedOffloadingInvoker::getRejectedExecutions));
+                }
+            }
+        };
+    }
+
+    private static Supplier<Number> executionMetric(String identity, Function<BoundedOffloadingInvoker, Number> fun) {
+        return new Supplier<Number>() {
+            @Override
+            public Number get() {
+                // The scheduler is looked up lazily, i.e. when the metric is collected
+                for (InstanceHandle<Scheduler> handle : Arc.container().select(Scheduler.class, Any.Literal.INSTANCE)
+                        .handles()) {
+                    if (handle.get() instanceof SimpleScheduler simpleScheduler) {
+                        BoundedOffloadingInvoker invoker = simpleScheduler.getBoundedInvoker(identity);
+                        return invoker != null ? fun.apply(invoker) : 0;
+                    }
+                }
+                return 0;
+            }
+        };
+    }
+
     private List<ScheduledMethod> immutableCopy(List<MutableScheduledMethod> scheduledMethods) {
         List<ScheduledMethod> metadata = new ArrayList<>(scheduledMethods.size());
         for (ScheduledMethod scheduledMethod : scheduledMethods) {
@@ -1,12 +1,19 @@
 package io.quarkus.scheduler.runtime;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
 
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
+import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.quarkus.scheduler.Scheduler;
+import io.quarkus.scheduler.common.runtime.ExecutionStrategy;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
 
 @ConfigRoot(phase = ConfigPhase.RUN_TIME)
 @ConfigMapping(prefix = "quarkus.scheduler")
@@ -31,6 +38,112 @@ public interface SchedulerRuntimeConfig {
     @WithDefault("normal")
     StartMode startMode();
 
+    /**
+     * The strategy used by the Simple scheduler to find the triggers that should be fired.
+     */
+    @WithDefault("scan")
+    TriggerEngine triggerEngine();
+
+    /**
+     * Execution configuration per job. The key is the identity of the job.
+     */
+    @ConfigDocSection
+    @ConfigDocMapKey("identity")
+    @WithName("job")
+    Map<String, JobExecutionConfig> jobs();
+
+    /**
+     * Cluster coordination configuration.
+     */
+    @ConfigDocSection
+    ClusterConfig cluster();
+
+    interface JobExecutionConfig {
+
+        /**
+         * The strategy used to execute the job.
+         * <p>
+         * The {@code virtual-thread} strategy requires a JDK with virtual threads support.
+         */
+        @WithDefault("default")
+        ExecutionStrategy executionStrategy();
+
+        /**
+         * The max number of concurrent executions of the job. If the limit is reached then the executions are queued.
+         * <p>
+         * For the {@code bounded-pool} strategy, this is also the size of the dedicated pool and defaults to {@code 1}. For
+         * other strategies, the number of concurrent executions is not limited by default.
+         */
+        OptionalInt maxConcurrency();
+
+        /**
+         * The max number of executions waiting for a running execution to complete. If the queue is full then the execution
+         * is skipped.
+         */
+        @WithDefault("100")
+        int queueSize();
+
+    }
+
+    interface ClusterConfig {
+
+        /**
+         * The name of this node. By default, a random name is generated at startup.
+         */
+        Optional<String> nodeName();
+
+        /**
+         * The period a lease is kept in the store. It must be longer than the maximum clock difference between the nodes.
+         */
+        @WithDefault("10m")
+        Duration leaseDuration();
+
+        /**
+         * The JDBC lease store configuration.
+         */
+        JdbcLeaseStoreConfig jdbc();
+
+        /**
+         * The Redis lease store configuration.
+         */
+        RedisLeaseStoreConfig redis();
+
+    }
+
+    interface JdbcLeaseStoreConfig {
+
+        /**
+         * The name of the datasource. By default, the default datasource is used.
+         */
+        Optional<String> datasource();
+
+        /**
+         * The name of the table that holds the leases.
+         * <p>
+         * The table must exist and have the columns {@code JOB_ID} ({@code VARCHAR}), {@code FIRE_TIME} ({@code BIGINT}),
+         * {@code NODE_NAME} ({@code VARCHAR}) and {@code EXPIRES_AT} ({@code BIGINT}), with a primary key on {@code JOB_ID}
+         * and {@code FIRE_TIME}.
+         */
+        @WithDefault("QUARKUS_SCHEDULER_LEASES")
+        String tableName();
+
+    }
+
+    interface RedisLeaseStoreConfig {
+
+        /**
+         * The name of the Redis client. By default, the default client is used.
+         */
+        Optional<String> clientName();
+
+        /**
+         * The prefix of the keys that hold the leases.
+         */
+        @WithDefault("quarkus-scheduler:lease")
+        String keyPrefix();
+
+    }
+
     enum StartMode {
 
         /**
@@ -53,4 +166,23 @@ enum StartMode {
          */
         HALTED;
     }
+
+    enum TriggerEngine {
+
+        /**
+         * All registered triggers are checked once a second.
+         * <p>
+         * An {@link io.quarkus.scheduler.Scheduled#every()} value less than one second is not supported.
+         */
+        SCAN,
+
+        /**
+         * The triggers are kept ordered by the time of the next evaluation and the trigger check thread only wakes up when
+         * a trigger is due.
+         * <p>
+         * The cost of a check depends on the number of due triggers rather than on the number of registered triggers. Moreover,
+         * an {@link io.quarkus.scheduler.Scheduled#every()} value less than one second is supported.
+         */
+        PRIORITY_QUEUE;
+    }
 }
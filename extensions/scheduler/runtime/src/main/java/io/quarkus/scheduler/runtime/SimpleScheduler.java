@@ -6,18 +6,29 @@
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.PriorityQueue;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import jakarta.annotation.PreDestroy;
@@ -50,15 +61,21 @@
 import io.quarkus.scheduler.Trigger;
 import io.quarkus.scheduler.common.runtime.AbstractJobDefinition;
 import io.quarkus.scheduler.common.runtime.BaseScheduler;
+import io.quarkus.scheduler.common.runtime.BoundedOffloadingInvoker;
 import io.quarkus.scheduler.common.runtime.CronParser;
 import io.quarkus.scheduler.common.runtime.DefaultInvoker;
 import io.quarkus.scheduler.common.runtime.Events;
+import io.quarkus.scheduler.common.runtime.ExecutionStrategy;
+import io.quarkus.scheduler.common.runtime.LeaseInvoker;
 import io.quarkus.scheduler.common.runtime.ScheduledInvoker;
 import io.quarkus.scheduler.common.runtime.ScheduledMethod;
 import io.quarkus.scheduler.common.runtime.SchedulerContext;
 import io.quarkus.scheduler.common.runtime.SyntheticScheduled;
 import io.quarkus.scheduler.common.runtime.util.SchedulerUtils;
+import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.JobExecutionConfig;
 import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.StartMode;
+import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.TriggerEngine;
+import io.quarkus.scheduler.spi.ExecutionLeaseStore;
 import io.quarkus.scheduler.spi.JobInstrumenter;
 import io.vertx.core.Vertx;
 
@@ -75,6 +92,17 @@ public class SimpleScheduler extends BaseScheduler implements Scheduler {
     private volatile boolean running;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
     private final SchedulerConfig schedulerConfig;
+    // null if all triggers are checked periodically
+    private final TriggerQueue triggerQueue;
+    // the unit used to truncate the last fire time of an interval trigger
+    private final ChronoUnit triggerResolution;
+    private final Map<String, JobExecutionConfig> jobExecutionConfigs;
+    // job identity -> invoker that limits the concurrent executions
+    private final ConcurrentMap<String, BoundedOffloadingInvoker> boundedInvokers;
+    // null if the executions are not coordinated across the cluster
+    private final ExecutionLeaseStore leaseStore;
+    private final String nodeName;
+    private final Duration leaseDuration;
 
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
             Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
@@ -82,7 +110,8 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
             Event<SchedulerPaused> schedulerPausedEvent, Event<SchedulerResumed> schedulerResumedEvent,
             Event<ScheduledJobPaused> scheduledJobPausedEvent,
             Event<ScheduledJobResumed> scheduledJobResumedEvent, Vertx vertx, SchedulerConfig schedulerConfig,
-            Instance<JobInstrumenter> jobInstrumenter, ScheduledExecutorService blockingExecutor) {
+            Instance<JobInstrumenter> jobInstrumenter, ScheduledExecutorService blockingExecutor,
+            Instance<ExecutionLeaseStore> leaseStore) {
         super(vertx, new CronParser(context.getCronType()), schedulerRuntimeConfig.overdueGracePeriod(),
                 new Events(skippedExecutionEvent, successExecutionEvent, failedExecutionEvent, delayedExecutionEvent,
                         schedulerPausedEvent, schedulerResumedEvent, scheduledJobPausedEvent, scheduledJobResumedEvent),
@@ -90,9 +119,26 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
         this.running = true;
         this.scheduledTasks = new ConcurrentHashMap<>();
         this.schedulerConfig = schedulerConfig;
+        this.triggerResolution = schedulerRuntimeConfig.triggerEngine() == TriggerEngine.PRIORITY_QUEUE ? ChronoUnit.MILLIS
+                : ChronoUnit.SECONDS;
+        this.jobExecutionConfigs = schedulerRuntimeConfig.jobs();
+        this.boundedInvokers = new ConcurrentHashMap<>();
+        if (leaseStore.isAmbiguous()) {
+            // Falling back to uncoordinated executions would silently execute the jobs on every node
+            throw new IllegalStateException("Multiple ExecutionLeaseStore beans found: "
+                    + leaseStore.handlesStream().map(h -> h.getBean().getBeanClass().getName()).toList());
+        }
+        this.leaseStore = leaseStore.isResolvable() ? leaseStore.get() : null;
+        this.nodeName = schedulerRuntimeConfig.cluster().nodeName().orElseGet(() -> UUID.randomUUID().toString());
+        this.leaseDuration = schedulerRuntimeConfig.cluster().leaseDuration();
+        if (this.leaseStore != null) {
+            LOG.debugf("Scheduled executions are coordinated by %s [node: %s]", this.leaseStore.getClass().getName(),
+                    nodeName);
+        }
 
         if (!schedulerRuntimeConfig.enabled()) {
             this.scheduledExecutor = null;
+            this.triggerQueue = null;
             LOG.info("Simple scheduler is disabled by config property and will not be started");
             return;
         }
@@ -101,6 +147,7 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
         if (startMode == StartMode.NORMAL && context.getScheduledMethods(Scheduled.SIMPLE).isEmpty()
                 && !context.forceSchedulerStart()) {
             this.scheduledExecutor = null;
+            this.triggerQueue = null;
             LOG.info("No scheduled business methods found - Simple scheduler will not be started");
             return;
         }
@@ -123,13 +170,18 @@ public Thread newThread(Runnable runnable) {
                 return t;
             }
         };
-        // This executor is used to check all registered triggers every second
+        // This executor is used to check the registered triggers
         this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
             @Override
             public void run() {
                 // noop
             }
         });
+        if (schedulerRuntimeConfig.triggerEngine() == TriggerEngine.PRIORITY_QUEUE) {
+            this.triggerQueue = new TriggerQueue(scheduledExecutor, scheduledTasks, () -> running, vertx);
+        } else {
+            this.triggerQueue = null;
+        }
 
         if (startMode == StartMode.HALTED) {
             running = false;
@@ -156,8 +208,14 @@ public void run() {
                     }
                     ScheduledInvoker invoker = initInvoker(context.createInvoker(method.getInvokerClassName()), events,
                             scheduled.concurrentExecution(), initSkipPredicate(scheduled.skipExecutionIf()), instrumenter,
-                            vertx, false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor);
-                    scheduledTasks.put(trigger.get().id, new ScheduledTask(trigger.get(), invoker, false));
+                            vertx, false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor,
+                            initOffloadingInvoker(id));
+                    invoker = initLeaseInvoker(invoker, trigger.get());
+                    ScheduledTask task = new ScheduledTask(trigger.get(), invoker, false);
+                    scheduledTasks.put(task.trigger.id, task);
+                    if (triggerQueue != null) {
+                        triggerQueue.add(task);
+                    }
                 }
             }
         }
@@ -196,6 +254,10 @@ public Trigger unscheduleJob(String identity) {
             ScheduledTask task = scheduledTasks.get(parsedIdentity);
             if (task != null && task.isProgrammatic) {
                 if (scheduledTasks.remove(task.trigger.id) != null) {
+                    BoundedOffloadingInvoker boundedInvoker = boundedInvokers.remove(task.trigger.id);
+                    if (boundedInvoker != null) {
+                        boundedInvoker.close();
+                    }
                     return task.trigger;
                 }
             }
@@ -208,6 +270,10 @@ void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEven
         if (scheduledExecutor == null) {
             return;
         }
+        if (triggerQueue != null) {
+            triggerQueue.start();
+            return;
+        }
         // Try to compute the initial delay to execute the checks near to the whole second
         // Note that this does not guarantee anything, it's just best effort
         LocalDateTime now = LocalDateTime.now();
@@ -225,6 +291,55 @@ void stop() {
         } catch (Exception e) {
             LOG.warn("Unable to shutdown the scheduler executor", e);
         }
+        for (BoundedOffloadingInvoker boundedInvoker : boundedInvokers.values()) {
+            boundedInvoker.close();
+        }
+    }
+
+    /**
+     *
+     * @return the invoker that limits the concurrent executions of the given job, or {@code null}
+     */
+    BoundedOffloadingInvoker getBoundedInvoker(String identity) {
+        return boundedInvokers.get(identity);
+    }
+
+    private ScheduledInvoker initLeaseInvoker(ScheduledInvoker invoker, SimpleTrigger trigger) {
+        if (leaseStore == null) {
+            return invoker;
+        }
+        // The fire times of an interval trigger depend on the start of the node
+        long slot = trigger instanceof IntervalTrigger intervalTrigger ? intervalTrigger.interval : 0;
+        return new LeaseInvoker(invoker, leaseStore, nodeName, leaseDuration, slot, events.skippedExecution);
+    }
+
+    private Function<ScheduledInvoker, ScheduledInvoker> initOffloadingInvoker(String identity) {
+        return initOffloadingInvoker(identity, boundedInvoker -> boundedInvokers.put(identity, boundedInvoker));
+    }
+
+    /**
+     *
+     * @param registration the consumer of the bounded invoker once it is created, responsible for registering it
+     */
+    private Function<ScheduledInvoker, ScheduledInvoker> initOffloadingInvoker(String identity,
+            Consumer<BoundedOffloadingInvoker> registration) {
+        JobExecutionConfig config = jobExecutionConfigs.get(identity);
+        if (config == null
+                || (config.executionStrategy() == ExecutionStrategy.DEFAULT && config.maxConcurrency().isEmpty())) {
+            // Use the default offloading invoker
+            return null;
+        }
+        return new Function<ScheduledInvoker, ScheduledInvoker>() {
+            @Override
+            public ScheduledInvoker apply(ScheduledInvoker invoker) {
+                int maxConcurrency = config.maxConcurrency()
+                        .orElse(config.executionStrategy() == ExecutionStrategy.BOUNDED_POOL ? 1 : Integer.MAX_VALUE);
+                BoundedOffloadingInvoker boundedInvoker = new BoundedOffloadingInvoker(invoker, vertx,
+                        config.executionStrategy(), identity, maxConcurrency, config.queueSize(), events.skippedExecution);
+                registration.accept(boundedInvoker);
+                return boundedInvoker;
+            }
+        };
     }
 
     void checkTriggers() {
@@ -367,7 +482,8 @@ Optional<SimpleTrigger> createTrigger(String id, String methodDescription, Sched
                 return Optional.empty();
             }
             return Optional.of(new IntervalTrigger(id, start, everyMillis.getAsLong(),
-                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), methodDescription));
+                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), methodDescription,
+                    triggerResolution));
         } else {
             throw new IllegalArgumentException("Either the 'cron' expression or the 'every' period must be set: " + scheduled);
         }
@@ -422,6 +538,11 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * @return the epoch milliseconds when this trigger should be evaluated next, or {@code -1} if it never fires again
+         */
+        abstract long nextEvaluation();
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -451,12 +572,15 @@ static class IntervalTrigger extends SimpleTrigger {
         // milliseconds
         private final long interval;
         private final Duration gracePeriod;
+        private final ChronoUnit resolution;
 
-        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, String description) {
+        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, String description,
+                ChronoUnit resolution) {
             super(id, start, description);
             this.interval = interval;
             this.gracePeriod = gracePeriod;
-            if (interval < CHECK_PERIOD) {
+            this.resolution = resolution;
+            if (interval < CHECK_PERIOD && resolution == ChronoUnit.SECONDS) {
                 LOG.warnf(
                         "An every() value less than %s ms is not supported - the scheduled job will be executed with a delay: %s",
                         CHECK_PERIOD, description);
@@ -470,13 +594,13 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             }
             if (lastFireTime == null) {
                 // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = now.truncatedTo(resolution);
                 return now;
             }
             long diff = ChronoUnit.MILLIS.between(lastFireTime, now);
             if (diff >= interval) {
                 ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = now.truncatedTo(resolution);
                 LOG.tracef("%s fired, diff=%s ms", this, diff);
                 return scheduledFireTime;
             }
@@ -492,6 +616,15 @@ public Instant getNextFireTime() {
             return last.plus(Duration.ofMillis(interval)).toInstant();
         }
 
+        @Override
+        long nextEvaluation() {
+            ZonedDateTime last = lastFireTime;
+            if (last == null) {
+                return start.toInstant().toEpochMilli();
+            }
+            return last.toInstant().toEpochMilli() + interval;
+        }
+
         @Override
         public boolean isOverdue() {
             ZonedDateTime now = ZonedDateTime.now();
@@ -517,6 +650,10 @@ static class CronTrigger extends SimpleTrigger {
         private final ExecutionTime executionTime;
         private final Duration gracePeriod;
         private final ZoneId timeZone;
+        private final long startMillis;
+        // The epoch milliseconds of the next execution after the last fire time, or -1 if there is no next execution;
+        // it's only recomputed when the trigger fires so that a trigger that is not due is evaluated without any allocation
+        private volatile long nextFireTime;
 
         CronTrigger(String id, ZonedDateTime start, Cron cron, Duration gracePeriod, ZoneId timeZone, String description) {
             super(id, start, description);
@@ -524,13 +661,26 @@ static class CronTrigger extends SimpleTrigger {
             this.executionTime = ExecutionTime.forCron(cron);
             this.gracePeriod = gracePeriod;
             this.timeZone = timeZone;
+            this.startMillis = epochMillis(start);
             // The last fire time stores the zoned time
             this.lastFireTime = zoned(start);
+            this.nextFireTime = computeNextFireTime(lastFireTime);
         }
 
         @Override
         public Instant getNextFireTime() {
-            return executionTime.nextExecution(lastFireTime).map(ZonedDateTime::toInstant).orElse(null);
+            long next = nextFireTime;
+            return next < 0 ? null : Instant.ofEpochMilli(next);
+        }
+
+        @Override
+        long nextEvaluation() {
+            long next = nextFireTime;
+            if (next < 0) {
+                return -1;
+            }
+            // The trigger is never evaluated before the start
+            return Math.max(next, startMillis);
         }
 
         @Override
@@ -538,6 +688,11 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             if (now.isBefore(start)) {
                 return null;
             }
+            long next = nextFireTime;
+            if (next < 0 || epochMillis(now) <= next) {
+                // Not due yet
+                return null;
+            }
             now = zoned(now);
             Optional<ZonedDateTime> lastExecution = executionTime.lastExecution(now);
             if (lastExecution.isPresent()) {
@@ -545,6 +700,7 @@ ZonedDateTime evaluate(ZonedDateTime now) {
                 if (now.isAfter(lastTruncated) && lastFireTime.isBefore(lastTruncated)) {
                     LOG.tracef("%s fired, last=%s", this, lastTruncated);
                     lastFireTime = now;
+                    nextFireTime = computeNextFireTime(now);
                     return lastTruncated;
                 }
             }
@@ -557,9 +713,8 @@ public boolean isOverdue() {
             if (now.isBefore(start)) {
                 return false;
             }
-            now = zoned(now);
-            Optional<ZonedDateTime> nextFireTime = executionTime.nextExecution(lastFireTime);
-            return nextFireTime.isEmpty() || nextFireTime.get().plus(gracePeriod).isBefore(now);
+            long next = nextFireTime;
+            return next < 0 || next + gracePeriod.toMillis() < epochMillis(now);
         }
 
         @Override
@@ -568,10 +723,144 @@ public String toString() {
                     + timeZone + "]";
         }
 
+        private long computeNextFireTime(ZonedDateTime lastFireTime) {
+            return executionTime.nextExecution(lastFireTime).map(CronTrigger::epochMillis).orElse(-1L);
+        }
+
         private ZonedDateTime zoned(ZonedDateTime time) {
             return timeZone == null ? time : time.withZoneSameInstant(timeZone);
         }
 
+        // unlike toInstant().toEpochMilli() this does not allocate
+        private static long epochMillis(ZonedDateTime time) {
+            return time.toEpochSecond() * 1000 + time.getNano() / 1_000_000;
+        }
+
+    }
+
+    /**
+     * Keeps the scheduled tasks ordered by the time of the next evaluation of their triggers so that the trigger check
+     * thread only wakes up when a trigger is due.
+     * <p>
+     * Unscheduled tasks are not removed eagerly; they are discarded once they reach the head of the queue.
+     */
+    static class TriggerQueue {
+
+        private final ScheduledExecutorService executor;
+        private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
+        private final BooleanSupplier running;
+        private final Vertx vertx;
+        private final PriorityQueue<QueuedTask> queue;
+
+        // the following fields are guarded by this
+        private boolean started;
+        private boolean checking;
+        private ScheduledFuture<?> wakeUp;
+        private long wakeUpAt;
+
+        TriggerQueue(ScheduledExecutorService executor, ConcurrentMap<String, ScheduledTask> scheduledTasks,
+                BooleanSupplier running, Vertx vertx) {
+            this.executor = executor;
+            this.scheduledTasks = scheduledTasks;
+            this.running = running;
+            this.vertx = vertx;
+            this.queue = new PriorityQueue<>(Comparator.comparingLong(QueuedTask::time));
+        }
+
+        synchronized void start() {
+            started = true;
+            scheduleWakeUp();
+        }
+
+        void add(ScheduledTask task) {
+            long time = task.trigger.nextEvaluation();
+            if (time < 0) {
+                return;
+            }
+            synchronized (this) {
+                queue.add(new QueuedTask(task, time));
+                if (wakeUp == null || time < wakeUpAt) {
+                    scheduleWakeUp();
+                }
+            }
+        }
+
+        synchronized int size() {
+            return queue.size();
+        }
+
+        void check(ZonedDateTime now) {
+            long nowMillis = now.toInstant().toEpochMilli();
+            List<ScheduledTask> due = new ArrayList<>();
+            synchronized (this) {
+                checking = true;
+                wakeUp = null;
+                QueuedTask head;
+                while ((head = queue.peek()) != null && head.time <= nowMillis) {
+                    due.add(queue.poll().task);
+                }
+            }
+            List<QueuedTask> requeued = new ArrayList<>(due.size());
+            try {
+                if (!running.getAsBoolean()) {
+                    LOG.trace("Skip all triggers - scheduler paused");
+                }
+                for (ScheduledTask task : due) {
+                    if (scheduledTasks.get(task.trigger.id) != task) {
+                        // Unscheduled in the meantime
+                        continue;
+                    }
+                    long next;
+                    if (running.getAsBoolean() && task.trigger.isRunning()) {
+                        task.execute(now, vertx);
+                        next = task.trigger.nextEvaluation();
+                        if (next < 0) {
+                            continue;
+                        }
+                        // Make sure a trigger that was not fired is not evaluated again within the same check
+                        next = Math.max(next, nowMillis + 1);
+                    } else {
+                        // Paused triggers are evaluated once a second, i.e. just like with the periodic check
+                        next = nowMillis + CHECK_PERIOD;
+                    }
+                    requeued.add(new QueuedTask(task, next));
+                }
+            } finally {
+                synchronized (this) {
+                    queue.addAll(requeued);
+                    checking = false;
+                    scheduleWakeUp();
+                }
+            }
+        }
+
+        // must be called while holding the lock
+        private void scheduleWakeUp() {
+            if (!started || checking) {
+                // The wake-up is scheduled once the queue is started or the current check is finished
+                return;
+            }
+            QueuedTask head = queue.peek();
+            if (head == null) {
+                return;
+            }
+            if (wakeUp != null) {
+                wakeUp.cancel(false);
+            }
+            wakeUpAt = head.time;
+            try {
+                wakeUp = executor.schedule(() -> check(ZonedDateTime.now()),
+                        Math.max(0, head.time - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // The scheduler is being stopped
+                wakeUp = null;
+                LOG.tracef("Unable to schedule the trigger check: %s", e.getMessage());
+            }
+        }
+
+        record QueuedTask(ScheduledTask task, long time) {
+        }
+
     }
 
     static class SimpleScheduledExecution implements ScheduledExecution {
@@ -665,13 +954,31 @@ public boolean isBlocking() {
                 if (schedulerConfig.tracingEnabled() && jobInstrumenter.isResolvable()) {
                     instrumenter = jobInstrumenter.get();
                 }
+                // the bounded invoker is only registered if the job is actually scheduled
+                AtomicReference<BoundedOffloadingInvoker> boundedInvoker = new AtomicReference<>();
                 invoker = initInvoker(invoker, events, concurrentExecution, skipPredicate, instrumenter, vertx,
-                        false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor);
+                        false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor,
+                        initOffloadingInvoker(identity, boundedInvoker::set));
+                invoker = initLeaseInvoker(invoker, simpleTrigger);
                 ScheduledTask scheduledTask = new ScheduledTask(trigger.get(), invoker, true);
                 ScheduledTask existing = scheduledTasks.putIfAbsent(simpleTrigger.id, scheduledTask);
                 if (existing != null) {
+                    if (boundedInvoker.get() != null) {
+                        boundedInvoker.get().close();
+                    }
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                if (boundedInvoker.get() != null) {
+                    boundedInvokers.put(simpleTrigger.id, boundedInvoker.get());
+                    // the job may have been unscheduled before the invoker was registered
+                    if (scheduledTasks.get(simpleTrigger.id) != scheduledTask
+                            && boundedInvokers.remove(simpleTrigger.id, boundedInvoker.get())) {
+                        boundedInvoker.get().close();
+                    }
+                }
+                if (triggerQueue != null) {
+                    triggerQueue.add(scheduledTask);
+                }
                 return simpleTrigger;
             }
             return null;
@@ -0,0 +1,105 @@
+package io.quarkus.scheduler.runtime.lease;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.inject.Singleton;
+
+import org.jboss.logging.Logger;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.runtime.AgroalDataSourceUtil;
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig;
+import io.quarkus.scheduler.spi.ExecutionLeaseStore;
+
+/**
+ * Stores the leases in a database table.
+ * <p>
+ * A lease is acquired by inserting a row keyed by the job identity and the fire time; if the insert fails with an integrity
+ * constraint violation then the lease was acquired by another node. The expired rows are deleted periodically.
+ */
+@Singleton
+public class JdbcExecutionLeaseStore implements ExecutionLeaseStore {
+
+    private static final Logger LOG = Logger.getLogger(JdbcExecutionLeaseStore.class);
+
+    private final String dataSourceName;
+    private final String insertSql;
+    private final String deleteExpiredSql;
+    private final ScheduledExecutorService blockingExecutor;
+    // epoch milliseconds
+    private final AtomicLong nextCleanup;
+
+    private volatile AgroalDataSource dataSource;
+
+    public JdbcExecutionLeaseStore(SchedulerRuntimeConfig runtimeConfig, ScheduledExecutorService blockingExecutor) {
+        this.dataSourceName = runtimeConfig.cluster().jdbc().datasource().orElse(DataSourceUtil.DEFAULT_DATASOURCE_NAME);
+        String table = runtimeConfig.cluster().jdbc().tableName();
+        this.insertSql = "INSERT INTO " + table + " (JOB_ID, FIRE_TIME, NODE_NAME, EXPIRES_AT) VALUES (?, ?, ?, ?)";
+        this.deleteExpiredSql = "DELETE FROM " + table + " WHERE EXPIRES_AT < ?";
+        this.blockingExecutor = blockingExecutor;
+        this.nextCleanup = new AtomicLong();
+    }
+
+    @Override
+    public CompletionStage<Boolean> tryAcquire(String identity, Instant fireTime, String node, Duration leaseDuration) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return insert(identity, fireTime, node, leaseDuration);
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        }, blockingExecutor);
+    }
+
+    private boolean insert(String identity, Instant fireTime, String node, Duration leaseDuration) throws SQLException {
+        long now = System.currentTimeMillis();
+        try (Connection connection = dataSource().getConnection()) {
+            long cleanup = nextCleanup.get();
+            if (now >= cleanup && nextCleanup.compareAndSet(cleanup, now + leaseDuration.toMillis())) {
+                try (PreparedStatement delete = connection.prepareStatement(deleteExpiredSql)) {
+                    delete.setLong(1, now);
+                    int deleted = delete.executeUpdate();
+                    LOG.debugf("Deleted %s expired leases", deleted);
+                }
+            }
+            try (PreparedStatement insert = connection.prepareStatement(insertSql)) {
+                insert.setString(1, identity);
+                insert.setLong(2, fireTime.toEpochMilli());
+                insert.setString(3, node);
+                insert.setLong(4, now + leaseDuration.toMillis());
+                return insert.executeUpdate() == 1;
+            } catch (SQLIntegrityConstraintViolationException e) {
+                return false;
+            } catch (SQLException e) {
+                // Not all drivers throw SQLIntegrityConstraintViolationException; class 23 is integrity constraint violation
+                if (e.getSQLState() != null && e.getSQLState().startsWith("23")) {
+                    return false;
+                }
+                throw e;
+            }
+        }
+    }
+
+    private AgroalDataSource dataSource() {
+        AgroalDataSource ds = dataSource;
+        if (ds == null) {
+            ds = AgroalDataSourceUtil.dataSourceIfActive(dataSourceName).orElseThrow(
+                    () -> new IllegalStateException("The datasource of the scheduler lease store is not active: "
+                            + dataSourceName));
+            dataSource = ds;
+        }
+        return ds;
+    }
+
+}
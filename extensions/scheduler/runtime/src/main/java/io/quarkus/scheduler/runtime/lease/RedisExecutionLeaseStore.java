@@ -0,0 +1,54 @@
+package io.quarkus.scheduler.runtime.lease;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.inject.Singleton;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.redis.client.RedisClientName;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig;
+import io.quarkus.scheduler.spi.ExecutionLeaseStore;
+
+/**
+ * Stores the leases as Redis keys.
+ * <p>
+ * A lease is acquired with {@code SET key node NX PX duration}, i.e. the key is only set if it does not exist and Redis
+ * removes it once the lease expired.
+ */
+@Singleton
+public class RedisExecutionLeaseStore implements ExecutionLeaseStore {
+
+    private final Optional<String> clientName;
+    private final String keyPrefix;
+
+    private volatile ReactiveRedisDataSource redis;
+
+    public RedisExecutionLeaseStore(SchedulerRuntimeConfig runtimeConfig) {
+        this.clientName = runtimeConfig.cluster().redis().clientName();
+        this.keyPrefix = runtimeConfig.cluster().redis().keyPrefix();
+    }
+
+    @Override
+    public CompletionStage<Boolean> tryAcquire(String identity, Instant fireTime, String node, Duration leaseDuration) {
+        String key = keyPrefix + ":" + identity + ":" + fireTime.toEpochMilli();
+        return redis().execute("SET", key, node, "NX", "PX", String.valueOf(leaseDuration.toMillis()))
+                .map(r -> r != null && "OK".equals(r.toString()))
+                .subscribeAsCompletionStage();
+    }
+
+    private ReactiveRedisDataSource redis() {
+        ReactiveRedisDataSource ds = redis;
+        if (ds == null) {
+            ds = clientName.isPresent()
+                    ? Arc.container().select(ReactiveRedisDataSource.class, RedisClientName.Literal.of(clientName.get())).get()
+                    : Arc.container().select(ReactiveRedisDataSource.class).get();
+            redis = ds;
+        }
+        return ds;
+    }
+
+}
@@ -0,0 +1,31 @@
+package io.quarkus.scheduler.spi;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Coordinates the executions of scheduled jobs across the nodes of a cluster.
+ * <p>
+ * Before a scheduled job is executed, the Simple scheduler attempts to acquire the lease for the identity of the job and the
+ * scheduled fire time. The job is only executed by the node that acquired the lease; the other nodes skip the execution.
+ * The acquisition must be a single atomic operation, e.g. an insert of a row with the given key or a {@code SET NX} command.
+ * <p>
+ * There can be exactly one CDI bean of this type. The scope must be either {@link jakarta.inject.Singleton} or
+ * {@link jakarta.enterprise.context.ApplicationScoped}.
+ */
+public interface ExecutionLeaseStore {
+
+    /**
+     * Attempts to acquire the lease. The method must not block the caller.
+     *
+     * @param identity the identity of the job
+     * @param fireTime the time the execution is scheduled for; all nodes use the same value for the same execution
+     * @param node the name of the node that attempts to acquire the lease
+     * @param leaseDuration the lease must be kept at least for this period so that a node that fires the same execution later
+     *        does not acquire it again; the store may discard the expired leases
+     * @return a completion stage completed with {@code true} if the lease was acquired by the given node
+     */
+    CompletionStage<Boolean> tryAcquire(String identity, Instant fireTime, String node, Duration leaseDuration);
+
+}
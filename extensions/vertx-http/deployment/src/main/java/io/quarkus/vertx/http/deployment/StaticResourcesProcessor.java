@@ -2,12 +2,25 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.logging.Logger;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.bootstrap.classloading.ClassPathElement;
@@ -18,21 +31,34 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
 import io.quarkus.paths.PathVisitor;
+import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
 import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
+import io.quarkus.vertx.http.runtime.StaticResourcesBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.quarkus.vertx.http.runtime.VertxHttpBuildTimeConfig;
+import io.quarkus.vertx.http.runtime.handlers.PrecompressedStaticResource;
+import io.vertx.core.http.impl.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
  */
 public class StaticResourcesProcessor {
 
+    private static final Logger LOG = Logger.getLogger(StaticResourcesProcessor.class);
+
+    private static final String GZIP = "gzip";
+    private static final String BROTLI = "br";
+    // the brotli quality 11 is an order of magnitude slower than 9 for a small gain
+    private static final int DEFAULT_PRECOMPRESSION_LEVEL = 9;
+
     @BuildStep(onlyIf = IsDevelopment.class)
     HotDeploymentWatchedFileBuildItem indexHtmlFile() {
         String staticRoot = StaticResourcesRecorder.META_INF_RESOURCES + "/index.html";
@@ -59,13 +85,104 @@ void collectStaticResources(Capabilities capabilities,
         }
     }
 
+    /**
+     * Generates the compressed variants of the static resources whose media type is compressed, and computes their strong
+     * entity tags. The variants found next to a resource, e.g. {@code app.js.gz}, are used as is.
+     */
+    @BuildStep(onlyIfNot = IsDevelopment.class)
+    void precompressStaticResources(VertxHttpBuildTimeConfig httpBuildTimeConfig,
+            Optional<StaticResourcesBuildItem> staticResources,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
+            BuildProducer<PrecompressedStaticResourcesBuildItem> precompressedResources) {
+        StaticResourcesBuildTimeConfig.PrecompressConfig config = httpBuildTimeConfig.staticResources().precompress();
+        if (!config.enabled() || staticResources.isEmpty() || httpBuildTimeConfig.compressMediaTypes().isEmpty()) {
+            return;
+        }
+        Set<String> compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes().get());
+        long minSize = config.minSize().asLongValue();
+        int level = httpBuildTimeConfig.compressionLevel().orElse(DEFAULT_PRECOMPRESSION_LEVEL);
+        Set<String> encodings = new HashSet<>();
+        for (String encoding : config.encodings()) {
+            if (GZIP.equalsIgnoreCase(encoding)) {
+                encodings.add(GZIP);
+            } else if (BROTLI.equalsIgnoreCase(encoding)) {
+                if (Brotli4jLoader.isAvailable()) {
+                    encodings.add(BROTLI);
+                } else {
+                    LOG.warn("Brotli is not available on this platform, the br variants of the static resources are not"
+                            + " generated", Brotli4jLoader.getUnavailabilityCause());
+                }
+            } else {
+                LOG.errorf("Unknown static resources precompression encoding: %s", encoding);
+            }
+        }
+
+        // the first resource found for a path wins, like in the static handler
+        Map<String, byte[]> contents = new HashMap<>();
+        Map<String, Long> sizes = new HashMap<>();
+        visitRuntimeMetaInfResources(visit -> {
+            if (Files.isDirectory(visit.getPath())) {
+                return;
+            }
+            String path = visit.getRelativePath().substring(StaticResourcesRecorder.META_INF_RESOURCES.length());
+            try {
+                long size = Files.size(visit.getPath());
+                if (sizes.putIfAbsent(path, size) != null || size < minSize) {
+                    return;
+                }
+                String contentType = MimeMapping.getMimeTypeForFilename(path);
+                if (contentType != null && compressMediaTypes.contains(contentType)) {
+                    contents.put(path, Files.readAllBytes(visit.getPath()));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        Map<String, PrecompressedStaticResource> resources = new HashMap<>();
+        for (Map.Entry<String, byte[]> entry : contents.entrySet()) {
+            String path = entry.getKey();
+            byte[] content = entry.getValue();
+            Map<String, Long> lengths = new HashMap<>();
+            lengths.put(PrecompressedStaticResource.IDENTITY, (long) content.length);
+            for (String encoding : List.of(GZIP, BROTLI)) {
+                String variantPath = path + PrecompressedStaticResource.suffix(encoding);
+                Long size = sizes.get(variantPath);
+                if (size != null) {
+                    lengths.put(encoding, size);
+                } else if (encodings.contains(encoding)) {
+                    byte[] compressed = compress(content, encoding, level);
+                    // a variant that is not smaller than the resource is useless
+                    if (compressed.length < content.length) {
+                        String resourceName = StaticResourcesRecorder.META_INF_RESOURCES + variantPath;
+                        generatedResources.produce(new GeneratedResourceBuildItem(resourceName, compressed));
+                        nativeImageResources.produce(new NativeImageResourceBuildItem(resourceName));
+                        lengths.put(encoding, (long) compressed.length);
+                    }
+                }
+            }
+            if (lengths.size() > 1) {
+                resources.put(path, new PrecompressedStaticResource(HashUtil.sha256(content), lengths));
+            }
+        }
+        LOG.debugf("Precompressed %s static resources", resources.size());
+        if (!resources.isEmpty()) {
+            precompressedResources.produce(new PrecompressedStaticResourcesBuildItem(resources));
+        }
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedResources,
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            Map<String, PrecompressedStaticResource> precompressed = precompressedResources
+                    .map(PrecompressedStaticResourcesBuildItem::getResources)
+                    .orElse(Collections.emptyMap());
+            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(), precompressed)));
         }
     }
 
@@ -100,6 +217,25 @@ public void nativeImageResource(Optional<StaticResourcesBuildItem> staticResourc
         }
     }
 
+    private static byte[] compress(byte[] content, String encoding, int level) {
+        try {
+            if (BROTLI.equals(encoding)) {
+                return Encoder.compress(content, new Encoder.Parameters().setQuality(level));
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+                {
+                    def.setLevel(Math.min(level, Deflater.BEST_COMPRESSION));
+                }
+            }) {
+                gzip.write(content);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Find all static file resources that are available from classpath.
      *
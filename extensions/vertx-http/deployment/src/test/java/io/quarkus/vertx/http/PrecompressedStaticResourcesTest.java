@@ -0,0 +1,93 @@
+package io.quarkus.vertx.http;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.RestAssuredConfig;
+
+public class PrecompressedStaticResourcesTest {
+
+    private static final String APP_PROPS = "" +
+            "quarkus.http.enable-compression=true\n" +
+            "quarkus.http.static-resources.precompress.enabled=true\n" +
+            "quarkus.http.static-resources.precompress.min-size=100\n";
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset(APP_PROPS), "application.properties")
+                    .add(new StringAsset(CompressionTest.TEXT), "META-INF/resources/text.txt")
+                    .add(new StringAsset(CompressionTest.TEXT), "META-INF/resources/existing.js")
+                    .add(new StringAsset("brotli"), "META-INF/resources/existing.js.br")
+                    .add(new StringAsset("small"), "META-INF/resources/small.txt")
+                    .addAsResource("static-file.html", "META-INF/resources/index.html"));
+
+    @Test
+    public void shouldServeGzipVariant() {
+        String etag = given().get("/text.txt").then().statusCode(200)
+                .header("Content-Encoding", is("gzip"))
+                .header("Vary", is("accept-encoding"))
+                .header("ETag", endsWith("-gzip\""))
+                .header("Content-Type", startsWith("text/plain"))
+                .body(equalTo(CompressionTest.TEXT))
+                .extract().header("ETag");
+
+        given().header("If-None-Match", etag).get("/text.txt").then().statusCode(304);
+
+        given().head("/text.txt").then().statusCode(200)
+                .header("Content-Encoding", is("gzip"))
+                .header("ETag", is(etag));
+
+        given().get("/").then().statusCode(200)
+                .header("Content-Encoding", is("gzip"))
+                .body(containsString("This is the title of the webpage!"));
+    }
+
+    @Test
+    public void shouldServeIdentityWithStrongEtag() {
+        // The client only accepts deflate, for which there is no variant
+        RestAssuredConfig deflateOnly = RestAssured.config
+                .decoderConfig(DecoderConfig.decoderConfig().with().contentDecoders(DecoderConfig.ContentDecoder.DEFLATE));
+        String etag = given().config(deflateOnly)
+                .get("/text.txt").then().statusCode(200)
+                .header("Content-Encoding", not("gzip"))
+                .header("Content-Length", is(String.valueOf(CompressionTest.TEXT.length())))
+                .header("ETag", matchesPattern("\"[0-9a-f]{64}\""))
+                .body(equalTo(CompressionTest.TEXT))
+                .extract().header("ETag");
+
+        given().config(deflateOnly).header("If-None-Match", "W/" + etag).get("/text.txt").then().statusCode(304);
+        // The gzip variant has its own entity tag
+        given().header("If-None-Match", etag).get("/text.txt").then().statusCode(200);
+    }
+
+    @Test
+    public void shouldServeExistingVariant() {
+        given().config(RestAssured.config.decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .header("Accept-Encoding", "gzip;q=0, br")
+                .get("/existing.js").then().statusCode(200)
+                .header("Content-Encoding", is("br"))
+                .header("ETag", endsWith("-br\""))
+                .body(equalTo("brotli"));
+    }
+
+    @Test
+    public void shouldNotPrecompressSmallResources() {
+        given().get("/small.txt").then().statusCode(200)
+                .header("ETag", not(matchesPattern("\"[0-9a-f]{64}.*")))
+                .body(equalTo("small"));
+    }
+}
@@ -47,6 +47,12 @@ export class QwcBuildSteps extends QwcHotReloadElement {
         cursor: pointer;
       }
 
+      .critical-path-icon {
+        font-size: small;
+        color: var(--lumo-error-color);
+        margin-right: 5px;
+      }
+
       .graph {
         display: flex;
         flex-direction: column;
@@ -59,7 +65,8 @@ export class QwcBuildSteps extends QwcHotReloadElement {
     _buildMetrics: { state: true },
     _selectedBuildStep: {state: true},
     _showBuildStepsExecutionGraph: {state: true},
-    _filtered: {state: true, type: Array}
+    _filtered: {state: true, type: Array},
+    _criticalPathOnly: {state: true}
   };
 
   constructor() {
@@ -67,6 +74,7 @@ export class QwcBuildSteps extends QwcHotReloadElement {
     this._buildMetrics = null;
     this._selectedBuildStep = null;
     this._showBuildStepsExecutionGraph = false;
+    this._criticalPathOnly = false;
     this.hotReload();
   }
 
@@ -98,14 +106,27 @@ export class QwcBuildSteps extends QwcHotReloadElement {
   }
 
   _filter(e) {
-    const searchTerm = (e.detail.value || '').trim();
-    if (searchTerm === '') {
+    this._searchTerm = (e.detail.value || '').trim();
+    this._applyFilter();
+  }
+
+  _toggleCriticalPath() {
+    this._criticalPathOnly = !this._criticalPathOnly;
+    this._applyFilter();
+  }
+
+  _applyFilter() {
+    const searchTerm = this._searchTerm || '';
+    if (searchTerm === '' && !this._criticalPathOnly) {
       this._filtered = this._buildMetrics.records;
       return;
     }
 
     this._filtered = this._buildMetrics.records.filter((record) => {
-      return this._match(record.stepId, searchTerm);
+      if (this._criticalPathOnly && !record.criticalPath) {
+        return false;
+      }
+      return searchTerm === '' || this._match(record.stepId, searchTerm);
     });
   }
 
@@ -128,6 +149,7 @@ export class QwcBuildSteps extends QwcHotReloadElement {
                     <vaadin-icon icon="font-awesome-solid:chart-simple" slot="prefix"></vaadin-icon>
                     Build Steps Concurrent Execution Chart
                 </vaadin-button>
+                ${this._renderCriticalPathSummary()}
             </div>
             <vaadin-text-field
                     placeholder="Filter"
@@ -167,6 +189,19 @@ export class QwcBuildSteps extends QwcHotReloadElement {
             </vaadin-grid></div>`;
   }
 
+  _renderCriticalPathSummary(){
+      if (!this._buildMetrics.criticalPath || this._buildMetrics.criticalPath.length === 0) {
+          return html``;
+      }
+      return html`<div>
+            The critical path has <strong>${this._buildMetrics.criticalPath.length}</strong> build steps and takes <strong>${this._buildMetrics.criticalPathDuration} ms</strong>.
+            <vaadin-button theme="tertiary" @click="${this._toggleCriticalPath}">
+                <vaadin-icon icon="font-awesome-solid:route" slot="prefix"></vaadin-icon>
+                ${this._criticalPathOnly ? 'Show All Build Steps' : 'Show Critical Path Only'}
+            </vaadin-button>
+        </div>`;
+  }
+
   _renderBuildStepGraph(){
       return html`<qwc-build-step-graph class="graph"
                       stepId="${this._selectedBuildStep.stepId}"
@@ -182,6 +217,9 @@ export class QwcBuildSteps extends QwcHotReloadElement {
   }  
 
   _stepIdRenderer(record) {
+    if (record.criticalPath) {
+      return html`<vaadin-icon class="critical-path-icon" icon="font-awesome-solid:route" title="On the critical path"></vaadin-icon><code>${record.stepId}</code>`;
+    }
     return html`<code>${record.stepId}</code>`;
   }
 
@@ -97,6 +97,9 @@ public Map<String, Object> prepareBuildStepsMetrics() {
                 metrics.put("items", data.getJsonArray("items"));
                 metrics.put("itemsCount", data.getInteger("itemsCount"));
                 metrics.put("duration", buildDuration);
+                JsonArray criticalPath = data.getJsonArray("criticalPath");
+                metrics.put("criticalPath", criticalPath != null ? criticalPath : new JsonArray());
+                metrics.put("criticalPathDuration", data.getLong("criticalPathDuration", 0L));
             } catch (IOException e) {
                 LOG.error(e);
             }
@@ -38,6 +38,8 @@ public BuildMetrics getBuildMetrics() {
         buildMetrics.numberOfThreads = threadSlotRecords.size();
         buildMetrics.duration = duration;
         buildMetrics.records = records;
+        buildMetrics.criticalPath = (JsonArray) buildStepMetrics.get("criticalPath");
+        buildMetrics.criticalPathDuration = (Long) buildStepMetrics.get("criticalPathDuration");
 
         return buildMetrics;
     }
@@ -61,6 +63,8 @@ static class BuildMetrics {
         public int numberOfThreads;
         public Long duration;
         public JsonArray records;
+        public JsonArray criticalPath;
+        public Long criticalPathDuration;
     }
 
     static class BuildItems {
@@ -2,6 +2,8 @@
 
 import java.util.Optional;
 
+import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.vertx.http.runtime.filters.accesslog.DefaultAccessLogReceiver.OverflowPolicy;
 import io.smallrye.config.WithDefault;
 
 public interface AccessLogConfig {
@@ -70,6 +72,29 @@ public interface AccessLogConfig {
     @WithDefault("true")
     boolean rotate();
 
+    /**
+     * If set, the log file is rotated once it exceeds this size, regardless of the daily rotation
+     */
+    Optional<MemorySize> rotateSize();
+
+    /**
+     * The max number of messages waiting to be written to the log file. The value is rounded up to the next power of two.
+     */
+    @WithDefault("16384")
+    int queueSize();
+
+    /**
+     * What happens to a message when the queue of messages waiting to be written to the log file is full.
+     * <p>
+     * With `block`, the calling thread waits until the message can be queued, at most one second. The event loop threads
+     * never wait; the message is dropped instead. Note that this means that messages logged on an event loop can be
+     * dropped even with the default policy, whereas previously the queue was unbounded. With `drop`, the message is dropped
+     * and only counted. With `count`, the message is dropped and the number of dropped messages is logged as a warning at
+     * most once per minute. The `block` policy reports the dropped messages the same way.
+     */
+    @WithDefault("block")
+    OverflowPolicy overflowPolicy();
+
     /**
      * If rerouted requests should be consolidated into one log entry
      */
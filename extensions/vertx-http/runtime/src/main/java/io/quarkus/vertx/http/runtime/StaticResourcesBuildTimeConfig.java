@@ -0,0 +1,46 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.List;
+
+import io.quarkus.runtime.configuration.MemorySize;
+import io.smallrye.config.WithDefault;
+
+public interface StaticResourcesBuildTimeConfig {
+
+    /**
+     * Precompressed static resources configuration.
+     */
+    PrecompressConfig precompress();
+
+    interface PrecompressConfig {
+
+        /**
+         * If enabled, compressed variants of the static resources found in {@code META-INF/resources} are generated at build
+         * time for the media types configured via {@code quarkus.http.compress-media-types}, together with a strong
+         * {@code ETag} per variant. The variant accepted by the client is then sent as is, without compressing it on the
+         * fly.
+         * <p>
+         * Variants already present next to a resource, e.g. {@code app.js.br} or {@code app.js.gz}, are served as well and
+         * are not generated again.
+         * <p>
+         * The variants are generated with the compression level configured via {@code quarkus.http.compression-level}, or
+         * with the level {@code 9} if it is not set.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The content codings of the generated variants, {@code gzip} and/or {@code br}.
+         * <p>
+         * The {@code br} variants can only be generated if the Brotli4J native library is available for the build platform.
+         */
+        @WithDefault("gzip")
+        List<String> encodings();
+
+        /**
+         * The minimum size of a static resource for its compressed variants to be generated.
+         */
+        @WithDefault("1K")
+        MemorySize minSize();
+    }
+}
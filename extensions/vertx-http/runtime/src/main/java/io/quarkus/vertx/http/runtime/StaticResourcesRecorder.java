@@ -5,12 +5,16 @@
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.vertx.http.runtime.handlers.PrecompressedStaticHandler;
+import io.quarkus.vertx.http.runtime.handlers.PrecompressedStaticResource;
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.web.Route;
@@ -37,7 +41,7 @@ public static void setHotDeploymentResources(List<Path> resources) {
         hotDeploymentResourcePaths = resources;
     }
 
-    public Consumer<Route> start(Set<String> knownPaths) {
+    public Consumer<Route> start(Set<String> knownPaths, Map<String, PrecompressedStaticResource> precompressedResources) {
         List<Handler<RoutingContext>> handlers = new ArrayList<>();
         Set<String> compressMediaTypes;
         if (httpBuildTimeConfig.enableCompression() && httpBuildTimeConfig.compressMediaTypes().isPresent()) {
@@ -92,6 +96,11 @@ public void handle(RoutingContext ctx) {
             final String indexPage = (config.indexPage().charAt(0) == '/')
                     ? config.indexPage().substring(1)
                     : config.indexPage();
+            // the generated variants are only extracted from the application jar in the normal mode
+            final PrecompressedStaticHandler precompressedHandler = precompressedResources.isEmpty() ? null
+                    : new PrecompressedStaticHandler(precompressedResources, indexPage, "UTF-8",
+                            config.cachingEnabled() ? config.maxAge().toSeconds() : -1,
+                            LaunchMode.current() == LaunchMode.NORMAL);
             handlers.add(new Handler<>() {
                 @Override
                 public void handle(RoutingContext ctx) {
@@ -102,8 +111,10 @@ public void handle(RoutingContext ctx) {
                     }
                     // check effective path, otherwise the index page when path ends with '/'
                     if (knownPaths.contains(rel) || (rel.endsWith("/") && knownPaths.contains(rel.concat(indexPage)))) {
-                        compressIfNeeded(httpBuildTimeConfig, compressMediaTypes, ctx, rel);
-                        staticHandler.handle(ctx);
+                        if (precompressedHandler == null || !precompressedHandler.handle(ctx, rel)) {
+                            compressIfNeeded(httpBuildTimeConfig, compressMediaTypes, ctx, rel);
+                            staticHandler.handle(ctx);
+                        }
                     } else {
                         // make sure we don't lose the correct TCCL to Vert.x...
                         Thread.currentThread().setContextClassLoader(currentCl);
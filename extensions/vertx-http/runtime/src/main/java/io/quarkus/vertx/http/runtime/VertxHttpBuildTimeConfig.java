@@ -122,4 +122,9 @@ public interface VertxHttpBuildTimeConfig {
      * The compression level used when compression support is enabled.
      */
     OptionalInt compressionLevel();
+
+    /**
+     * Static resources build time configuration.
+     */
+    StaticResourcesBuildTimeConfig staticResources();
 }
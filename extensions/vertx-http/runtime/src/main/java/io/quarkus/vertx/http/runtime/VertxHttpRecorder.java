@@ -495,8 +495,16 @@ public void handle(RoutingContext routingContext) {
             AccessLogReceiver receiver;
             if (accessLog.logToFile()) {
                 File outputDir = accessLog.logDirectory().isPresent() ? new File(accessLog.logDirectory().get()) : new File("");
-                receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName(), accessLog.logSuffix(),
-                        accessLog.rotate());
+                receiver = DefaultAccessLogReceiver.builder()
+                        .setLogWriteExecutor(executor)
+                        .setOutputDirectory(outputDir.toPath())
+                        .setLogBaseName(accessLog.baseFileName())
+                        .setLogNameSuffix(accessLog.logSuffix())
+                        .setRotate(accessLog.rotate())
+                        .setRotateSize(accessLog.rotateSize().map(MemorySize::asLongValue).orElse(0L))
+                        .setQueueSize(accessLog.queueSize())
+                        .setOverflowPolicy(accessLog.overflowPolicy())
+                        .build();
             } else {
                 receiver = new JBossLoggingAccessLogReceiver(accessLog.category());
             }
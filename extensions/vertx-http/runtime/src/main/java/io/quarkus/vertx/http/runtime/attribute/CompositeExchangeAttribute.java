@@ -1,31 +1,45 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import io.vertx.ext.web.RoutingContext;
 
 /**
  * Exchange attribute that represents a combination of attributes that should be merged into a single string.
- *
+ * <p>
+ * Adjacent constant attributes are merged into a single constant.
  */
 public class CompositeExchangeAttribute implements ExchangeAttribute {
 
     private final ExchangeAttribute[] attributes;
 
     public CompositeExchangeAttribute(ExchangeAttribute[] attributes) {
-        ExchangeAttribute[] copy = new ExchangeAttribute[attributes.length];
-        System.arraycopy(attributes, 0, copy, 0, attributes.length);
-        this.attributes = copy;
+        List<ExchangeAttribute> merged = new ArrayList<>(attributes.length);
+        for (ExchangeAttribute attribute : attributes) {
+            int last = merged.size() - 1;
+            if (last >= 0 && attribute instanceof ConstantExchangeAttribute constant
+                    && merged.get(last) instanceof ConstantExchangeAttribute previous) {
+                merged.set(last, new ConstantExchangeAttribute(previous.getValue() + constant.getValue()));
+            } else {
+                merged.add(attribute);
+            }
+        }
+        this.attributes = merged.toArray(new ExchangeAttribute[0]);
     }
 
     @Override
     public String readAttribute(RoutingContext exchange) {
         final StringBuilder sb = new StringBuilder();
+        appendAttribute(exchange, sb);
+        return sb.toString();
+    }
+
+    @Override
+    public void appendAttribute(RoutingContext exchange, StringBuilder builder) {
         for (int i = 0; i < attributes.length; ++i) {
-            final String val = attributes[i].readAttribute(exchange);
-            if (val != null) {
-                sb.append(val);
-            }
+            attributes[i].appendAttribute(exchange, builder);
         }
-        return sb.toString();
     }
 
     @Override
@@ -16,6 +16,22 @@ public interface ExchangeAttribute {
      */
     String readAttribute(final RoutingContext exchange);
 
+    /**
+     * Appends the attribute to the given builder. Nothing is appended if the attribute is not present.
+     * <p>
+     * The default implementation appends the result of {@link #readAttribute(RoutingContext)}. An attribute should
+     * override this method if it can append its value without creating an intermediate string, e.g. a numeric value.
+     *
+     * @param exchange The exchange
+     * @param builder The builder
+     */
+    default void appendAttribute(final RoutingContext exchange, final StringBuilder builder) {
+        String value = readAttribute(exchange);
+        if (value != null) {
+            builder.append(value);
+        }
+    }
+
     /**
      * Sets a new value for the attribute. Not all attributes are writable.
      *
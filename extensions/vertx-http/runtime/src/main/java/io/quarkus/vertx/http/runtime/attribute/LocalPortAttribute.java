@@ -27,6 +27,14 @@ public String readAttribute(final RoutingContext exchange) {
         return Integer.toString(localAddr.port());
     }
 
+    @Override
+    public void appendAttribute(final RoutingContext exchange, final StringBuilder builder) {
+        final SocketAddress localAddr = exchange.request().localAddress();
+        if (localAddr != null) {
+            builder.append(localAddr.port());
+        }
+    }
+
     @Override
     public void writeAttribute(final RoutingContext exchange, final String newValue) throws ReadOnlyAttributeException {
         throw new ReadOnlyAttributeException("Local port", newValue);
@@ -26,11 +26,21 @@ private RequestLineAttribute(boolean useOriginalRequest) {
 
     @Override
     public String readAttribute(final RoutingContext exchange) {
+        if (useOriginalRequest && !OriginalRequestContext.isPresent(exchange)) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder();
+        appendAttribute(exchange, sb);
+        return sb.toString();
+    }
+
+    @Override
+    public void appendAttribute(final RoutingContext exchange, final StringBuilder builder) {
         HttpMethod httpMethod;
         String uri;
         if (useOriginalRequest) {
             if (!OriginalRequestContext.isPresent(exchange)) {
-                return null;
+                return;
             }
             httpMethod = OriginalRequestContext.getMethod(exchange);
             uri = OriginalRequestContext.getUri(exchange);
@@ -38,32 +48,28 @@ public String readAttribute(final RoutingContext exchange) {
             httpMethod = exchange.request().method();
             uri = exchange.request().uri();
         }
-        StringBuilder sb = new StringBuilder()
-                .append(httpMethod)
+        builder.append(httpMethod.name())
                 .append(' ')
-                .append(uri);
-        sb.append(' ');
-        String httpVersion = "-";
+                .append(uri)
+                .append(' ');
         switch (exchange.request().version()) {
             case HTTP_1_0:
-                httpVersion = "HTTP/1.0";
+                builder.append("HTTP/1.0");
                 break;
             case HTTP_1_1:
-                httpVersion = "HTTP/1.1";
+                builder.append("HTTP/1.1");
                 break;
             case HTTP_2:
-                httpVersion = "HTTP/2";
+                builder.append("HTTP/2");
                 break;
             default:
                 // best effort to try and infer the HTTP version from
                 // any "unknown" enum value
-                httpVersion = exchange.request().version().name()
+                builder.append(exchange.request().version().name()
                         .replace("HTTP_", "HTTP/")
-                        .replace("_", ".");
+                        .replace("_", "."));
                 break;
         }
-        sb.append(httpVersion);
-        return sb.toString();
     }
 
     @Override
@@ -22,6 +22,11 @@ public String readAttribute(final RoutingContext exchange) {
         return Integer.toString(exchange.response().getStatusCode());
     }
 
+    @Override
+    public void appendAttribute(final RoutingContext exchange, final StringBuilder builder) {
+        builder.append(exchange.response().getStatusCode());
+    }
+
     @Override
     public void writeAttribute(final RoutingContext exchange, final String newValue) throws ReadOnlyAttributeException {
         exchange.response().setStatusCode(Integer.parseInt(newValue));
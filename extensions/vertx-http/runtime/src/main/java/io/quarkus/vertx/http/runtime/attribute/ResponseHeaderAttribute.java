@@ -36,6 +36,23 @@ public String readAttribute(final RoutingContext exchange) {
         return sb.toString();
     }
 
+    @Override
+    public void appendAttribute(final RoutingContext exchange, final StringBuilder builder) {
+        List<String> header = exchange.response().headers().getAll(responseHeader);
+        if (header.size() == 1) {
+            builder.append(header.get(0));
+        } else if (header.size() > 1) {
+            builder.append('[');
+            for (int i = 0; i < header.size(); ++i) {
+                if (i != 0) {
+                    builder.append(", ");
+                }
+                builder.append(header.get(i));
+            }
+            builder.append(']');
+        }
+    }
+
     @Override
     public void writeAttribute(final RoutingContext exchange, final String newValue) throws ReadOnlyAttributeException {
         if (newValue == null) {
@@ -29,37 +29,63 @@ public ResponseTimeAttribute(TimeUnit timeUnit) {
 
     @Override
     public String readAttribute(RoutingContext exchange) {
-        Long requestStartTime = exchange.get(VertxHttpRecorder.REQUEST_START_TIME);
-        if (requestStartTime == null) {
+        long nanos = responseTimeNanos(exchange);
+        if (nanos < 0) {
             return null;
         }
-        final long nanos;
-        Long first = exchange.get(FIRST_RESPONSE_TIME_NANOS);
-        if (first != null) {
-            nanos = first;
-        } else {
-            nanos = System.nanoTime() - requestStartTime;
-            if (exchange.response().ended()) {
-                //save the response time so it is consistent
-                exchange.put(FIRST_RESPONSE_TIME_NANOS, nanos);
-            }
-        }
         if (timeUnit == TimeUnit.SECONDS) {
             StringBuilder buf = new StringBuilder();
-            long millis = TimeUnit.MILLISECONDS.convert(nanos, TimeUnit.NANOSECONDS);
-            buf.append(Long.toString(millis / 1000));
-            buf.append('.');
-            int remains = (int) (millis % 1000);
-            buf.append(Long.toString(remains / 100));
-            remains = remains % 100;
-            buf.append(Long.toString(remains / 10));
-            buf.append(Long.toString(remains % 10));
+            appendSeconds(nanos, buf);
             return buf.toString();
         } else {
             return String.valueOf(timeUnit.convert(nanos, TimeUnit.NANOSECONDS));
         }
     }
 
+    @Override
+    public void appendAttribute(RoutingContext exchange, StringBuilder builder) {
+        long nanos = responseTimeNanos(exchange);
+        if (nanos < 0) {
+            return;
+        }
+        if (timeUnit == TimeUnit.SECONDS) {
+            appendSeconds(nanos, builder);
+        } else {
+            builder.append(timeUnit.convert(nanos, TimeUnit.NANOSECONDS));
+        }
+    }
+
+    /**
+     * @return the response time in nanos, or {@code -1} if the request start time was not recorded
+     */
+    private static long responseTimeNanos(RoutingContext exchange) {
+        Long requestStartTime = exchange.get(VertxHttpRecorder.REQUEST_START_TIME);
+        if (requestStartTime == null) {
+            return -1;
+        }
+        Long first = exchange.get(FIRST_RESPONSE_TIME_NANOS);
+        if (first != null) {
+            return first;
+        }
+        long nanos = System.nanoTime() - requestStartTime;
+        if (exchange.response().ended()) {
+            //save the response time so it is consistent
+            exchange.put(FIRST_RESPONSE_TIME_NANOS, nanos);
+        }
+        return nanos;
+    }
+
+    private static void appendSeconds(long nanos, StringBuilder buf) {
+        long millis = TimeUnit.MILLISECONDS.convert(nanos, TimeUnit.NANOSECONDS);
+        buf.append(millis / 1000);
+        buf.append('.');
+        int remains = (int) (millis % 1000);
+        buf.append(remains / 100);
+        remains = remains % 100;
+        buf.append(remains / 10);
+        buf.append(remains % 10);
+    }
+
     @Override
     public void writeAttribute(RoutingContext exchange, String newValue) throws ReadOnlyAttributeException {
         throw new ReadOnlyAttributeException("Response Time", newValue);
@@ -12,6 +12,10 @@ public SubstituteEmptyWrapper(String substitute) {
 
     @Override
     public ExchangeAttribute wrap(final ExchangeAttribute attribute) {
+        if (attribute instanceof ConstantExchangeAttribute constant && !constant.getValue().isEmpty()) {
+            // a non-empty constant is never substituted
+            return attribute;
+        }
         return new SubstituteEmptyAttribute(attribute, substitute);
     }
 
@@ -33,6 +37,15 @@ public String readAttribute(RoutingContext exchange) {
             return val;
         }
 
+        @Override
+        public void appendAttribute(RoutingContext exchange, StringBuilder builder) {
+            int length = builder.length();
+            attribute.appendAttribute(exchange, builder);
+            if (builder.length() == length) {
+                builder.append(substitute);
+            }
+        }
+
         @Override
         public void writeAttribute(RoutingContext exchange, String newValue) throws ReadOnlyAttributeException {
             attribute.writeAttribute(exchange, newValue);
@@ -93,6 +93,11 @@
  */
 public class AccessLogHandler implements Handler<RoutingContext> {
 
+    // The builders are reused by the threads that complete the requests, i.e. mostly the event loops
+    private static final ThreadLocal<StringBuilder> MESSAGE_BUILDER = ThreadLocal.withInitial(StringBuilder::new);
+    // A builder that grew bigger than this is not reused, e.g. after logging all the headers of a large request
+    private static final int MAX_REUSED_CAPACITY = 8192;
+
     private final AccessLogReceiver accessLogReceiver;
     private final String formatString;
     private final boolean consolidateReroutedRequests;
@@ -155,7 +160,7 @@ public void handle(RoutingContext rc) {
         QuarkusRequestWrapper.get(rc.request()).addRequestDoneHandler(new Handler<Void>() {
             @Override
             public void handle(Void event) {
-                accessLogReceiver.logMessage(tokens.readAttribute(rc));
+                accessLogReceiver.logMessage(formatMessage(rc));
             }
         });
         if (consolidateReroutedRequests) {
@@ -164,6 +169,17 @@ public void handle(Void event) {
         rc.next();
     }
 
+    private String formatMessage(RoutingContext rc) {
+        StringBuilder builder = MESSAGE_BUILDER.get();
+        builder.setLength(0);
+        tokens.appendAttribute(rc, builder);
+        String message = builder.toString();
+        if (builder.capacity() > MAX_REUSED_CAPACITY) {
+            MESSAGE_BUILDER.remove();
+        }
+        return message;
+    }
+
     @Override
     public String toString() {
         return "AccessLogHandler{" +
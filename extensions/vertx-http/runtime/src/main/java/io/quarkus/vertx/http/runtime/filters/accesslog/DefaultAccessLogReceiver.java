@@ -21,31 +21,42 @@
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
-import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.Deque;
-import java.util.List;
 import java.util.Locale;
-import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 import org.jboss.logging.Logger;
 
+import io.vertx.core.Context;
+
 /**
  * Log Receiver that stores logs in a directory under the specified file name, and rotates them after
- * midnight.
+ * midnight, and optionally once the log file exceeds a given size.
  * <p/>
  * Web threads do not touch the log file, but simply queue messages to be written later by a worker thread.
  * A lightweight CAS based locking mechanism is used to ensure than only 1 thread is active writing messages at
  * any given time
+ * <p/>
+ * The messages are queued in a bounded lock-free ring buffer. If the buffer is full then the message is either dropped or
+ * the calling thread waits for free space, depending on the {@link OverflowPolicy}. An event loop thread never waits. A
+ * waiting thread writes the queued messages itself if no other thread is writing them, so that the waiting threads cannot
+ * starve the executor the writer task is submitted to. The worker thread encodes a batch of messages into direct buffers
+ * and writes them with a single gathering write.
  *
  * @author Stuart Douglas
  */
@@ -55,9 +66,25 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
 
     private static final String DEFAULT_LOG_SUFFIX = "log";
 
+    public static final int DEFAULT_QUEUE_SIZE = 16384;
+
+    //only write at most 1000 messages at a time
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private static final int BUFFER_COUNT = 8;
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    // the max time a thread waits for free space, the message is dropped afterwards
+    private static final long BLOCK_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(1);
+    // dropped messages are reported at most once per interval
+    private static final long DROP_REPORT_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
     private final Executor logWriteExecutor;
 
-    private final Deque<String> pendingMessages;
+    private final MessageRingBuffer pendingMessages;
+    private final OverflowPolicy overflowPolicy;
+    private final AtomicLong droppedMessages = new AtomicLong();
 
     //0 = not running
     //1 = queued
@@ -78,11 +105,19 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
     private final String logBaseName;
     private final String logNameSuffix; // always starts with a '.' character
 
-    private Writer writer = null;
+    // only accessed by the thread that writes the messages
+    private FileChannel channel = null;
+    private long fileSize;
+    private final CharsetEncoder encoder;
+    private ByteBuffer[] buffers;
+    private long reportedDrops;
+    private long lastDropReport;
 
     private volatile boolean closed = false;
     private boolean initialRun = true;
     private final boolean rotate;
+    // 0 = no size based rotation
+    private final long rotateSize;
     private final LogFileHeaderGenerator fileHeaderGenerator;
 
     public DefaultAccessLogReceiver(final Executor logWriteExecutor, final File outputDirectory, final String logBaseName) {
@@ -110,18 +145,25 @@ public DefaultAccessLogReceiver(final Executor logWriteExecutor, final Path outp
 
     public DefaultAccessLogReceiver(final Executor logWriteExecutor, final Path outputDirectory, final String logBaseName,
             final String logNameSuffix, boolean rotate) {
-        this(logWriteExecutor, outputDirectory, logBaseName, logNameSuffix, rotate, null);
+        this(logWriteExecutor, outputDirectory, logBaseName, logNameSuffix, rotate, 0, null, DEFAULT_QUEUE_SIZE,
+                OverflowPolicy.BLOCK);
     }
 
     private DefaultAccessLogReceiver(final Executor logWriteExecutor, final Path outputDirectory, final String logBaseName,
-            final String logNameSuffix, boolean rotate, LogFileHeaderGenerator fileHeader) {
+            final String logNameSuffix, boolean rotate, long rotateSize, LogFileHeaderGenerator fileHeader, int queueSize,
+            OverflowPolicy overflowPolicy) {
         this.logWriteExecutor = logWriteExecutor;
         this.outputDirectory = outputDirectory;
         this.logBaseName = logBaseName;
         this.rotate = rotate;
+        this.rotateSize = rotateSize;
         this.fileHeaderGenerator = fileHeader;
         this.logNameSuffix = effectiveLogNameSuffix(logNameSuffix);
-        this.pendingMessages = new ConcurrentLinkedDeque<>();
+        this.pendingMessages = new MessageRingBuffer(queueSize);
+        this.overflowPolicy = overflowPolicy;
+        this.encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
         this.defaultLogFile = outputDirectory.resolve(logBaseName + this.logNameSuffix);
         calculateChangeOverPoint();
     }
@@ -155,7 +197,13 @@ private void calculateChangeOverPoint() {
 
     @Override
     public void logMessage(final String message) {
-        this.pendingMessages.add(message);
+        if (!pendingMessages.offer(message)) {
+            if (overflowPolicy == OverflowPolicy.BLOCK && !Context.isOnEventLoopThread()) {
+                awaitOffer(message);
+            } else {
+                dropMessage();
+            }
+        }
         int state = stateUpdater.get(this);
         if (state == 0) {
             if (stateUpdater.compareAndSet(this, 0, 1)) {
@@ -164,6 +212,46 @@ public void logMessage(final String message) {
         }
     }
 
+    private void awaitOffer(final String message) {
+        long deadline = System.nanoTime() + BLOCK_TIMEOUT_NANOS;
+        do {
+            if (closed || System.nanoTime() - deadline > 0) {
+                dropMessage();
+                return;
+            }
+            // drain the queue on this thread unless another thread is writing already; the queued writer task might
+            // never run if all the threads of the executor are waiting here
+            int state = stateUpdater.get(this);
+            if (state == 1 || (state == 0 && stateUpdater.compareAndSet(this, 0, 1))) {
+                run();
+            } else {
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            }
+        } while (!pendingMessages.offer(message));
+    }
+
+    private void dropMessage() {
+        droppedMessages.incrementAndGet();
+    }
+
+    private void reportDroppedMessages() {
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            return;
+        }
+        long dropped = droppedMessages.get();
+        if (dropped == reportedDrops) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (reportedDrops != 0 && now - lastDropReport < DROP_REPORT_INTERVAL_NANOS) {
+            return;
+        }
+        log.warnf("%s access log messages were dropped because the queue was full (%s in total), consider increasing "
+                + "quarkus.http.access-log.queue-size", dropped - reportedDrops, dropped);
+        reportedDrops = dropped;
+        lastDropReport = now;
+    }
+
     /**
      * processes all queued log messages
      */
@@ -190,20 +278,11 @@ public void run() {
             }
         }
         initialRun = false;
-        List<String> messages = new ArrayList<>();
-        String msg;
-        //only grab at most 1000 messages at a time
-        for (int i = 0; i < 1000; ++i) {
-            msg = pendingMessages.poll();
-            if (msg == null) {
-                break;
-            }
-            messages.add(msg);
-        }
         try {
-            if (!messages.isEmpty()) {
-                writeMessage(messages);
+            if (!pendingMessages.isEmpty()) {
+                writeMessages();
             }
+            reportDroppedMessages();
         } finally {
             stateUpdater.set(this, 0);
             //check to see if there is still more messages
@@ -214,11 +293,7 @@ public void run() {
                 }
             } else if (closed) {
                 try {
-                    if (writer != null) {
-                        writer.flush();
-                        writer.close();
-                        writer = null;
-                    }
+                    closeChannel();
                 } catch (IOException e) {
                     log.error("Error writing access log", e);
                 }
@@ -241,31 +316,113 @@ void awaitWrittenForTest() throws InterruptedException {
         }
     }
 
-    private void writeMessage(final List<String> messages) {
+    /**
+     *
+     * @return the number of messages waiting to be written
+     */
+    public int getQueueDepth() {
+        return pendingMessages.size();
+    }
+
+    /**
+     *
+     * @return the number of messages dropped because the queue was full
+     */
+    public long getDroppedMessages() {
+        return droppedMessages.get();
+    }
+
+    private void writeMessages() {
         if (System.currentTimeMillis() > changeOverPoint) {
             doRotate();
         }
+        if (rotateSize > 0 && channel != null && fileSize >= rotateSize) {
+            rotateFile();
+        }
+        if (buffers == null) {
+            buffers = new ByteBuffer[BUFFER_COUNT];
+            for (int i = 0; i < BUFFER_COUNT; i++) {
+                buffers[i] = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            }
+        }
         try {
-            if (writer == null) {
-                boolean created = !Files.exists(defaultLogFile);
-                writer = Files.newBufferedWriter(defaultLogFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND,
+            int current = 0;
+            if (channel == null) {
+                channel = FileChannel.open(defaultLogFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND,
                         StandardOpenOption.CREATE);
-                if (Files.size(defaultLogFile) == 0 && fileHeaderGenerator != null) {
+                fileSize = channel.size();
+                if (fileSize == 0 && fileHeaderGenerator != null) {
                     String header = fileHeaderGenerator.generateHeader();
                     if (header != null) {
-                        writer.write(header);
-                        writer.write("\n");
-                        writer.flush();
+                        current = encodeLine(header, current);
                     }
                 }
             }
-            for (String message : messages) {
-                writer.write(message);
-                writer.write('\n');
+            String msg;
+            for (int i = 0; i < MAX_BATCH_SIZE; ++i) {
+                msg = pendingMessages.poll();
+                if (msg == null) {
+                    break;
+                }
+                current = encodeLine(msg, current);
             }
-            writer.flush();
+            writeBuffers(current + 1);
         } catch (IOException e) {
             log.error("Error writing access log", e);
+        } finally {
+            for (ByteBuffer buffer : buffers) {
+                buffer.clear();
+            }
+        }
+    }
+
+    /**
+     * Encodes the message followed by a new line.
+     *
+     * @return the index of the buffer the next message should be encoded into
+     */
+    private int encodeLine(String message, int current) throws IOException {
+        CharBuffer chars = CharBuffer.wrap(message);
+        encoder.reset();
+        while (encoder.encode(chars, buffers[current], true).isOverflow()) {
+            current = nextBuffer(current);
+        }
+        while (encoder.flush(buffers[current]).isOverflow()) {
+            current = nextBuffer(current);
+        }
+        if (!buffers[current].hasRemaining()) {
+            current = nextBuffer(current);
+        }
+        buffers[current].put((byte) '\n');
+        return current;
+    }
+
+    private int nextBuffer(int current) throws IOException {
+        if (current + 1 < buffers.length) {
+            return current + 1;
+        }
+        // all the buffers are full
+        writeBuffers(buffers.length);
+        return 0;
+    }
+
+    private void writeBuffers(int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            buffers[i].flip();
+        }
+        ByteBuffer last = buffers[count - 1];
+        while (last.hasRemaining()) {
+            fileSize += channel.write(buffers, 0, count);
+        }
+        for (int i = 0; i < count; i++) {
+            buffers[i].clear();
+        }
+    }
+
+    private void closeChannel() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
         }
     }
 
@@ -274,12 +431,12 @@ private void doRotate() {
         if (!rotate) {
             return;
         }
+        rotateFile();
+    }
+
+    private void rotateFile() {
         try {
-            if (writer != null) {
-                writer.flush();
-                writer.close();
-                writer = null;
-            }
+            closeChannel();
             if (!Files.exists(defaultLogFile)) {
                 return;
             }
@@ -316,6 +473,27 @@ public void close() throws IOException {
         }
     }
 
+    /**
+     * What happens to a message if the queue is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The calling thread waits until the message can be queued, at most one second. An event loop thread never waits.
+         * If the message cannot be queued it is dropped and reported like with {@link #COUNT}.
+         */
+        BLOCK,
+        /**
+         * The message is dropped. The dropped messages are only counted, see
+         * {@link DefaultAccessLogReceiver#getDroppedMessages()}.
+         */
+        DROP,
+        /**
+         * The message is dropped. The dropped messages are counted and their number is logged as a warning at most once per
+         * minute.
+         */
+        COUNT
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -326,7 +504,10 @@ public static class Builder {
         private String logBaseName;
         private String logNameSuffix;
         private boolean rotate;
+        private long rotateSize;
         private LogFileHeaderGenerator logFileHeaderGenerator;
+        private int queueSize = DEFAULT_QUEUE_SIZE;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
 
         public Executor getLogWriteExecutor() {
             return logWriteExecutor;
@@ -373,6 +554,36 @@ public Builder setRotate(boolean rotate) {
             return this;
         }
 
+        public long getRotateSize() {
+            return rotateSize;
+        }
+
+        /**
+         * @param rotateSize the size in bytes after which the log file is rotated, {@code 0} disables the size based rotation
+         */
+        public Builder setRotateSize(long rotateSize) {
+            this.rotateSize = rotateSize;
+            return this;
+        }
+
+        public int getQueueSize() {
+            return queueSize;
+        }
+
+        public Builder setQueueSize(int queueSize) {
+            this.queueSize = queueSize;
+            return this;
+        }
+
+        public OverflowPolicy getOverflowPolicy() {
+            return overflowPolicy;
+        }
+
+        public Builder setOverflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
         public LogFileHeaderGenerator getLogFileHeaderGenerator() {
             return logFileHeaderGenerator;
         }
@@ -384,7 +595,7 @@ public Builder setLogFileHeaderGenerator(LogFileHeaderGenerator logFileHeaderGen
 
         public DefaultAccessLogReceiver build() {
             return new DefaultAccessLogReceiver(logWriteExecutor, outputDirectory, logBaseName, logNameSuffix, rotate,
-                    logFileHeaderGenerator);
+                    rotateSize, logFileHeaderGenerator, queueSize, overflowPolicy);
         }
     }
 }
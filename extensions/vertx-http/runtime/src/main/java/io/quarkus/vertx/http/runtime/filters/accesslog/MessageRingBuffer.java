@@ -0,0 +1,105 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded lock-free queue of log messages for multiple producers and a single consumer.
+ * <p>
+ * Every slot has a sequence number that tells the producers and the consumer whether the slot is free or published, so
+ * that the producers only compete for the tail index and a full buffer is detected without a lock.
+ */
+final class MessageRingBuffer {
+
+    private final AtomicReferenceArray<String> messages;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail;
+    // Only updated by the consumer
+    private volatile long head;
+
+    /**
+     *
+     * @param capacity the capacity is rounded up to the next power of two
+     */
+    MessageRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be greater than zero: " + capacity);
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.messages = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = size - 1;
+        this.tail = new AtomicLong();
+    }
+
+    /**
+     *
+     * @param message
+     * @return {@code true} if the message was added, {@code false} if the buffer is full
+     */
+    boolean offer(String message) {
+        long position = tail.get();
+        for (;;) {
+            int index = (int) position & mask;
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    messages.lazySet(index, message);
+                    // Publish the message
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                // The slot was not consumed yet
+                return false;
+            } else {
+                // Another producer claimed the slot
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Must be only called by the consumer.
+     *
+     * @return the next message, or {@code null} if the buffer is empty
+     */
+    String poll() {
+        long position = head;
+        int index = (int) position & mask;
+        if (sequences.get(index) != position + 1) {
+            // Empty or not published yet
+            return null;
+        }
+        String message = messages.get(index);
+        messages.lazySet(index, null);
+        // Free the slot for the next round
+        sequences.set(index, position + mask + 1);
+        head = position + 1;
+        return message;
+    }
+
+    /**
+     *
+     * @return the approximate number of messages in the buffer
+     */
+    int size() {
+        long size = tail.get() - head;
+        return size < 0 ? 0 : (int) Math.min(size, capacity());
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+}
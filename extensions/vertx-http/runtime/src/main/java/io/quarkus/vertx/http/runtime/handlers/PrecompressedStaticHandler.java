@@ -0,0 +1,189 @@
+package io.quarkus.vertx.http.runtime.handlers;
+
+import static io.quarkus.vertx.http.runtime.handlers.PrecompressedStaticResource.IDENTITY;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.logging.Logger;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the static resources that have compressed variants, see {@link PrecompressedStaticResource}. The variant accepted by
+ * the client is sent as is, with a strong {@code ETag} computed at build time.
+ * <p>
+ * If {@code sendFile} is enabled, the variants are sent with {@link HttpServerResponse#sendFile(String)}, which serves the
+ * resources of the application jar from the files extracted by Vert.x, using a zero-copy transfer when neither TLS nor the
+ * HTTP compression is enabled. Otherwise, e.g. in test mode where the generated variants are only available from the class
+ * loader, the variants are read in memory.
+ */
+public class PrecompressedStaticHandler {
+
+    private static final Logger LOG = Logger.getLogger(PrecompressedStaticHandler.class);
+
+    // the content codings of the variants, in the server preference order
+    private static final List<String> ENCODINGS = List.of("br", "gzip");
+
+    private final Map<String, PrecompressedStaticResource> resources;
+    private final String indexPage;
+    private final String defaultEncoding;
+    private final String cacheControl;
+    private final boolean sendFile;
+    private final ClassLoader classLoader;
+
+    /**
+     * @param resources the precompressed resources, keyed by path
+     * @param indexPage the normalized index page, without leading slash
+     * @param defaultEncoding the charset of the text resources
+     * @param maxAgeSeconds the max age of the caching headers, or a negative value if the caching headers are disabled
+     * @param sendFile whether the variants are sent with {@link HttpServerResponse#sendFile(String)}
+     */
+    public PrecompressedStaticHandler(Map<String, PrecompressedStaticResource> resources, String indexPage,
+            String defaultEncoding, long maxAgeSeconds, boolean sendFile) {
+        this.resources = resources;
+        this.indexPage = indexPage;
+        this.defaultEncoding = defaultEncoding;
+        this.cacheControl = maxAgeSeconds < 0 ? null : "public, immutable, max-age=" + maxAgeSeconds;
+        this.sendFile = sendFile;
+        this.classLoader = Thread.currentThread().getContextClassLoader();
+    }
+
+    /**
+     * @param ctx the routing context
+     * @param path the normalized and decoded path of the request
+     * @return {@code true} if the request was handled, {@code false} if it must be handled by the static handler
+     */
+    public boolean handle(RoutingContext ctx, String path) {
+        String resourcePath = path.endsWith("/") ? path.concat(indexPage) : path;
+        PrecompressedStaticResource resource = resources.get(resourcePath);
+        if (resource == null) {
+            return false;
+        }
+        HttpServerRequest request = ctx.request();
+        if (request.method().equals(HttpMethod.OPTIONS) || request.headers().contains("Range")) {
+            // the ranges are served from the uncompressed resource
+            return false;
+        }
+
+        String encoding = selectEncoding(request.getHeader(HttpHeaders.ACCEPT_ENCODING), resource);
+        String etag = resource.etag(encoding);
+        HttpServerResponse response = ctx.response();
+        response.putHeader(HttpHeaders.ETAG, etag);
+        response.putHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (cacheControl != null) {
+            response.putHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+            return true;
+        }
+
+        String contentType = MimeMapping.getMimeTypeForFilename(resourcePath);
+        if (contentType != null) {
+            if (contentType.startsWith("text")) {
+                response.putHeader(HttpHeaders.CONTENT_TYPE, contentType + ";charset=" + defaultEncoding);
+            } else {
+                response.putHeader(HttpHeaders.CONTENT_TYPE, contentType);
+            }
+        }
+        if (!IDENTITY.equals(encoding)) {
+            // the HTTP compression skips the responses that are already encoded
+            response.putHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+
+        if (request.method().equals(HttpMethod.HEAD)) {
+            response.putHeader(HttpHeaders.CONTENT_LENGTH, Long.toString(resource.getLengths().get(encoding)));
+            response.end();
+        } else {
+            String resourceName = StaticResourcesRecorder.META_INF_RESOURCES + resourcePath
+                    + PrecompressedStaticResource.suffix(encoding);
+            if (sendFile) {
+                response.sendFile(resourceName).onFailure(ctx::fail);
+            } else {
+                ctx.vertx().executeBlocking(() -> readResource(resourceName), false)
+                        .onSuccess(response::end)
+                        .onFailure(ctx::fail);
+            }
+        }
+        return true;
+    }
+
+    private Buffer readResource(String resourceName) throws IOException {
+        try (InputStream in = classLoader.getResourceAsStream(resourceName)) {
+            if (in == null) {
+                throw new IOException("The resource '" + resourceName + "' does not exist on classpath");
+            }
+            return Buffer.buffer(in.readAllBytes());
+        }
+    }
+
+    private static String selectEncoding(String acceptEncoding, PrecompressedStaticResource resource) {
+        if (acceptEncoding != null) {
+            for (String encoding : ENCODINGS) {
+                if (resource.getLengths().containsKey(encoding) && accepts(acceptEncoding, encoding)) {
+                    return encoding;
+                }
+            }
+        }
+        return IDENTITY;
+    }
+
+    static boolean accepts(String acceptEncoding, String encoding) {
+        boolean wildcard = false;
+        for (String part : acceptEncoding.split(",")) {
+            int semicolon = part.indexOf(';');
+            String coding = (semicolon < 0 ? part : part.substring(0, semicolon)).trim();
+            boolean accepted = semicolon < 0 || !isZeroQuality(part.substring(semicolon + 1));
+            if (coding.equalsIgnoreCase(encoding)) {
+                return accepted;
+            }
+            if (coding.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return wildcard;
+    }
+
+    private static boolean isZeroQuality(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            parameter = parameter.trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) == 0;
+                } catch (NumberFormatException e) {
+                    LOG.debugf("Invalid quality value in Accept-Encoding: %s", parameter);
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            // If-None-Match uses the weak comparison
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,56 @@
+package io.quarkus.vertx.http.runtime.handlers;
+
+import java.util.Map;
+
+import io.quarkus.runtime.annotations.RecordableConstructor;
+
+/**
+ * A static resource with compressed variants generated at build time, or found next to it, e.g. {@code app.js.gz}.
+ */
+public class PrecompressedStaticResource {
+
+    public static final String IDENTITY = "identity";
+
+    private final String etag;
+    private final Map<String, Long> lengths;
+
+    /**
+     * @param etag the strong entity tag of the resource content, without quotes
+     * @param lengths the length of the resource and of each variant, keyed by content coding, e.g. {@code identity},
+     *        {@code gzip} or {@code br}
+     */
+    @RecordableConstructor
+    public PrecompressedStaticResource(String etag, Map<String, Long> lengths) {
+        this.etag = etag;
+        this.lengths = lengths;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public Map<String, Long> getLengths() {
+        return lengths;
+    }
+
+    /**
+     * @return the entity tag of the variant with the given content coding, quoted
+     */
+    public String etag(String encoding) {
+        return IDENTITY.equals(encoding) ? '"' + etag + '"' : '"' + etag + '-' + encoding + '"';
+    }
+
+    /**
+     * @return the suffix of the file name of the variant with the given content coding
+     */
+    public static String suffix(String encoding) {
+        switch (encoding) {
+            case IDENTITY:
+                return "";
+            case "gzip":
+                return ".gz";
+            default:
+                return "." + encoding;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.quarkus.vertx.http.runtime.attribute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.RoutingContext;
+
+public class CompositeExchangeAttributeTest {
+
+    @Test
+    public void testAppendAttribute() {
+        RoutingContext rc = Mockito.mock(RoutingContext.class, Mockito.RETURNS_DEEP_STUBS);
+        when(rc.request().method()).thenReturn(HttpMethod.POST);
+        when(rc.request().uri()).thenReturn("/hello?name=foo");
+        when(rc.request().version()).thenReturn(HttpVersion.HTTP_1_1);
+        when(rc.request().headers()).thenReturn(MultiMap.caseInsensitiveMultiMap()
+                .add("Accept", "text/plain")
+                .add("Accept", "application/json")
+                .add("Empty", ""));
+        when(rc.response().headers()).thenReturn(MultiMap.caseInsensitiveMultiMap());
+        when(rc.response().getStatusCode()).thenReturn(201);
+        when(rc.response().bytesWritten()).thenReturn(0L);
+
+        ExchangeAttribute attribute = new ExchangeAttributeParser(List.of(new SubstituteEmptyWrapper("-")))
+                .parse("\"%r\" %s %b %B [%{i,Accept}] [%{i,Empty}] [%{o,Missing}] %%");
+        StringBuilder builder = new StringBuilder("prefix:");
+        attribute.appendAttribute(rc, builder);
+        assertEquals("prefix:\"POST /hello?name=foo HTTP/1.1\" 201 - 0 [[text/plain, application/json]] [-] [-] %",
+                builder.toString());
+        assertEquals(builder.substring("prefix:".length()), attribute.readAttribute(rc));
+    }
+
+}
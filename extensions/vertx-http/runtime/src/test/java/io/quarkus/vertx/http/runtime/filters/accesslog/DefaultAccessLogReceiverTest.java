@@ -0,0 +1,198 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.vertx.http.runtime.filters.accesslog.DefaultAccessLogReceiver.OverflowPolicy;
+
+public class DefaultAccessLogReceiverTest {
+
+    @TempDir
+    Path logDirectory;
+
+    @Test
+    public void testRingBuffer() {
+        MessageRingBuffer buffer = new MessageRingBuffer(3);
+        assertEquals(4, buffer.capacity());
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 4; i++) {
+                assertTrue(buffer.offer("m" + i));
+            }
+            assertFalse(buffer.offer("overflow"));
+            assertEquals(4, buffer.size());
+            for (int i = 0; i < 4; i++) {
+                assertEquals("m" + i, buffer.poll());
+            }
+            assertNull(buffer.poll());
+            assertTrue(buffer.isEmpty());
+        }
+    }
+
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            DefaultAccessLogReceiver receiver = DefaultAccessLogReceiver.builder()
+                    .setLogWriteExecutor(executor)
+                    .setOutputDirectory(logDirectory)
+                    .setLogBaseName("server")
+                    .setQueueSize(16)
+                    .setLogFileHeaderGenerator(() -> "#header")
+                    .build();
+            List<Thread> producers = new ArrayList<>();
+            for (int p = 0; p < 3; p++) {
+                String prefix = "p" + p + "-";
+                Thread producer = new Thread(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        receiver.logMessage(prefix + i + " é€");
+                    }
+                });
+                producer.start();
+                producers.add(producer);
+            }
+            for (Thread producer : producers) {
+                producer.join();
+            }
+            receiver.awaitWrittenForTest();
+
+            List<String> lines = Files.readAllLines(logDirectory.resolve("server.log"), StandardCharsets.UTF_8);
+            assertEquals("#header", lines.get(0));
+            assertEquals(3001, lines.size());
+            for (int p = 0; p < 3; p++) {
+                String prefix = "p" + p + "-";
+                List<String> produced = lines.stream().filter(l -> l.startsWith(prefix)).toList();
+                assertEquals(1000, produced.size());
+                // Messages of a single producer keep their order
+                for (int i = 0; i < 1000; i++) {
+                    assertEquals(prefix + i + " é€", produced.get(i));
+                }
+            }
+            assertEquals(0, receiver.getDroppedMessages());
+            assertEquals(0, receiver.getQueueDepth());
+            receiver.close();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testDropAndRotateBySize() throws Exception {
+        List<Runnable> tasks = new ArrayList<>();
+        DefaultAccessLogReceiver receiver = DefaultAccessLogReceiver.builder()
+                .setLogWriteExecutor(tasks::add)
+                .setOutputDirectory(logDirectory)
+                .setLogBaseName("server")
+                .setRotateSize(100)
+                .setQueueSize(8)
+                .setOverflowPolicy(OverflowPolicy.DROP)
+                .build();
+        String message = "x".repeat(59);
+        for (int i = 0; i < 10; i++) {
+            receiver.logMessage(message);
+        }
+        assertEquals(8, receiver.getQueueDepth());
+        assertEquals(2, receiver.getDroppedMessages());
+        assertEquals(1, tasks.size());
+        tasks.remove(0).run();
+        assertEquals(0, receiver.getQueueDepth());
+        assertEquals(480, Files.size(logDirectory.resolve("server.log")));
+
+        // The file exceeds the size limit and is rotated before the next batch is written
+        receiver.logMessage(message);
+        tasks.remove(0).run();
+        assertEquals(60, Files.size(logDirectory.resolve("server.log")));
+        try (Stream<Path> files = Files.list(logDirectory)) {
+            assertEquals(2, files.count());
+        }
+        receiver.close();
+        tasks.remove(0).run();
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    public void testBlock() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            DefaultAccessLogReceiver receiver = DefaultAccessLogReceiver.builder()
+                    .setLogWriteExecutor(executor)
+                    .setOutputDirectory(logDirectory)
+                    .setLogBaseName("server")
+                    .setQueueSize(2)
+                    .build();
+            for (int i = 0; i < 100; i++) {
+                receiver.logMessage("m" + i);
+            }
+            receiver.awaitWrittenForTest();
+            assertEquals(0, receiver.getDroppedMessages());
+            assertEquals(100, Files.readAllLines(logDirectory.resolve("server.log"), StandardCharsets.UTF_8).size());
+            receiver.close();
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testBlockOnWriterExecutor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            DefaultAccessLogReceiver receiver = DefaultAccessLogReceiver.builder()
+                    .setLogWriteExecutor(executor)
+                    .setOutputDirectory(logDirectory)
+                    .setLogBaseName("server")
+                    .setQueueSize(2)
+                    .build();
+            // The producer occupies the only thread of the executor, the queued writer task cannot run until it finishes
+            executor.submit(() -> {
+                for (int i = 0; i < 100; i++) {
+                    receiver.logMessage("m" + i);
+                }
+            }).get(10, TimeUnit.SECONDS);
+            receiver.awaitWrittenForTest();
+            assertEquals(0, receiver.getDroppedMessages());
+            assertEquals(100, Files.readAllLines(logDirectory.resolve("server.log"), StandardCharsets.UTF_8).size());
+            receiver.close();
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testCount() throws Exception {
+        List<Runnable> tasks = new ArrayList<>();
+        DefaultAccessLogReceiver receiver = DefaultAccessLogReceiver.builder()
+                .setLogWriteExecutor(tasks::add)
+                .setOutputDirectory(logDirectory)
+                .setLogBaseName("server")
+                .setQueueSize(8)
+                .setOverflowPolicy(OverflowPolicy.COUNT)
+                .build();
+        for (int i = 0; i < 10; i++) {
+            receiver.logMessage("m" + i);
+        }
+        assertEquals(8, receiver.getQueueDepth());
+        assertEquals(2, receiver.getDroppedMessages());
+        tasks.remove(0).run();
+        assertEquals(8, Files.readAllLines(logDirectory.resolve("server.log"), StandardCharsets.UTF_8).size());
+        receiver.close();
+        tasks.remove(0).run();
+        assertTrue(tasks.isEmpty());
+    }
+
+}
@@ -0,0 +1,99 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.WebSocket;
+import io.vertx.core.http.WebSocketClient;
+import io.vertx.core.json.JsonObject;
+
+public class BroadcastPojoTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Ticker.class);
+            })
+            .overrideConfigKey("quarkus.websockets-next.server.max-frame-size", "100");
+
+    @TestHTTPResource("ticker")
+    URI tickerUri;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testBroadcastPojo() throws Exception {
+        List<String> messages = assertBroadcast("ACME", 3);
+        for (String message : messages) {
+            JsonObject quote = new JsonObject(message);
+            assertEquals("ACME", quote.getString("symbol"));
+            assertEquals("1", quote.getString("client"));
+        }
+    }
+
+    @Test
+    public void testBroadcastLargeMessage() throws Exception {
+        List<String> messages = assertBroadcast("large", 3);
+        for (String message : messages) {
+            assertEquals("x".repeat(1000), message);
+        }
+    }
+
+    List<String> assertBroadcast(String symbol, int clients) throws Exception {
+        List<WebSocketClient> wsClients = new CopyOnWriteArrayList<>();
+        try {
+            CountDownLatch connectedLatch = new CountDownLatch(clients);
+            CountDownLatch messagesLatch = new CountDownLatch(clients);
+            AtomicReference<WebSocket> ws1 = new AtomicReference<>();
+            List<String> messages = new CopyOnWriteArrayList<>();
+            for (int i = 1; i <= clients; i++) {
+                WebSocketClient client = vertx.createWebSocketClient();
+                wsClients.add(client);
+                String id = String.valueOf(i);
+                client
+                        .connect(tickerUri.getPort(), tickerUri.getHost(), tickerUri.getPath() + "/" + id)
+                        .onComplete(r -> {
+                            if (r.succeeded()) {
+                                WebSocket ws = r.result();
+                                ws.textMessageHandler(msg -> {
+                                    messages.add(msg);
+                                    messagesLatch.countDown();
+                                });
+                                if (id.equals("1")) {
+                                    ws1.set(ws);
+                                }
+                                connectedLatch.countDown();
+                            } else {
+                                throw new IllegalStateException(r.cause());
+                            }
+                        });
+            }
+            assertTrue(connectedLatch.await(5, TimeUnit.SECONDS));
+            ws1.get().writeTextMessage(symbol);
+            assertTrue(messagesLatch.await(5, TimeUnit.SECONDS), "Messages: " + messages);
+            assertEquals(clients, messages.size(), "Messages: " + messages);
+            return messages;
+        } finally {
+            for (WebSocketClient client : wsClients) {
+                client.close().toCompletionStage().toCompletableFuture().get();
+            }
+        }
+    }
+
+}
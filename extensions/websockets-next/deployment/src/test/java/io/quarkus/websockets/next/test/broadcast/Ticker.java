@@ -0,0 +1,28 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import jakarta.inject.Inject;
+
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.smallrye.mutiny.Uni;
+
+@WebSocket(path = "/ticker/{client}")
+public class Ticker {
+
+    @Inject
+    WebSocketConnection connection;
+
+    @OnTextMessage
+    Uni<Void> tick(String symbol) {
+        if (symbol.equals("large")) {
+            // Does not fit in a single frame
+            return connection.broadcast().sendText("x".repeat(1000));
+        }
+        return connection.broadcast().sendText(new Quote(symbol, connection.pathParam("client")));
+    }
+
+    public record Quote(String symbol, String client) {
+    }
+
+}
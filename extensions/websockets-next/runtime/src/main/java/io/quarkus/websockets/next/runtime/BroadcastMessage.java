@@ -0,0 +1,91 @@
+package io.quarkus.websockets.next.runtime;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.WebSocketFrame;
+import io.vertx.core.http.WebSocketFrameType;
+import io.vertx.core.http.impl.ws.WebSocketFrameImpl;
+
+/**
+ * A message sent to all the connections of a broadcast.
+ * <p>
+ * The message is encoded once in a pooled buffer, and every connection writes its own frame backed by a duplicate of the
+ * same payload, so that the payload is neither encoded nor copied per connection. Vert.x does not release the payload of
+ * the frames it writes, hence the payload must be released with {@link #release()} once all the writes completed.
+ * <p>
+ * A message that does not fit in a single frame is written with
+ * {@link io.vertx.core.http.WebSocketBase#writeTextMessage(String)} or
+ * {@link io.vertx.core.http.WebSocketBase#writeBinaryMessage(Buffer)} instead, so that it is fragmented as usual.
+ */
+final class BroadcastMessage {
+
+    static BroadcastMessage text(String text, int maxFrameSize) {
+        // a single encoding pass, the size of the payload is only known afterwards
+        ByteBuf payload = ByteBufUtil.writeUtf8(ByteBufAllocator.DEFAULT, text);
+        return new BroadcastMessage(text, null, payload, payload.readableBytes() <= maxFrameSize);
+    }
+
+    static BroadcastMessage binary(Buffer binary, int maxFrameSize) {
+        // The buffer is owned by the caller
+        ByteBuf payload = Unpooled.unreleasableBuffer(binary.getByteBuf());
+        return new BroadcastMessage(null, binary, payload, payload.readableBytes() <= maxFrameSize);
+    }
+
+    private final String text;
+    private final Buffer binary;
+    private final ByteBuf payload;
+    private final boolean singleFrame;
+
+    private BroadcastMessage(String text, Buffer binary, ByteBuf payload, boolean singleFrame) {
+        this.text = text;
+        this.binary = binary;
+        this.payload = payload;
+        this.singleFrame = singleFrame;
+    }
+
+    boolean isText() {
+        return text != null;
+    }
+
+    /**
+     * @return the text message, or {@code null} for a binary message
+     */
+    String text() {
+        return text;
+    }
+
+    /**
+     * @return the binary message, or {@code null} for a text message
+     */
+    Buffer binary() {
+        return binary;
+    }
+
+    /**
+     * @return {@code true} if the message fits in a single frame, see {@link #newFrame()}
+     */
+    boolean isSingleFrame() {
+        return singleFrame;
+    }
+
+    /**
+     * @return a new final frame that shares the payload of this message, with its own reader index
+     */
+    WebSocketFrame newFrame() {
+        // there is no public factory for a text frame backed by an encoded payload
+        return new WebSocketFrameImpl(isText() ? WebSocketFrameType.TEXT : WebSocketFrameType.BINARY,
+                payload.duplicate(), true);
+    }
+
+    ByteBuf payload() {
+        return payload;
+    }
+
+    void release() {
+        payload.release();
+    }
+
+}
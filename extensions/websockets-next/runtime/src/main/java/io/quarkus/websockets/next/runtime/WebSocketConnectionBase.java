@@ -14,6 +14,8 @@
 import io.quarkus.websockets.next.WebSocketConnection.BroadcastSender;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.http.WebSocketBase;
@@ -86,17 +88,55 @@ public Uni<Void> sendBinary(Buffer message) {
 
     @Override
     public <M> Uni<Void> sendText(M message) {
-        String text;
+        return sendText(textEncode(message));
+    }
+
+    <M> String textEncode(M message) {
         // Use the same conversion rules as defined for the OnTextMessage
         if (message instanceof JsonObject || message instanceof JsonArray || message instanceof BufferImpl
                 || message instanceof NoBoundChecksBuffer) {
-            text = message.toString();
+            return message.toString();
         } else if (message.getClass().isArray() && message.getClass().arrayType().equals(byte.class)) {
-            text = Buffer.buffer((byte[]) message).toString();
+            return Buffer.buffer((byte[]) message).toString();
+        } else {
+            return codecs.textEncode(message, null);
+        }
+    }
+
+    /**
+     * Writes a message shared by all the connections of a broadcast, see {@link BroadcastMessage}.
+     */
+    Future<Void> writeBroadcast(BroadcastMessage message) {
+        WebSocketBase ws = webSocket();
+        Future<Void> future;
+        if (message.isSingleFrame()) {
+            future = ws.writeFrame(message.newFrame());
         } else {
-            text = codecs.textEncode(message, null);
+            future = message.isText() ? ws.writeTextMessage(message.text()) : ws.writeBinaryMessage(message.binary());
+        }
+        if (sendingInterceptor == null && trafficLogger == null) {
+            return future;
         }
-        return sendText(text);
+        return future.onSuccess(new Handler<Void>() {
+            @Override
+            public void handle(Void ignored) {
+                if (message.isText()) {
+                    if (sendingInterceptor != null) {
+                        sendingInterceptor.onSend(message.text());
+                    }
+                    if (trafficLogger != null) {
+                        trafficLogger.textMessageSent(WebSocketConnectionBase.this, message.text());
+                    }
+                } else {
+                    if (sendingInterceptor != null) {
+                        sendingInterceptor.onSend(message.binary());
+                    }
+                    if (trafficLogger != null) {
+                        trafficLogger.binaryMessageSent(WebSocketConnectionBase.this, message.binary());
+                    }
+                }
+            }
+        });
     }
 
     @Override
@@ -6,15 +6,27 @@
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
-import java.util.function.BiFunction;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import io.quarkus.websockets.next.HandshakeRequest;
 import io.quarkus.websockets.next.WebSocketConnection;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
+import io.smallrye.common.vertx.VertxContext;
+import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.ServerWebSocket;
 import io.vertx.core.http.WebSocketBase;
@@ -32,9 +44,14 @@ class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSock
 
     private final BroadcastSender defaultBroadcast;
 
+    // The event loop context of the connection, used to dispatch broadcasts
+    private final Context context;
+
+    private final int maxFrameSize;
+
     WebSocketConnectionImpl(String generatedEndpointClass, String endpointClass, ServerWebSocket webSocket,
             ConnectionManager connectionManager, Codecs codecs, RoutingContext ctx,
-            TrafficLogger trafficLogger, SendingInterceptor sendingInterceptor) {
+            TrafficLogger trafficLogger, SendingInterceptor sendingInterceptor, int maxFrameSize) {
         super(Map.copyOf(ctx.pathParams()), codecs, new HandshakeRequestImpl(webSocket, ctx), trafficLogger,
                 sendingInterceptor);
         this.generatedEndpointClass = generatedEndpointClass;
@@ -42,6 +59,9 @@ class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSock
         this.webSocket = Objects.requireNonNull(webSocket);
         this.connectionManager = Objects.requireNonNull(connectionManager);
         this.defaultBroadcast = new BroadcastImpl(null);
+        Context context = Vertx.currentContext();
+        this.context = context != null ? VertxContext.getRootContext(context) : null;
+        this.maxFrameSize = maxFrameSize;
     }
 
     @Override
@@ -166,25 +186,6 @@ static Map<String, List<String>> initHeaders(RoutingContext ctx) {
 
     private class BroadcastImpl implements WebSocketConnection.BroadcastSender {
 
-        private static final BiFunction<WebSocketConnection, String, Uni<Void>> SEND_TEXT_STR = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, String s) {
-                return c.sendText(s);
-            }
-        };
-        private static final BiFunction<WebSocketConnection, Object, Uni<Void>> SEND_TEXT_POJO = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Object o) {
-                return c.sendText(o);
-            }
-        };
-        private static final BiFunction<WebSocketConnection, Buffer, Uni<Void>> SEND_BINARY = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Buffer b) {
-                return c.sendBinary(b);
-            }
-        };
-
         private final Predicate<WebSocketConnection> filter;
 
         BroadcastImpl(Predicate<WebSocketConnection> filter) {
@@ -198,17 +199,33 @@ public BroadcastSender filter(Predicate<WebSocketConnection> predicate) {
 
         @Override
         public Uni<Void> sendText(String message) {
-            return doSend(SEND_TEXT_STR, message);
+            return doSend(new Supplier<>() {
+                @Override
+                public BroadcastMessage get() {
+                    return BroadcastMessage.text(message, maxFrameSize);
+                }
+            });
         }
 
         @Override
         public <M> Uni<Void> sendText(M message) {
-            return doSend(SEND_TEXT_POJO, message);
+            return doSend(new Supplier<>() {
+                @Override
+                public BroadcastMessage get() {
+                    // Encode the message once for all connections
+                    return BroadcastMessage.text(textEncode(message), maxFrameSize);
+                }
+            });
         }
 
         @Override
         public Uni<Void> sendBinary(Buffer message) {
-            return doSend(SEND_BINARY, message);
+            return doSend(new Supplier<>() {
+                @Override
+                public BroadcastMessage get() {
+                    return BroadcastMessage.binary(message, maxFrameSize);
+                }
+            });
         }
 
         @Override
@@ -221,26 +238,105 @@ public Uni<Void> sendPong(Buffer data) {
             throw new UnsupportedOperationException();
         }
 
-        private <M> Uni<Void> doSend(BiFunction<WebSocketConnection, M, Uni<Void>> sendFunction, M message) {
+        private Uni<Void> doSend(Supplier<BroadcastMessage> messageSupplier) {
             Set<WebSocketConnection> connections = connectionManager.getConnections(generatedEndpointClass);
             if (connections.isEmpty()) {
                 return Uni.createFrom().voidItem();
             }
-            List<Uni<Void>> unis = new ArrayList<>(connections.size());
+            // Connections are grouped by event loop so that a broadcast only needs one task per event loop
+            Map<Context, List<WebSocketConnectionImpl>> batches = new HashMap<>();
+            int count = 0;
             for (WebSocketConnection connection : connections) {
                 if (connection.isOpen()
                         && (filter == null || filter.test(connection))) {
-                    unis.add(sendFunction.apply(connection, message)
-                            // Intentionally ignore 'WebSocket is closed' failures
-                            // It might happen that the connection is closed in the mean time
-                            .onFailure(t -> Endpoints.isWebSocketIsClosedFailure(t, (WebSocketConnectionBase) connection))
-                            .recoverWithNull());
+                    WebSocketConnectionImpl impl = (WebSocketConnectionImpl) connection;
+                    List<WebSocketConnectionImpl> batch = batches.get(impl.context);
+                    if (batch == null) {
+                        batch = new ArrayList<>();
+                        batches.put(impl.context, batch);
+                    }
+                    batch.add(impl);
+                    count++;
                 }
             }
-            if (unis.isEmpty()) {
+            if (count == 0) {
                 return Uni.createFrom().voidItem();
             }
-            return Uni.join().all(unis).andCollectFailures().replaceWithVoid();
+            int writes = count;
+            return Uni.createFrom().emitter(new Consumer<UniEmitter<? super Void>>() {
+                @Override
+                public void accept(UniEmitter<? super Void> emitter) {
+                    new BroadcastDispatch(messageSupplier.get(), writes, emitter).dispatch(batches);
+                }
+            });
+        }
+
+    }
+
+    private static class BroadcastDispatch {
+
+        private final BroadcastMessage message;
+        private final AtomicInteger pendingWrites;
+        private final Queue<Throwable> failures;
+        private final UniEmitter<? super Void> emitter;
+
+        BroadcastDispatch(BroadcastMessage message, int writes, UniEmitter<? super Void> emitter) {
+            this.message = message;
+            this.pendingWrites = new AtomicInteger(writes);
+            this.failures = new ConcurrentLinkedQueue<>();
+            this.emitter = emitter;
+        }
+
+        void dispatch(Map<Context, List<WebSocketConnectionImpl>> batches) {
+            for (Entry<Context, List<WebSocketConnectionImpl>> e : batches.entrySet()) {
+                List<WebSocketConnectionImpl> batch = e.getValue();
+                if (e.getKey() == null) {
+                    write(batch);
+                } else {
+                    e.getKey().runOnContext(new Handler<Void>() {
+                        @Override
+                        public void handle(Void ignored) {
+                            write(batch);
+                        }
+                    });
+                }
+            }
+        }
+
+        private void write(List<WebSocketConnectionImpl> batch) {
+            for (WebSocketConnectionImpl connection : batch) {
+                Future<Void> future;
+                try {
+                    future = connection.writeBroadcast(message);
+                } catch (Throwable t) {
+                    future = Future.failedFuture(t);
+                }
+                future.onComplete(new Handler<AsyncResult<Void>>() {
+                    @Override
+                    public void handle(AsyncResult<Void> result) {
+                        written(connection, result);
+                    }
+                });
+            }
+        }
+
+        private void written(WebSocketConnectionImpl connection, AsyncResult<Void> result) {
+            // Intentionally ignore 'WebSocket is closed' failures
+            // It might happen that the connection is closed in the mean time
+            if (result.failed() && !Endpoints.isWebSocketIsClosedFailure(result.cause(), connection)) {
+                failures.add(result.cause());
+            }
+            if (pendingWrites.decrementAndGet() == 0) {
+                // No frame references the payload anymore
+                message.release();
+                if (failures.isEmpty()) {
+                    emitter.complete(null);
+                } else if (failures.size() == 1) {
+                    emitter.fail(failures.peek());
+                } else {
+                    emitter.fail(new CompositeException(new ArrayList<>(failures)));
+                }
+            }
         }
 
     }
@@ -0,0 +1,58 @@
+package io.quarkus.websockets.next.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.WebSocketFrame;
+
+public class BroadcastMessageTest {
+
+    @Test
+    public void testTextIsEncodedOnce() {
+        BroadcastMessage message = BroadcastMessage.text("hello", 1024);
+        assertTrue(message.isSingleFrame());
+        WebSocketFrame first = message.newFrame();
+        WebSocketFrame second = message.newFrame();
+        assertTrue(first.isText());
+        assertTrue(first.isFinal());
+        assertEquals("hello", first.textData());
+        assertEquals("hello", second.textData());
+
+        // the frames are backed by the single encoded payload, not by copies
+        message.payload().setByte(0, 'j');
+        assertEquals("jello", first.textData());
+        assertEquals("jello", second.textData());
+        assertEquals(1, message.payload().refCnt());
+
+        message.release();
+        assertEquals(0, message.payload().refCnt());
+    }
+
+    @Test
+    public void testBinary() {
+        Buffer binary = Buffer.buffer("abc");
+        BroadcastMessage message = BroadcastMessage.binary(binary, 1024);
+        WebSocketFrame frame = message.newFrame();
+        assertTrue(frame.isBinary());
+        assertEquals(binary, frame.binaryData());
+        // the buffer is owned by the caller
+        message.release();
+        assertEquals("abc", binary.toString());
+    }
+
+    @Test
+    public void testMultipleFrames() {
+        // the frame size is the size of the encoded payload, not the length of the text
+        BroadcastMessage tooLong = BroadcastMessage.text("h\u00e9llo", 5);
+        assertFalse(tooLong.isSingleFrame());
+        tooLong.release();
+        BroadcastMessage fits = BroadcastMessage.text("hello", 5);
+        assertTrue(fits.isSingleFrame());
+        fits.release();
+        assertFalse(BroadcastMessage.binary(Buffer.buffer("abcdef"), 5).isSingleFrame());
+    }
+}
@@ -0,0 +1,98 @@
+package io.quarkus.arc.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.quarkus.arc.InjectableBean;
+
+/**
+ * Compares the request context storages: {@code map} is the default {@link ComputingCacheContextInstances} and
+ * {@code indexed} is the {@link IndexedContextInstances} used when the indexed request context is enabled.
+ * <p>
+ * {@link #cycle(Blackhole)} measures a whole request: the context is activated, each bean is looked up a few times,
+ * which creates it on the first lookup, and the context is terminated. {@link #get(Blackhole)} measures a lookup of an
+ * existing instance.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestContextBenchmark {
+
+    private static final int LOOKUPS_PER_BEAN = 4;
+
+    @Param({ "map", "indexed" })
+    public String storage;
+
+    @Param({ "4", "16" })
+    public int beans;
+
+    private RequestContext context;
+    private InjectableBean<?>[] beanArray;
+
+    @Setup
+    public void setup() {
+        context = RequestContextFixture.newRequestContext(storage);
+        beanArray = RequestContextFixture.beans(beans);
+    }
+
+    @Benchmark
+    public void cycle(Blackhole blackhole) {
+        context.activate();
+        for (int i = 0; i < LOOKUPS_PER_BEAN; i++) {
+            lookupAll(context, beanArray, blackhole);
+        }
+        context.terminate();
+    }
+
+    @Benchmark
+    public void get(Active active, Blackhole blackhole) {
+        lookupAll(active.context, active.beanArray, blackhole);
+    }
+
+    @State(Scope.Thread)
+    public static class Active {
+
+        RequestContext context;
+        InjectableBean<?>[] beanArray;
+
+        @Setup(Level.Iteration)
+        public void activate(RequestContextBenchmark benchmark) {
+            context = RequestContextFixture.newRequestContext(benchmark.storage);
+            beanArray = RequestContextFixture.beans(benchmark.beans);
+            context.activate();
+            lookupAll(context, beanArray, null);
+        }
+
+        @TearDown(Level.Iteration)
+        public void terminate() {
+            context.terminate();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void lookupAll(RequestContext context, InjectableBean<?>[] beans, Blackhole blackhole) {
+        for (InjectableBean<?> bean : beans) {
+            Object instance = context.getIfActive((InjectableBean<Object>) bean, CreationalContextImpl::new);
+            if (blackhole != null) {
+                blackhole.consume(instance);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.spi.CreationalContext;
+
+import io.quarkus.arc.InjectableBean;
+
+/**
+ * Request-scoped beans and context instances that mimic what the container generates.
+ */
+final class RequestContextFixture {
+
+    static final int MAX_BEANS = 16;
+
+    private RequestContextFixture() {
+    }
+
+    static RequestContext newRequestContext(String storage) {
+        Supplier<ContextInstances> contextInstances = switch (storage) {
+            case "map" -> ComputingCacheContextInstances::new;
+            case "indexed" -> Indexed::new;
+            default -> throw new IllegalArgumentException(storage);
+        };
+        return new RequestContext(new ThreadLocalCurrentContext<>(), null, null, null, contextInstances);
+    }
+
+    static InjectableBean<?>[] beans(int count) {
+        InjectableBean<?>[] beans = new InjectableBean<?>[count];
+        for (int i = 0; i < count; i++) {
+            beans[i] = new Bean("bean" + i);
+        }
+        return beans;
+    }
+
+    static final class Bean implements InjectableBean<Object> {
+
+        private final String identifier;
+
+        Bean(String identifier) {
+            this.identifier = identifier.intern();
+        }
+
+        @Override
+        public String getIdentifier() {
+            return identifier;
+        }
+
+        @Override
+        public Class<? extends Annotation> getScope() {
+            return RequestScoped.class;
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return Set.of(Object.class);
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return Object.class;
+        }
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext) {
+            return new Object();
+        }
+
+        @Override
+        public Object get(CreationalContext<Object> creationalContext) {
+            return create(creationalContext);
+        }
+    }
+
+    /**
+     * The equivalent of the subclass generated for an indexed request context.
+     */
+    static final class Indexed extends IndexedContextInstances {
+
+        Indexed() {
+            super(MAX_BEANS);
+        }
+
+        @Override
+        protected int index(String id) {
+            return switch (id) {
+                case "bean0" -> 0;
+                case "bean1" -> 1;
+                case "bean2" -> 2;
+                case "bean3" -> 3;
+                case "bean4" -> 4;
+                case "bean5" -> 5;
+                case "bean6" -> 6;
+                case "bean7" -> 7;
+                case "bean8" -> 8;
+                case "bean9" -> 9;
+                case "bean10" -> 10;
+                case "bean11" -> 11;
+                case "bean12" -> 12;
+                case "bean13" -> 13;
+                case "bean14" -> 14;
+                case "bean15" -> 15;
+                default -> throw new IllegalArgumentException("Unknown bean identifier");
+            };
+        }
+    }
+}
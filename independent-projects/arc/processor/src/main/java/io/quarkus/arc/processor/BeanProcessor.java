@@ -88,6 +88,7 @@ public static Builder builder() {
     private final boolean allowMocking;
     private final boolean transformUnproxyableClasses;
     private final Predicate<BeanDeployment> optimizeContexts;
+    private final boolean indexedRequestContext;
     private final List<Function<BeanInfo, Consumer<BytecodeCreator>>> suppressConditionGenerators;
 
     // This predicate is used to filter annotations for InjectionPoint metadata
@@ -118,6 +119,7 @@ private BeanProcessor(Builder builder) {
         this.generateSources = builder.generateSources;
         this.allowMocking = builder.allowMocking;
         this.optimizeContexts = builder.optimizeContexts;
+        this.indexedRequestContext = builder.indexedRequestContext;
         this.transformUnproxyableClasses = builder.transformUnproxyableClasses;
         this.suppressConditionGenerators = builder.suppressConditionGenerators;
 
@@ -259,9 +261,12 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
         }
 
         ContextInstancesGenerator contextInstancesGenerator = new ContextInstancesGenerator(generateSources,
-                refReg, beanDeployment, scopeToGeneratedName);
+                refReg, beanDeployment, scopeToGeneratedName,
+                indexedRequestContext ? Set.of(BuiltinScope.REQUEST.getName()) : Set.of());
         if (optimizeContextsValue) {
             contextInstancesGenerator.precomputeGeneratedName(BuiltinScope.APPLICATION.getName());
+        }
+        if (optimizeContextsValue || indexedRequestContext) {
             contextInstancesGenerator.precomputeGeneratedName(BuiltinScope.REQUEST.getName());
         }
 
@@ -422,15 +427,16 @@ public Collection<Resource> call() throws Exception {
                 }));
             }
 
-            if (optimizeContextsValue) {
+            if (!scopeToGeneratedName.isEmpty()) {
                 // Generate _ContextInstances
                 primaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
 
                     @Override
                     public Collection<Resource> call() throws Exception {
                         Collection<Resource> resources = new ArrayList<>();
-                        resources.addAll(contextInstancesGenerator.generate(BuiltinScope.APPLICATION.getName()));
-                        resources.addAll(contextInstancesGenerator.generate(BuiltinScope.REQUEST.getName()));
+                        for (DotName scope : scopeToGeneratedName.keySet()) {
+                            resources.addAll(contextInstancesGenerator.generate(scope));
+                        }
                         return resources;
                     }
                 }));
@@ -523,10 +529,9 @@ public Collection<Resource> call() throws Exception {
                             observerToGeneratedName,
                             scopeToGeneratedName));
 
-            if (optimizeContextsValue) {
-                // Generate _ContextInstances
-                resources.addAll(contextInstancesGenerator.generate(BuiltinScope.APPLICATION.getName()));
-                resources.addAll(contextInstancesGenerator.generate(BuiltinScope.REQUEST.getName()));
+            // Generate _ContextInstances
+            for (DotName scope : scopeToGeneratedName.keySet()) {
+                resources.addAll(contextInstancesGenerator.generate(scope));
             }
         }
 
@@ -642,6 +647,7 @@ public static class Builder {
         boolean allowMocking;
         boolean strictCompatibility;
         Predicate<BeanDeployment> optimizeContexts;
+        boolean indexedRequestContext;
 
         AlternativePriorities alternativePriorities;
         final List<Predicate<ClassInfo>> excludeTypes;
@@ -677,6 +683,7 @@ public Builder() {
             failOnInterceptedPrivateMethod = false;
             allowMocking = false;
             strictCompatibility = false;
+            indexedRequestContext = false;
 
             excludeTypes = new ArrayList<>();
 
@@ -946,6 +953,20 @@ public Builder setOptimizeContexts(Predicate<BeanDeployment> fun) {
             return this;
         }
 
+        /**
+         * If set to {@code true}, the instances of the request context are stored in an array indexed by an ordinal
+         * assigned to each {@link jakarta.enterprise.context.RequestScoped} bean during build. This takes precedence over
+         * {@link #setOptimizeContexts(Predicate)} for the request context.
+         *
+         * @param value
+         * @return self
+         * @see io.quarkus.arc.impl.IndexedContextInstances
+         */
+        public Builder setIndexedRequestContext(boolean value) {
+            this.indexedRequestContext = value;
+            return this;
+        }
+
         /**
          * Can be used to compute a priority of an alternative bean. A non-null computed value always
          * takes precedence over the priority defined by {@link Priority} or a stereotype.
@@ -2,6 +2,7 @@
 
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.ACC_VOLATILE;
@@ -23,6 +24,7 @@
 
 import io.quarkus.arc.ContextInstanceHandle;
 import io.quarkus.arc.impl.ContextInstances;
+import io.quarkus.arc.impl.IndexedContextInstances;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
 import io.quarkus.gizmo.BytecodeCreator;
 import io.quarkus.gizmo.CatchBlockCreator;
@@ -41,12 +43,23 @@ public class ContextInstancesGenerator extends AbstractGenerator {
 
     private final BeanDeployment beanDeployment;
     private final Map<DotName, String> scopeToGeneratedName;
+    private final Set<DotName> indexedScopes;
 
     public ContextInstancesGenerator(boolean generateSources, ReflectionRegistration reflectionRegistration,
             BeanDeployment beanDeployment, Map<DotName, String> scopeToGeneratedName) {
+        this(generateSources, reflectionRegistration, beanDeployment, scopeToGeneratedName, Set.of());
+    }
+
+    /**
+     *
+     * @param indexedScopes the scopes for which a subclass of {@link IndexedContextInstances} is generated
+     */
+    public ContextInstancesGenerator(boolean generateSources, ReflectionRegistration reflectionRegistration,
+            BeanDeployment beanDeployment, Map<DotName, String> scopeToGeneratedName, Set<DotName> indexedScopes) {
         super(generateSources, reflectionRegistration);
         this.beanDeployment = beanDeployment;
         this.scopeToGeneratedName = scopeToGeneratedName;
+        this.indexedScopes = indexedScopes;
     }
 
     void precomputeGeneratedName(DotName scope) {
@@ -62,6 +75,11 @@ Collection<Resource> generate(DotName scope) {
         String generatedName = scopeToGeneratedName.get(scope);
         reflectionRegistration.registerMethod(generatedName, MethodDescriptor.INIT);
 
+        if (indexedScopes.contains(scope)) {
+            generateIndexed(classOutput, generatedName, beans);
+            return classOutput.getResources();
+        }
+
         ClassCreator contextInstances = ClassCreator.builder().classOutput(classOutput).className(generatedName)
                 .interfaces(ContextInstances.class).build();
 
@@ -105,6 +123,41 @@ Collection<Resource> generate(DotName scope) {
         return classOutput.getResources();
     }
 
+    private static void generateIndexed(ResourceClassOutput classOutput, String generatedName, List<BeanInfo> beans) {
+        ClassCreator contextInstances = ClassCreator.builder().classOutput(classOutput).className(generatedName)
+                .superClass(IndexedContextInstances.class).build();
+
+        // The ordinal of a bean is its position in the list of beans of the scope
+        // public Foo_RequestScoped_ContextInstances() {
+        //   super(2);
+        // }
+        MethodCreator constructor = contextInstances.getMethodCreator(MethodDescriptor.INIT, "V");
+        constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(IndexedContextInstances.class, int.class),
+                constructor.getThis(), constructor.load(beans.size()));
+        constructor.returnVoid();
+
+        // protected int index(String id) {
+        //   switch (id) {
+        //     case "id1": return 0;
+        //     case "id2": return 1;
+        //     default: throw new IllegalArgumentException("Unknown bean identifier");
+        //   }
+        // }
+        MethodCreator index = contextInstances.getMethodCreator("index", int.class, String.class)
+                .setModifiers(ACC_PROTECTED);
+        StringSwitch strSwitch = index.stringSwitch(index.getMethodParam(0));
+        // https://github.com/quarkusio/gizmo/issues/164
+        strSwitch.fallThrough();
+        int ordinal = 0;
+        for (BeanInfo bean : beans) {
+            int beanOrdinal = ordinal++;
+            strSwitch.caseOf(bean.getIdentifier(), bc -> bc.returnValue(bc.load(beanOrdinal)));
+        }
+        strSwitch.defaultCase(bc -> bc.throwException(IllegalArgumentException.class, "Unknown bean identifier"));
+
+        contextInstances.close();
+    }
+
     private static void implementStaticConstructor(ClassCreator contextInstances, Map<String, InstanceAndLock> idToFields) {
         // Add a static initializer to initialize the AtomicReferenceFieldUpdater fields
         // static {
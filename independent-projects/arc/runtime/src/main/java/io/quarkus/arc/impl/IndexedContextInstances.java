@@ -0,0 +1,154 @@
+package io.quarkus.arc.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.quarkus.arc.ContextInstanceHandle;
+
+/**
+ * Context instances stored in a fixed-size array. Every bean of the scope is assigned an ordinal at build time and the
+ * instance handle of the bean is stored in the slot at this ordinal. Unlike {@link ComputingCacheContextInstances}, no map
+ * nodes, lazy values or locks are allocated; a new context only allocates the array.
+ * <p>
+ * Slots are read with acquire semantics and a new instance is published with release semantics, which compile to plain
+ * loads and stores on common hardware. A slot is claimed with a single CAS before the instance is created, so that the
+ * instances remain consistent when the context state is propagated to other threads. A thread that finds a slot claimed by
+ * another thread waits until the instance is created, like it would wait for the lock of a {@link LazyValue}.
+ * <p>
+ * Subclasses are generated at build time and map a bean identifier to its ordinal.
+ */
+public abstract class IndexedContextInstances implements ContextInstances {
+
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    // the number of attempts to read a slot claimed by another thread before parking
+    private static final int SPINS = 64;
+    private static final long MAX_PARK_NANOS = 1_000_000;
+
+    // a slot contains either null, a ContextInstanceHandle, or the Thread that is creating the instance
+    private final Object[] slots;
+
+    protected IndexedContextInstances(int size) {
+        this.slots = new Object[size];
+    }
+
+    /**
+     * @param id the bean identifier
+     * @return the ordinal of the bean
+     * @throws IllegalArgumentException if the identifier does not belong to a bean of the scope
+     */
+    protected abstract int index(String id);
+
+    @Override
+    public ContextInstanceHandle<?> computeIfAbsent(String id, Supplier<ContextInstanceHandle<?>> supplier) {
+        int index = index(id);
+        Object value = SLOTS.getAcquire(slots, index);
+        if (value instanceof ContextInstanceHandle<?> handle) {
+            // fast path
+            return handle;
+        }
+        Thread current = Thread.currentThread();
+        int attempts = 0;
+        while (true) {
+            if (value == null) {
+                Object witness = SLOTS.compareAndExchange(slots, index, null, current);
+                if (witness == null) {
+                    return create(index, supplier);
+                }
+                value = witness;
+            }
+            if (value instanceof ContextInstanceHandle<?> handle) {
+                return handle;
+            }
+            if (value == current) {
+                // the bean is created recursively on the same thread,
+                // the instance created last wins just like with the lock-based implementations
+                ContextInstanceHandle<?> handle = supplier.get();
+                SLOTS.setRelease(slots, index, handle);
+                return handle;
+            }
+            awaitCreation(attempts++);
+            value = SLOTS.getAcquire(slots, index);
+        }
+    }
+
+    @Override
+    public ContextInstanceHandle<?> getIfPresent(String id) {
+        Object value = SLOTS.getAcquire(slots, index(id));
+        return value instanceof ContextInstanceHandle<?> handle ? handle : null;
+    }
+
+    @Override
+    public ContextInstanceHandle<?> remove(String id) {
+        return removeAt(index(id));
+    }
+
+    @Override
+    public Set<ContextInstanceHandle<?>> getAllPresent() {
+        Set<ContextInstanceHandle<?>> ret = new HashSet<>();
+        for (int i = 0; i < slots.length; i++) {
+            if (SLOTS.getAcquire(slots, i) instanceof ContextInstanceHandle<?> handle) {
+                ret.add(handle);
+            }
+        }
+        return ret;
+    }
+
+    @Override
+    public void removeEach(Consumer<? super ContextInstanceHandle<?>> action) {
+        for (int i = 0; i < slots.length; i++) {
+            ContextInstanceHandle<?> handle = removeAt(i);
+            if (handle != null && action != null) {
+                action.accept(handle);
+            }
+        }
+    }
+
+    private ContextInstanceHandle<?> create(int index, Supplier<ContextInstanceHandle<?>> supplier) {
+        ContextInstanceHandle<?> handle;
+        try {
+            handle = supplier.get();
+        } catch (Throwable t) {
+            // release the claim so that a waiting thread can retry
+            SLOTS.setRelease(slots, index, null);
+            throw t;
+        }
+        SLOTS.setRelease(slots, index, handle);
+        return handle;
+    }
+
+    private ContextInstanceHandle<?> removeAt(int index) {
+        int attempts = 0;
+        while (true) {
+            Object value = SLOTS.getAcquire(slots, index);
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof ContextInstanceHandle<?> handle) {
+                if (SLOTS.compareAndSet(slots, index, handle, null)) {
+                    return handle;
+                }
+            } else if (value == Thread.currentThread()) {
+                // removed while being created on the same thread
+                return null;
+            } else {
+                awaitCreation(attempts++);
+            }
+        }
+    }
+
+    private static void awaitCreation(int attempts) {
+        if (attempts < SPINS) {
+            Thread.onSpinWait();
+        } else {
+            // creating an instance may take a while, back off exponentially
+            LockSupport.parkNanos(Math.min(MAX_PARK_NANOS, 1_000L << Math.min(attempts - SPINS, 10)));
+        }
+    }
+
+}
@@ -95,6 +95,7 @@ public static class Builder {
         private final List<BuildCompatibleExtension> buildCompatibleExtensions;
         private boolean strictCompatibility = false;
         private boolean optimizeContexts = false;
+        private boolean indexedRequestContext = false;
         private final List<Predicate<ClassInfo>> excludeTypes;
 
         public Builder() {
@@ -232,6 +233,11 @@ public Builder optimizeContexts(boolean value) {
             return this;
         }
 
+        public Builder indexedRequestContext(boolean value) {
+            this.indexedRequestContext = value;
+            return this;
+        }
+
         public Builder excludeType(Predicate<ClassInfo> predicate) {
             this.excludeTypes.add(predicate);
             return this;
@@ -274,6 +280,7 @@ public ArcTestContainer build() {
 
     private final boolean strictCompatibility;
     private final boolean optimizeContexts;
+    private final boolean indexedRequestContext;
 
     public ArcTestContainer(Class<?>... beanClasses) {
         this.resourceReferenceProviders = Collections.emptyList();
@@ -298,6 +305,7 @@ public ArcTestContainer(Class<?>... beanClasses) {
         this.buildCompatibleExtensions = Collections.emptyList();
         this.strictCompatibility = false;
         this.optimizeContexts = false;
+        this.indexedRequestContext = false;
         this.excludeTypes = Collections.emptyList();
     }
 
@@ -324,6 +332,7 @@ public ArcTestContainer(Builder builder) {
         this.buildCompatibleExtensions = builder.buildCompatibleExtensions;
         this.strictCompatibility = builder.strictCompatibility;
         this.optimizeContexts = builder.optimizeContexts;
+        this.indexedRequestContext = builder.indexedRequestContext;
         this.excludeTypes = builder.excludeTypes;
     }
 
@@ -442,7 +451,8 @@ private ClassLoader init(ExtensionContext context) {
                     .setApplicationIndex(applicationIndex)
                     .setBuildCompatibleExtensions(buildCompatibleExtensions)
                     .setStrictCompatibility(strictCompatibility)
-                    .setOptimizeContexts(optimizeContexts);
+                    .setOptimizeContexts(optimizeContexts)
+                    .setIndexedRequestContext(indexedRequestContext);
             if (!resourceAnnotations.isEmpty()) {
                 builder.addResourceAnnotations(resourceAnnotations.stream()
                         .map(c -> DotName.createSimple(c.getName()))
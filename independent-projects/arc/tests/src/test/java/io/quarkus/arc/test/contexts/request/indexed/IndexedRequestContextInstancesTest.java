@@ -0,0 +1,162 @@
+package io.quarkus.arc.test.contexts.request.indexed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ContextNotActiveException;
+import jakarta.enterprise.context.RequestScoped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class IndexedRequestContextInstancesTest {
+
+    @RegisterExtension
+    ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Boom.class, Slow.class)
+            .indexedRequestContext(true)
+            .build();
+
+    @Test
+    public void testContext() {
+        ArcContainer container = Arc.container();
+        container.requestContext().activate();
+        Boom.DESTROYED.set(0);
+
+        InstanceHandle<Boom> handle = container.instance(Boom.class);
+        Boom boom = handle.get();
+        // IndexedContextInstances#computeIfAbsent()
+        String id1 = boom.ping();
+        assertEquals(id1, boom.ping());
+
+        // IndexedContextInstances#remove()
+        handle.destroy();
+        assertEquals(1, Boom.DESTROYED.get());
+        // IndexedContextInstances#getAllPresent()
+        assertEquals(0, container.getActiveContext(RequestScoped.class).getState().getContextualInstances().size());
+
+        // Init a new instance of Boom
+        String id2 = boom.ping();
+        assertNotEquals(id1, id2);
+        assertEquals(id2, boom.ping());
+
+        InjectableContext requestContext = container.getActiveContext(RequestScoped.class);
+        // IndexedContextInstances#removeEach()
+        requestContext.destroy();
+        assertEquals(2, Boom.DESTROYED.get());
+        // Request context was invalidated
+        assertThrows(ContextNotActiveException.class, () -> boom.ping());
+
+        container.requestContext().terminate();
+    }
+
+    @Test
+    public void testPropagatedState() throws Exception {
+        ArcContainer container = Arc.container();
+        ManagedContext requestContext = container.requestContext();
+        ContextState state = requestContext.activate();
+        Slow.CREATED.set(0);
+
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    requestContext.activate(state);
+                    try {
+                        start.await();
+                        return container.instance(Slow.class).get().ping();
+                    } finally {
+                        requestContext.deactivate();
+                    }
+                }));
+            }
+            start.countDown();
+            Set<String> ids = new HashSet<>();
+            for (Future<String> future : futures) {
+                ids.add(future.get(5, TimeUnit.SECONDS));
+            }
+            // all threads observe the single instance created by one of them
+            assertEquals(1, ids.size());
+            assertEquals(1, Slow.CREATED.get());
+            assertTrue(ids.contains(container.instance(Slow.class).get().ping()));
+        } finally {
+            executor.shutdownNow();
+            requestContext.terminate();
+        }
+    }
+
+    @RequestScoped
+    public static class Boom {
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private String id;
+
+        String ping() {
+            return id;
+        }
+
+        @PostConstruct
+        void init() {
+            id = UUID.randomUUID().toString();
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+    }
+
+    @RequestScoped
+    public static class Slow {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        private String id;
+
+        String ping() {
+            return id;
+        }
+
+        @PostConstruct
+        void init() {
+            CREATED.incrementAndGet();
+            id = UUID.randomUUID().toString();
+            try {
+                // make other threads wait for the creation
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+    }
+}
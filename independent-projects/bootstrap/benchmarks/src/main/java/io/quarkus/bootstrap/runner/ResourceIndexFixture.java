@@ -0,0 +1,92 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes a synthetic resource index of the given size in both the {@link HashMap} based format that was used
+ * before {@link PerfectHashIndex}, and in the {@link PerfectHashIndex} format.
+ * <p>
+ * The benchmarks live in the {@code io.quarkus.bootstrap.runner} package as the indexes are not public API.
+ */
+final class ResourceIndexFixture {
+
+    private static final int JARS = 200;
+
+    final String[] names;
+    final ClassLoadingResource[] jars = new ClassLoadingResource[JARS];
+    final ClassLoadingResource[][] jarSets = new ClassLoadingResource[JARS][];
+    final Path hashMapFile;
+    final Path perfectHashFile;
+
+    ResourceIndexFixture(int size) throws IOException {
+        names = new String[size];
+        Map<String, Integer> entries = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            names[i] = "org/acme/module" + (i % JARS) + "/package" + i;
+            entries.put(names[i], i % JARS);
+        }
+        for (int i = 0; i < JARS; i++) {
+            jars[i] = new JarResource(null, Path.of("lib", "jar" + i + ".jar"));
+            jarSets[i] = new ClassLoadingResource[] { jars[i] };
+        }
+
+        hashMapFile = Files.createTempFile("hash-map-index", ".dat");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(hashMapFile)))) {
+            out.writeInt(size);
+            for (Map.Entry<String, Integer> entry : entries.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeShort(1);
+                out.writeShort(entry.getValue());
+            }
+        }
+        perfectHashFile = Files.createTempFile("perfect-hash-index", ".dat");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(perfectHashFile)))) {
+            PerfectHashIndex.write(out, entries);
+        }
+    }
+
+    /**
+     * Reads the index like {@code SerializedApplication} did before the introduction of {@link PerfectHashIndex}.
+     */
+    Map<String, ClassLoadingResource[]> readHashMap() throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(hashMapFile), 24_576);
+                DataInputStream data = new DataInputStream(in)) {
+            Map<String, ClassLoadingResource[]> result = new HashMap<>();
+            int size = data.readInt();
+            for (int i = 0; i < size; i++) {
+                String name = data.readUTF();
+                ClassLoadingResource[] resources = new ClassLoadingResource[data.readUnsignedShort()];
+                for (int j = 0; j < resources.length; j++) {
+                    resources[j] = jars[data.readUnsignedShort()];
+                }
+                result.put(name, resources);
+            }
+            return result;
+        }
+    }
+
+    PerfectHashIndex readPerfectHash() throws IOException {
+        try (FileChannel channel = FileChannel.open(perfectHashFile, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new PerfectHashIndex(buffer, jarSets);
+        }
+    }
+
+    void delete() throws IOException {
+        Files.deleteIfExists(hashMapFile);
+        Files.deleteIfExists(perfectHashFile);
+    }
+}
@@ -0,0 +1,72 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a directory lookup the way {@link RunnerClassLoader#loadClass(String)} performs it: the directory name
+ * is derived from the package name, so its hash code is never cached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResourceIndexLookupBenchmark {
+
+    @Param({ "1000", "10000", "50000" })
+    public int size;
+
+    private ResourceIndexFixture fixture;
+    private Map<String, ClassLoadingResource[]> hashMap;
+    private PerfectHashIndex perfectHash;
+    private String[] packageNames;
+    private int next;
+
+    @Setup
+    public void setup() throws IOException {
+        fixture = new ResourceIndexFixture(size);
+        hashMap = fixture.readHashMap();
+        perfectHash = fixture.readPerfectHash();
+        packageNames = new String[size];
+        for (int i = 0; i < size; i++) {
+            packageNames[i] = fixture.names[i].replace('/', '.');
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        fixture.delete();
+    }
+
+    @Benchmark
+    public ClassLoadingResource[] hashMap() {
+        return hashMap.get(nextPackageName().replace('.', '/'));
+    }
+
+    @Benchmark
+    public ClassLoadingResource[] perfectHash() {
+        return perfectHash.get(nextPackageName().replace('.', '/'));
+    }
+
+    private String nextPackageName() {
+        int i = next;
+        next = i + 1 == packageNames.length ? 0 : i + 1;
+        return packageNames[i];
+    }
+}
@@ -0,0 +1,56 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of opening the resource index when the application starts, before the JIT kicks in:
+ * deserializing a {@link java.util.HashMap} versus memory-mapping a {@link PerfectHashIndex}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 20)
+@Fork(5)
+public class ResourceIndexStartupBenchmark {
+
+    @Param({ "1000", "10000", "50000" })
+    public int size;
+
+    private ResourceIndexFixture fixture;
+
+    @Setup
+    public void setup() throws IOException {
+        fixture = new ResourceIndexFixture(size);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        fixture.delete();
+    }
+
+    @Benchmark
+    public Map<String, ClassLoadingResource[]> hashMap() throws IOException {
+        return fixture.readHashMap();
+    }
+
+    @Benchmark
+    public PerfectHashIndex perfectHash() throws IOException {
+        return fixture.readPerfectHash();
+    }
+}
@@ -0,0 +1,277 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link ResourceIndex} backed by a minimal perfect hash table that is computed when the application is built.
+ * <p>
+ * The table is read in place from the {@link ByteBuffer} of the serialized application, so opening the index neither
+ * deserializes the names nor allocates a map. Lookups use the hash and displace scheme: the hash of a name selects
+ * a bucket, the displacement stored for that bucket selects the slot of the name, and the name stored in the slot is
+ * compared with the requested one, as names that are not in the index also map to some slot.
+ * <p>
+ * The layout of the index is the following, all numbers being big endian:
+ *
+ * <pre>
+ * int length                                  total length of the index in bytes
+ * int salt                                    seed of the name hash function
+ * int size                                    number of names
+ * int[size] displacements                     per bucket, negative values denote a direct slot assignment
+ * (int nameOffset, int value)[size] slots     nameOffset is relative to the start of the index
+ * (unsigned short length, byte[length])[size] names, in modified UTF-8 like {@link DataOutputStream#writeUTF(String)}
+ * </pre>
+ *
+ * This format is subject to change, just like the format of {@link SerializedApplication}.
+ */
+final class PerfectHashIndex implements ResourceIndex {
+
+    private static final int HEADER_SIZE = 12;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    // if no displacement below this value works for a bucket, the table is recomputed with another salt
+    private static final int MAX_DISPLACEMENT = 1 << 16;
+
+    private final ByteBuffer buffer;
+    private final int salt;
+    private final int size;
+    private final int slotsStart;
+    private final ClassLoadingResource[][] values;
+
+    /**
+     * Reads the index at the current position of the given buffer, and moves the position after the index.
+     *
+     * @param values the resources denoted by the values stored in the index
+     */
+    PerfectHashIndex(ByteBuffer buffer, ClassLoadingResource[][] values) {
+        int start = buffer.position();
+        int length = buffer.getInt(start);
+        ByteBuffer index = buffer.duplicate();
+        index.position(start).limit(start + length);
+        this.buffer = index.slice();
+        this.salt = this.buffer.getInt(4);
+        this.size = this.buffer.getInt(8);
+        this.slotsStart = HEADER_SIZE + 4 * size;
+        this.values = values;
+        buffer.position(start + length);
+    }
+
+    @Override
+    public ClassLoadingResource[] get(String name) {
+        if (size == 0) {
+            return null;
+        }
+        long hash = hash(name, salt);
+        int displacement = buffer.getInt(HEADER_SIZE + 4 * bucket(hash, size));
+        int slot = displacement < 0 ? -displacement - 1 : slot(hash, displacement, size);
+        int slotOffset = slotsStart + 8 * slot;
+        if (!nameEquals(buffer.getInt(slotOffset), name)) {
+            return null;
+        }
+        return values[buffer.getInt(slotOffset + 4)];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Compares the name stored at the given offset with the given name, without decoding the stored name.
+     */
+    private boolean nameEquals(int offset, String name) {
+        int position = offset + 2;
+        int end = position + (buffer.getShort(offset) & 0xFFFF);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c >= 0x0001 && c <= 0x007F) {
+                if (position >= end || buffer.get(position++) != (byte) c) {
+                    return false;
+                }
+            } else if (c <= 0x07FF) {
+                if (position + 1 >= end
+                        || buffer.get(position++) != (byte) (0xC0 | ((c >> 6) & 0x1F))
+                        || buffer.get(position++) != (byte) (0x80 | (c & 0x3F))) {
+                    return false;
+                }
+            } else {
+                if (position + 2 >= end
+                        || buffer.get(position++) != (byte) (0xE0 | ((c >> 12) & 0x0F))
+                        || buffer.get(position++) != (byte) (0x80 | ((c >> 6) & 0x3F))
+                        || buffer.get(position++) != (byte) (0x80 | (c & 0x3F))) {
+                    return false;
+                }
+            }
+        }
+        return position == end;
+    }
+
+    /**
+     * Writes an index of the given names to the given values.
+     */
+    static void write(DataOutputStream out, Map<String, Integer> entries) throws IOException {
+        String[] names = entries.keySet().toArray(new String[0]);
+        int size = names.length;
+        int salt = 0;
+        Table table;
+        while ((table = Table.compute(names, salt)) == null) {
+            salt++;
+        }
+
+        ByteArrayOutputStream namesBytes = new ByteArrayOutputStream();
+        DataOutputStream namesData = new DataOutputStream(namesBytes);
+        int namesStart = HEADER_SIZE + 12 * size;
+        int[] nameOffsets = new int[size];
+        for (int slot = 0; slot < size; slot++) {
+            nameOffsets[slot] = namesStart + namesData.size();
+            namesData.writeUTF(names[table.slotToName[slot]]);
+        }
+        namesData.flush();
+
+        out.writeInt(namesStart + namesBytes.size());
+        out.writeInt(salt);
+        out.writeInt(size);
+        for (int displacement : table.displacements) {
+            out.writeInt(displacement);
+        }
+        for (int slot = 0; slot < size; slot++) {
+            out.writeInt(nameOffsets[slot]);
+            out.writeInt(entries.get(names[table.slotToName[slot]]));
+        }
+        namesBytes.writeTo(out);
+    }
+
+    static long hash(String name, int salt) {
+        // a multiplicative hash over the chars, followed by the finalizer of MurmurHash3 to spread the bits;
+        // four chars are consumed at a time as the latency of the multiplication dominates
+        long hash = 0xCBF29CE484222325L ^ salt;
+        int length = name.length();
+        int i = 0;
+        for (; i + 3 < length; i += 4) {
+            long word = ((long) name.charAt(i) << 48) | ((long) name.charAt(i + 1) << 32)
+                    | ((long) name.charAt(i + 2) << 16) | name.charAt(i + 3);
+            hash = (hash ^ word) * GOLDEN_GAMMA;
+        }
+        for (; i < length; i++) {
+            hash = (hash ^ name.charAt(i)) * GOLDEN_GAMMA;
+        }
+        return mix(hash ^ length);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static int bucket(long hash, int size) {
+        return (int) Long.remainderUnsigned(hash, size);
+    }
+
+    private static int slot(long hash, int displacement, int size) {
+        return (int) Long.remainderUnsigned(mix(hash + displacement * GOLDEN_GAMMA), size);
+    }
+
+    private static final class Table {
+        final int[] displacements;
+        final int[] slotToName;
+
+        private Table(int[] displacements, int[] slotToName) {
+            this.displacements = displacements;
+            this.slotToName = slotToName;
+        }
+
+        /**
+         * @return the table, or {@code null} if it cannot be computed with the given salt
+         */
+        static Table compute(String[] names, int salt) {
+            int size = names.length;
+            long[] hashes = new long[size];
+            for (int i = 0; i < size; i++) {
+                hashes[i] = hash(names[i], salt);
+            }
+            long[] sortedHashes = hashes.clone();
+            Arrays.sort(sortedHashes);
+            for (int i = 1; i < size; i++) {
+                if (sortedHashes[i] == sortedHashes[i - 1]) {
+                    // two names cannot be told apart with this salt
+                    return null;
+                }
+            }
+
+            List<List<Integer>> buckets = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                buckets.add(new ArrayList<>(2));
+            }
+            for (int i = 0; i < size; i++) {
+                buckets.get(bucket(hashes[i], size)).add(i);
+            }
+            Integer[] bucketOrder = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                bucketOrder[i] = i;
+            }
+            // the largest buckets are placed first, while most slots are still free
+            Arrays.sort(bucketOrder, (b1, b2) -> Integer.compare(buckets.get(b2).size(), buckets.get(b1).size()));
+
+            int[] displacements = new int[size];
+            int[] slotToName = new int[size];
+            Arrays.fill(slotToName, -1);
+            int[] bucketSlots = new int[size == 0 ? 0 : buckets.get(bucketOrder[0]).size()];
+            int nextFreeSlot = 0;
+            for (int bucket : bucketOrder) {
+                Collection<Integer> bucketNames = buckets.get(bucket);
+                if (bucketNames.isEmpty()) {
+                    break;
+                }
+                if (bucketNames.size() == 1) {
+                    // a single name can be assigned any free slot directly
+                    while (slotToName[nextFreeSlot] >= 0) {
+                        nextFreeSlot++;
+                    }
+                    slotToName[nextFreeSlot] = bucketNames.iterator().next();
+                    displacements[bucket] = -nextFreeSlot - 1;
+                    continue;
+                }
+                int displacement = 1;
+                while (!tryPlace(bucketNames, hashes, displacement, slotToName, bucketSlots)) {
+                    if (++displacement > MAX_DISPLACEMENT) {
+                        return null;
+                    }
+                }
+                displacements[bucket] = displacement;
+            }
+            return new Table(displacements, slotToName);
+        }
+
+        private static boolean tryPlace(Collection<Integer> bucketNames, long[] hashes, int displacement, int[] slotToName,
+                int[] bucketSlots) {
+            int size = hashes.length;
+            int placed = 0;
+            for (int name : bucketNames) {
+                int slot = slot(hashes[name], displacement, size);
+                if (slotToName[slot] >= 0) {
+                    return false;
+                }
+                for (int i = 0; i < placed; i++) {
+                    if (bucketSlots[i] == slot) {
+                        return false;
+                    }
+                }
+                bucketSlots[placed++] = slot;
+            }
+            int i = 0;
+            for (int name : bucketNames) {
+                slotToName[bucketSlots[i++]] = name;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package io.quarkus.bootstrap.runner;
+
+/**
+ * A read-only index of resource or directory names to the {@link ClassLoadingResource}s that contain them.
+ */
+interface ResourceIndex {
+
+    /**
+     * @return the resources containing the given name, in class path order, or {@code null} if no resource contains it
+     */
+    ClassLoadingResource[] get(String name);
+}
@@ -7,6 +7,7 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -34,9 +35,14 @@ public final class RunnerClassLoader extends ClassLoader {
     }
 
     /**
-     * A map of resources by dir name. Root dir/default package is represented by the empty string
+     * All the resources of the class path, in class path order
      */
-    private final Map<String, ClassLoadingResource[]> resourceDirectoryMap;
+    private final ClassLoadingResource[] allResources;
+
+    /**
+     * An index of resources by dir name. Root dir/default package is represented by the empty string
+     */
+    private final ResourceIndex resourceDirectoryMap;
 
     private final Set<String> parentFirstPackages;
     private final Set<String> nonExistentResources;
@@ -44,7 +50,7 @@ public final class RunnerClassLoader extends ClassLoader {
     // in order for the resource loading to work properly
     // normally this field would be a set, but it only contains 2 elements, so making it a list is actually better
     private final List<String> fullyIndexedDirectories;
-    private final Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap;
+    private final ResourceIndex directlyIndexedResourcesIndexMap;
 
     //Mutations protected by synchronization on the field value itself:
     private final ClassLoadingResource[] currentlyBufferedResources = new ClassLoadingResource[4];//Experimentally found to be a reasonable number
@@ -56,7 +62,15 @@ public final class RunnerClassLoader extends ClassLoader {
     RunnerClassLoader(ClassLoader parent, Map<String, ClassLoadingResource[]> resourceDirectoryMap,
             Set<String> parentFirstPackages, Set<String> nonExistentResources,
             List<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap) {
+        this(parent, distinctResources(resourceDirectoryMap), resourceDirectoryMap::get, parentFirstPackages,
+                nonExistentResources, fullyIndexedDirectories, directlyIndexedResourcesIndexMap::get);
+    }
+
+    RunnerClassLoader(ClassLoader parent, ClassLoadingResource[] allResources, ResourceIndex resourceDirectoryMap,
+            Set<String> parentFirstPackages, Set<String> nonExistentResources,
+            List<String> fullyIndexedDirectories, ResourceIndex directlyIndexedResourcesIndexMap) {
         super(parent);
+        this.allResources = allResources;
         this.resourceDirectoryMap = resourceDirectoryMap;
         this.parentFirstPackages = parentFirstPackages;
         this.nonExistentResources = nonExistentResources;
@@ -311,24 +325,28 @@ protected Class<?> findClass(String moduleName, String name) {
     }
 
     public void close() {
-        for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
-            for (ClassLoadingResource i : entry.getValue()) {
-                i.close();
-            }
+        for (ClassLoadingResource i : allResources) {
+            i.close();
         }
     }
 
     public void resetInternalCaches() {
         synchronized (this.currentlyBufferedResources) {
-            for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
-                for (ClassLoadingResource i : entry.getValue()) {
-                    i.resetInternalCaches();
-                }
+            for (ClassLoadingResource i : allResources) {
+                i.resetInternalCaches();
             }
             this.postBootPhase = true;
         }
     }
 
+    private static ClassLoadingResource[] distinctResources(Map<String, ClassLoadingResource[]> resourceDirectoryMap) {
+        Set<ClassLoadingResource> result = new LinkedHashSet<>();
+        for (ClassLoadingResource[] resources : resourceDirectoryMap.values()) {
+            Collections.addAll(result, resources);
+        }
+        return result.toArray(new ClassLoadingResource[0]);
+    }
+
     class CracResource implements Resource {
         @Override
         public void beforeCheckpoint(Context<? extends Resource> ctx) {
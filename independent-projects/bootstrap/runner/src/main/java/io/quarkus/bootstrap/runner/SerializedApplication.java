@@ -1,10 +1,10 @@
 package io.quarkus.bootstrap.runner;
 
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.FileVisitResult;
 import java.nio.file.FileVisitor;
 import java.nio.file.Files;
@@ -38,10 +38,7 @@ public class SerializedApplication {
     private static final List<String> FULLY_INDEXED_PATHS = List.of("", "META-INF/services");
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 2;
-
-    private static final ClassLoadingResource[] EMPTY_ARRAY = new ClassLoadingResource[0];
-    private static final JarResource SENTINEL = new JarResource(null, Path.of("wqxehxivam"));
+    private static final int VERSION = 3;
 
     private final RunnerClassLoader runnerClassLoader;
     private final String mainClass;
@@ -67,14 +64,24 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
             data.writeInt(VERSION);
             data.writeUTF(mainClass);
             data.writeShort(classPath.size());
-            Map<String, List<Integer>> directlyIndexedResourcesToCPJarIndex = new LinkedHashMap<>();
+            Map<String, Set<Integer>> resourceDirectoriesToCPJarIndex = new LinkedHashMap<>();
+            Map<String, Set<Integer>> directlyIndexedResourcesToCPJarIndex = new LinkedHashMap<>();
             for (int i = 0; i < classPath.size(); i++) {
                 Path jar = classPath.get(i);
                 String relativePath = applicationRoot.relativize(jar).toString().replace('\\', '/');
                 data.writeUTF(relativePath);
-                Collection<String> resources = writeJar(data, jar);
+                Set<String> dirs = new LinkedHashSet<>();
+                Collection<String> resources = writeJar(data, jar, dirs);
+                for (String dir : dirs) {
+                    int j = dir.indexOf('/');
+                    while (j >= 0) {
+                        addToIndex(resourceDirectoriesToCPJarIndex, dir.substring(0, j), i);
+                        j = dir.indexOf('/', j + 1);
+                    }
+                    addToIndex(resourceDirectoriesToCPJarIndex, dir, i);
+                }
                 for (String resource : resources) {
-                    directlyIndexedResourcesToCPJarIndex.computeIfAbsent(resource, s -> new ArrayList<>()).add(i);
+                    addToIndex(directlyIndexedResourcesToCPJarIndex, resource, i);
                 }
             }
             Set<String> parentFirstPackages = new HashSet<>();
@@ -90,96 +97,144 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
             for (String nonExistentResource : nonExistentResources) {
                 data.writeUTF(nonExistentResource);
             }
-            data.writeShort(directlyIndexedResourcesToCPJarIndex.size());
-            for (Map.Entry<String, List<Integer>> entry : directlyIndexedResourcesToCPJarIndex.entrySet()) {
-                data.writeUTF(entry.getKey());
-                data.writeShort(entry.getValue().size());
-                for (Integer index : entry.getValue()) {
+
+            // most entries are contained in the same jars, so each distinct list of jars is only written once
+            // and the indexes refer to it by its position
+            Map<Set<Integer>, Integer> jarSets = new LinkedHashMap<>();
+            Map<String, Integer> resourceDirectories = toJarSetIndex(resourceDirectoriesToCPJarIndex, jarSets);
+            Map<String, Integer> directlyIndexedResources = toJarSetIndex(directlyIndexedResourcesToCPJarIndex, jarSets);
+            data.writeInt(jarSets.size());
+            for (Set<Integer> jarSet : jarSets.keySet()) {
+                data.writeShort(jarSet.size());
+                for (Integer index : jarSet) {
                     data.writeShort(index);
                 }
             }
+            PerfectHashIndex.write(data, resourceDirectories);
+            PerfectHashIndex.write(data, directlyIndexedResources);
             data.flush();
         }
     }
 
-    public static SerializedApplication read(InputStream inputStream, Path appRoot) throws IOException {
-        try (DataInputStream in = new DataInputStream(inputStream)) {
-            if (in.readInt() != MAGIC) {
-                throw new RuntimeException("Wrong magic number");
-            }
-            if (in.readInt() != VERSION) {
-                throw new RuntimeException("Wrong class path version");
-            }
-            String mainClass = in.readUTF();
-            ResourceDirectoryTracker resourceDirectoryTracker = new ResourceDirectoryTracker();
-            Set<String> parentFirstPackages = new HashSet<>();
-            int numPaths = in.readUnsignedShort();
-            ClassLoadingResource[] allClassLoadingResources = new ClassLoadingResource[numPaths];
-            for (int pathCount = 0; pathCount < numPaths; pathCount++) {
-                String path = in.readUTF();
-                boolean hasManifest = in.readBoolean();
-                ManifestInfo info = null;
-                if (hasManifest) {
-                    info = new ManifestInfo(readNullableString(in), readNullableString(in), readNullableString(in),
-                            readNullableString(in), readNullableString(in), readNullableString(in));
-                }
-                JarResource resource = new JarResource(info, appRoot.resolve(path));
-                allClassLoadingResources[pathCount] = resource;
-                int numDirs = in.readUnsignedShort();
-                for (int i = 0; i < numDirs; ++i) {
-                    String dir = in.readUTF();
-                    int j = dir.indexOf('/');
-                    while (j >= 0) {
-                        resourceDirectoryTracker.addResourceDir(dir.substring(0, j), resource);
-                        j = dir.indexOf('/', j + 1);
-                    }
-                    resourceDirectoryTracker.addResourceDir(dir, resource);
-                }
-            }
-            int packages = in.readUnsignedShort();
-            for (int i = 0; i < packages; ++i) {
-                parentFirstPackages.add(in.readUTF());
-            }
-            Set<String> nonExistentResources = new HashSet<>();
-            int nonExistentResourcesSize = in.readUnsignedShort();
-            for (int i = 0; i < nonExistentResourcesSize; i++) {
-                nonExistentResources.add(in.readUTF());
+    private static void addToIndex(Map<String, Set<Integer>> index, String name, int jarIndex) {
+        index.computeIfAbsent(name, s -> new LinkedHashSet<>(2)).add(jarIndex);
+    }
+
+    private static Map<String, Integer> toJarSetIndex(Map<String, Set<Integer>> index, Map<Set<Integer>, Integer> jarSets) {
+        Map<String, Integer> result = new HashMap<>(index.size() * 4 / 3 + 1);
+        for (Map.Entry<String, Set<Integer>> entry : index.entrySet()) {
+            Integer jarSet = jarSets.get(entry.getValue());
+            if (jarSet == null) {
+                jarSet = jarSets.size();
+                jarSets.put(entry.getValue(), jarSet);
             }
-            // this map is populated correctly because the JarResource entries are added to allClassLoadingResources
-            // in the same order as the classpath was written during the writing of the index
-            Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap = new HashMap<>();
-            int directlyIndexedSize = in.readUnsignedShort();
-            for (int i = 0; i < directlyIndexedSize; i++) {
-                String resource = in.readUTF();
-                int indexesSize = in.readUnsignedShort();
-                ClassLoadingResource[] matchingResources = new ClassLoadingResource[indexesSize];
-                for (int j = 0; j < indexesSize; j++) {
-                    matchingResources[j] = allClassLoadingResources[in.readUnsignedShort()];
-                }
-                directlyIndexedResourcesIndexMap.put(resource, matchingResources);
+            result.put(entry.getKey(), jarSet);
+        }
+        return result;
+    }
+
+    /**
+     * Reads the application from the given file, the class loader uses the serialized resource indexes in place.
+     * <p>
+     * The file is read into a heap buffer rather than memory-mapped: it is small, and a mapping is only released when
+     * the buffer is garbage collected, which prevents replacing or deleting the file on Windows.
+     */
+    public static SerializedApplication read(Path file, Path appRoot) throws IOException {
+        return read(ByteBuffer.wrap(Files.readAllBytes(file)), appRoot);
+    }
+
+    public static SerializedApplication read(InputStream inputStream, Path appRoot) throws IOException {
+        try (inputStream) {
+            return read(ByteBuffer.wrap(inputStream.readAllBytes()), appRoot);
+        }
+    }
+
+    private static SerializedApplication read(ByteBuffer in, Path appRoot) {
+        if (in.getInt() != MAGIC) {
+            throw new RuntimeException("Wrong magic number");
+        }
+        if (in.getInt() != VERSION) {
+            throw new RuntimeException("Wrong class path version");
+        }
+        String mainClass = readUTF(in);
+        int numPaths = in.getShort() & 0xFFFF;
+        ClassLoadingResource[] allClassLoadingResources = new ClassLoadingResource[numPaths];
+        for (int pathCount = 0; pathCount < numPaths; pathCount++) {
+            String path = readUTF(in);
+            boolean hasManifest = in.get() != 0;
+            ManifestInfo info = null;
+            if (hasManifest) {
+                info = new ManifestInfo(readNullableString(in), readNullableString(in), readNullableString(in),
+                        readNullableString(in), readNullableString(in), readNullableString(in));
             }
-            RunnerClassLoader runnerClassLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(),
-                    resourceDirectoryTracker.getResult(), parentFirstPackages,
-                    nonExistentResources, FULLY_INDEXED_PATHS, directlyIndexedResourcesIndexMap);
-            for (ClassLoadingResource classLoadingResource : allClassLoadingResources) {
-                classLoadingResource.init();
+            allClassLoadingResources[pathCount] = new JarResource(info, appRoot.resolve(path));
+        }
+        Set<String> parentFirstPackages = new HashSet<>();
+        int packages = in.getShort() & 0xFFFF;
+        for (int i = 0; i < packages; ++i) {
+            parentFirstPackages.add(readUTF(in));
+        }
+        Set<String> nonExistentResources = new HashSet<>();
+        int nonExistentResourcesSize = in.getShort() & 0xFFFF;
+        for (int i = 0; i < nonExistentResourcesSize; i++) {
+            nonExistentResources.add(readUTF(in));
+        }
+        // the jar sets are resolved correctly because the JarResource entries are added to allClassLoadingResources
+        // in the same order as the classpath was written during the writing of the index
+        ClassLoadingResource[][] jarSets = new ClassLoadingResource[in.getInt()][];
+        for (int i = 0; i < jarSets.length; i++) {
+            ClassLoadingResource[] jarSet = new ClassLoadingResource[in.getShort() & 0xFFFF];
+            for (int j = 0; j < jarSet.length; j++) {
+                jarSet[j] = allClassLoadingResources[in.getShort() & 0xFFFF];
             }
-            return new SerializedApplication(runnerClassLoader, mainClass);
+            jarSets[i] = jarSet;
         }
+        ResourceIndex resourceDirectories = new PerfectHashIndex(in, jarSets);
+        ResourceIndex directlyIndexedResources = new PerfectHashIndex(in, jarSets);
+        RunnerClassLoader runnerClassLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(),
+                allClassLoadingResources, resourceDirectories, parentFirstPackages,
+                nonExistentResources, FULLY_INDEXED_PATHS, directlyIndexedResources);
+        for (ClassLoadingResource classLoadingResource : allClassLoadingResources) {
+            classLoadingResource.init();
+        }
+        return new SerializedApplication(runnerClassLoader, mainClass);
     }
 
-    private static String readNullableString(DataInputStream in) throws IOException {
-        if (in.readBoolean()) {
-            return in.readUTF();
+    private static String readNullableString(ByteBuffer in) {
+        if (in.get() != 0) {
+            return readUTF(in);
         }
         return null;
     }
 
     /**
+     * Reads a string written by {@link DataOutputStream#writeUTF(String)}.
+     */
+    private static String readUTF(ByteBuffer in) {
+        int length = in.getShort() & 0xFFFF;
+        int end = in.position() + length;
+        char[] chars = new char[length];
+        int count = 0;
+        while (in.position() < end) {
+            int b = in.get() & 0xFF;
+            if (b < 0x80) {
+                chars[count++] = (char) b;
+            } else if ((b & 0xE0) == 0xC0) {
+                chars[count++] = (char) (((b & 0x1F) << 6) | (in.get() & 0x3F));
+            } else {
+                chars[count++] = (char) (((b & 0x0F) << 12) | ((in.get() & 0x3F) << 6) | (in.get() & 0x3F));
+            }
+        }
+        return new String(chars, 0, count);
+    }
+
+    /**
+     * Writes the manifest of the jar and collects its directories into {@code dirs}.
+     *
      * @return a List of all resources that exist in the paths that we desire to have fully indexed
      *         (configured via {@code FULLY_INDEXED_PATHS})
      */
-    private static List<String> writeJar(DataOutputStream out, Path jar) throws IOException {
+    private static List<String> writeJar(DataOutputStream out, Path jar, Set<String> dirs) throws IOException {
         try (JarFile zip = new JarFile(jar.toFile())) {
             Manifest manifest = zip.getManifest();
             if (manifest == null) {
@@ -200,7 +255,6 @@ private static List<String> writeJar(DataOutputStream out, Path jar) throws IOEx
                 }
             }
 
-            Set<String> dirs = new LinkedHashSet<>();
             Map<String, List<String>> fullyIndexedPaths = new LinkedHashMap<>();
             Enumeration<? extends ZipEntry> entries = zip.entries();
             boolean hasDefaultPackage = false;
@@ -248,10 +302,6 @@ private static List<String> writeJar(DataOutputStream out, Path jar) throws IOEx
             if (hasDefaultPackage) {
                 dirs.add("");
             }
-            out.writeShort(dirs.size());
-            for (String i : dirs) {
-                out.writeUTF(i);
-            }
             List<String> result = new ArrayList<>();
             for (List<String> values : fullyIndexedPaths.values()) {
                 result.addAll(values);
@@ -318,57 +368,4 @@ private static void writeNullableString(DataOutputStream out, String string) thr
         }
     }
 
-    /**
-     * This class is to build up the final directory to Resource map
-     * The idea here is that directories will only be contained by a single resource, so we optimistically
-     * create a single item array when we encounter a directory for the first time.
-     * However, when a resource is added for the same directory, we switch to using a Set to track the resources
-     * of that directory and then at the end use those sets to override to create the final array of resources.
-     * The reason for doing it this way to only create Sets when needed (which is only a fraction of the cases)
-     */
-    private static class ResourceDirectoryTracker {
-        private final Map<String, ClassLoadingResource[]> result = new HashMap<>();
-        private final Map<String, Set<ClassLoadingResource>> overrides = new HashMap<>();
-
-        void addResourceDir(String dir, JarResource resource) {
-            ClassLoadingResource[] existing = result.get(dir);
-            if (existing == null) {
-                // this is the first the dir was ever tracked
-                result.put(dir, new JarResource[] { resource });
-            } else {
-                ClassLoadingResource existingResource = existing[0];
-                if (existingResource.equals(resource)) {
-                    // we don't need to do anything as the resource has already been tracked and an attempt
-                    // to add it again was made
-                } else {
-                    Set<ClassLoadingResource> dirOverrides = overrides.get(dir);
-                    if (dirOverrides == null) {
-                        // we need to create the override set as this is the first time we find a resource for the dir
-                        // that is not the same as the one in the array
-                        dirOverrides = new LinkedHashSet<>(2);
-                        dirOverrides.add(existingResource);
-                        dirOverrides.add(resource);
-                        overrides.put(dir, dirOverrides);
-
-                        //replace the value in the original array with a sentinel in order to allow for quick comparisons
-                        existing[0] = SENTINEL;
-                    } else {
-                        // in this case, overrides has already been created in a previous invocation so all we need to
-                        // do is add the new resource
-                        dirOverrides.add(resource);
-                    }
-                }
-            }
-        }
-
-        Map<String, ClassLoadingResource[]> getResult() {
-            overrides.forEach(this::addToResult);
-            return result;
-        }
-
-        private void addToResult(String dir, Set<? extends ClassLoadingResource> jarResources) {
-            result.put(dir, jarResources.toArray(EMPTY_ARRAY));
-        }
-    }
-
 }
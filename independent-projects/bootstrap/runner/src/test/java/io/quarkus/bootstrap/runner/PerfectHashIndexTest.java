@@ -0,0 +1,120 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.ProtectionDomain;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class PerfectHashIndexTest {
+
+    private static final ClassLoadingResource[][] VALUES = new ClassLoadingResource[][] {
+            { new TestResource() }, { new TestResource() }, { new TestResource(), new TestResource() } };
+
+    @Test
+    public void testEmptyIndex() throws IOException {
+        PerfectHashIndex index = read(Map.of());
+        assertEquals(0, index.size());
+        assertNull(index.get(""));
+        assertNull(index.get("org/acme"));
+    }
+
+    @Test
+    public void testLookup() throws IOException {
+        Map<String, Integer> entries = new LinkedHashMap<>();
+        for (int i = 0; i < 20_000; i++) {
+            entries.put("org/acme/package" + i, i % VALUES.length);
+        }
+        entries.put("", 0);
+        entries.put("META-INF/services/org.acme.Service", 1);
+        entries.put("org/acmé/中文", 2);
+        entries.put("null\u0000char", 1);
+        PerfectHashIndex index = read(entries);
+
+        assertEquals(entries.size(), index.size());
+        for (Map.Entry<String, Integer> entry : entries.entrySet()) {
+            assertSame(VALUES[entry.getValue()], index.get(entry.getKey()), entry.getKey());
+        }
+        assertNull(index.get("org/acme/package20000"));
+        assertNull(index.get("org/acme/package1/"));
+        assertNull(index.get("org/acme/package"));
+        assertNull(index.get("org/acmé/中"));
+        assertNull(index.get("org/acme/中文"));
+        assertNull(index.get("null"));
+    }
+
+    @Test
+    public void testConsecutiveIndexes() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            PerfectHashIndex.write(out, Map.of("org/acme", 0));
+            PerfectHashIndex.write(out, Map.of("org/acme", 1, "META-INF/services/org.acme.Service", 2));
+            out.writeInt(42);
+        }
+        // the index must not depend on the position of the buffer
+        Path file = Files.createTempFile("index", ".dat");
+        try {
+            Files.write(file, bytes.toByteArray());
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            PerfectHashIndex first = new PerfectHashIndex(buffer, VALUES);
+            PerfectHashIndex second = new PerfectHashIndex(buffer, VALUES);
+            assertEquals(42, buffer.getInt());
+            assertSame(VALUES[0], first.get("org/acme"));
+            assertNull(first.get("META-INF/services/org.acme.Service"));
+            assertSame(VALUES[1], second.get("org/acme"));
+            assertSame(VALUES[2], second.get("META-INF/services/org.acme.Service"));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static PerfectHashIndex read(Map<String, Integer> entries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            PerfectHashIndex.write(out, entries);
+        }
+        return new PerfectHashIndex(ByteBuffer.wrap(bytes.toByteArray()), VALUES);
+    }
+
+    private static class TestResource implements ClassLoadingResource {
+
+        @Override
+        public void init() {
+        }
+
+        @Override
+        public byte[] getResourceData(String resource) {
+            return null;
+        }
+
+        @Override
+        public URL getResourceURL(String resource) {
+            return null;
+        }
+
+        @Override
+        public ManifestInfo getManifestInfo() {
+            return null;
+        }
+
+        @Override
+        public ProtectionDomain getProtectionDomain() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SerializedApplicationTest {
+
+    @TempDir
+    Path appRoot;
+
+    @Test
+    public void testWriteAndRead() throws Exception {
+        Path lib = Files.createDirectories(appRoot.resolve("lib"));
+        List<Path> classPath = List.of(
+                Files.copy(Path.of("src", "test", "resources", "jars", "simple-project-1.0.jar"),
+                        lib.resolve("simple-project-1.0.jar")),
+                Files.copy(Path.of("src", "test", "resources", "jars", "easy-project-1.0.jar"),
+                        lib.resolve("easy-project-1.0.jar")));
+        Path dat = Files.createDirectories(appRoot.resolve("quarkus")).resolve("quarkus-application.dat");
+        try (OutputStream out = Files.newOutputStream(dat)) {
+            SerializedApplication.write(out, "org.simple.Main", appRoot, classPath, List.of(),
+                    List.of("META-INF/missing.properties"));
+        }
+
+        SerializedApplication app = SerializedApplication.read(dat, appRoot);
+        assertEquals("org.simple.Main", app.getMainClass());
+        RunnerClassLoader classLoader = app.getRunnerClassLoader();
+        try {
+            assertEquals(classLoader, classLoader.loadClass("org.simple.SimplePojo1").getClassLoader());
+            assertEquals(classLoader, classLoader.loadClass("org.easy.EasyPojo").getClassLoader());
+            assertThrows(ClassNotFoundException.class, () -> classLoader.loadClass("org.simple.Missing"));
+            assertNotNull(classLoader.getResource("org/easy/EasyPojo.class"));
+            assertNotNull(classLoader.getResource("META-INF/MANIFEST.MF"));
+            assertEquals(2, Collections.list(classLoader.findResources("META-INF/MANIFEST.MF")).size());
+            assertNull(classLoader.getResource("META-INF/missing.properties"));
+        } finally {
+            classLoader.close();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package io.quarkus.qute;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import io.quarkus.qute.TemplateInstanceBase.DataMap;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * A template compiled into a Java class at build time.
+ * <p>
+ * A compiled template writes the output directly, i.e. without resolving the template nodes and the expressions through
+ * {@link CompletionStage}s and {@link ValueResolver}s. It is only able to render the values that are already available. If
+ * a value is asynchronous, e.g. a {@link CompletionStage} or a {@link Uni}, or if a value cannot be resolved, then the
+ * output is discarded and the template is rendered as usual.
+ * <p>
+ * A compiled template is registered with {@link EngineBuilder#addCompiledTemplate(CompiledTemplate)} and it is only used if
+ * the {@link #getFingerprint() fingerprint} matches the template parsed by the engine.
+ */
+public interface CompiledTemplate {
+
+    /**
+     *
+     * @return the id of the compiled template
+     * @see Template#getId()
+     */
+    String getTemplateId();
+
+    /**
+     *
+     * @return the fingerprint of the template this class was compiled from
+     * @see #fingerprint(Template)
+     */
+    String getFingerprint();
+
+    /**
+     *
+     * @param context
+     * @param out
+     * @return {@code true} if the template was rendered, {@code false} if the output must be discarded
+     * @throws IOException
+     */
+    boolean render(Context context, Appendable out) throws IOException;
+
+    /**
+     * The fingerprint is computed from the structure of the template, i.e. the text, the output expressions and the sections.
+     *
+     * @param template
+     * @return the fingerprint of the given template
+     */
+    static String fingerprint(Template template) {
+        StringBuilder builder = new StringBuilder();
+        appendNodes(template.getNodes(), builder);
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-1");
+            return HexFormat.of().formatHex(md.digest(builder.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void appendNodes(List<TemplateNode> nodes, StringBuilder builder) {
+        for (TemplateNode node : nodes) {
+            if (Parser.isDummyNode(node)) {
+                continue;
+            }
+            switch (node.kind()) {
+                case TEXT:
+                    String text = node.asText().getValue();
+                    builder.append('T').append(text.length()).append(':').append(text);
+                    break;
+                case EXPRESSION:
+                    builder.append('E').append(node.asExpression().expression.toOriginalString()).append('\n');
+                    break;
+                case PARAM_DECLARATION:
+                    // A parameter declaration does not render anything, and it may be added by a parser hook at build time
+                    break;
+                case SECTION:
+                    SectionNode section = node.asSection();
+                    builder.append('S').append(section.getName()).append('{');
+                    for (SectionBlock block : section.getBlocks()) {
+                        builder.append('B').append(block.label).append(block.parameters).append('{');
+                        appendNodes(block.nodes, builder);
+                        builder.append('}');
+                    }
+                    builder.append('}');
+                    break;
+                default:
+                    throw new IllegalStateException("Unsupported node: " + node);
+            }
+        }
+    }
+
+    /**
+     * The context of a single rendering of a compiled template.
+     */
+    final class Context {
+
+        private final Engine engine;
+        private final Expression[] expressions;
+        private final DataMap data;
+        private final boolean mapResults;
+
+        Context(Engine engine, Expression[] expressions, Object data) {
+            this.engine = engine;
+            this.expressions = expressions;
+            this.data = data instanceof DataMap ? (DataMap) data : null;
+            this.mapResults = !engine.getResultMappers().isEmpty();
+        }
+
+        /**
+         *
+         * @param key
+         * @return the data for the given key, or {@code null} if no such data exists
+         */
+        public Object data(String key) {
+            return data != null ? data.get(key) : null;
+        }
+
+        /**
+         * Appends the value of an output expression, the same way a {@link SingleResultNode} is processed.
+         *
+         * @param out
+         * @param value
+         * @param expression The index of the output expression in the template
+         * @throws IOException
+         */
+        public void append(Appendable out, Object value, int expression) throws IOException {
+            if (value instanceof Optional) {
+                value = ((Optional<?>) value).orElse(null);
+            } else if (value instanceof OptionalInt) {
+                value = ((OptionalInt) value).orElse(0);
+            } else if (value instanceof OptionalDouble) {
+                value = ((OptionalDouble) value).orElse(0D);
+            } else if (value instanceof OptionalLong) {
+                value = ((OptionalLong) value).orElse(0L);
+            }
+            if (value != null) {
+                out.append(mapResults ? engine.mapResult(value, expressions[expression]) : value.toString());
+            }
+        }
+
+        /**
+         *
+         * @param value
+         * @return {@code true} if the value must be resolved asynchronously
+         */
+        public static boolean isAsync(Object value) {
+            return value instanceof CompletableFuture || value instanceof CompletedStage || value instanceof Uni
+                    || (CompletionStageSupport.UNRESTRICTED && value instanceof CompletionStage);
+        }
+
+    }
+
+}
@@ -39,6 +39,7 @@ class EngineImpl implements Engine {
     final boolean removeStandaloneLines;
     private final long timeout;
     private final boolean useAsyncTimeout;
+    private final Map<String, CompiledTemplate> compiledTemplates;
 
     EngineImpl(EngineBuilder builder) {
         this.sectionHelperFactories = Map.copyOf(builder.sectionHelperFactories);
@@ -55,6 +56,7 @@ class EngineImpl implements Engine {
         this.initializers = ImmutableList.copyOf(builder.initializers);
         this.timeout = builder.timeout;
         this.useAsyncTimeout = builder.useAsyncTimeout;
+        this.compiledTemplates = Map.copyOf(builder.compiledTemplates);
     }
 
     @Override
@@ -116,6 +118,10 @@ public String mapResult(Object result, Expression expression) {
         return val;
     }
 
+    CompiledTemplate getCompiledTemplate(String id) {
+        return compiledTemplates.get(id);
+    }
+
     public Template putTemplate(String id, Template template) {
         if (!Identifiers.isValid(id)) {
             throw new IllegalArgumentException("Invalid identifier found: [" + id + "]");
@@ -198,6 +204,9 @@ public EngineBuilder newBuilder() {
         for (Initializer initializer : initializers) {
             builder.addTemplateInstanceInitializer(initializer);
         }
+        for (CompiledTemplate compiledTemplate : compiledTemplates.values()) {
+            builder.addCompiledTemplate(compiledTemplate);
+        }
         builder.computeSectionHelper(sectionHelperFunc);
         for (ParserHook parserHook : parserHooks) {
             builder.addParserHook(parserHook);
@@ -230,6 +230,7 @@ Template parse() {
                 }
             }
             template.root.optimizeNodes(nodesToRemove);
+            template.initCompiledTemplate();
 
             LOGGER.tracef("Parsing finished in %s ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
             return template;
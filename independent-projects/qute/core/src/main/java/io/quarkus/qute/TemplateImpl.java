@@ -2,6 +2,8 @@
 
 import static io.quarkus.qute.Namespaces.DATA_NAMESPACE;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
@@ -40,6 +42,11 @@ class TemplateImpl implements Template {
     // The initial capacity of the StringBuilder used to render the template
     final Capacity capacity;
 
+    // The template compiled at build time and its output expressions, or null
+    // Initialized by the parser once the nodes are optimized, see initCompiledTemplate()
+    private CompiledTemplate compiledTemplate;
+    private Expression[] compiledExpressions;
+
     TemplateImpl(EngineImpl engine, SectionNode root, String templateId, String generatedId, Optional<Variant> variant) {
         this.engine = engine;
         this.root = root;
@@ -124,6 +131,30 @@ public SectionNode getRootNode() {
         return root;
     }
 
+    void initCompiledTemplate() {
+        CompiledTemplate compiled = engine.getCompiledTemplate(templateId);
+        if (compiled == null) {
+            return;
+        }
+        if (!compiled.getFingerprint().equals(CompiledTemplate.fingerprint(this))) {
+            // E.g. the template was modified after the build
+            LOG.debugf("Compiled template ignored - %s does not match the compiled template", this);
+            return;
+        }
+        this.compiledExpressions = initCompiledExpressions();
+        this.compiledTemplate = compiled;
+    }
+
+    private Expression[] initCompiledExpressions() {
+        // The compiled template refers to the output expressions in the order they appear in the template
+        List<TemplateNode> nodes = root.findNodes(TemplateNode::isExpression);
+        Expression[] expressions = new Expression[nodes.size()];
+        for (int i = 0; i < expressions.length; i++) {
+            expressions[i] = nodes.get(i).asExpression().expression;
+        }
+        return expressions;
+    }
+
     private LazyValue<Map<String, Fragment>> initFragments(SectionNode section) {
         if (section.name.equals(Parser.ROOT_HELPER_NAME)) {
             // Initialize the lazy map for root sections only
@@ -164,9 +195,15 @@ private class TemplateInstanceImpl extends TemplateInstanceBase {
 
         @Override
         public String render() {
+            if (compiledTemplate != null) {
+                String result = renderCompiled();
+                if (result != null) {
+                    return result;
+                }
+            }
             long timeout = getTimeout();
             try {
-                return renderAsyncNoTimeout().toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
+                return renderNodes().toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new IllegalStateException(e);
@@ -240,6 +277,20 @@ protected Engine engine() {
         }
 
         private CompletionStage<String> renderAsyncNoTimeout() {
+            if (compiledTemplate != null) {
+                try {
+                    String result = renderCompiled();
+                    if (result != null) {
+                        return CompletedStage.of(result);
+                    }
+                } catch (Throwable e) {
+                    return CompletedStage.failure(e);
+                }
+            }
+            return renderNodes();
+        }
+
+        private CompletionStage<String> renderNodes() {
             StringBuilder builder = new StringBuilder(getCapacity());
             return renderData(data(), builder::append).thenApply(v -> {
                 String str = builder.toString();
@@ -248,6 +299,32 @@ private CompletionStage<String> renderAsyncNoTimeout() {
             });
         }
 
+        /**
+         *
+         * @return the rendered template, or {@code null} if the compiled template could not render the output
+         */
+        private String renderCompiled() {
+            StringBuilder builder = new StringBuilder(getCapacity());
+            boolean fallback = false;
+            try {
+                if (!compiledTemplate.render(new CompiledTemplate.Context(engine, compiledExpressions, data()), builder)) {
+                    // The template is rendered as usual
+                    fallback = true;
+                    return null;
+                }
+                String str = builder.toString();
+                capacity.update(str.length());
+                return str;
+            } catch (IOException e) {
+                // StringBuilder never throws IOException
+                throw new UncheckedIOException(e);
+            } finally {
+                if (!fallback) {
+                    runRenderedActions();
+                }
+            }
+        }
+
         private int getCapacity() {
             return attributes.isEmpty() ? capacity.get() : getCapacityAttributeValue();
         }
@@ -285,22 +362,25 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
                     } catch (Throwable e) {
                         result.completeExceptionally(e);
                     } finally {
-                        if (renderedActions != null) {
-                            for (Runnable action : renderedActions) {
-                                try {
-                                    action.run();
-                                } catch (Throwable e) {
-                                    LOG.error("Unable to perform an action when rendering finished", e);
-                                }
-                            }
-                        }
-
+                        runRenderedActions();
                     }
                 }
             });
             return result;
         }
 
+        private void runRenderedActions() {
+            if (renderedActions != null) {
+                for (Runnable action : renderedActions) {
+                    try {
+                        action.run();
+                    } catch (Throwable e) {
+                        LOG.error("Unable to perform an action when rendering finished", e);
+                    }
+                }
+            }
+        }
+
         @Override
         public Template getTemplate() {
             return TemplateImpl.this;
@@ -77,7 +77,7 @@ protected boolean hasClassInTypeClosure(ClassInfo classInfo, DotName className,
         // Interfaces
         for (Type interfaceType : classInfo.interfaceTypes()) {
             ClassInfo interfaceClassInfo = index.getClassByName(interfaceType.name());
-            if (interfaceClassInfo != null && hasCompletionStageInTypeClosure(interfaceClassInfo, index)) {
+            if (interfaceClassInfo != null && hasClassInTypeClosure(interfaceClassInfo, className, index)) {
                 return true;
             }
         }
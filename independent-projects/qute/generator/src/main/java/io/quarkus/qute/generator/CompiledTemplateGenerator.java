@@ -0,0 +1,670 @@
+package io.quarkus.qute.generator;
+
+import static io.quarkus.qute.generator.ValueResolverGenerator.generatedNameFromTarget;
+import static io.quarkus.qute.generator.ValueResolverGenerator.getPropertyName;
+import static io.quarkus.qute.generator.ValueResolverGenerator.isGetterName;
+import static io.quarkus.qute.generator.ValueResolverGenerator.isSynthetic;
+import static io.quarkus.qute.generator.ValueResolverGenerator.packageName;
+import static io.quarkus.qute.generator.ValueResolverGenerator.simpleName;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.PrimitiveType.Primitive;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+import org.objectweb.asm.ClassTooLargeException;
+import org.objectweb.asm.MethodTooLargeException;
+
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.gizmo.WhileLoop;
+import io.quarkus.qute.Booleans;
+import io.quarkus.qute.CheckedTemplate;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.Expression.Part;
+import io.quarkus.qute.IfSectionHelper;
+import io.quarkus.qute.LoopSectionHelper;
+import io.quarkus.qute.Parameter;
+import io.quarkus.qute.SectionBlock;
+import io.quarkus.qute.SectionHelperFactory;
+import io.quarkus.qute.SectionNode;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateNode;
+
+/**
+ * Generates {@link CompiledTemplate}s for the templates of {@link CheckedTemplate} methods.
+ * <p>
+ * Only a subset of the template syntax is compiled: text, output expressions that consist of properties of the template
+ * parameters, and the {@code #if} and {@code #for}/{@code #each} sections with simple conditions and iterables. No class is
+ * generated for a template that contains anything else, or that accesses an asynchronous value or a member that may not be
+ * resolved by reflection; such a template is always rendered as usual.
+ */
+public class CompiledTemplateGenerator extends AbstractGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(CompiledTemplateGenerator.class);
+
+    public static final String SUFFIX = "_CompiledTemplate";
+
+    static final MethodDescriptor CONTEXT_DATA = MethodDescriptor.ofMethod(CompiledTemplate.Context.class, "data",
+            Object.class, String.class);
+    static final MethodDescriptor CONTEXT_APPEND = MethodDescriptor.ofMethod(CompiledTemplate.Context.class, "append",
+            void.class, Appendable.class, Object.class, int.class);
+    static final MethodDescriptor CONTEXT_IS_ASYNC = MethodDescriptor.ofMethod(CompiledTemplate.Context.class, "isAsync",
+            boolean.class, Object.class);
+    static final MethodDescriptor APPENDABLE_APPEND = MethodDescriptor.ofMethod(Appendable.class, "append",
+            Appendable.class, CharSequence.class);
+    static final MethodDescriptor BOOLEANS_IS_FALSY = MethodDescriptor.ofMethod(Booleans.class, "isFalsy", boolean.class,
+            Object.class);
+    static final MethodDescriptor ITERABLE_ITERATOR = MethodDescriptor.ofMethod(Iterable.class, "iterator", Iterator.class);
+    static final MethodDescriptor ITERATOR_HAS_NEXT = MethodDescriptor.ofMethod(Iterator.class, "hasNext", boolean.class);
+    static final MethodDescriptor ITERATOR_NEXT = MethodDescriptor.ofMethod(Iterator.class, "next", Object.class);
+
+    // Iterables that are iterated with Iterable#iterator() by the loop section
+    static final Set<DotName> ITERABLES = Set.of(DotName.createSimple(Iterable.class.getName()),
+            DotName.createSimple("java.util.Collection"), DotName.createSimple("java.util.List"),
+            DotName.createSimple("java.util.Set"), DotName.createSimple("java.util.SortedSet"),
+            DotName.createSimple("java.util.NavigableSet"), DotName.createSimple("java.util.Queue"),
+            DotName.createSimple("java.util.Deque"), DotName.createSimple("java.util.ArrayList"),
+            DotName.createSimple("java.util.LinkedList"), DotName.createSimple("java.util.HashSet"),
+            DotName.createSimple("java.util.LinkedHashSet"), DotName.createSimple("java.util.TreeSet"),
+            DotName.createSimple("java.util.ArrayDeque"));
+
+    // The keys of the iteration metadata, see LoopSectionHelper.IterationElement
+    static final Set<String> ITERATION_METADATA = Set.of("count", "index", "indexParity", "hasNext", "isLast", "isFirst",
+            "odd", "isOdd", "even", "isEven");
+
+    private static final String IF = "if";
+    private static final String ELSE = "else";
+    private static final String LOGICAL_COMPLEMENT = "!";
+    private static final String ALIAS = "alias";
+    private static final String ITERABLE = "iterable";
+    private static final String DEFAULT_ALIAS = "it";
+
+    static final DotName UNI = DotName.createSimple("io.smallrye.mutiny.Uni");
+    static final DotName COMPLETABLE_FUTURE = DotName.createSimple("java.util.concurrent.CompletableFuture");
+
+    // The max length of a string constant is 65535 bytes in the modified UTF-8 encoding
+    static final int TEXT_CHUNK = 16_384;
+
+    private final Predicate<String> excludedProperties;
+    private final Predicate<DotName> excludedTypes;
+    // The classes with a @TemplateData that restricts the accessible members
+    private final Set<DotName> restrictedTypes;
+
+    public CompiledTemplateGenerator(ClassOutput classOutput, IndexView index, Predicate<String> excludedProperties) {
+        this(classOutput, index, excludedProperties, t -> false);
+    }
+
+    /**
+     *
+     * @param classOutput
+     * @param index
+     * @param excludedProperties The properties that must not be compiled, e.g. because a template extension method with the
+     *        same name takes precedence over a class member
+     * @param excludedTypes The types whose members must not be compiled, e.g. because a template extension method or a value
+     *        resolver may take precedence over the class members
+     */
+    public CompiledTemplateGenerator(ClassOutput classOutput, IndexView index, Predicate<String> excludedProperties,
+            Predicate<DotName> excludedTypes) {
+        super(index, classOutput);
+        this.excludedProperties = excludedProperties;
+        this.excludedTypes = excludedTypes;
+        this.restrictedTypes = new HashSet<>();
+        for (AnnotationInstance templateData : index.getAnnotationsWithRepeatable(ValueResolverGenerator.TEMPLATE_DATA,
+                index)) {
+            if (templateData.target().kind() != AnnotationTarget.Kind.CLASS
+                    || !isRestrictive(templateData)) {
+                continue;
+            }
+            AnnotationValue targetValue = templateData.value(ValueResolverGenerator.TARGET);
+            if (targetValue == null || targetValue.asClass().name().equals(ValueResolverGenerator.TEMPLATE_DATA)) {
+                restrictedTypes.add(templateData.target().asClass().name());
+            } else {
+                restrictedTypes.add(targetValue.asClass().name());
+            }
+        }
+    }
+
+    /**
+     *
+     * @param method The {@link CheckedTemplate} method; the parameters of the method are the parameters of the template
+     * @param template
+     * @return the name of the generated class, or {@code null} if the template cannot be compiled
+     */
+    public String generate(MethodInfo method, Template template) {
+        Map<String, Type> params = new HashMap<>();
+        for (int i = 0; i < method.parametersCount(); i++) {
+            String name = method.parameterName(i);
+            if (name == null) {
+                LOGGER.debugf("Template %s not compiled - parameter names not available: %s", template.getId(), method);
+                return null;
+            }
+            params.put(name, method.parameterType(i));
+        }
+
+        ClassInfo declaringClass = method.declaringClass();
+        String baseName;
+        if (declaringClass.enclosingClass() != null) {
+            baseName = simpleName(declaringClass.enclosingClass()) + ValueResolverGenerator.NESTED_SEPARATOR
+                    + simpleName(declaringClass);
+        } else {
+            baseName = simpleName(declaringClass);
+        }
+        // The variants of a template are compiled separately, e.g. items.html -> Templates_items_html
+        String variant = "";
+        String templateId = template.getId();
+        int dot = templateId.indexOf('.', templateId.lastIndexOf('/') + 1);
+        if (dot != -1) {
+            variant = "_" + templateId.substring(dot + 1).replaceAll("[^a-zA-Z0-9_]", "_");
+        }
+        String generatedName = generatedNameFromTarget(packageName(declaringClass.name()),
+                baseName + "_" + method.name() + variant, SUFFIX);
+
+        ClassCreator compiledTemplate = ClassCreator.builder().classOutput(classOutput).className(generatedName)
+                .interfaces(CompiledTemplate.class).build();
+        try {
+            // CompiledTemplate#render()
+            MethodCreator render = compiledTemplate
+                    .getMethodCreator("render", boolean.class, CompiledTemplate.Context.class, Appendable.class)
+                    .addException(IOException.class)
+                    .setModifiers(ACC_PUBLIC);
+            Map<TemplateNode, Integer> expressions = new IdentityHashMap<>();
+            for (TemplateNode node : template.findNodes(TemplateNode::isExpression)) {
+                expressions.put(node, expressions.size());
+            }
+            Scope scope = new Scope(null, render.getMethodParam(0), render.getMethodParam(1), expressions);
+            for (Map.Entry<String, Type> param : params.entrySet()) {
+                scope.put(param.getKey(), null, param.getValue());
+            }
+            compileNodes(render, template.getNodes(), scope);
+            render.returnValue(render.load(true));
+        } catch (NotCompilableException e) {
+            LOGGER.debugf("Template %s not compiled - %s", template.getId(), e.getMessage());
+            return null;
+        }
+
+        // CompiledTemplate#getTemplateId()
+        MethodCreator getTemplateId = compiledTemplate.getMethodCreator("getTemplateId", String.class);
+        getTemplateId.returnValue(getTemplateId.load(template.getId()));
+
+        // CompiledTemplate#getFingerprint()
+        MethodCreator getFingerprint = compiledTemplate.getMethodCreator("getFingerprint", String.class);
+        getFingerprint.returnValue(getFingerprint.load(CompiledTemplate.fingerprint(template)));
+
+        try {
+            compiledTemplate.close();
+        } catch (MethodTooLargeException | ClassTooLargeException e) {
+            LOGGER.debugf("Template %s not compiled - the template is too large", template.getId());
+            return null;
+        }
+        String generatedClassName = generatedName.replace('/', '.');
+        generatedTypes.add(generatedClassName);
+        return generatedClassName;
+    }
+
+    private void compileNodes(BytecodeCreator bc, List<TemplateNode> nodes, Scope scope) {
+        for (TemplateNode node : nodes) {
+            switch (node.kind()) {
+                case TEXT:
+                    String text = node.asText().getValue();
+                    for (int start = 0; start < text.length(); start += TEXT_CHUNK) {
+                        bc.invokeInterfaceMethod(APPENDABLE_APPEND, scope.out,
+                                bc.load(text.substring(start, Math.min(text.length(), start + TEXT_CHUNK))));
+                    }
+                    break;
+                case EXPRESSION:
+                    Expression expression = node.getExpressions().get(0);
+                    Value value = compileExpression(bc, expression, scope);
+                    bc.invokeVirtualMethod(CONTEXT_APPEND, scope.context, scope.out, toObject(bc, value),
+                            bc.load(scope.expressions.get(node)));
+                    break;
+                case PARAM_DECLARATION:
+                    if (node.asParamDeclaration().getDefaultValue() != null) {
+                        throw new NotCompilableException("parameter declaration with a default value");
+                    }
+                    // Param declarations do not render anything
+                    break;
+                case SECTION:
+                    SectionNode section = node.asSection();
+                    if (section.getHelper() instanceof IfSectionHelper) {
+                        compileIf(bc, section, scope);
+                    } else if (section.getHelper() instanceof LoopSectionHelper) {
+                        compileLoop(bc, section, scope);
+                    } else {
+                        throw new NotCompilableException("unsupported section {#" + section.getName() + "}");
+                    }
+                    break;
+                default:
+                    throw new NotCompilableException("unsupported node " + node);
+            }
+        }
+    }
+
+    private void compileIf(BytecodeCreator bc, SectionNode section, Scope scope) {
+        // if (!isFalsy(condition)) { main } else if (!isFalsy(condition)) { ... } else { ... }
+        BytecodeCreator current = bc;
+        List<SectionBlock> blocks = section.getBlocks();
+        for (int i = 0; i < blocks.size(); i++) {
+            SectionBlock block = blocks.get(i);
+            List<String> params = new ArrayList<>(block.parameters.values());
+            if (SectionHelperFactory.MAIN_BLOCK_NAME.equals(block.label)) {
+                if (params.size() != 1) {
+                    throw new NotCompilableException("unsupported condition in " + section.getName());
+                }
+            } else if (ELSE.equals(block.label)) {
+                if (params.isEmpty()) {
+                    if (i != blocks.size() - 1) {
+                        throw new NotCompilableException("unsupported {#else} in " + section.getName());
+                    }
+                    compileNodes(current, block.nodes, scope);
+                    break;
+                }
+                if (params.size() != 2 || !IF.equals(params.get(0))) {
+                    throw new NotCompilableException("unsupported condition in " + section.getName());
+                }
+                params.remove(0);
+            } else {
+                throw new NotCompilableException("unsupported block {#" + block.label + "}");
+            }
+            if (block.expressions.size() != 1) {
+                throw new NotCompilableException("unsupported condition in " + section.getName());
+            }
+            Expression condition = block.expressions.values().iterator().next();
+            String param = params.get(0);
+            boolean negated;
+            if (param.equals(condition.toOriginalString())) {
+                negated = false;
+            } else if (param.equals(LOGICAL_COMPLEMENT + condition.toOriginalString())) {
+                negated = true;
+            } else {
+                throw new NotCompilableException("unsupported condition " + param);
+            }
+            Value value = compileExpression(current, condition, scope);
+            BranchResult branch;
+            if (value.type.kind() == Type.Kind.PRIMITIVE && value.type.asPrimitiveType().primitive() == Primitive.BOOLEAN) {
+                branch = negated ? current.ifFalse(value.handle) : current.ifTrue(value.handle);
+            } else {
+                ResultHandle falsy = current.invokeStaticMethod(BOOLEANS_IS_FALSY, toObject(current, value));
+                branch = negated ? current.ifTrue(falsy) : current.ifFalse(falsy);
+            }
+            compileNodes(branch.trueBranch(), block.nodes, scope);
+            current = branch.falseBranch();
+        }
+    }
+
+    private void compileLoop(BytecodeCreator bc, SectionNode section, Scope scope) {
+        SectionBlock main = null;
+        SectionBlock elseBlock = null;
+        for (SectionBlock block : section.getBlocks()) {
+            if (SectionHelperFactory.MAIN_BLOCK_NAME.equals(block.label)) {
+                main = block;
+            } else if (ELSE.equals(block.label)) {
+                elseBlock = block;
+            } else {
+                throw new NotCompilableException("unsupported block {#" + block.label + "}");
+            }
+        }
+        Expression iterableExpression = main.expressions.get(ITERABLE);
+        if (iterableExpression == null) {
+            throw new NotCompilableException("unsupported iterable in " + section.getName());
+        }
+        String alias = main.parameters.get(ALIAS);
+        if (alias == null || alias.equals(Parameter.EMPTY)) {
+            alias = DEFAULT_ALIAS;
+        }
+        Value iterable = compileExpression(bc, iterableExpression, scope);
+        Type elementType = elementType(iterable.type);
+        if (elementType == null) {
+            throw new NotCompilableException("unsupported iterable type " + iterable.type);
+        }
+        // A null iterable is ignored
+        BytecodeCreator notNull = bc.ifNotNull(iterable.handle).trueBranch();
+        ResultHandle iterator = notNull.invokeInterfaceMethod(ITERABLE_ITERATOR, iterable.handle);
+        BranchResult hasNext = notNull
+                .ifTrue(notNull.invokeInterfaceMethod(ITERATOR_HAS_NEXT, iterator));
+        WhileLoop loop = hasNext.trueBranch()
+                .whileLoop(b -> b.ifTrue(b.invokeInterfaceMethod(ITERATOR_HAS_NEXT, iterator)));
+        BytecodeCreator block = loop.block();
+        ResultHandle element = block.invokeInterfaceMethod(ITERATOR_NEXT, iterator);
+        // The type argument is erased - a null element is rendered as usual, i.e. ignored or not found
+        BytecodeCreator nonNullElement = block.ifNotNull(element).trueBranch();
+        bailIfAsync(nonNullElement, element, elementType);
+        bailIfNotInstance(nonNullElement, element, elementType);
+        Scope loopScope = new Scope(scope, alias);
+        loopScope.put(alias, block.checkCast(element, elementType.name().toString()), elementType);
+        compileNodes(block, main.nodes, loopScope);
+        if (elseBlock != null) {
+            compileNodes(hasNext.falseBranch(), elseBlock.nodes, scope);
+        }
+    }
+
+    private Value compileExpression(BytecodeCreator bc, Expression expression, Scope scope) {
+        if (expression.hasNamespace() || expression.isLiteral()) {
+            throw new NotCompilableException("unsupported expression {" + expression.toOriginalString() + "}");
+        }
+        List<Part> parts = expression.getParts();
+        for (Part part : parts) {
+            if (part.isVirtualMethod()) {
+                throw new NotCompilableException("unsupported expression {" + expression.toOriginalString() + "}");
+            }
+        }
+        Value value = scope.get(bc, parts.get(0).getName());
+        if (value == null) {
+            throw new NotCompilableException("unsupported expression {" + expression.toOriginalString() + "}");
+        }
+        checkNotAsync(value.type, expression);
+        for (int i = 1; i < parts.size(); i++) {
+            if (value.type.kind() == Type.Kind.PRIMITIVE) {
+                throw new NotCompilableException("unsupported expression {" + expression.toOriginalString() + "}");
+            }
+            // An intermediate null value is rendered as usual, i.e. not found
+            bc.ifNull(value.handle).trueBranch().returnValue(bc.load(false));
+            value = compileProperty(bc, value, parts.get(i).getName(), expression);
+            checkNotAsync(value.type, expression);
+        }
+        if (value.type.kind() != Type.Kind.PRIMITIVE) {
+            bailIfAsync(bc, value.handle, value.type);
+        }
+        return value;
+    }
+
+    private Value compileProperty(BytecodeCreator bc, Value base, String name, Expression expression) {
+        ClassInfo clazz = base.type.kind() == Type.Kind.CLASS || base.type.kind() == Type.Kind.PARAMETERIZED_TYPE
+                ? index.getClassByName(base.type.name())
+                : null;
+        if (clazz == null || excludedProperties.test(name)) {
+            throw new NotCompilableException("unsupported expression {" + expression.toOriginalString() + "}");
+        }
+        if (isExcluded(clazz, new HashSet<>())) {
+            // The members may not be resolved by reflection, e.g. @TemplateData(ignore = "foo") or a template extension method
+            throw new NotCompilableException(
+                    "members of " + clazz.name() + " not resolved by reflection {" + expression.toOriginalString() + "}");
+        }
+        String owner = clazz.name().toString();
+        // The same members as the generated value resolvers, i.e. methods first and getters before is/has methods
+        for (MethodInfo method : noParamMethods(clazz)) {
+            if (method.name().equals(name)
+                    || (isGetterName(method.name(), method.returnType()) && getPropertyName(method.name()).equals(name))) {
+                Type type = method.returnType();
+                if (!isSupported(type)) {
+                    throw new NotCompilableException("unsupported type of {" + expression.toOriginalString() + "}");
+                }
+                MethodDescriptor descriptor = MethodDescriptor.of(method);
+                descriptor = MethodDescriptor.ofMethod(owner, method.name(), descriptor.getReturnType());
+                ResultHandle ret = Modifier.isInterface(clazz.flags())
+                        ? bc.invokeInterfaceMethod(descriptor, base.handle)
+                        : bc.invokeVirtualMethod(descriptor, base.handle);
+                return new Value(ret, type);
+            }
+        }
+        ClassInfo target = clazz;
+        while (target != null) {
+            FieldInfo field = target.field(name);
+            if (field != null && Modifier.isPublic(field.flags()) && !Modifier.isStatic(field.flags())
+                    && !isSynthetic(field.flags())) {
+                if (!isSupported(field.type())) {
+                    throw new NotCompilableException("unsupported type of {" + expression.toOriginalString() + "}");
+                }
+                FieldDescriptor descriptor = FieldDescriptor.of(owner, field.name(), FieldDescriptor.of(field).getType());
+                return new Value(bc.readInstanceField(descriptor, base.handle), field.type());
+            }
+            target = superClass(target);
+        }
+        throw new NotCompilableException("property not found {" + expression.toOriginalString() + "}");
+    }
+
+    private boolean isExcluded(ClassInfo clazz, Set<DotName> visited) {
+        if (!visited.add(clazz.name())) {
+            return false;
+        }
+        if (restrictedTypes.contains(clazz.name()) || excludedTypes.test(clazz.name())) {
+            return true;
+        }
+        for (DotName interfaceName : clazz.interfaceNames()) {
+            if (excludedTypes.test(interfaceName)) {
+                return true;
+            }
+            ClassInfo interfaceClass = index.getClassByName(interfaceName);
+            if (interfaceClass != null && isExcluded(interfaceClass, visited)) {
+                return true;
+            }
+        }
+        ClassInfo superClass = superClass(clazz);
+        return superClass != null && isExcluded(superClass, visited);
+    }
+
+    private static boolean isRestrictive(AnnotationInstance templateData) {
+        AnnotationValue ignore = templateData.value(ValueResolverGenerator.IGNORE);
+        AnnotationValue properties = templateData.value(ValueResolverGenerator.PROPERTIES);
+        AnnotationValue ignoreSuperclasses = templateData.value(ValueResolverGenerator.IGNORE_SUPERCLASSES);
+        return (ignore != null && ignore.asStringArray().length > 0)
+                || (properties != null && properties.asBoolean())
+                || (ignoreSuperclasses != null && ignoreSuperclasses.asBoolean());
+    }
+
+    private void checkNotAsync(Type type, Expression expression) {
+        if (type.kind() != Type.Kind.CLASS && type.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+            return;
+        }
+        DotName name = type.name();
+        if (name.equals(DotNames.COMPLETION_STAGE) || name.equals(COMPLETABLE_FUTURE) || name.equals(UNI)
+                || hasCompletionStage(type) || hasClassInTypeClosure(index.getClassByName(name), UNI, index)) {
+            // The value is always resolved asynchronously
+            throw new NotCompilableException("asynchronous type of {" + expression.toOriginalString() + "}");
+        }
+    }
+
+    private List<MethodInfo> noParamMethods(ClassInfo clazz) {
+        Set<ValueResolverGenerator.MethodKey> methods = new HashSet<>();
+        ClassInfo target = clazz;
+        while (target != null) {
+            for (MethodInfo method : target.methods()) {
+                if (isProperty(method)) {
+                    methods.add(new ValueResolverGenerator.MethodKey(method));
+                }
+            }
+            for (DotName interfaceName : target.interfaceNames()) {
+                ClassInfo interfaceClass = index.getClassByName(interfaceName);
+                if (interfaceClass != null) {
+                    for (MethodInfo method : interfaceClass.methods()) {
+                        if (method.isDefault() && isProperty(method)) {
+                            methods.add(new ValueResolverGenerator.MethodKey(method));
+                        }
+                    }
+                }
+            }
+            target = superClass(target);
+        }
+        return methods.stream().sorted().map(k -> k.method).toList();
+    }
+
+    private ClassInfo superClass(ClassInfo clazz) {
+        DotName superName = clazz.superName();
+        if (clazz.isEnum() || superName == null || superName.equals(DotNames.OBJECT)) {
+            return null;
+        }
+        return index.getClassByName(superName);
+    }
+
+    private boolean isProperty(MethodInfo method) {
+        return Modifier.isPublic(method.flags())
+                && !Modifier.isStatic(method.flags())
+                && !isSynthetic(method.flags())
+                && method.parametersCount() == 0
+                && method.returnType().kind() != Type.Kind.VOID
+                && !method.name().equals(MethodDescriptor.INIT)
+                && !method.name().equals(MethodDescriptor.CLINIT);
+    }
+
+    private boolean isSupported(Type type) {
+        switch (type.kind()) {
+            case PRIMITIVE:
+            case ARRAY:
+                return true;
+            case CLASS:
+            case PARAMETERIZED_TYPE:
+                // The generated class must be able to access the type
+                ClassInfo clazz = index.getClassByName(type.name());
+                return clazz == null || Modifier.isPublic(clazz.flags());
+            default:
+                return false;
+        }
+    }
+
+    private Type elementType(Type iterableType) {
+        if (iterableType.kind() != Type.Kind.PARAMETERIZED_TYPE || !ITERABLES.contains(iterableType.name())
+                || iterableType.asParameterizedType().arguments().size() != 1) {
+            return null;
+        }
+        Type argument = iterableType.asParameterizedType().arguments().get(0);
+        if (argument.kind() == Type.Kind.WILDCARD_TYPE && argument.asWildcardType().superBound() == null) {
+            argument = argument.asWildcardType().extendsBound();
+        }
+        if (argument.kind() != Type.Kind.CLASS && argument.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+            return null;
+        }
+        return isSupported(argument) ? argument : null;
+    }
+
+    private void bailIfAsync(BytecodeCreator bc, ResultHandle value, Type type) {
+        if (type.kind() == Type.Kind.CLASS || type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+            ClassInfo clazz = index.getClassByName(type.name());
+            if (clazz != null && Modifier.isFinal(clazz.flags()) && !hasCompletionStage(type)) {
+                // E.g. java.lang.String
+                return;
+            }
+        }
+        bc.ifTrue(bc.invokeStaticMethod(CONTEXT_IS_ASYNC, value)).trueBranch().returnValue(bc.load(false));
+    }
+
+    private void bailIfNotInstance(BytecodeCreator bc, ResultHandle value, Type type) {
+        bc.ifFalse(bc.instanceOf(value, type.name().toString())).trueBranch().returnValue(bc.load(false));
+    }
+
+    private static ResultHandle toObject(BytecodeCreator bc, Value value) {
+        if (value.type.kind() != Type.Kind.PRIMITIVE) {
+            return value.handle;
+        }
+        String wrapper = PrimitiveType.box(value.type.asPrimitiveType()).name().toString();
+        return bc.invokeStaticMethod(MethodDescriptor.ofMethod(wrapper, "valueOf", wrapper, value.type.name().toString()),
+                value.handle);
+    }
+
+    record Value(ResultHandle handle, Type type) {
+    }
+
+    /**
+     * The variables visible in a block of the template.
+     */
+    final class Scope {
+
+        final Scope parent;
+        final ResultHandle context;
+        final ResultHandle out;
+        final Map<TemplateNode, Integer> expressions;
+        // The alias of the loop, or null
+        final String alias;
+        private final Map<String, ResultHandle> handles = new HashMap<>();
+        private final Map<String, Type> types = new HashMap<>();
+
+        Scope(Scope parent, ResultHandle context, ResultHandle out, Map<TemplateNode, Integer> expressions) {
+            this.parent = parent;
+            this.context = context;
+            this.out = out;
+            this.expressions = expressions;
+            this.alias = null;
+        }
+
+        Scope(Scope parent, String alias) {
+            this.parent = parent;
+            this.context = parent.context;
+            this.out = parent.out;
+            this.expressions = parent.expressions;
+            this.alias = alias;
+        }
+
+        /**
+         *
+         * @param handle The handle of the variable, or {@code null} if the value is a data of the template instance
+         * @param type
+         */
+        void put(String name, ResultHandle handle, Type type) {
+            handles.put(name, handle);
+            types.put(name, type);
+        }
+
+        Value get(BytecodeCreator bc, String name) {
+            if (types.containsKey(name)) {
+                ResultHandle handle = handles.get(name);
+                Type type = types.get(name);
+                if (handle == null) {
+                    // The type of the data is not guaranteed - a null value or a value of a different type is rendered as usual
+                    if (type.kind() != Type.Kind.CLASS && type.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+                        return null;
+                    }
+                    ClassInfo clazz = index.getClassByName(type.name());
+                    if (clazz != null && !Modifier.isPublic(clazz.flags())) {
+                        return null;
+                    }
+                    handle = bc.invokeVirtualMethod(CONTEXT_DATA, context, bc.load(name));
+                    bc.ifNull(handle).trueBranch().returnValue(bc.load(false));
+                    bailIfNotInstance(bc, handle, type);
+                    handle = bc.checkCast(handle, type.name().toString());
+                }
+                return new Value(handle, type);
+            }
+            if (alias != null && isIterationMetadata(name)) {
+                // Iteration metadata is not supported and it shadows the variables of the outer scopes
+                return null;
+            }
+            return parent != null ? parent.get(bc, name) : null;
+        }
+
+        private boolean isIterationMetadata(String name) {
+            if (name.startsWith(alias) && name.length() > alias.length()
+                    && (name.charAt(alias.length()) == '_' || name.charAt(alias.length()) == '?')) {
+                name = name.substring(alias.length() + 1);
+            }
+            return ITERATION_METADATA.contains(name);
+        }
+
+    }
+
+    static final class NotCompilableException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        NotCompilableException(String message) {
+            super(message, null, false, false);
+        }
+
+    }
+
+}
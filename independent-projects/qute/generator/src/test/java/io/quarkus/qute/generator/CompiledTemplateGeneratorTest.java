@@ -0,0 +1,248 @@
+package io.quarkus.qute.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Predicate;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.MethodInfo;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.HtmlEscaper;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateData;
+import io.quarkus.qute.TemplateException;
+import io.quarkus.qute.Variant;
+import io.smallrye.mutiny.Uni;
+
+public class CompiledTemplateGeneratorTest {
+
+    static final String ITEMS = """
+            <h1>{title}</h1>
+            {#for item in items}
+            {#if !item.active}<p>{item.name} (inactive)</p>{#else if item.discounted}<p>{item.name}: {item.price}!</p>{#else}<p>{item.name}: {item.price}</p>{/if}
+            {#each item.tags}{it},{/each}
+            {item.note}
+            {#else}
+            No items
+            {/for}
+            """;
+
+    static Index index;
+
+    @BeforeAll
+    public static void init() throws IOException {
+        index = SimpleGeneratorTest.index(Templates.class, Item.class, AsyncItem.class, IgnoredItem.class);
+    }
+
+    @Test
+    public void testRender() throws Exception {
+        CompiledTemplate compiled = compile("items", "items", ITEMS);
+        // No value resolver for Item - the template can only be rendered by the compiled template
+        Engine engine = Engine.builder().addDefaults().addCompiledTemplate(compiled).build();
+        Engine interpreter = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver()).build();
+
+        List<Item> items = List.of(new Item("Alpha", 10, true, false, List.of("a", "b"), null),
+                new Item("Bravo", 20, false, false, List.of(), "note"),
+                new Item("Charlie", 30, true, true, List.of("c"), null));
+        assertEquals(interpreter.parse(ITEMS, null, "items").data("title", "Items").data("items", items).render(),
+                engine.parse(ITEMS, null, "items").data("title", "Items").data("items", items).render());
+        assertEquals(interpreter.parse(ITEMS, null, "items").data("title", "Empty").data("items", List.of()).render(),
+                engine.parse(ITEMS, null, "items").data("title", "Empty").data("items", List.of()).render());
+    }
+
+    @Test
+    public void testFallback() throws Exception {
+        CompiledTemplate compiled = compile("items", "items", ITEMS);
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .addCompiledTemplate(compiled).build();
+        Template template = engine.parse(ITEMS, null, "items");
+
+        // Asynchronous value
+        List<Item> items = List.of(new Item("Alpha", 10, true, false, List.of(), CompletableFuture.completedFuture("Done")));
+        String result = template.data("title", "Async").data("items", items).render();
+        assertEquals(1, result.lines().filter(l -> l.equals("Done")).count(), result);
+        assertEquals(result, template.data("title", "Async").data("items", items).renderAsync().toCompletableFuture().get());
+
+        // Null values
+        List<Item> nulls = List.of(new Item(null, 10, true, false, null, null));
+        assertEquals(engine.parse(ITEMS).data("title", "Null").data("items", nulls).render(),
+                template.data("title", "Null").data("items", nulls).render());
+
+        // Missing data
+        assertThrows(TemplateException.class, () -> template.data("items", List.of()).render());
+    }
+
+    @Test
+    public void testFingerprintMismatch() throws Exception {
+        CompiledTemplate compiled = compile("items", "items", ITEMS);
+        Engine engine = Engine.builder().addDefaults().addCompiledTemplate(compiled).build();
+        List<Item> items = List.of(new Item("Alpha", 10, true, false, List.of(), null));
+        // The compiled template is ignored and Item cannot be resolved
+        assertThrows(TemplateException.class,
+                () -> engine.parse(ITEMS + "{title}", null, "items").data("title", "Items").data("items", items).render());
+    }
+
+    @Test
+    public void testResultMapper() throws Exception {
+        CompiledTemplate compiled = compile("items.html", "items", ITEMS);
+        Engine engine = Engine.builder().addDefaults().addResultMapper(new HtmlEscaper(List.of(Variant.TEXT_HTML)))
+                .addCompiledTemplate(compiled).build();
+        Engine interpreter = Engine.builder().addDefaults().addResultMapper(new HtmlEscaper(List.of(Variant.TEXT_HTML)))
+                .addValueResolver(new ReflectionValueResolver()).build();
+        Variant html = Variant.forContentType(Variant.TEXT_HTML);
+        List<Item> items = List.of(new Item("<Alpha>", 10, true, false, List.of("&"), null));
+        String result = engine.parse(ITEMS, html, "items.html").data("title", "Tom & Jerry").data("items", items).render();
+        assertTrue(result.contains("<h1>Tom &amp; Jerry</h1>"), result);
+        assertTrue(result.contains("<p>&lt;Alpha&gt;: 10</p>"), result);
+        assertEquals(interpreter.parse(ITEMS, html, "items.html").data("title", "Tom & Jerry").data("items", items).render(),
+                result);
+    }
+
+    @Test
+    public void testNotCompilable() throws Exception {
+        assertNull(compile("virtual", "items", "{#for item in items}{item.name.substring(1)}{/for}"));
+        assertNull(compile("namespace", "items", "{#for item in items}{str:concat(item.name)}{/for}"));
+        assertNull(compile("metadata", "items", "{#for item in items}{item_count}{/for}"));
+        assertNull(compile("unknown", "items", "{#for item in items}{item.unknown}{/for}"));
+        assertNull(compile("let", "items", "{#let foo=title}{foo}{/let}"));
+        assertNotNull(compile("text", "text", "Hello {title}!"));
+    }
+
+    @Test
+    public void testNotCompilableMembers() throws Exception {
+        // Asynchronous members
+        assertNull(compile("stage", "async", "{item.stage}"));
+        assertNull(compile("uni", "async", "{item.uni}"));
+        assertNotNull(compile("name", "async", "{item.name}"));
+        // @TemplateData(ignore = "secret")
+        assertNull(compile("ignored", "ignored", "{item.name}"));
+        // A template extension method matches the class
+        DotName itemName = DotName.createSimple(AsyncItem.class.getName());
+        assertNull(compile("extended", "async", "{item.name}", itemName::equals));
+    }
+
+    private CompiledTemplate compile(String id, String methodName, String content) throws Exception {
+        return compile(id, methodName, content, t -> false);
+    }
+
+    private CompiledTemplate compile(String id, String methodName, String content, Predicate<DotName> excludedTypes)
+            throws Exception {
+        Template template = Engine.builder().addDefaults().build().parse(content, null, id);
+        MethodInfo method = index.getClassByName(DotName.createSimple(Templates.class.getName())).firstMethod(methodName);
+        CompiledTemplateGenerator generator = new CompiledTemplateGenerator(new TestClassOutput(), index, p -> false,
+                excludedTypes);
+        String className = generator.generate(method, template);
+        if (className == null) {
+            return null;
+        }
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        if (cl == null) {
+            cl = CompiledTemplateGeneratorTest.class.getClassLoader();
+        }
+        return (CompiledTemplate) cl.loadClass(className).getDeclaredConstructor().newInstance();
+    }
+
+    public static class Templates {
+
+        public static String items(String title, List<Item> items) {
+            return null;
+        }
+
+        public static String text(String title) {
+            return null;
+        }
+
+        public static String async(AsyncItem item) {
+            return null;
+        }
+
+        public static String ignored(IgnoredItem item) {
+            return null;
+        }
+
+    }
+
+    public static class AsyncItem {
+
+        public String getName() {
+            return "async";
+        }
+
+        public CompletionStage<String> getStage() {
+            return CompletableFuture.completedFuture("stage");
+        }
+
+        public Uni<String> getUni() {
+            return Uni.createFrom().item("uni");
+        }
+
+    }
+
+    @TemplateData(ignore = "secret")
+    public static class IgnoredItem {
+
+        public String getName() {
+            return "ignored";
+        }
+
+        public String getSecret() {
+            return "secret";
+        }
+
+    }
+
+    public static class Item {
+
+        private final String name;
+        private final int price;
+        private final boolean active;
+        public final boolean discounted;
+        private final List<String> tags;
+        private final Object note;
+
+        public Item(String name, int price, boolean active, boolean discounted, List<String> tags, Object note) {
+            this.name = name;
+            this.price = price;
+            this.active = active;
+            this.discounted = discounted;
+            this.tags = tags;
+            this.note = note;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getPrice() {
+            return price;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public Object getNote() {
+            return note;
+        }
+
+    }
+
+}
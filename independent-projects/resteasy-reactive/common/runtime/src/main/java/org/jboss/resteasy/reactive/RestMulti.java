@@ -3,6 +3,7 @@
 import static io.smallrye.mutiny.helpers.ParameterValidation.MAPPER_RETURNED_NULL;
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -73,6 +74,8 @@ public static <T, R> RestMulti<R> fromUniResponse(Uni<T> uni,
         private final MultivaluedTreeMap<String, String> headers;
         private final long demand;
         private final boolean encodeAsJsonArray;
+        private final int bufferSize;
+        private final Duration maxBufferDelay;
 
         @Override
         public void subscribe(MultiSubscriber<? super T> subscriber) {
@@ -85,6 +88,8 @@ private SyncRestMulti(Builder<T> builder) {
             this.headers = builder.headers;
             this.demand = builder.demand;
             this.encodeAsJsonArray = builder.encodeAsJsonArray;
+            this.bufferSize = builder.bufferSize;
+            this.maxBufferDelay = builder.maxBufferDelay;
         }
 
         @Override
@@ -105,12 +110,22 @@ public boolean encodeAsJsonArray() {
             return encodeAsJsonArray;
         }
 
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        public Duration getMaxBufferDelay() {
+            return maxBufferDelay;
+        }
+
         public static class Builder<T> {
             private final Multi<T> multi;
             private final MultivaluedTreeMap<String, String> headers = new CaseInsensitiveMap<>();
             private Integer status;
             private long demand = 1;
             private boolean encodeAsJsonArray = true;
+            private int bufferSize = 0;
+            private Duration maxBufferDelay;
 
             private Builder(Multi<T> multi) {
                 this.multi = Objects.requireNonNull(multi, "multi cannot be null");
@@ -153,6 +168,45 @@ public Builder<T> encodeAsJsonArray(boolean encodeAsJsonArray) {
                 return this;
             }
 
+            /**
+             * Configure the number of bytes of serialized items that are buffered before being written to the response,
+             * defaults to {@code 0}, which writes each item as soon as it is serialized.
+             *
+             * <p>
+             * With a buffer, the items are serialized into a single reused buffer which is written once it reaches
+             * {@code bufferSize} bytes, and the next items are requested without waiting for the write to complete unless
+             * the write queue of the connection is full. This reduces the number of writes for large streams of small
+             * items, at the cost of delaying the items until the buffer is full or the {@link Multi} completes. Unless a
+             * {@linkplain #withMaxBufferDelay(Duration) maximum delay} is configured, it should only be used for bulk exports
+             * that produce their items quickly.
+             *
+             * <p>
+             * This property is ignored for SSE. The {@link RestMulti} created by
+             * {@link RestMulti#fromUniResponse(Uni, Function) fromUniResponse} never buffer their items.
+             */
+            public Builder<T> withBufferSize(int bufferSize) {
+                if (bufferSize < 0) {
+                    throw new IllegalArgumentException("Buffer size must not be negative");
+                }
+                this.bufferSize = bufferSize;
+                return this;
+            }
+
+            /**
+             * Configure the maximum time the buffered items wait before being written to the response, even if the buffer
+             * is not full. There is no maximum by default.
+             *
+             * <p>
+             * This property is only used if a {@linkplain #withBufferSize(int) buffer size} is configured.
+             */
+            public Builder<T> withMaxBufferDelay(Duration maxBufferDelay) {
+                if (maxBufferDelay.isNegative() || maxBufferDelay.isZero()) {
+                    throw new IllegalArgumentException("Max buffer delay must be positive");
+                }
+                this.maxBufferDelay = maxBufferDelay;
+                return this;
+            }
+
             public Builder<T> status(int status) {
                 this.status = status;
                 return this;
@@ -0,0 +1,70 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.jboss.jandex.Index;
+import org.jboss.resteasy.reactive.server.core.reflection.ReflectiveContextInjectedBeanFactory;
+import org.jboss.resteasy.reactive.server.handlers.RestInitialHandler;
+import org.jboss.resteasy.reactive.server.processor.ResteasyReactiveDeploymentManager;
+import org.jboss.resteasy.reactive.server.spi.DefaultRuntimeConfiguration;
+
+/**
+ * A RESTEasy Reactive application deployed in-process, without an HTTP server.
+ * <p>
+ * The application is assembled with the {@link ResteasyReactiveDeploymentManager}, so that the handler chains of the
+ * endpoints are the ones of a real application, except that the endpoints are invoked reflectively, and served with a
+ * {@link BenchmarkRequestContext}.
+ */
+public class BenchmarkApplication implements AutoCloseable {
+
+    private final ResteasyReactiveDeploymentManager.RunnableApplication application;
+    private final RestInitialHandler initialHandler;
+    private final BenchmarkRequestContextFactory contextFactory = new BenchmarkRequestContextFactory();
+
+    public BenchmarkApplication(Class<?>... classes) {
+        Index index;
+        try {
+            index = Index.of(classes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            ResteasyReactiveDeploymentManager.PreparedApplication prepared = ResteasyReactiveDeploymentManager.start(index)
+                    .scan()
+                    .prepare(classLoader, ReflectiveContextInjectedBeanFactory.STRING_FACTORY);
+            prepared.addScannedSerializers();
+            prepared.addBuiltinSerializers();
+            DefaultRuntimeConfiguration runtimeConfiguration = new DefaultRuntimeConfiguration(Duration.ofMinutes(1), true,
+                    System.getProperty("java.io.tmpdir"), List.of(), StandardCharsets.UTF_8, Optional.empty(), 2048, 1000);
+            application = prepared.createApplication(runtimeConfiguration, contextFactory, Runnable::run);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+        initialHandler = application.getInitialHandler();
+    }
+
+    /**
+     * Processes the given request on the calling thread.
+     *
+     * @return the context of the processed request
+     */
+    public BenchmarkRequestContext serve(BenchmarkRequest request) {
+        initialHandler.beginProcessing(request);
+        BenchmarkRequestContext context = contextFactory.getLast();
+        if (!context.isEnded()) {
+            throw new IllegalStateException("The request " + request.method + " " + request.path + " was suspended");
+        }
+        return context;
+    }
+
+    @Override
+    public void close() {
+        application.close();
+    }
+}
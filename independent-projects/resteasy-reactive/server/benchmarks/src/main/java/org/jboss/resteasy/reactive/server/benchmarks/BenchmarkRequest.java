@@ -0,0 +1,92 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An in-memory HTTP request, i.e. the external HTTP context of a {@link BenchmarkRequestContext}.
+ * <p>
+ * The request line and the query string are parsed once when the request is built, so that the benchmarks only measure the
+ * RESTEasy Reactive handler chain and not the parsing of the HTTP request, which is done by Vert.x in a real application.
+ */
+public final class BenchmarkRequest {
+
+    final String method;
+    final String path;
+    final String query;
+    final Map<String, List<String>> queryParams;
+    final List<Map.Entry<String, String>> headers = new ArrayList<>();
+    byte[] body;
+
+    private BenchmarkRequest(String method, String uri) {
+        this.method = method;
+        int index = uri.indexOf('?');
+        if (index < 0) {
+            this.path = uri;
+            this.query = null;
+            this.queryParams = Collections.emptyMap();
+        } else {
+            this.path = uri.substring(0, index);
+            this.query = uri.substring(index + 1);
+            this.queryParams = decodeQuery(query);
+        }
+    }
+
+    public static BenchmarkRequest get(String uri) {
+        return new BenchmarkRequest("GET", uri);
+    }
+
+    public static BenchmarkRequest post(String uri) {
+        return new BenchmarkRequest("POST", uri);
+    }
+
+    public BenchmarkRequest header(String name, String value) {
+        headers.add(new AbstractMap.SimpleImmutableEntry<>(name, value));
+        return this;
+    }
+
+    public BenchmarkRequest body(String body) {
+        this.body = body.getBytes(StandardCharsets.UTF_8);
+        return this;
+    }
+
+    String getHeader(CharSequence name) {
+        String key = name.toString();
+        for (Map.Entry<String, String> header : headers) {
+            if (header.getKey().equalsIgnoreCase(key)) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    List<String> getHeaders(String name) {
+        List<String> values = new ArrayList<>(1);
+        for (Map.Entry<String, String> header : headers) {
+            if (header.getKey().equalsIgnoreCase(name)) {
+                values.add(header.getValue());
+            }
+        }
+        return values;
+    }
+
+    private static Map<String, List<String>> decodeQuery(String query) {
+        Map<String, List<String>> params = new LinkedHashMap<>();
+        for (String param : query.split("&")) {
+            if (param.isEmpty()) {
+                continue;
+            }
+            int index = param.indexOf('=');
+            String name = URLDecoder.decode(index < 0 ? param : param.substring(0, index), StandardCharsets.UTF_8);
+            String value = index < 0 ? "" : URLDecoder.decode(param.substring(index + 1), StandardCharsets.UTF_8);
+            params.computeIfAbsent(name, k -> new ArrayList<>(1)).add(value);
+        }
+        return params;
+    }
+}
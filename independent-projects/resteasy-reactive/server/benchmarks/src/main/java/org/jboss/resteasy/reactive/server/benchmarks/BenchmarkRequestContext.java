@@ -0,0 +1,396 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.jboss.resteasy.reactive.server.core.Deployment;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
+
+/**
+ * A request context that serves a {@link BenchmarkRequest} in memory, on the calling thread.
+ * <p>
+ * The calling thread is considered as the IO thread and the response is buffered in a byte array, so that a request is
+ * fully processed when {@link org.jboss.resteasy.reactive.server.handlers.RestInitialHandler#beginProcessing(Object)}
+ * returns, as long as the endpoint does not suspend the request.
+ */
+public class BenchmarkRequestContext extends ResteasyReactiveRequestContext implements ServerHttpRequest, ServerHttpResponse {
+
+    private static final Executor DIRECT_EXECUTOR = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    private final BenchmarkRequest request;
+    private final List<Map.Entry<String, String>> responseHeaders = new ArrayList<>();
+    private final ByteArrayOutputStream responseBody = new ByteArrayOutputStream();
+    private Consumer<ResteasyReactiveRequestContext> preCommitTask;
+    private int statusCode = 200;
+    private boolean committed;
+    private boolean ended;
+
+    public BenchmarkRequestContext(Deployment deployment, BenchmarkRequest request, ThreadSetupAction requestContext,
+            ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+        super(deployment, requestContext, handlerChain, abortHandlerChain);
+        this.request = request;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public boolean isEnded() {
+        return ended;
+    }
+
+    public byte[] getResponseBody() {
+        return responseBody.toByteArray();
+    }
+
+    public int getResponseBodyLength() {
+        return responseBody.size();
+    }
+
+    @Override
+    public ServerHttpRequest serverRequest() {
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse serverResponse() {
+        return this;
+    }
+
+    @Override
+    protected Executor getEventLoop() {
+        return DIRECT_EXECUTOR;
+    }
+
+    @Override
+    public Runnable registerTimer(long millis, Runnable task) {
+        throw new UnsupportedOperationException("Timers are not supported by the benchmark request context");
+    }
+
+    @Override
+    public boolean resumeExternalProcessing() {
+        // there is no next handler, so that an unmatched request ends with a 404
+        setStatusCode(404).end();
+        return true;
+    }
+
+    @Override
+    public String getRequestHeader(CharSequence name) {
+        return request.getHeader(name);
+    }
+
+    @Override
+    public Iterable<Map.Entry<String, String>> getAllRequestHeaders() {
+        return request.headers;
+    }
+
+    @Override
+    public List<String> getAllRequestHeaders(String name) {
+        return request.getHeaders(name);
+    }
+
+    @Override
+    public boolean containsRequestHeader(CharSequence accept) {
+        return request.getHeader(accept) != null;
+    }
+
+    @Override
+    public String getRequestPath() {
+        return request.path;
+    }
+
+    @Override
+    public String getRequestMethod() {
+        return request.method;
+    }
+
+    @Override
+    public String getRequestNormalisedPath() {
+        return request.path;
+    }
+
+    @Override
+    public String getRequestAbsoluteUri() {
+        String uri = "http://localhost:8080" + request.path;
+        return request.query == null ? uri : uri + "?" + request.query;
+    }
+
+    @Override
+    public String getRequestScheme() {
+        return "http";
+    }
+
+    @Override
+    public String getRequestHost() {
+        return "localhost:8080";
+    }
+
+    @Override
+    public void closeConnection() {
+        ended = true;
+    }
+
+    @Override
+    public String getQueryParam(String name) {
+        List<String> values = request.queryParams.get(name);
+        return values == null ? null : values.get(0);
+    }
+
+    @Override
+    public Map<String, List<String>> getQueryParamsMap() {
+        return request.queryParams;
+    }
+
+    @Override
+    public List<String> getAllQueryParams(String name) {
+        List<String> values = request.queryParams.get(name);
+        return values == null ? List.of() : values;
+    }
+
+    @Override
+    public String query() {
+        return request.query;
+    }
+
+    @Override
+    public Collection<String> queryParamNames() {
+        return request.queryParams.keySet();
+    }
+
+    @Override
+    public boolean isRequestEnded() {
+        return true;
+    }
+
+    @Override
+    public InputStream createInputStream(ByteBuffer existingData) {
+        if (existingData == null) {
+            return createInputStream();
+        }
+        byte[] data = new byte[existingData.remaining()];
+        existingData.get(data);
+        return new ByteArrayInputStream(data);
+    }
+
+    @Override
+    public InputStream createInputStream() {
+        return new ByteArrayInputStream(request.body == null ? new byte[0] : request.body);
+    }
+
+    @Override
+    public ServerHttpResponse pauseRequestInput() {
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse resumeRequestInput() {
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse setReadListener(ReadCallback callback) {
+        if (request.body != null) {
+            callback.data(ByteBuffer.wrap(request.body));
+        }
+        callback.done();
+        return this;
+    }
+
+    @Override
+    public boolean isOnIoThread() {
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T unwrap(Class<T> theType) {
+        if (theType == ResteasyReactiveRequestContext.class || theType == BenchmarkRequestContext.class) {
+            return (T) this;
+        }
+        return null;
+    }
+
+    @Override
+    public ServerHttpResponse setStatusCode(int code) {
+        if (!committed) {
+            statusCode = code;
+        }
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse end() {
+        commit();
+        ended = true;
+        return this;
+    }
+
+    @Override
+    public boolean headWritten() {
+        return committed;
+    }
+
+    @Override
+    public ServerHttpResponse end(byte[] data) {
+        commit();
+        responseBody.writeBytes(data);
+        ended = true;
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse end(String data) {
+        return end(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public ServerHttpResponse addResponseHeader(CharSequence name, CharSequence value) {
+        responseHeaders.add(new AbstractMap.SimpleEntry<>(name.toString(), value.toString()));
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse setResponseHeader(CharSequence name, CharSequence value) {
+        removeResponseHeader(name.toString());
+        // same as Vert.x, a null value only removes the header
+        return value == null ? this : addResponseHeader(name, value);
+    }
+
+    @Override
+    public ServerHttpResponse setResponseHeader(CharSequence name, Iterable<CharSequence> values) {
+        removeResponseHeader(name.toString());
+        for (CharSequence value : values) {
+            addResponseHeader(name, value);
+        }
+        return this;
+    }
+
+    @Override
+    public Iterable<Map.Entry<String, String>> getAllResponseHeaders() {
+        return responseHeaders;
+    }
+
+    @Override
+    public String getResponseHeader(String name) {
+        for (Map.Entry<String, String> header : responseHeaders) {
+            if (header.getKey().equalsIgnoreCase(name)) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void removeResponseHeader(String name) {
+        for (Iterator<Map.Entry<String, String>> it = responseHeaders.iterator(); it.hasNext();) {
+            if (it.next().getKey().equalsIgnoreCase(name)) {
+                it.remove();
+            }
+        }
+    }
+
+    @Override
+    public boolean closed() {
+        return ended;
+    }
+
+    @Override
+    public ServerHttpResponse setChunked(boolean chunked) {
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse write(byte[] data, Consumer<Throwable> asyncResultHandler) {
+        commit();
+        responseBody.writeBytes(data);
+        asyncResultHandler.accept(null);
+        return this;
+    }
+
+    @Override
+    public CompletionStage<Void> write(byte[] data) {
+        commit();
+        responseBody.writeBytes(data);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public ServerHttpResponse sendFile(String path, long offset, long length) {
+        throw new UnsupportedOperationException("Sending files is not supported by the benchmark request context");
+    }
+
+    @Override
+    public OutputStream createResponseOutputStream() {
+        return new OutputStream() {
+            @Override
+            public void write(int b) {
+                commit();
+                responseBody.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                commit();
+                responseBody.write(b, off, len);
+            }
+
+            @Override
+            public void close() {
+                end();
+            }
+        };
+    }
+
+    @Override
+    public void setPreCommitListener(Consumer<ResteasyReactiveRequestContext> task) {
+        preCommitTask = task;
+    }
+
+    @Override
+    public ServerHttpResponse addCloseHandler(Runnable onClose) {
+        return this;
+    }
+
+    @Override
+    public boolean isWriteQueueFull() {
+        return false;
+    }
+
+    @Override
+    public ServerHttpResponse addDrainHandler(Runnable onDrain) {
+        return this;
+    }
+
+    private void commit() {
+        if (!committed) {
+            // same as the headers end handler of Vert.x
+            if (preCommitTask != null) {
+                preCommitTask.accept(this);
+            }
+            committed = true;
+        }
+    }
+}
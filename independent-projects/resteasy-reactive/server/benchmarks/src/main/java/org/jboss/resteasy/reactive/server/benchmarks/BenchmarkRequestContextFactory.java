@@ -0,0 +1,27 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import org.jboss.resteasy.reactive.server.core.Deployment;
+import org.jboss.resteasy.reactive.server.core.RequestContextFactory;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
+
+public class BenchmarkRequestContextFactory implements RequestContextFactory {
+
+    /**
+     * The context of the last request, the benchmarks are single threaded.
+     */
+    private BenchmarkRequestContext last;
+
+    @Override
+    public ResteasyReactiveRequestContext createContext(Deployment deployment,
+            Object context, ThreadSetupAction requestContext,
+            ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+        return last = new BenchmarkRequestContext(deployment, (BenchmarkRequest) context,
+                requestContext, handlerChain, abortHandlerChain);
+    }
+
+    public BenchmarkRequestContext getLast() {
+        return last;
+    }
+}
@@ -0,0 +1,109 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.server.benchmarks.resources.Filtered;
+import org.jboss.resteasy.reactive.server.benchmarks.resources.FilteredRequestFilter;
+import org.jboss.resteasy.reactive.server.benchmarks.resources.FilteredResource;
+import org.jboss.resteasy.reactive.server.benchmarks.resources.FilteredResponseFilter;
+import org.jboss.resteasy.reactive.server.benchmarks.resources.HelloResource;
+import org.jboss.resteasy.reactive.server.benchmarks.resources.Item;
+import org.jboss.resteasy.reactive.server.benchmarks.resources.ItemResource;
+import org.jboss.resteasy.reactive.server.benchmarks.resources.JsonMessageBodyReader;
+import org.jboss.resteasy.reactive.server.benchmarks.resources.JsonMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.benchmarks.resources.OrderResource;
+import org.jboss.resteasy.reactive.server.benchmarks.resources.UserResource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the processing of a request by the server handler chain, from the {@code RestInitialHandler} to the response
+ * writer, see {@link BenchmarkApplication}.
+ * <ul>
+ * <li>{@code text}: routing and a {@code String} response</li>
+ * <li>{@code params}: path, query and header parameters, including their conversion</li>
+ * <li>{@code json}: a POJO response serialized with Jackson</li>
+ * <li>{@code jsonBody}: a JSON request entity and a POJO response</li>
+ * <li>{@code filters}: name bound request and response filters</li>
+ * <li>{@code notFound}: a request that does not match any resource</li>
+ * </ul>
+ * This benchmark is meant to be run with the GC profiler, so that regressions of the allocation rate are visible as well,
+ * e.g. {@code java -jar target/benchmark.jar HandlerChainBenchmark -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class HandlerChainBenchmark {
+
+    @Param({ "text", "params", "json", "jsonBody", "filters", "notFound" })
+    public String scenario;
+
+    private BenchmarkApplication application;
+    private BenchmarkRequest request;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        application = new BenchmarkApplication(HelloResource.class, ItemResource.class, Item.class, OrderResource.class,
+                UserResource.class, FilteredResource.class, Filtered.class, FilteredRequestFilter.class,
+                FilteredResponseFilter.class, JsonMessageBodyWriter.class, JsonMessageBodyReader.class);
+        int expectedStatus = 200;
+        switch (scenario) {
+            case "text":
+                request = BenchmarkRequest.get("/hello");
+                break;
+            case "params":
+                request = BenchmarkRequest.get("/items/42/tags/sale?page=2&size=20").header("X-Tenant", "acme");
+                break;
+            case "json":
+                request = BenchmarkRequest.get("/items/42").header("Accept", "application/json");
+                break;
+            case "jsonBody":
+                request = BenchmarkRequest.post("/items")
+                        .header("Accept", "application/json")
+                        .header("Content-Type", "application/json")
+                        .body("{\"id\":0,\"name\":\"Item\",\"price\":9.99,\"tags\":[\"new\",\"sale\"]}");
+                break;
+            case "filters":
+                request = BenchmarkRequest.get("/filtered").header("X-Tenant", "acme");
+                break;
+            case "notFound":
+                request = BenchmarkRequest.get("/items/42/unknown");
+                expectedStatus = 404;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        }
+        // fail fast instead of measuring an error path
+        BenchmarkRequestContext context = application.serve(request);
+        if (context.getStatusCode() != expectedStatus || (expectedStatus == 200 && context.getResponseBodyLength() == 0)) {
+            throw new IllegalStateException("Unexpected status " + context.getStatusCode() + " for scenario " + scenario
+                    + ": " + new String(context.getResponseBody(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        application.close();
+    }
+
+    @Benchmark
+    public BenchmarkRequestContext serve() {
+        return application.serve(request);
+    }
+
+}
@@ -0,0 +1,21 @@
+package org.jboss.resteasy.reactive.server.benchmarks.resources;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+
+@Filtered
+@Provider
+public class FilteredRequestFilter implements ContainerRequestFilter {
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        String tenant = requestContext.getHeaderString("X-Tenant");
+        if (tenant == null) {
+            throw new WebApplicationException(Response.Status.BAD_REQUEST);
+        }
+        requestContext.setProperty("tenant", tenant);
+    }
+}
@@ -0,0 +1,16 @@
+package org.jboss.resteasy.reactive.server.benchmarks.resources;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+
+@Filtered
+@Path("filtered")
+public class FilteredResource {
+
+    @GET
+    public String hello(@Context HttpHeaders headers) {
+        return "Hello " + headers.getHeaderString("X-Tenant");
+    }
+}
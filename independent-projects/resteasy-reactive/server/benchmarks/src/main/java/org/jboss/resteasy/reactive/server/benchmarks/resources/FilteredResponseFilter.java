@@ -0,0 +1,16 @@
+package org.jboss.resteasy.reactive.server.benchmarks.resources;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.ext.Provider;
+
+@Filtered
+@Provider
+public class FilteredResponseFilter implements ContainerResponseFilter {
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        responseContext.getHeaders().putSingle("X-Tenant", requestContext.getProperty("tenant"));
+    }
+}
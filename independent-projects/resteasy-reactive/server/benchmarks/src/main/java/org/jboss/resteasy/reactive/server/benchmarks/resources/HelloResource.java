@@ -0,0 +1,20 @@
+package org.jboss.resteasy.reactive.server.benchmarks.resources;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+
+@Path("hello")
+public class HelloResource {
+
+    @GET
+    public String hello() {
+        return "Hello World";
+    }
+
+    @Path("{name}")
+    @GET
+    public String hello(@PathParam("name") String name) {
+        return "Hello " + name;
+    }
+}
@@ -0,0 +1,41 @@
+package org.jboss.resteasy.reactive.server.benchmarks.resources;
+
+import java.util.List;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+
+@Path("items")
+public class ItemResource {
+
+    @GET
+    @Path("{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Item get(@PathParam("id") long id) {
+        return new Item(id, "Item " + id, 9.99, List.of("new", "sale"));
+    }
+
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public Item create(Item item) {
+        item.id = 1;
+        return item;
+    }
+
+    @GET
+    @Path("{id}/tags/{tag}")
+    public String tag(@PathParam("id") long id, @PathParam("tag") String tag,
+            @QueryParam("page") @DefaultValue("1") int page, @QueryParam("size") @DefaultValue("10") int size,
+            @HeaderParam("X-Tenant") String tenant) {
+        return tenant + ":" + id + ":" + tag + ":" + page + ":" + size;
+    }
+}
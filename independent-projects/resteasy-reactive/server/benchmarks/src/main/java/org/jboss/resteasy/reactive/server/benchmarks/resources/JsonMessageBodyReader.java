@@ -0,0 +1,36 @@
+package org.jboss.resteasy.reactive.server.benchmarks.resources;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.reactive.server.jackson.JacksonBasicMessageBodyReader;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyReader;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+
+/**
+ * Same as the Jackson reader of Quarkus REST, without the mapping of the deserialization errors.
+ */
+@Provider
+@Consumes(MediaType.APPLICATION_JSON)
+public class JsonMessageBodyReader extends JacksonBasicMessageBodyReader implements ServerMessageBodyReader<Object> {
+
+    public JsonMessageBodyReader() {
+        super(JsonMessageBodyWriter.MAPPER);
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo lazyMethod, MediaType mediaType) {
+        return isReadable(mediaType, type);
+    }
+
+    @Override
+    public Object readFrom(Class<Object> type, Type genericType, MediaType mediaType, ServerRequestContext context)
+            throws IOException {
+        return readFrom(type, genericType, null, mediaType, null, context.getInputStream());
+    }
+}
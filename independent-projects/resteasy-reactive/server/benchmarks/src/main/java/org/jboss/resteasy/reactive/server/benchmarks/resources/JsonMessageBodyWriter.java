@@ -0,0 +1,43 @@
+package org.jboss.resteasy.reactive.server.benchmarks.resources;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.reactive.server.jackson.JacksonMessageBodyWriterUtil;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Same as the basic Jackson writer of Quarkus REST, without the handling of generic types.
+ */
+@Provider
+@Produces(MediaType.APPLICATION_JSON)
+public class JsonMessageBodyWriter extends ServerMessageBodyWriter.AllWriteableMessageBodyWriter {
+
+    static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final ObjectWriter writer = JacksonMessageBodyWriterUtil.createDefaultWriter(MAPPER);
+
+    @Override
+    public void writeResponse(Object o, Type genericType, ServerRequestContext context) throws IOException {
+        OutputStream stream = context.getOrCreateOutputStream();
+        writer.writeValue(stream, o);
+        stream.close();
+    }
+
+    @Override
+    public void writeTo(Object o, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException {
+        JacksonMessageBodyWriterUtil.doLegacyWrite(o, annotations, httpHeaders, entityStream, writer);
+    }
+}
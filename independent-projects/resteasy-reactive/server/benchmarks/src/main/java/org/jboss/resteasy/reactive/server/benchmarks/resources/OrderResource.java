@@ -0,0 +1,42 @@
+package org.jboss.resteasy.reactive.server.benchmarks.resources;
+
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+
+/**
+ * Only adds routes, so that the requests of the benchmarks are not matched against a single resource class.
+ */
+@Path("orders")
+public class OrderResource {
+
+    @GET
+    public String list() {
+        return "orders";
+    }
+
+    @GET
+    @Path("{id}")
+    public String get(@PathParam("id") String id) {
+        return id;
+    }
+
+    @PUT
+    @Path("{id}")
+    public String update(@PathParam("id") String id, String order) {
+        return id;
+    }
+
+    @DELETE
+    @Path("{id}")
+    public void delete(@PathParam("id") String id) {
+    }
+
+    @GET
+    @Path("{id}/lines/{line}")
+    public String line(@PathParam("id") String id, @PathParam("line") int line) {
+        return id + ":" + line;
+    }
+}
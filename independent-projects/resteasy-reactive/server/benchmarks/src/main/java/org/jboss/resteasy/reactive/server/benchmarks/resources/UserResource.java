@@ -0,0 +1,35 @@
+package org.jboss.resteasy.reactive.server.benchmarks.resources;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+
+/**
+ * Only adds routes, so that the requests of the benchmarks are not matched against a single resource class.
+ */
+@Path("users")
+public class UserResource {
+
+    @GET
+    public String list() {
+        return "users";
+    }
+
+    @GET
+    @Path("{id}")
+    public String get(@PathParam("id") String id) {
+        return id;
+    }
+
+    @GET
+    @Path("{id}/items")
+    public String items(@PathParam("id") String id) {
+        return id;
+    }
+
+    @GET
+    @Path("me")
+    public String me() {
+        return "me";
+    }
+}
@@ -0,0 +1,151 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper.RequestMatch;
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper.RequestPath;
+
+/**
+ * The {@link RequestMapper} before the templates were compiled into a {@link RouteTrie}, which tries the templates of a
+ * stem one after the other. This is the baseline of {@link RequestMapperBenchmark}.
+ */
+public class LinearRequestMapper<T> {
+
+    private static final String[] EMPTY_STRING_ARRAY = new String[0];
+
+    private final PathMatcher<ArrayList<RequestPath<T>>> requestPaths;
+    private final PathMatcher.Builder<ArrayList<RequestPath<T>>> pathMatcherBuilder;
+    final int maxParams;
+
+    public LinearRequestMapper(ArrayList<RequestPath<T>> templates) {
+        pathMatcherBuilder = new PathMatcher.Builder<>();
+        int max = 0;
+        Map<String, ArrayList<RequestPath<T>>> aggregates = new HashMap<>();
+        for (RequestPath<T> i : templates) {
+            ArrayList<RequestPath<T>> paths = aggregates.get(i.template.stem);
+            if (paths == null) {
+                aggregates.put(i.template.stem, paths = new ArrayList<>());
+            }
+            paths.add(i);
+            max = Math.max(max, i.template.countPathParamNames());
+        }
+        aggregates.forEach(new BiConsumer<>() {
+            @Override
+            public void accept(String stem, ArrayList<RequestPath<T>> list) {
+                Collections.sort(list);
+                pathMatcherBuilder.addPrefixPath(stem, list);
+            }
+        });
+        maxParams = max;
+        requestPaths = pathMatcherBuilder.build();
+    }
+
+    public RequestMatch<T> map(String path) {
+        var result = mapFromPathMatcher(path, requestPaths.match(path));
+        if (result != null) {
+            return result;
+        }
+
+        // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
+        return mapFromPathMatcher(path, requestPaths.defaultMatch(path));
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatch) {
+        var value = initialMatch.getValue();
+        if (initialMatch.getValue() == null) {
+            return null;
+        }
+        int pathLength = path.length();
+        for (int index = 0; index < ((List<RequestPath<T>>) value).size(); index++) {
+            RequestPath<T> potentialMatch = ((List<RequestPath<T>>) value).get(index);
+            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+            int paramCount = 0;
+            boolean matched = true;
+            boolean prefixAllowed = potentialMatch.prefixTemplate;
+            int matchPos = initialMatch.getMatched().length();
+            for (int i = 1; i < potentialMatch.template.components.length; ++i) {
+                URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
+                if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
+                    // exclude any path end slash when matching a subdir, but include it in the matched length
+                    boolean endSlash = matchPos < path.length() && path.charAt(path.length() - 1) == '/';
+                    Matcher matcher = segment.pattern.matcher(
+                            endSlash ? path.substring(0, path.length() - 1) : path);
+                    matched = matcher.find(matchPos) && matcher.start() == matchPos;
+                    if (!matched) {
+                        break;
+                    }
+                    matchPos = matcher.end();
+                    if (endSlash) {
+                        matchPos++;
+                    }
+                    for (String group : segment.groups) {
+                        params[paramCount++] = matcher.group(group);
+                    }
+                } else if (segment.type == URITemplate.Type.LITERAL) {
+                    //make sure the literal text is the same
+                    if (matchPos + segment.literalText.length() > pathLength) {
+                        matched = false;
+                        break; //too long
+                    }
+                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
+                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
+                            matched = false;
+                            break;
+                        }
+                    }
+                    if (!matched) {
+                        break;
+                    }
+                } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
+                    if (matchPos == pathLength) {
+                        matched = false;
+                        break;
+                    }
+                    int start = matchPos;
+                    while (matchPos < pathLength && path.charAt(matchPos) != '/') {
+                        matchPos++;
+                    }
+                    params[paramCount++] = path.substring(start, matchPos);
+                }
+            }
+            if (!matched) {
+                continue;
+            }
+            if (paramCount < params.length) {
+                params[paramCount] = null;
+            }
+            boolean fullMatch = matchPos == pathLength;
+            boolean doPrefixMatch = false;
+            if (!fullMatch) {
+                //according to the spec every template ends with (/.*)?
+                if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
+                    doPrefixMatch = prefixAllowed || pathLength == 1; //if prefix is allowed, or we've matched the whole thing
+                } else if (path.charAt(matchPos) == '/') {
+                    doPrefixMatch = prefixAllowed || matchPos == pathLength - 1; //if prefix is allowed, or the remainder is only a trailing /
+                }
+            }
+            if (fullMatch || doPrefixMatch) {
+                String remaining;
+                if (fullMatch) {
+                    remaining = "";
+                } else {
+                    if (matchPos == 1) {
+                        remaining = path;
+                    } else {
+                        remaining = path.substring(matchPos);
+                    }
+                }
+                return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
+            }
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,128 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper.RequestMatch;
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper.RequestPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link RequestMapper} with the {@link LinearRequestMapper} baseline, for a number of templates.
+ * <p>
+ * The templates are generated by groups of five, a group uses the stem of its resource, e.g. {@code /resource3/{id}},
+ * or the root stem, e.g. {@code /{tenant}/resource3/search}, as the method templates of a resource class do.
+ * <ul>
+ * <li>{@code stem}: a template with a literal stem and two parameters</li>
+ * <li>{@code root}: a template of the root stem</li>
+ * <li>{@code typedRegex}: a template of the root stem with a {@code \d+} parameter</li>
+ * <li>{@code customRegex}: a template of the root stem with a {@code .+} parameter</li>
+ * <li>{@code notFound}: a path that does not match any template</li>
+ * </ul>
+ * This benchmark is meant to be run with the GC profiler, e.g.
+ * {@code java -jar target/benchmark.jar RequestMapperBenchmark -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class RequestMapperBenchmark {
+
+    @Param({ "50", "500", "5000" })
+    public int routes;
+
+    @Param({ "stem", "root", "typedRegex", "customRegex", "notFound" })
+    public String scenario;
+
+    private RequestMapper<String> mapper;
+    private LinearRequestMapper<String> linearMapper;
+    private String path;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ArrayList<RequestPath<String>> templates = new ArrayList<>();
+        for (int i = 0; i < routes; i++) {
+            String template = template(i / 5, i % 5);
+            templates.add(new RequestPath<>(false, new URITemplate(template, false), template));
+        }
+        mapper = new RequestMapper<>(templates);
+        linearMapper = new LinearRequestMapper<>(templates);
+
+        // a resource in the middle of the templates
+        int resource = routes / 10;
+        String expected;
+        switch (scenario) {
+            case "stem":
+                path = "/resource" + resource + "/42/children/7";
+                expected = template(resource, 1);
+                break;
+            case "root":
+                path = "/acme/resource" + resource + "/search";
+                expected = template(resource, 3);
+                break;
+            case "typedRegex":
+                path = "/acme/resource" + resource + "/items/42";
+                expected = template(resource, 2);
+                break;
+            case "customRegex":
+                path = "/acme/resource" + resource + "/files/docs/readme.txt";
+                expected = template(resource, 4);
+                break;
+            case "notFound":
+                path = "/acme/unknown/42";
+                expected = null;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        }
+        // fail fast instead of measuring a different template
+        check(mapper.map(path), expected);
+        check(linearMapper.map(path), expected);
+    }
+
+    private static String template(int resource, int method) {
+        switch (method) {
+            case 0:
+                return "/resource" + resource + "/{id}";
+            case 1:
+                return "/resource" + resource + "/{id}/children/{childId}";
+            case 2:
+                return "/{tenant}/resource" + resource + "/items/{id: \\d+}";
+            case 3:
+                return "/{tenant}/resource" + resource + "/search";
+            default:
+                return "/{tenant}/resource" + resource + "/files/{path: .+}";
+        }
+    }
+
+    private void check(RequestMatch<String> match, String expected) {
+        String value = match == null ? null : match.value;
+        if (expected == null ? value != null : !expected.equals(value)) {
+            throw new IllegalStateException("Unexpected template " + value + " for path " + path);
+        }
+    }
+
+    @Benchmark
+    public RequestMatch<String> trie() {
+        return mapper.map(path);
+    }
+
+    @Benchmark
+    public RequestMatch<String> linear() {
+        return linearMapper.map(path);
+    }
+
+}
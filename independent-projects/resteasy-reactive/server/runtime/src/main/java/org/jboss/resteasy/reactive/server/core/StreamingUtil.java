@@ -57,7 +57,29 @@ public static CompletionStage<?> send(ResteasyReactiveRequestContext context,
         return response.write(data);
     }
 
+    /**
+     * Serialise the entity with the given prefix and suffix at the end of the given stream, which allows to buffer several
+     * entities before writing them to the response.
+     */
+    public static void appendEntity(ResteasyReactiveRequestContext context, Object entity, String prefix, String suffix,
+            StreamingOutputStream out) throws IOException {
+        if (prefix != null) {
+            out.write(prefix.getBytes(StandardCharsets.US_ASCII));
+        }
+        writeEntity(context, entity, out);
+        if (suffix != null) {
+            out.write(suffix.getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
     private static byte[] serialiseEntity(ResteasyReactiveRequestContext context, Object entity) throws IOException {
+        StreamingOutputStream baos = new StreamingOutputStream();
+        writeEntity(context, entity, baos);
+        return baos.toByteArray();
+    }
+
+    private static void writeEntity(ResteasyReactiveRequestContext context, Object entity, StreamingOutputStream out)
+            throws IOException {
         ServerSerialisers serialisers = context.getDeployment().getSerialisers();
         Class<?> entityClass = entity.getClass();
         Type entityType = context.getGenericReturnType();
@@ -67,13 +89,12 @@ private static byte[] serialiseEntity(ResteasyReactiveRequestContext context, Ob
         MessageBodyWriter<Object>[] writers = (MessageBodyWriter<Object>[]) serialisers
                 .findWriters(null, entityClass, mediaType, RuntimeType.SERVER)
                 .toArray(ServerSerialisers.NO_WRITER);
-        StreamingOutputStream baos = new StreamingOutputStream();
         boolean wrote = false;
         for (MessageBodyWriter<Object> writer : writers) {
             if (writer.isWriteable(entityClass, entityType, context.getAllAnnotations(), mediaType)) {
                 // FIXME: spec doesn't really say what headers we should use here
                 writer.writeTo(entity, entityClass, entityType, context.getAllAnnotations(), mediaType,
-                        new QuarkusMultivaluedHashMap<>(), baos);
+                        new QuarkusMultivaluedHashMap<>(), out);
                 wrote = true;
                 break;
             }
@@ -82,7 +103,6 @@ private static byte[] serialiseEntity(ResteasyReactiveRequestContext context, Ob
             throw new IllegalStateException(
                     "Could not find MessageBodyWriter for " + entityClass + " / " + entityType + " as " + mediaType);
         }
-        return baos.toByteArray();
     }
 
     public static void setHeaders(ResteasyReactiveRequestContext context, ServerHttpResponse response,
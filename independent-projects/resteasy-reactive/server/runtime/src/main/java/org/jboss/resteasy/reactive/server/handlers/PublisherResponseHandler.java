@@ -2,6 +2,7 @@
 
 import static org.jboss.resteasy.reactive.server.jaxrs.SseEventSinkImpl.EMPTY_BUFFER;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -10,6 +11,7 @@
 import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscriber;
 import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.sse.OutboundSseEvent;
@@ -18,11 +20,13 @@
 import org.jboss.resteasy.reactive.RestMulti;
 import org.jboss.resteasy.reactive.common.util.RestMediaType;
 import org.jboss.resteasy.reactive.common.util.ServerMediaType;
+import org.jboss.resteasy.reactive.server.StreamingOutputStream;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.core.SseUtil;
 import org.jboss.resteasy.reactive.server.core.StreamingUtil;
 import org.jboss.resteasy.reactive.server.jaxrs.OutboundSseEventImpl;
 import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer.Phase;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 import org.jboss.resteasy.reactive.server.spi.StreamingResponse;
 
@@ -83,16 +87,27 @@ private static class StreamingMultiSubscriber extends AbstractMultiSubscriber {
         private final boolean json;
         private final boolean encodeAsJsonArray;
 
+        private final int bufferSize;
+        private final long maxBufferDelay;
+        // reused to serialize the items when buffering, guarded by itself as it is also flushed by the timer and released
+        // when the connection is closed
+        private final StreamingOutputStream buffer;
+        // cancels the timer that flushes the buffer, guarded by the buffer
+        private Runnable cancelFlushTimer;
+
         // Huge hack to stream valid json
         private volatile String nextJsonPrefix;
         private volatile boolean hadItem;
 
         StreamingMultiSubscriber(ResteasyReactiveRequestContext requestContext,
                 List<StreamingResponseCustomizer> staticCustomizers, Publisher publisher,
-                boolean json, long demand, boolean encodeAsJsonArray) {
+                boolean json, long demand, boolean encodeAsJsonArray, int bufferSize, long maxBufferDelay) {
             super(requestContext, staticCustomizers, demand);
             this.publisher = publisher;
             this.json = json;
+            this.bufferSize = bufferSize;
+            this.maxBufferDelay = maxBufferDelay;
+            this.buffer = bufferSize > 0 ? requestContext.serverResponse().createStreamingOutputStream() : null;
             // encodeAsJsonArray == true means JSON array "encoding"
             // encodeAsJsonArray == false mean no prefix, no suffix and LF as message separator,
             //     also used for/same as chunked-streaming
@@ -103,8 +118,13 @@ private static class StreamingMultiSubscriber extends AbstractMultiSubscriber {
 
         @Override
         public void onNext(Object item) {
-            List<StreamingResponseCustomizer> customizers = determineCustomizers(!hadItem);
+            boolean first = !hadItem;
+            List<StreamingResponseCustomizer> customizers = determineCustomizers(first);
             hadItem = true;
+            if (buffer != null) {
+                bufferItem(item, customizers, first);
+                return;
+            }
             StreamingUtil.send(requestContext, customizers, item, messagePrefix(), messageSuffix())
                     .handle((v, t) -> {
                         if (t != null) {
@@ -125,6 +145,112 @@ public void onNext(Object item) {
                     });
         }
 
+        /**
+         * Serialize the item into the buffer and only write the buffer once it reaches the buffer size, or once the oldest
+         * buffered item waited for the max buffer delay. The next items are requested right away, unless the write queue
+         * is full in which case we wait for it to drain.
+         */
+        private void bufferItem(Object item, List<StreamingResponseCustomizer> customizers, boolean first) {
+            ServerHttpResponse response = requestContext.serverResponse();
+            synchronized (buffer) {
+                if (response.closed()) {
+                    // the close handler cancels the subscription
+                    releaseBuffer();
+                    return;
+                }
+                boolean wasEmpty = buffer.size() == 0;
+                try {
+                    if (first) {
+                        StreamingUtil.setHeaders(requestContext, response, customizers);
+                    }
+                    StreamingUtil.appendEntity(requestContext, item, messagePrefix(), messageSuffix(), buffer);
+                } catch (Throwable t) {
+                    releaseBuffer();
+                    subscription.cancel();
+                    handleException(requestContext, t);
+                    return;
+                }
+                // next item will need this prefix if json
+                nextJsonPrefix = encodeAsJsonArray ? "," : null;
+                if (buffer.size() < bufferSize) {
+                    if (wasEmpty && maxBufferDelay > 0) {
+                        cancelFlushTimer = requestContext.registerTimer(maxBufferDelay, this::flushOnTimer);
+                    }
+                    subscription.request(demand);
+                    return;
+                }
+                flush();
+            }
+            if (response.isWriteQueueFull()) {
+                // onNext may run off the event loop of the connection, in which case the queue can drain before the
+                // handler is registered: check again once it is, and make sure the next items are only requested once
+                AtomicBoolean requested = new AtomicBoolean();
+                Runnable requestNext = () -> {
+                    if (requested.compareAndSet(false, true)) {
+                        subscription.request(demand);
+                    }
+                };
+                response.addDrainHandler(requestNext);
+                if (!response.isWriteQueueFull()) {
+                    requestNext.run();
+                }
+            } else {
+                subscription.request(demand);
+            }
+        }
+
+        private void flushOnTimer() {
+            synchronized (buffer) {
+                // the timer may fire after the buffer was flushed because it was full
+                if (cancelFlushTimer != null) {
+                    cancelFlushTimer = null;
+                    if (!requestContext.serverResponse().closed()) {
+                        flush();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Write the buffered items, the next items are serialized in the same buffer while they are being written.
+         */
+        private void flush() {
+            assert Thread.holdsLock(buffer);
+            cancelFlushTimer();
+            requestContext.serverResponse().write(buffer, t -> {
+                if (t != null) {
+                    // need to cancel because the exception didn't come from the Multi
+                    subscription.cancel();
+                    handleException(requestContext, t);
+                }
+            });
+        }
+
+        private void cancelFlushTimer() {
+            if (cancelFlushTimer != null) {
+                cancelFlushTimer.run();
+                cancelFlushTimer = null;
+            }
+        }
+
+        private void releaseBuffer() {
+            synchronized (buffer) {
+                cancelFlushTimer();
+                try {
+                    buffer.close();
+                } catch (IOException e) {
+                    // cannot happen
+                }
+            }
+        }
+
+        @Override
+        protected void onClose() {
+            if (buffer != null) {
+                releaseBuffer();
+            }
+        }
+
         private List<StreamingResponseCustomizer> determineCustomizers(boolean isFirst) {
             // we only need to obtain the customizers from the Publisher if it's the first time we are sending data and the Publisher has customizable data
             // at this point no matter the type of RestMulti we can safely obtain the headers and status
@@ -153,23 +279,61 @@ public void onComplete() {
             if (!hadItem) {
                 StreamingUtil.setHeaders(requestContext, requestContext.serverResponse(), this.determineCustomizers(true));
             }
-            if (json) {
-                String postfix = onCompleteText();
-                if (postfix != null) {
-                    byte[] postfixBytes = postfix.getBytes(StandardCharsets.US_ASCII);
-                    requestContext.serverResponse().write(postfixBytes).handle((v, t) -> {
+            String postfix = json ? onCompleteText() : null;
+            if (buffer != null && buffer.size() > 0) {
+                // write the remaining buffered items together with the postfix
+                synchronized (buffer) {
+                    cancelFlushTimer();
+                    if (postfix != null) {
+                        buffer.writeBytes(postfix.getBytes(StandardCharsets.US_ASCII));
+                    }
+                    requestContext.serverResponse().write(buffer, t -> {
+                        releaseBuffer();
                         super.onComplete();
-                        return null;
                     });
-                } else {
-                    super.onComplete();
                 }
+                return;
+            }
+            if (buffer != null) {
+                releaseBuffer();
+            }
+            if (postfix != null) {
+                byte[] postfixBytes = postfix.getBytes(StandardCharsets.US_ASCII);
+                requestContext.serverResponse().write(postfixBytes).handle((v, t) -> {
+                    super.onComplete();
+                    return null;
+                });
             } else {
                 super.onComplete();
             }
 
         }
 
+        @Override
+        public void onError(Throwable t) {
+            if (buffer != null) {
+                synchronized (buffer) {
+                    int size = buffer.size();
+                    ServerHttpResponse response = requestContext.serverResponse();
+                    if (size > 0 && response.headWritten() && !response.closed()) {
+                        // the items serialized before the failure are still sent, the failure itself can only be logged
+                        cancelFlushTimer();
+                        response.write(buffer, ignored -> {
+                            releaseBuffer();
+                            super.onError(t);
+                        });
+                        return;
+                    }
+                    if (size > 0) {
+                        // the failure is sent instead
+                        log.debugf("Discarding %d bytes of buffered items of a failed stream", size);
+                    }
+                    releaseBuffer();
+                }
+            }
+            super.onError(t);
+        }
+
         protected String onCompleteText() {
             if (!encodeAsJsonArray) {
                 return null;
@@ -215,9 +379,16 @@ static abstract class AbstractMultiSubscriber implements Subscriber<Object> {
                 if (!weClosed && this.subscription != null) {
                     subscription.cancel();
                 }
+                onClose();
             });
         }
 
+        /**
+         * Called when the connection is closed.
+         */
+        protected void onClose() {
+        }
+
         @Override
         public void onSubscribe(Subscription s) {
             this.subscription = s;
@@ -314,24 +485,37 @@ private boolean requiresChunkedStream(MediaType mediaType) {
 
     private void handleChunkedStreaming(ResteasyReactiveRequestContext requestContext, Publisher<?> result, boolean json) {
         long demand = 1L;
+        int bufferSize = 0;
+        long maxBufferDelay = 0;
         if (result instanceof RestMulti.SyncRestMulti) {
             RestMulti.SyncRestMulti rest = (RestMulti.SyncRestMulti) result;
             demand = rest.getDemand();
+            bufferSize = rest.getBufferSize();
+            if (rest.getMaxBufferDelay() != null) {
+                maxBufferDelay = rest.getMaxBufferDelay().toMillis();
+            }
         }
         result.subscribe(
-                new StreamingMultiSubscriber(requestContext, streamingResponseCustomizers, result, json, demand, false));
+                new StreamingMultiSubscriber(requestContext, streamingResponseCustomizers, result, json, demand, false,
+                        bufferSize, maxBufferDelay));
     }
 
     private void handleStreaming(ResteasyReactiveRequestContext requestContext, Publisher<?> result, boolean json) {
         long demand = 1L;
         boolean encodeAsJsonArray = true;
+        int bufferSize = 0;
+        long maxBufferDelay = 0;
         if (result instanceof RestMulti.SyncRestMulti) {
             RestMulti.SyncRestMulti rest = (RestMulti.SyncRestMulti) result;
             demand = rest.getDemand();
             encodeAsJsonArray = rest.encodeAsJsonArray();
+            bufferSize = rest.getBufferSize();
+            if (rest.getMaxBufferDelay() != null) {
+                maxBufferDelay = rest.getMaxBufferDelay().toMillis();
+            }
         }
         result.subscribe(new StreamingMultiSubscriber(requestContext, streamingResponseCustomizers, result, json, demand,
-                encodeAsJsonArray));
+                encodeAsJsonArray, bufferSize, maxBufferDelay));
     }
 
     private void handleSse(ResteasyReactiveRequestContext requestContext, Publisher<?> result) {
@@ -58,6 +58,31 @@ PathMatch<T> defaultMatch(String path) {
         return new PathMatch<>("/", path, defaultHandler);
     }
 
+    /**
+     * Same as {@link #match(String)}, without allocating the remaining path.
+     *
+     * @param path The relative path to match
+     * @return The longest registered prefix of the path, or {@code null} if none matched
+     */
+    SubstringMap.SubstringMatch<T> matchPrefix(String path) {
+        int length = path.length();
+        final int[] lengths = this.lengths;
+        for (int i = 0; i < lengths.length; ++i) {
+            int pathLength = lengths[i];
+            if (pathLength <= length) {
+                SubstringMap.SubstringMatch<T> next = paths.get(path, pathLength);
+                if (next != null) {
+                    return next;
+                }
+            }
+        }
+        return null;
+    }
+
+    T getDefaultHandler() {
+        return defaultHandler;
+    }
+
     static class Builder<T> {
 
         private static final String STRING_PATH_SEPARATOR = "/";
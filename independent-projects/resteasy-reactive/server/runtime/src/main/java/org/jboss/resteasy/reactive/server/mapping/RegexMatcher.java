@@ -0,0 +1,292 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+
+/**
+ * Matches the {@link URITemplate.Type#CUSTOM_REGEX} component of a template.
+ * <p>
+ * The regular expression of the component is built by {@link URITemplate} from quoted literals and named groups. If every
+ * group only uses a character class known by {@link CharClass}, e.g. {@code \d+} or the default {@code [^/]+?}, the
+ * component is matched by hand with the same backtracking order as {@link java.util.regex.Pattern}, which neither
+ * allocates nor copies the path. Otherwise, the component is matched with its {@link java.util.regex.Pattern}.
+ */
+final class RegexMatcher {
+
+    private final URITemplate.TemplateComponent component;
+
+    /**
+     * The literals and the parameters of the regular expression, or {@code null} if it could not be compiled.
+     */
+    private final Part[] parts;
+
+    /**
+     * Whether the regular expression ends with {@code $}.
+     */
+    private final boolean anchored;
+
+    RegexMatcher(URITemplate.TemplateComponent component) {
+        this.component = component;
+        List<Part> parts = parse(component);
+        String pattern = component.pattern.pattern();
+        this.anchored = parts != null && pattern.endsWith("$");
+        this.parts = parts == null ? null : parts.toArray(new Part[0]);
+    }
+
+    int groupCount() {
+        return component.groups.length;
+    }
+
+    /**
+     * @param path the path
+     * @param pos the position of the component in the path
+     * @return the position of the end of the component in the path, or {@code -1} if the component does not match
+     */
+    int match(String path, int pos) {
+        return match(path, pos, null, 0);
+    }
+
+    /**
+     * Same as {@link #match(String, int)}, and extracts the parameters of the component.
+     */
+    int capture(String path, int pos, String[] params, int paramCount) {
+        return match(path, pos, params, paramCount);
+    }
+
+    private int match(String path, int pos, String[] params, int paramCount) {
+        // exclude any path end slash when matching a subdir, but include it in the matched length
+        boolean endSlash = pos < path.length() && path.charAt(path.length() - 1) == '/';
+        int end = endSlash ? path.length() - 1 : path.length();
+        int matchEnd;
+        if (parts == null) {
+            Matcher matcher = component.pattern.matcher(endSlash ? path.substring(0, end) : path);
+            if (!matcher.find(pos) || matcher.start() != pos) {
+                return -1;
+            }
+            matchEnd = matcher.end();
+            if (params != null) {
+                for (String group : component.groups) {
+                    params[paramCount++] = matcher.group(group);
+                }
+            }
+        } else {
+            int[] bounds = params == null ? null : new int[component.groups.length * 2];
+            matchEnd = matchParts(path, 0, pos, end, bounds);
+            if (matchEnd < 0) {
+                return -1;
+            }
+            if (params != null) {
+                for (int i = 0; i < bounds.length; i += 2) {
+                    params[paramCount++] = path.substring(bounds[i], bounds[i + 1]);
+                }
+            }
+        }
+        return endSlash ? matchEnd + 1 : matchEnd;
+    }
+
+    private int matchParts(String path, int index, int pos, int end, int[] bounds) {
+        if (index == parts.length) {
+            if (anchored && !isDollar(path, pos, end)) {
+                return -1;
+            }
+            return pos;
+        }
+        Part part = parts[index];
+        if (part.literal != null) {
+            String literal = part.literal;
+            if (pos + literal.length() > end || !path.regionMatches(pos, literal, 0, literal.length())) {
+                return -1;
+            }
+            return matchParts(path, index + 1, pos + literal.length(), end, bounds);
+        }
+        // the quantifiers step by code point, as java.util.regex does
+        int max = pos;
+        int count = 0;
+        while (max < end) {
+            int codePoint = Character.codePointAt(path, max);
+            if (!part.charClass.matches(codePoint)) {
+                break;
+            }
+            max += Character.charCount(codePoint);
+            count++;
+        }
+        if (count == 0) {
+            return -1;
+        }
+        if (part.lazy) {
+            int next = pos;
+            for (int i = 0; i < count; i++) {
+                next += Character.charCount(Character.codePointAt(path, next));
+                int result = matchParts(path, index + 1, next, end, bounds);
+                if (result >= 0) {
+                    setBounds(bounds, part.group, pos, next);
+                    return result;
+                }
+            }
+        } else {
+            int next = max;
+            for (int i = count; i > 0; i--) {
+                int result = matchParts(path, index + 1, next, end, bounds);
+                if (result >= 0) {
+                    setBounds(bounds, part.group, pos, next);
+                    return result;
+                }
+                next -= Character.charCount(Character.codePointBefore(path, next));
+            }
+        }
+        return -1;
+    }
+
+    private static void setBounds(int[] bounds, int group, int start, int end) {
+        if (bounds != null) {
+            bounds[group * 2] = start;
+            bounds[group * 2 + 1] = end;
+        }
+    }
+
+    /**
+     * Same as {@code $} without the {@code MULTILINE} flag, i.e. the end of the input or a final line terminator.
+     */
+    private static boolean isDollar(String path, int pos, int end) {
+        if (pos == end) {
+            return true;
+        } else if (pos == end - 2) {
+            return path.charAt(pos) == '\r' && path.charAt(pos + 1) == '\n';
+        } else if (pos == end - 1) {
+            char c = path.charAt(pos);
+            if (c == '\n') {
+                // no match between \r\n
+                return pos == 0 || path.charAt(pos - 1) != '\r';
+            }
+            return c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+        }
+        return false;
+    }
+
+    /**
+     * Parses the regular expression built by {@link URITemplate}, i.e. a sequence of quoted literals and named groups,
+     * optionally followed by {@code $}.
+     *
+     * @return the parts of the regular expression, or {@code null} if it cannot be matched by hand
+     */
+    private static List<Part> parse(URITemplate.TemplateComponent component) {
+        if (component.pattern.flags() != 0 || component.groups == null) {
+            return null;
+        }
+        String pattern = component.pattern.pattern();
+        List<Part> parts = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int group = 0;
+        int pos = 0;
+        while (pos < pattern.length()) {
+            if (pattern.startsWith("\\Q", pos)) {
+                int end = pattern.indexOf("\\E", pos + 2);
+                if (end < 0) {
+                    return null;
+                }
+                literal.append(pattern, pos + 2, end);
+                pos = end + 2;
+            } else if (group < component.groups.length && pattern.startsWith("(?<" + component.groups[group] + ">", pos)) {
+                pos += component.groups[group].length() + 4;
+                Part param = null;
+                search: for (CharClass charClass : CharClass.values()) {
+                    for (String regex : charClass.regexes) {
+                        if (pattern.startsWith(regex + ")", pos)) {
+                            param = new Part(null, charClass, false, group);
+                            pos += regex.length() + 1;
+                            break search;
+                        } else if (pattern.startsWith(regex + "?)", pos)) {
+                            param = new Part(null, charClass, true, group);
+                            pos += regex.length() + 2;
+                            break search;
+                        }
+                    }
+                }
+                if (param == null) {
+                    return null;
+                }
+                if (literal.length() > 0) {
+                    parts.add(new Part(literal.toString(), null, false, -1));
+                    literal.setLength(0);
+                }
+                parts.add(param);
+                group++;
+            } else if (pos == pattern.length() - 1 && pattern.charAt(pos) == '$') {
+                pos++;
+            } else {
+                return null;
+            }
+        }
+        if (group != component.groups.length) {
+            return null;
+        }
+        if (literal.length() > 0) {
+            parts.add(new Part(literal.toString(), null, false, -1));
+        }
+        return parts;
+    }
+
+    private static final class Part {
+
+        final String literal;
+        final CharClass charClass;
+        final boolean lazy;
+        final int group;
+
+        Part(String literal, CharClass charClass, boolean lazy, int group) {
+            this.literal = literal;
+            this.charClass = charClass;
+            this.lazy = lazy;
+            this.group = group;
+        }
+    }
+
+    /**
+     * The character classes of the path parameters that are matched by hand, followed by a {@code +} quantifier.
+     */
+    enum CharClass {
+
+        SEGMENT("[^/]") {
+            @Override
+            boolean matches(int c) {
+                return c != '/';
+            }
+        },
+        DIGIT("\\d", "[0-9]") {
+            @Override
+            boolean matches(int c) {
+                return c >= '0' && c <= '9';
+            }
+        },
+        ALPHA("[a-zA-Z]", "[A-Za-z]") {
+            @Override
+            boolean matches(int c) {
+                return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+            }
+        },
+        ALPHANUMERIC("[a-zA-Z0-9]", "[A-Za-z0-9]", "[0-9a-zA-Z]") {
+            @Override
+            boolean matches(int c) {
+                return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+            }
+        },
+        WORD("\\w", "[a-zA-Z_0-9]", "[a-zA-Z0-9_]") {
+            @Override
+            boolean matches(int c) {
+                return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+            }
+        };
+
+        private final String[] regexes;
+
+        CharClass(String... regexes) {
+            this.regexes = new String[regexes.length];
+            for (int i = 0; i < regexes.length; i++) {
+                this.regexes[i] = regexes[i] + "+";
+            }
+        }
+
+        abstract boolean matches(int c);
+    }
+}
@@ -4,144 +4,65 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
-import java.util.regex.Matcher;
 
 public class RequestMapper<T> {
 
-    private static final String[] EMPTY_STRING_ARRAY = new String[0];
-
-    private final PathMatcher<ArrayList<RequestPath<T>>> requestPaths;
-    private final PathMatcher.Builder<ArrayList<RequestPath<T>>> pathMatcherBuilder;
+    /**
+     * The templates compiled into a trie per stem.
+     */
+    private final PathMatcher<RouteTrie<T>> routes;
     private final ArrayList<RequestPath<T>> templates;
     final int maxParams;
 
     public RequestMapper(ArrayList<RequestPath<T>> templates) {
-        pathMatcherBuilder = new PathMatcher.Builder<>();
         this.templates = templates;
         int max = 0;
-        Map<String, ArrayList<RequestPath<T>>> aggregates = new HashMap<>();
         for (RequestPath<T> i : templates) {
-            ArrayList<RequestPath<T>> paths = aggregates.get(i.template.stem);
-            if (paths == null) {
-                aggregates.put(i.template.stem, paths = new ArrayList<>());
-            }
-            paths.add(i);
             max = Math.max(max, i.template.countPathParamNames());
         }
-        aggregates.forEach(new BiConsumer<>() {
+        maxParams = max;
+        PathMatcher.Builder<RouteTrie<T>> routesBuilder = new PathMatcher.Builder<>();
+        aggregateByStem(templates).forEach(new BiConsumer<>() {
             @Override
             public void accept(String stem, ArrayList<RequestPath<T>> list) {
-                Collections.sort(list);
-                pathMatcherBuilder.addPrefixPath(stem, list);
+                routesBuilder.addPrefixPath(stem, new RouteTrie<>(list, maxParams));
             }
         });
-        maxParams = max;
-        requestPaths = pathMatcherBuilder.build();
+        routes = routesBuilder.build();
     }
 
-    public RequestMatch<T> map(String path) {
-        var result = mapFromPathMatcher(path, requestPaths.match(path));
-        if (result != null) {
-            return result;
+    /**
+     * @return the templates grouped by stem, each group sorted by priority
+     */
+    private static <T> Map<String, ArrayList<RequestPath<T>>> aggregateByStem(ArrayList<RequestPath<T>> templates) {
+        Map<String, ArrayList<RequestPath<T>>> aggregates = new HashMap<>();
+        for (RequestPath<T> i : templates) {
+            ArrayList<RequestPath<T>> paths = aggregates.get(i.template.stem);
+            if (paths == null) {
+                aggregates.put(i.template.stem, paths = new ArrayList<>());
+            }
+            paths.add(i);
         }
-
-        // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        return mapFromPathMatcher(path, requestPaths.defaultMatch(path));
+        for (ArrayList<RequestPath<T>> list : aggregates.values()) {
+            Collections.sort(list);
+        }
+        return aggregates;
     }
 
-    @SuppressWarnings({ "rawtypes", "unchecked" })
-    private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatch) {
-        var value = initialMatch.getValue();
-        if (initialMatch.getValue() == null) {
-            return null;
-        }
-        int pathLength = path.length();
-        for (int index = 0; index < ((List<RequestPath<T>>) value).size(); index++) {
-            RequestPath<T> potentialMatch = ((List<RequestPath<T>>) value).get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
-            int paramCount = 0;
-            boolean matched = true;
-            boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatch.getMatched().length();
-            for (int i = 1; i < potentialMatch.template.components.length; ++i) {
-                URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
-                if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
-                    // exclude any path end slash when matching a subdir, but include it in the matched length
-                    boolean endSlash = matchPos < path.length() && path.charAt(path.length() - 1) == '/';
-                    Matcher matcher = segment.pattern.matcher(
-                            endSlash ? path.substring(0, path.length() - 1) : path);
-                    matched = matcher.find(matchPos);
-                    if (!matched || matcher.start() != matchPos) {
-                        break;
-                    }
-                    matchPos = matcher.end();
-                    if (endSlash) {
-                        matchPos++;
-                    }
-                    for (String group : segment.groups) {
-                        params[paramCount++] = matcher.group(group);
-                    }
-                } else if (segment.type == URITemplate.Type.LITERAL) {
-                    //make sure the literal text is the same
-                    if (matchPos + segment.literalText.length() > pathLength) {
-                        matched = false;
-                        break; //too long
-                    }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
-                    }
-                    if (!matched) {
-                        break;
-                    }
-                } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
-                    if (matchPos == pathLength) {
-                        matched = false;
-                        break;
-                    }
-                    int start = matchPos;
-                    while (matchPos < pathLength && path.charAt(matchPos) != '/') {
-                        matchPos++;
-                    }
-                    params[paramCount++] = path.substring(start, matchPos);
-                }
-            }
-            if (!matched) {
-                continue;
-            }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
-            }
-            boolean fullMatch = matchPos == pathLength;
-            boolean doPrefixMatch = false;
-            if (!fullMatch) {
-                //according to the spec every template ends with (/.*)?
-                if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
-                    doPrefixMatch = prefixAllowed || pathLength == 1; //if prefix is allowed, or we've matched the whole thing
-                } else if (path.charAt(matchPos) == '/') {
-                    doPrefixMatch = prefixAllowed || matchPos == pathLength - 1; //if prefix is allowed, or the remainder is only a trailing /
-                }
-            }
-            if (fullMatch || doPrefixMatch) {
-                String remaining;
-                if (fullMatch) {
-                    remaining = "";
-                } else {
-                    if (matchPos == 1) {
-                        remaining = path;
-                    } else {
-                        remaining = path.substring(matchPos);
-                    }
-                }
-                return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
+    public RequestMatch<T> map(String path) {
+        SubstringMap.SubstringMatch<RouteTrie<T>> stem = routes.matchPrefix(path);
+        if (stem != null) {
+            RequestMatch<T> result = stem.getValue().map(path, stem.getKey().length());
+            if (result != null) {
+                return result;
             }
         }
-        return null;
+
+        // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
+        RouteTrie<T> defaultRoutes = routes.getDefaultHandler();
+        return defaultRoutes == null ? null : defaultRoutes.map(path, 1);
     }
 
     public static class RequestPath<T> implements Dumpable, Comparable<RequestPath<T>> {
@@ -203,11 +124,16 @@ public String toString() {
     }
 
     public void dump() {
-        this.requestPaths.dump(0);
+        getRequestPaths().dump(0);
     }
 
+    /**
+     * @return the templates grouped by stem, built on each call as the mapping only keeps the compiled tries
+     */
     public PathMatcher<ArrayList<RequestPath<T>>> getRequestPaths() {
-        return requestPaths;
+        PathMatcher.Builder<ArrayList<RequestPath<T>>> pathMatcherBuilder = new PathMatcher.Builder<>();
+        aggregateByStem(templates).forEach(pathMatcherBuilder::addPrefixPath);
+        return pathMatcherBuilder.build();
     }
 
     public ArrayList<RequestPath<T>> getTemplates() {
@@ -0,0 +1,347 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The templates of a {@link RequestMapper} that share a stem, compiled into a radix trie.
+ * <p>
+ * The literals of the templates are the edges of a radix tree, and the {@link URITemplate.Type#DEFAULT_REGEX} parameters
+ * lead to a parameter node of their parent, so that the templates that share a prefix are matched at once instead of one
+ * after the other. A {@link URITemplate.Type#CUSTOM_REGEX} component is always the last component of a template, it is
+ * matched by a {@link RegexMatcher} at the node of the preceding components.
+ * <p>
+ * Several templates may match a path, so every template has its index in the sorted templates of the stem as priority,
+ * and the trie returns the matching template with the lowest index, i.e. the one that is found by trying the templates in
+ * order. The trie is walked without allocating, and the path parameters are only extracted for the selected template.
+ * <p>
+ * A stem with a few templates, typically the stem of a resource class, is not worth a trie: its templates are tried in
+ * order and the path parameters are extracted while matching, as walking the trie and then the selected template again
+ * costs more than trying a couple of templates.
+ */
+final class RouteTrie<T> {
+
+    private static final String[] EMPTY_STRING_ARRAY = new String[0];
+
+    /**
+     * The maximum number of templates of a stem that are tried in order instead of walking a trie.
+     */
+    private static final int LINEAR_THRESHOLD = 4;
+
+    private final Node<T> root;
+    /**
+     * The templates of the stem sorted by priority if they are tried in order, {@code null} otherwise.
+     */
+    private final Route<T>[] linearRoutes;
+    private final int maxParams;
+
+    /**
+     * @param templates the templates of a stem, sorted
+     * @param maxParams the size of the path parameters arrays
+     */
+    @SuppressWarnings("unchecked")
+    RouteTrie(List<RequestMapper.RequestPath<T>> templates, int maxParams) {
+        this.maxParams = maxParams;
+        this.root = new Node<>(null);
+        this.linearRoutes = templates.size() <= LINEAR_THRESHOLD ? new Route[templates.size()] : null;
+        for (int i = 0; i < templates.size(); i++) {
+            RequestMapper.RequestPath<T> path = templates.get(i);
+            URITemplate.TemplateComponent[] components = path.template.components;
+            Node<T> node = root;
+            RegexMatcher regex = null;
+            // the first component is the stem
+            for (int j = 1; j < components.length; j++) {
+                URITemplate.TemplateComponent component = components[j];
+                if (component.type == URITemplate.Type.LITERAL) {
+                    node = node.addLiteral(component.literalText);
+                } else if (component.type == URITemplate.Type.DEFAULT_REGEX) {
+                    if (node.param == null) {
+                        node.param = new Node<>(null);
+                    }
+                    node = node.param;
+                } else if (j == components.length - 1) {
+                    regex = new RegexMatcher(component);
+                } else {
+                    throw new IllegalStateException("Unexpected component " + component + " in template " + path.template);
+                }
+            }
+            Route<T> route = new Route<>(path, i, regex);
+            if (linearRoutes != null) {
+                linearRoutes[i] = route;
+            } else if (regex == null) {
+                node.routeList.add(route);
+            } else {
+                node.regexRouteList.add(route);
+            }
+        }
+        root.freeze();
+    }
+
+    /**
+     * @param path the path
+     * @param stemLength the length of the stem matched by the path
+     * @return the match of the template with the highest priority, or {@code null} if no template matches
+     */
+    RequestMapper.RequestMatch<T> map(String path, int stemLength) {
+        if (linearRoutes != null) {
+            return mapLinear(path, stemLength);
+        }
+        Route<T> route = find(root, path, stemLength, null);
+        if (route == null) {
+            return null;
+        }
+        String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+        return createMatch(route, path, match(route, path, stemLength, params), params);
+    }
+
+    private RequestMapper.RequestMatch<T> mapLinear(String path, int stemLength) {
+        String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+        for (Route<T> route : linearRoutes) {
+            int matchPos = match(route, path, stemLength, params);
+            if (matchPos >= 0 && isMatch(route, path, matchPos)) {
+                // clear the parameters of the templates that did not match
+                Arrays.fill(params, route.paramCount, params.length, null);
+                return createMatch(route, path, matchPos, params);
+            }
+        }
+        return null;
+    }
+
+    private Route<T> find(Node<T> node, String path, int pos, Route<T> best) {
+        if (best != null && node.minPriority >= best.priority) {
+            return best;
+        }
+        for (Route<T> route : node.routes) {
+            if (best != null && route.priority >= best.priority) {
+                break;
+            }
+            if (isMatch(route, path, pos)) {
+                best = route;
+                break;
+            }
+        }
+        int length = path.length();
+        if (pos < length) {
+            int index = Arrays.binarySearch(node.firstChars, path.charAt(pos));
+            if (index >= 0) {
+                Node<T> child = node.children[index];
+                if (path.regionMatches(pos, child.label, 0, child.label.length())) {
+                    best = find(child, path, pos + child.label.length(), best);
+                }
+            }
+            if (node.param != null) {
+                int end = pos;
+                while (end < length && path.charAt(end) != '/') {
+                    end++;
+                }
+                best = find(node.param, path, end, best);
+            }
+        }
+        for (Route<T> route : node.regexRoutes) {
+            if (best != null && route.priority >= best.priority) {
+                break;
+            }
+            int end = route.regex.match(path, pos);
+            if (end >= 0 && isMatch(route, path, end)) {
+                best = route;
+                break;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @return whether the template matches the path, once all its components matched up to {@code matchPos}
+     */
+    private static boolean isMatch(Route<?> route, String path, int matchPos) {
+        int pathLength = path.length();
+        if (matchPos == pathLength) {
+            return true;
+        }
+        //according to the spec every template ends with (/.*)?
+        if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
+            return route.path.prefixTemplate || pathLength == 1; //if prefix is allowed, or we've matched the whole thing
+        } else if (path.charAt(matchPos) == '/') {
+            return route.path.prefixTemplate || matchPos == pathLength - 1; //if prefix is allowed, or the remainder is only a trailing /
+        }
+        return false;
+    }
+
+    /**
+     * Matches the components of a template and extracts its path parameters.
+     *
+     * @return the position of the end of the template in the path, or {@code -1} if the template does not match
+     */
+    private static int match(Route<?> route, String path, int matchPos, String[] params) {
+        int pathLength = path.length();
+        int paramCount = 0;
+        URITemplate.TemplateComponent[] components = route.path.template.components;
+        for (int i = 1; i < components.length; ++i) {
+            URITemplate.TemplateComponent component = components[i];
+            if (component.type == URITemplate.Type.LITERAL) {
+                String literal = component.literalText;
+                if (!path.regionMatches(matchPos, literal, 0, literal.length())) {
+                    return -1;
+                }
+                matchPos += literal.length();
+            } else if (component.type == URITemplate.Type.DEFAULT_REGEX) {
+                if (matchPos == pathLength) {
+                    return -1;
+                }
+                int start = matchPos;
+                while (matchPos < pathLength && path.charAt(matchPos) != '/') {
+                    matchPos++;
+                }
+                params[paramCount++] = path.substring(start, matchPos);
+            } else {
+                matchPos = route.regex.capture(path, matchPos, params, paramCount);
+                if (matchPos < 0) {
+                    return -1;
+                }
+                paramCount += route.regex.groupCount();
+            }
+        }
+        return matchPos;
+    }
+
+    private static <T> RequestMapper.RequestMatch<T> createMatch(Route<T> route, String path, int matchPos,
+            String[] params) {
+        String remaining;
+        if (matchPos == path.length()) {
+            remaining = "";
+        } else if (matchPos == 1) {
+            remaining = path;
+        } else {
+            remaining = path.substring(matchPos);
+        }
+        return new RequestMapper.RequestMatch<>(route.path.template, route.path.value, params, remaining);
+    }
+
+    private static final class Route<T> {
+
+        final RequestMapper.RequestPath<T> path;
+        final int priority;
+        final RegexMatcher regex;
+        final int paramCount;
+
+        Route(RequestMapper.RequestPath<T> path, int priority, RegexMatcher regex) {
+            this.path = path;
+            this.priority = priority;
+            this.regex = regex;
+            int paramCount = 0;
+            URITemplate.TemplateComponent[] components = path.template.components;
+            for (int i = 1; i < components.length; i++) {
+                if (components[i].type == URITemplate.Type.DEFAULT_REGEX) {
+                    paramCount++;
+                } else if (components[i].type == URITemplate.Type.CUSTOM_REGEX) {
+                    paramCount += regex.groupCount();
+                }
+            }
+            this.paramCount = paramCount;
+        }
+    }
+
+    private static final class Node<T> {
+
+        /**
+         * The literal of the edge from the parent, {@code null} for the root and the parameter nodes.
+         */
+        String label;
+
+        /**
+         * The children of the literal edges, sorted by the first character of their label.
+         */
+        char[] firstChars;
+        Node<T>[] children;
+
+        /**
+         * The child of the {@link URITemplate.Type#DEFAULT_REGEX} parameters, if any.
+         */
+        Node<T> param;
+
+        /**
+         * The templates that end at this node, sorted by priority.
+         */
+        Route<T>[] routes;
+
+        /**
+         * The templates that end with a custom regex at this node, sorted by priority.
+         */
+        Route<T>[] regexRoutes;
+
+        /**
+         * The lowest priority of the templates of this node and of its descendants.
+         */
+        int minPriority;
+
+        private TreeMap<Character, Node<T>> childMap = new TreeMap<>();
+        private List<Route<T>> routeList = new ArrayList<>();
+        private List<Route<T>> regexRouteList = new ArrayList<>();
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node<T> addLiteral(String literal) {
+            if (literal.isEmpty()) {
+                return this;
+            }
+            Node<T> child = childMap.get(literal.charAt(0));
+            if (child == null) {
+                child = new Node<>(literal);
+                childMap.put(literal.charAt(0), child);
+                return child;
+            }
+            int common = 1;
+            int max = Math.min(literal.length(), child.label.length());
+            while (common < max && literal.charAt(common) == child.label.charAt(common)) {
+                common++;
+            }
+            if (common < child.label.length()) {
+                // split the edge
+                Node<T> split = new Node<>(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.childMap.put(child.label.charAt(0), child);
+                childMap.put(split.label.charAt(0), split);
+                child = split;
+            }
+            return child.addLiteral(literal.substring(common));
+        }
+
+        @SuppressWarnings("unchecked")
+        void freeze() {
+            firstChars = new char[childMap.size()];
+            children = new Node[childMap.size()];
+            int i = 0;
+            for (Map.Entry<Character, Node<T>> entry : childMap.entrySet()) {
+                firstChars[i] = entry.getKey();
+                children[i] = entry.getValue();
+                i++;
+            }
+            routes = routeList.toArray(new Route[0]);
+            regexRoutes = regexRouteList.toArray(new Route[0]);
+            childMap = null;
+            routeList = null;
+            regexRouteList = null;
+
+            minPriority = Integer.MAX_VALUE;
+            if (routes.length > 0) {
+                minPriority = routes[0].priority;
+            }
+            if (regexRoutes.length > 0) {
+                minPriority = Math.min(minPriority, regexRoutes[0].priority);
+            }
+            for (Node<T> child : children) {
+                child.freeze();
+                minPriority = Math.min(minPriority, child.minPriority);
+            }
+            if (param != null) {
+                param.freeze();
+                minPriority = Math.min(minPriority, param.minPriority);
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
+import org.jboss.resteasy.reactive.server.StreamingOutputStream;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 
 public interface ServerHttpResponse extends StreamingResponse<ServerHttpResponse> {
@@ -39,6 +40,24 @@ public interface ServerHttpResponse extends StreamingResponse<ServerHttpResponse
 
     CompletionStage<Void> write(byte[] data);
 
+    /**
+     * Create a stream to serialize several items of a streamed response into, before writing them at once with
+     * {@link #write(StreamingOutputStream, Consumer)}. The stream must be closed once it is no longer used.
+     */
+    default StreamingOutputStream createStreamingOutputStream() {
+        return new StreamingOutputStream();
+    }
+
+    /**
+     * Write the content of a stream created by {@link #createStreamingOutputStream()} and empty the stream, so that the
+     * next items can be serialized into it while the content is being written.
+     */
+    default ServerHttpResponse write(StreamingOutputStream data, Consumer<Throwable> asyncResultHandler) {
+        byte[] bytes = data.toByteArray();
+        data.reset();
+        return write(bytes, asyncResultHandler);
+    }
+
     ServerHttpResponse sendFile(String path, long offset, long length);
 
     OutputStream createResponseOutputStream();
@@ -0,0 +1,108 @@
+package org.jboss.resteasy.reactive.server.vertx;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.jboss.resteasy.reactive.server.StreamingOutputStream;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * A {@link StreamingOutputStream} that accumulates the data in a pooled {@link ByteBuf} instead of a byte array, so that
+ * the data can be written to the response without being copied.
+ * <p>
+ * The buffer is handed over with {@link #detach()}, after which the stream starts again with a new buffer. The current
+ * buffer is released by {@link #close()}, and anything written afterwards is discarded.
+ */
+final class PooledStreamingOutputStream extends StreamingOutputStream {
+
+    private ByteBuf buffer;
+    private boolean closed;
+
+    private ByteBuf buffer(int minWritableBytes) {
+        if (buffer == null) {
+            buffer = PooledByteBufAllocator.DEFAULT.directBuffer(Math.max(minWritableBytes, 256));
+        }
+        return buffer;
+    }
+
+    /**
+     * @return the buffer holding the data written so far, which must be released by the caller, or {@code null} if nothing
+     *         was written
+     */
+    synchronized ByteBuf detach() {
+        ByteBuf result = buffer;
+        buffer = null;
+        return result;
+    }
+
+    @Override
+    public synchronized void write(int b) {
+        if (!closed) {
+            buffer(1).writeByte(b);
+        }
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) {
+        if (!closed) {
+            buffer(len).writeBytes(b, off, len);
+        }
+    }
+
+    @Override
+    public synchronized void writeTo(OutputStream out) throws IOException {
+        if (buffer != null) {
+            buffer.getBytes(buffer.readerIndex(), out, buffer.readableBytes());
+        }
+    }
+
+    @Override
+    public synchronized void reset() {
+        if (buffer != null) {
+            buffer.clear();
+        }
+    }
+
+    @Override
+    public synchronized byte[] toByteArray() {
+        if (buffer == null) {
+            return new byte[0];
+        }
+        byte[] result = new byte[buffer.readableBytes()];
+        buffer.getBytes(buffer.readerIndex(), result);
+        return result;
+    }
+
+    @Override
+    public synchronized int size() {
+        return buffer == null ? 0 : buffer.readableBytes();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return toString(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public synchronized String toString(String charsetName) {
+        return toString(Charset.forName(charsetName));
+    }
+
+    @Override
+    public synchronized String toString(Charset charset) {
+        return buffer == null ? "" : buffer.toString(charset);
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (buffer != null) {
+            buffer.release();
+            buffer = null;
+        }
+    }
+}
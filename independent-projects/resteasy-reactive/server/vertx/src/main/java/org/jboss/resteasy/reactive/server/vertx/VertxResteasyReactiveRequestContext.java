@@ -22,6 +22,7 @@
 
 import org.jboss.resteasy.reactive.common.ResteasyReactiveConfig;
 import org.jboss.resteasy.reactive.common.util.CaseInsensitiveMap;
+import org.jboss.resteasy.reactive.server.StreamingOutputStream;
 import org.jboss.resteasy.reactive.server.core.Deployment;
 import org.jboss.resteasy.reactive.server.core.LazyResponse;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
@@ -33,6 +34,7 @@
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.EventLoop;
 import io.netty.handler.codec.http.HttpHeaderNames;
@@ -484,6 +486,36 @@ public void handle(AsyncResult<Void> event) {
         return ret;
     }
 
+    @Override
+    public StreamingOutputStream createStreamingOutputStream() {
+        return new PooledStreamingOutputStream();
+    }
+
+    @Override
+    public ServerHttpResponse write(StreamingOutputStream data, Consumer<Throwable> asyncResultHandler) {
+        if (!(data instanceof PooledStreamingOutputStream)) {
+            return ServerHttpResponse.super.write(data, asyncResultHandler);
+        }
+        ByteBuf buffer = ((PooledStreamingOutputStream) data).detach();
+        if (buffer == null) {
+            asyncResultHandler.accept(null);
+            return this;
+        }
+        // Vert.x does not release the buffers it writes
+        response.write(Buffer.buffer(buffer), new Handler<AsyncResult<Void>>() {
+            @Override
+            public void handle(AsyncResult<Void> event) {
+                buffer.release();
+                if (event.failed()) {
+                    asyncResultHandler.accept(event.cause());
+                } else {
+                    asyncResultHandler.accept(null);
+                }
+            }
+        });
+        return this;
+    }
+
     @Override
     public ServerHttpResponse sendFile(String path, long offset, long length) {
         response.sendFile(path, offset, length);
@@ -0,0 +1,50 @@
+package org.jboss.resteasy.reactive.server.vertx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import io.netty.buffer.ByteBuf;
+
+public class PooledStreamingOutputStreamTest {
+
+    @Test
+    public void testDetach() {
+        PooledStreamingOutputStream out = new PooledStreamingOutputStream();
+        assertThat(out.detach()).isNull();
+        out.writeBytes("hello".getBytes(StandardCharsets.UTF_8));
+        out.write(',');
+        assertThat(out.size()).isEqualTo(6);
+        assertThat(out.toString()).isEqualTo("hello,");
+
+        ByteBuf data = out.detach();
+        assertThat(data.toString(StandardCharsets.UTF_8)).isEqualTo("hello,");
+        // the next items are written into a new buffer
+        assertThat(out.size()).isZero();
+        out.writeBytes("world".getBytes(StandardCharsets.UTF_8));
+        assertThat(out.toByteArray()).isEqualTo("world".getBytes(StandardCharsets.UTF_8));
+        assertThat(data.toString(StandardCharsets.UTF_8)).isEqualTo("hello,");
+
+        data.release();
+        out.close();
+    }
+
+    @Test
+    public void testClose() {
+        PooledStreamingOutputStream out = new PooledStreamingOutputStream();
+        out.writeBytes("hello".getBytes(StandardCharsets.UTF_8));
+        ByteBuf data = out.detach();
+        out.writeBytes("world".getBytes(StandardCharsets.UTF_8));
+        out.close();
+        // only the current buffer is released, the detached one is owned by the caller
+        assertThat(data.refCnt()).isEqualTo(1);
+        data.release();
+
+        // anything written after close is discarded
+        out.writeBytes("again".getBytes(StandardCharsets.UTF_8));
+        assertThat(out.size()).isZero();
+        assertThat(out.detach()).isNull();
+    }
+}